@@ -0,0 +1,81 @@
+package com.tourism.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files and exits with status 1 when any benchmark got slower than the
+ * allowed percentage (10% by default). Only AverageTime / SampleTime / SingleShotTime scores are
+ * treated as "lower is better"; throughput scores are inverted.
+ *
+ * <pre>java -cp benchmarks.jar com.tourism.benchmarks.BenchmarkComparison base.json head.json [maxRegressionPercent]</pre>
+ */
+public final class BenchmarkComparison {
+
+    private static final double DEFAULT_MAX_REGRESSION = 10.0;
+
+    private BenchmarkComparison() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <base.json> <head.json> [maxRegressionPercent]");
+            System.exit(2);
+        }
+        double maxRegression = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_MAX_REGRESSION;
+        Map<String, JsonNode> base = read(new File(args[0]));
+        Map<String, JsonNode> head = read(new File(args[1]));
+
+        boolean regressed = false;
+        System.out.printf("%-90s %14s %14s %9s%n", "Benchmark", "Base", "Head", "Change");
+        for (Map.Entry<String, JsonNode> entry : head.entrySet()) {
+            JsonNode before = base.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s%n", entry.getKey(), "-", score(entry.getValue()), "new");
+                continue;
+            }
+            double change = regression(before, entry.getValue());
+            boolean failed = change > maxRegression;
+            regressed |= failed;
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), score(before), score(entry.getValue()),
+                    change, failed ? "  REGRESSION" : "");
+        }
+        System.exit(regressed ? 1 : 0);
+    }
+
+    /**
+     * Percentage by which head is worse than base; negative values are improvements.
+     */
+    static double regression(JsonNode base, JsonNode head) {
+        double before = score(base);
+        double after = score(head);
+        if (before == 0) {
+            return 0;
+        }
+        double change = (after - before) / before * 100;
+        return "thrpt".equals(head.path("mode").asText()) ? -change : change;
+    }
+
+    private static double score(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+
+    private static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            results.put(key(result), result);
+        }
+        return results;
+    }
+
+    private static String key(JsonNode result) {
+        StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+        result.path("params").fields().forEachRemaining(param ->
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+        return key.append(" (").append(result.path("primaryMetric").path("scoreUnit").asText()).append(')').toString();
+    }
+}
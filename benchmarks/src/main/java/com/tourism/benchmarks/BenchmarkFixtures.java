@@ -0,0 +1,81 @@
+package com.tourism.benchmarks;
+
+import com.tourism.dto.request.BookingRequestDTO;
+import com.tourism.infrastructure.JwtTokenProvider;
+import com.tourism.model.*;
+import com.tourism.util.validations.DateValidation;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Builds the domain objects and beans the benchmarks need without starting a Spring context.
+ */
+final class BenchmarkFixtures {
+
+    static final String CLIENT_SECRET = "benchmark-client-secret-with-at-least-256-bits-of-key";
+
+    private BenchmarkFixtures() {}
+
+    static LodgingOwner owner() {
+        LodgingOwner owner = new LodgingOwner("owner@email.com", "validPassword123", "Owner", "Hotel", Role.LODGING_OWNER, true);
+        owner.setId(UUID.randomUUID());
+        return owner;
+    }
+
+    static Tourist tourist(TouristType type) {
+        Tourist tourist = new Tourist("tverano@email.com", "validPassword123", "Turista", "Verano", Role.TOURIST, type, true);
+        tourist.setId(UUID.randomUUID());
+        return tourist;
+    }
+
+    static Lodging lodging() {
+        LodgingOwner owner = owner();
+        Lodging lodging = new Lodging("Hotel Test", "Un hotel de pruebas", "Calle falsa 123", "+59899123456", 20, 25.0, 4,
+                new TouristicPlace(), owner, true);
+        lodging.setId(UUID.randomUUID());
+        return lodging;
+    }
+
+    static BookingRequestDTO bookingRequest(UUID lodgingId, int nights) {
+        LocalDate checkIn = LocalDate.now().plusDays(30);
+        return new BookingRequestDTO(checkIn, checkIn.plusDays(nights), lodgingId, 2, 1, 1);
+    }
+
+    static Booking booking(Lodging lodging, Tourist tourist, int nights) {
+        LocalDate checkIn = LocalDate.now().plusDays(30);
+        Booking booking = new Booking(checkIn, checkIn.plusDays(nights), 100.0, lodging, tourist, BookingState.CREATED, 2, 1, 1, false);
+        booking.setId(UUID.randomUUID());
+        return booking;
+    }
+
+    static DateValidation dateValidation() {
+        try {
+            Constructor<DateValidation> constructor = DateValidation.class.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static JwtTokenProvider jwtTokenProvider() {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        inject(provider, "secretKey", CLIENT_SECRET);
+        inject(provider, "accessTokenExpirationTime", 15L);
+        inject(provider, "refreshTokenExpirationTime", 7L);
+        return provider;
+    }
+
+    private static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
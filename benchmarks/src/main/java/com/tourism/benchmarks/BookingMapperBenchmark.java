@@ -0,0 +1,33 @@
+package com.tourism.benchmarks;
+
+import com.tourism.dto.mappers.BookingMapper;
+import com.tourism.dto.mappers.BookingMapperImpl;
+import com.tourism.dto.response.BookingResponseDTO;
+import com.tourism.model.Booking;
+import com.tourism.model.TouristType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingMapperBenchmark {
+
+    private BookingMapper mapper;
+    private Booking booking;
+
+    @Setup
+    public void setUp() {
+        mapper = new BookingMapperImpl();
+        booking = BenchmarkFixtures.booking(BenchmarkFixtures.lodging(), BenchmarkFixtures.tourist(TouristType.STANDARD), 7);
+    }
+
+    @Benchmark
+    public BookingResponseDTO modelToResponseDTO() {
+        return mapper.modelToResponseDTO(booking);
+    }
+}
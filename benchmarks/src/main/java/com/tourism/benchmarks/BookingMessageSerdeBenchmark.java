@@ -0,0 +1,49 @@
+package com.tourism.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.tourism.dto.request.BookingMessage;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the JSON round trip of the Kafka booking payload, built like the ObjectMapper Spring Boot configures.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingMessageSerdeBenchmark {
+
+    private ObjectMapper objectMapper;
+    private BookingMessage message;
+    private String messageBody;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        message = new BookingMessage(BenchmarkFixtures.bookingRequest(UUID.randomUUID(), 7), UUID.randomUUID(),
+                UUID.randomUUID().toString(), Instant.now(), UUID.randomUUID().toString());
+        messageBody = objectMapper.writeValueAsString(message);
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(message);
+    }
+
+    @Benchmark
+    public BookingMessage deserialize() throws JsonProcessingException {
+        return objectMapper.readValue(messageBody, BookingMessage.class);
+    }
+}
@@ -0,0 +1,51 @@
+package com.tourism.benchmarks;
+
+import com.tourism.dto.request.BookingRequestDTO;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.model.Lodging;
+import com.tourism.model.Tourist;
+import com.tourism.model.TouristType;
+import com.tourism.util.validations.BookingValidation;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * validateBooking never touches the repository, so the benchmark runs it without one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingValidationBenchmark {
+
+    private BookingValidation bookingValidation;
+    private Tourist tourist;
+    private Lodging lodging;
+    private BookingRequestDTO validRequest;
+    private BookingRequestDTO invalidRequest;
+
+    @Setup
+    public void setUp() {
+        bookingValidation = new BookingValidation(null, BenchmarkFixtures.dateValidation());
+        tourist = BenchmarkFixtures.tourist(TouristType.STANDARD);
+        lodging = BenchmarkFixtures.lodging();
+        validRequest = BenchmarkFixtures.bookingRequest(lodging.getId(), 7);
+        LocalDate past = LocalDate.now().minusDays(3);
+        invalidRequest = new BookingRequestDTO(past, past.minusDays(1), lodging.getId(), 0, 1, 0);
+    }
+
+    @Benchmark
+    public Either<ErrorDto[], Boolean> validBooking() {
+        return bookingValidation.validateBooking(validRequest, tourist, lodging);
+    }
+
+    @Benchmark
+    public Either<ErrorDto[], Boolean> invalidBooking() {
+        return bookingValidation.validateBooking(invalidRequest, tourist, lodging);
+    }
+}
@@ -0,0 +1,36 @@
+package com.tourism.benchmarks;
+
+import com.tourism.util.validations.DateValidation;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DateValidationBenchmark {
+
+    @Param({"1", "7", "30"})
+    private int nights;
+
+    private DateValidation dateValidation;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+
+    @Setup
+    public void setUp() {
+        dateValidation = BenchmarkFixtures.dateValidation();
+        checkIn = LocalDate.now().plusDays(30);
+        checkOut = checkIn.plusDays(nights);
+    }
+
+    @Benchmark
+    public List<LocalDate> datesBetweenDates() {
+        return dateValidation.datesBetweenDates(checkIn, checkOut);
+    }
+}
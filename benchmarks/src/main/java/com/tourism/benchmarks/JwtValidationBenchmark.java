@@ -0,0 +1,40 @@
+package com.tourism.benchmarks;
+
+import com.tourism.infrastructure.JwtTokenProvider;
+import com.tourism.model.Role;
+import com.tourism.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtValidationBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private String validToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = BenchmarkFixtures.jwtTokenProvider();
+        validToken = tokenProvider.generateAccessToken(new User(UUID.randomUUID(), "tverano@email.com", Role.TOURIST));
+        char last = validToken.charAt(validToken.length() - 1);
+        tamperedToken = validToken.substring(0, validToken.length() - 1) + (last == 'A' ? 'B' : 'A');
+    }
+
+    @Benchmark
+    public boolean validateAccessToken() {
+        return tokenProvider.validateAccessToken(validToken);
+    }
+
+    @Benchmark
+    public boolean rejectTamperedToken() {
+        return tokenProvider.validateAccessToken(tamperedToken);
+    }
+}
@@ -0,0 +1,109 @@
+package com.tourism.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.tourism.dto.request.BookingMessage;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Messages per second of bursty booking traffic against an embedded KRaft broker, with the client defaults
+ * and with the producer settings of application.yml (linger, 64KB batches, lz4 or zstd compression).
+ * Eight threads share one producer like concurrent booking requests do, and every burst waits for all broker
+ * acknowledgements, as a booking is only safe once acknowledged.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class KafkaProducerBenchmark {
+
+    private static final String TOPIC = "booking-topic";
+    private static final int PARTITIONS = 3;
+    private static final int BURST = 500;
+    private static final int DISTINCT_MESSAGES = 64;
+
+    @Param({"default", "tuned-lz4", "tuned-zstd"})
+    public String producerProfile;
+
+    private EmbeddedKafkaKraftBroker broker;
+    private KafkaProducer<String, String> producer;
+    private String[] messageBodies;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC);
+        broker.afterPropertiesSet();
+        producer = new KafkaProducer<>(producerConfig(broker.getBrokersAsString(), producerProfile));
+
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        messageBodies = new String[DISTINCT_MESSAGES];
+        for (int i = 0; i < DISTINCT_MESSAGES; i++) {
+            messageBodies[i] = objectMapper.writeValueAsString(new BookingMessage(
+                    BenchmarkFixtures.bookingRequest(UUID.randomUUID(), 1 + i % 7), UUID.randomUUID(),
+                    UUID.randomUUID().toString(), Instant.now(), UUID.randomUUID().toString()));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        producer.close();
+        broker.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void burst() {
+        CompletableFuture<?>[] acknowledgements = new CompletableFuture<?>[BURST];
+        for (int i = 0; i < BURST; i++) {
+            CompletableFuture<Void> acknowledged = new CompletableFuture<>();
+            producer.send(new ProducerRecord<>(TOPIC, messageBodies[i % DISTINCT_MESSAGES]), (metadata, error) -> {
+                if (error != null) {
+                    acknowledged.completeExceptionally(error);
+                } else {
+                    acknowledged.complete(null);
+                }
+            });
+            acknowledgements[i] = acknowledged;
+        }
+        CompletableFuture.allOf(acknowledgements).join();
+    }
+
+    static Map<String, Object> producerConfig(String bootstrapServers, String profile) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        if (profile.startsWith("tuned")) {
+            config.put(ProducerConfig.LINGER_MS_CONFIG, 10);
+            config.put(ProducerConfig.BATCH_SIZE_CONFIG, 64 * 1024);
+            config.put(ProducerConfig.BUFFER_MEMORY_CONFIG, 64L * 1024 * 1024);
+            config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, profile.substring("tuned-".length()));
+            config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+            config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        } else {
+            config.put(ProducerConfig.LINGER_MS_CONFIG, 0);
+        }
+        return config;
+    }
+}
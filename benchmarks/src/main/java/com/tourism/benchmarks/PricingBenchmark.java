@@ -0,0 +1,42 @@
+package com.tourism.benchmarks;
+
+import com.tourism.model.Lodging;
+import com.tourism.model.TouristType;
+import com.tourism.util.helpers.PricingService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PricingBenchmark {
+
+    @Param({"1", "7", "30"})
+    private int nights;
+
+    @Param({"STANDARD", "PREMIUM"})
+    private TouristType touristType;
+
+    private PricingService pricingService;
+    private Lodging lodging;
+    private List<LocalDate> dates;
+
+    @Setup
+    public void setUp() {
+        pricingService = new PricingService();
+        lodging = BenchmarkFixtures.lodging();
+        LocalDate checkIn = LocalDate.now().plusDays(30);
+        dates = checkIn.datesUntil(checkIn.plusDays(nights)).toList();
+    }
+
+    @Benchmark
+    public double calculateBookingPrice() {
+        return pricingService.calculateBookingPrice(touristType, lodging, dates, 2, 1, 1);
+    }
+}
@@ -14,7 +14,12 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "Bookings", schema = "public")
+@Table(name = "Bookings", schema = "public",
+        indexes = {
+                @Index(name = "idx_bookings_lodging_state_check_in", columnList = "lodging_id, state, check_in"),
+                @Index(name = "idx_bookings_tourist_check_in",
+                        columnList = "tourist_id, check_in DESC, state, id, lodging_id, check_out, total_price, adults, children, babies, has_paid")
+        })
 public class Booking {
 
     @Id
@@ -0,0 +1,43 @@
+package com.tourism.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@RequiredArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "Booking_dead_letters", schema = "public")
+public class BookingDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(insertable=false, updatable=false)
+    private UUID id;
+
+    @Column(name = "topic", nullable = false)
+    @NonNull
+    @NotNull
+    private String topic;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "text")
+    @NonNull
+    @NotNull
+    private String payload;
+
+    @Column(name = "error", length = 2000)
+    private String error;
+
+    @CreationTimestamp
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private Instant createdDate;
+
+    @Column(name = "replayed_date")
+    private Instant replayedDate;
+
+}
@@ -0,0 +1,44 @@
+package com.tourism.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@RequiredArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "Booking_outcome_outbox", schema = "public",
+        uniqueConstraints = @UniqueConstraint(name = "uk_booking_outcome_outbox_key", columnNames = {"request_key"}),
+        indexes = @Index(name = "idx_booking_outcome_outbox_created", columnList = "created_date"))
+public class BookingOutcomeOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(insertable=false, updatable=false)
+    private UUID id;
+
+    @Column(name = "request_key", nullable = false, length = 200)
+    @NonNull
+    @NotNull
+    private String requestKey;
+
+    @Column(name = "message_key", nullable = false)
+    @NonNull
+    @NotNull
+    private String messageKey;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "text")
+    @NonNull
+    @NotNull
+    private String payload;
+
+    @CreationTimestamp
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private Instant createdDate;
+
+}
@@ -0,0 +1,7 @@
+package com.tourism.model;
+
+public enum BookingTimeline {
+    UPCOMING,
+    PAST,
+    ALL
+}
@@ -15,7 +15,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "Lodgings", schema = "public")
+@Table(name = "Lodgings", schema = "public",
+        indexes = @Index(name = "idx_lodgings_lodging_owner", columnList = "lodging_owner_id"))
 public class Lodging {
 
     @Id
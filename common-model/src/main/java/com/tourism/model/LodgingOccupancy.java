@@ -0,0 +1,40 @@
+package com.tourism.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@RequiredArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "Lodging_occupancy", schema = "public",
+        uniqueConstraints = @UniqueConstraint(name = "uk_lodging_occupancy_lodging_date", columnNames = {"lodging_id", "date"}))
+public class LodgingOccupancy {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(insertable=false, updatable=false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "lodging_id", nullable = false)
+    @ToString.Exclude
+    @NonNull
+    @NotNull
+    private Lodging lodging;
+
+    @Column(name = "date", nullable = false)
+    @NonNull
+    @NotNull
+    private LocalDate date;
+
+    @Column(name = "booked_persons", nullable = false)
+    @NonNull
+    @NotNull
+    private Integer bookedPersons;
+
+}
@@ -0,0 +1,33 @@
+package com.tourism.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@RequiredArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "Processed_booking_requests", schema = "public",
+        uniqueConstraints = @UniqueConstraint(name = "uk_processed_booking_requests_key", columnNames = {"request_key"}))
+public class ProcessedBookingRequest {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(insertable=false, updatable=false)
+    private UUID id;
+
+    @Column(name = "request_key", nullable = false, length = 200)
+    @NonNull
+    @NotNull
+    private String requestKey;
+
+    @CreationTimestamp
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private Instant createdDate;
+
+}
@@ -0,0 +1,6 @@
+package com.tourism.model;
+
+public enum SearchMode {
+    FULL_TEXT,
+    FUZZY
+}
@@ -0,0 +1,151 @@
+package com.tourism.loadtest;
+
+import com.tourism.infrastructure.PasswordEncryptionService;
+import com.tourism.model.*;
+import com.tourism.util.helpers.PricingService;
+import com.tourism.util.validations.DateValidation;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills the database with the real entities of common-model through a Hibernate stateless session, committing
+ * every {@code batch-size} rows, so millions of bookings load without growing a persistence context.
+ * Bookings of the same lodging never overlap, which keeps Lodging_occupancy one row per booked night.
+ */
+@Slf4j
+@Component
+public class DataSeeder {
+
+    static final String TOURIST_EMAIL = "tourist%d@loadtest.com";
+    static final String OWNER_EMAIL = "owner%d@loadtest.com";
+
+    private static final Region[] REGIONS = Region.values();
+
+    private final SessionFactory sessionFactory;
+    private final PasswordEncryptionService encryptionService;
+    private final PricingService pricingService;
+    private final DateValidation dateValidation;
+
+    @Autowired
+    public DataSeeder(EntityManagerFactory entityManagerFactory, PasswordEncryptionService encryptionService,
+                      PricingService pricingService, DateValidation dateValidation) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.encryptionService = encryptionService;
+        this.pricingService = pricingService;
+        this.dateValidation = dateValidation;
+    }
+
+    public void seed(LoadTestProperties.Seed seed) {
+        long start = System.nanoTime();
+        String password = encryptionService.encryptPassword(seed.password());
+        try (BatchWriter writer = new BatchWriter(sessionFactory.openStatelessSession(), seed.batchSize())) {
+            LodgingOwner[] owners = new LodgingOwner[seed.owners()];
+            for (int i = 0; i < owners.length; i++) {
+                owners[i] = writer.insert(new LodgingOwner(OWNER_EMAIL.formatted(i), password, "Owner" + i, "Load Test",
+                        Role.LODGING_OWNER, true));
+            }
+            Tourist[] tourists = new Tourist[seed.tourists()];
+            for (int i = 0; i < tourists.length; i++) {
+                TouristType type = i % 5 == 0 ? TouristType.PREMIUM : TouristType.STANDARD;
+                tourists[i] = writer.insert(new Tourist(TOURIST_EMAIL.formatted(i), password, "Tourist" + i, "Load Test",
+                        Role.TOURIST, type, true));
+            }
+            TouristicPlace[] places = new TouristicPlace[seed.touristicPlaces()];
+            for (int i = 0; i < places.length; i++) {
+                places[i] = writer.insert(new TouristicPlace("Place %06d".formatted(i), "Synthetic touristic place " + i,
+                        REGIONS[i % REGIONS.length], null, owners[i % owners.length], true));
+            }
+            log.info("Seeded {} owners, {} tourists and {} touristic places", owners.length, tourists.length, places.length);
+
+            int bookingsPerLodging = seed.bookings() / Math.max(1, seed.lodgings());
+            int remainder = seed.bookings() % Math.max(1, seed.lodgings());
+            long bookings = 0;
+            for (int i = 0; i < seed.lodgings(); i++) {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                Lodging lodging = writer.insert(new Lodging("Lodging %07d".formatted(i), "Synthetic lodging " + i,
+                        "Calle " + i, "+598" + (90000000 + i), random.nextInt(2, 21), (double) random.nextInt(20, 301),
+                        random.nextInt(1, 6), places[i % places.length], owners[i % owners.length], true));
+                int count = bookingsPerLodging + (i < remainder ? 1 : 0);
+                seedBookings(writer, lodging, tourists, count, seed.maxNights());
+                bookings += count;
+                if ((i + 1) % 10_000 == 0) {
+                    log.info("Seeded {} lodgings and {} bookings", i + 1, bookings);
+                }
+            }
+        }
+        log.info("Seeding finished in {}s", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+    }
+
+    private void seedBookings(BatchWriter writer, Lodging lodging, Tourist[] tourists, int count, int maxNights) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate checkIn = LocalDate.now().plusDays(random.nextInt(1, 4));
+        for (int i = 0; i < count; i++) {
+            LocalDate checkOut = checkIn.plusDays(random.nextInt(1, maxNights + 1));
+            Tourist tourist = tourists[random.nextInt(tourists.length)];
+            int adults = random.nextInt(1, Math.min(4, lodging.getCapacity()) + 1);
+            int children = random.nextInt(0, lodging.getCapacity() - adults + 1) / 2;
+            List<LocalDate> nights = dateValidation.datesBetweenDates(checkIn, checkOut);
+            double price = pricingService.calculateBookingPrice(tourist.getType(), lodging, nights, adults, children, 0);
+            BookingState state = state(random.nextInt(100));
+
+            Booking booking = writer.insert(new Booking(checkIn, checkOut, price, lodging, tourist, state, adults,
+                    children, 0, state == BookingState.ACCEPTED));
+            for (LocalDate night : nights) {
+                writer.insert(new BookingDate(booking, night, lodging.getNightPrice()));
+                if (state != BookingState.REJECTED) {
+                    writer.insert(new LodgingOccupancy(lodging, night, adults + children));
+                }
+            }
+            checkIn = checkOut.plusDays(random.nextInt(0, 3));
+        }
+    }
+
+    private static BookingState state(int percentile) {
+        if (percentile < 30) {
+            return BookingState.CREATED;
+        } else if (percentile < 50) {
+            return BookingState.PENDING;
+        } else if (percentile < 90) {
+            return BookingState.ACCEPTED;
+        }
+        return BookingState.REJECTED;
+    }
+
+    private static final class BatchWriter implements AutoCloseable {
+
+        private final StatelessSession session;
+        private final int batchSize;
+        private int pending;
+
+        BatchWriter(StatelessSession session, int batchSize) {
+            this.session = session;
+            this.batchSize = batchSize;
+            session.beginTransaction();
+        }
+
+        <T> T insert(T entity) {
+            session.insert(entity);
+            if (++pending >= batchSize) {
+                session.getTransaction().commit();
+                session.beginTransaction();
+                pending = 0;
+            }
+            return entity;
+        }
+
+        @Override
+        public void close() {
+            session.getTransaction().commit();
+            session.close();
+        }
+    }
+}
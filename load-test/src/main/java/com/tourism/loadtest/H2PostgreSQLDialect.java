@@ -0,0 +1,25 @@
+package com.tourism.loadtest;
+
+import org.hibernate.dialect.DatabaseVersion;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+/**
+ * PostgreSQL dialect for H2 running in PostgreSQL mode, which understands the native ON CONFLICT queries of the
+ * services but not {@code insert ... returning}, so generated identities are read through getGeneratedKeys.
+ */
+public class H2PostgreSQLDialect extends PostgreSQLDialect {
+
+    public H2PostgreSQLDialect() {
+        super(DatabaseVersion.make(12));
+    }
+
+    @Override
+    public boolean supportsInsertReturning() {
+        return false;
+    }
+
+    @Override
+    public boolean supportsInsertReturningGeneratedKeys() {
+        return false;
+    }
+}
@@ -0,0 +1,95 @@
+package com.tourism.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Stand-in for the Kafka cluster: the KafkaTemplate of the services writes into a {@link MockProducer} and every
+ * record is handed straight to the listener registered for its topic on a virtual thread, like a consumer with
+ * unlimited partitions would do.
+ */
+@Slf4j
+public class InMemoryKafkaBroker implements AutoCloseable {
+
+    private final Map<String, Consumer<String>> listeners = new ConcurrentHashMap<>();
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final Producer<String, String> producer = new DispatchingProducer();
+
+    public void subscribe(String topic, Consumer<String> listener) {
+        listeners.put(topic, listener);
+    }
+
+    public long delivered() {
+        return delivered.get();
+    }
+
+    public long failed() {
+        return failed.get();
+    }
+
+    public Producer<String, String> producer() {
+        return producer;
+    }
+
+    @Override
+    public void close() {
+        deliveryExecutor.close();
+    }
+
+    private void dispatch(ProducerRecord<String, String> producerRecord) {
+        Consumer<String> listener = listeners.get(producerRecord.topic());
+        if (listener == null) {
+            return;
+        }
+        deliveryExecutor.execute(() -> {
+            try {
+                listener.accept(producerRecord.value());
+                delivered.incrementAndGet();
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                log.warn("Listener of topic {} failed: {}", producerRecord.topic(), e.getMessage());
+            }
+        });
+    }
+
+    private class DispatchingProducer extends MockProducer<String, String> {
+
+        DispatchingProducer() {
+            super(true, new StringSerializer(), new StringSerializer());
+        }
+
+        @Override
+        public synchronized Future<RecordMetadata> send(ProducerRecord<String, String> producerRecord, Callback callback) {
+            Future<RecordMetadata> result = super.send(producerRecord, callback);
+            clear();
+            dispatch(producerRecord);
+            return result;
+        }
+
+        @Override
+        public void close() {
+            // shared by every KafkaTemplate send, closed with the broker
+        }
+
+        @Override
+        public void close(Duration timeout) {
+            // shared by every KafkaTemplate send, closed with the broker
+        }
+    }
+}
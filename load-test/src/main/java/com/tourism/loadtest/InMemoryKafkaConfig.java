@@ -0,0 +1,46 @@
+package com.tourism.loadtest;
+
+import com.tourism.service.BookingOutcomeService;
+import com.tourism.service.BookingReceiveQueueService;
+import org.apache.kafka.clients.producer.Producer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.kafka.core.ProducerFactory;
+
+/**
+ * Replaces the producer factory Spring Boot would build for the real cluster and wires the booking and outcome
+ * topics to their listeners, whose Kafka containers stay stopped in the load test.
+ */
+@Configuration
+public class InMemoryKafkaConfig {
+
+    @Bean
+    public InMemoryKafkaBroker inMemoryKafkaBroker(@Lazy BookingReceiveQueueService receiveQueueService,
+                                                   @Lazy BookingOutcomeService outcomeService,
+                                                   @Value("${spring.kafka.topic.booking}") String bookingTopic,
+                                                   @Value("${spring.kafka.topic.booking-outcome}") String outcomeTopic) {
+        InMemoryKafkaBroker broker = new InMemoryKafkaBroker();
+        broker.subscribe(bookingTopic, messageBody -> {
+            try {
+                receiveQueueService.receiveMessage(messageBody);
+            } catch (RuntimeException e) {
+                receiveQueueService.receiveDeadLetter(messageBody, bookingTopic, e.getMessage());
+                throw e;
+            }
+        });
+        broker.subscribe(outcomeTopic, outcomeService::receiveOutcome);
+        return broker;
+    }
+
+    /**
+     * Typed like the factory of KafkaAutoConfiguration so its KafkaTemplate picks this one up instead.
+     */
+    @Bean
+    @SuppressWarnings("unchecked")
+    public ProducerFactory<Object, Object> inMemoryProducerFactory(InMemoryKafkaBroker broker) {
+        Producer<?, ?> producer = broker.producer();
+        return () -> (Producer<Object, Object>) producer;
+    }
+}
@@ -0,0 +1,214 @@
+package com.tourism.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tourism.dto.request.AuthUserDto;
+import com.tourism.dto.request.BookingRequestDTO;
+import com.tourism.model.Region;
+import com.tourism.service.IdempotencyService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Closed-model traffic: every virtual user is a virtual thread sending its next request as soon as the previous
+ * one answers, picking search, booking creation, owner state changes or logins by the configured weights.
+ */
+@Slf4j
+public class LoadGenerator {
+
+    private static final String JSON = "application/json";
+    private static final Region[] REGIONS = Region.values();
+
+    private final String baseUrl;
+    private final SeedData seed;
+    private final LoadTestProperties.Run run;
+    private final String password;
+    private final ObjectMapper objectMapper;
+    private final HttpClient client;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final Map<String, String> ownerTokens = new ConcurrentHashMap<>();
+    private final List<Consumer<Session>> operations = new ArrayList<>();
+
+    public LoadGenerator(String baseUrl, SeedData seed, LoadTestProperties.Run run, String password, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.seed = seed;
+        this.run = run;
+        this.password = password;
+        this.objectMapper = objectMapper;
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(run.requestTimeout())
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        addOperation(run.searchWeight(), this::search);
+        addOperation(run.createWeight(), this::createBooking);
+        addOperation(run.stateChangeWeight(), this::changeState);
+        addOperation(run.loginWeight(), session -> login(randomTourist()));
+    }
+
+    /**
+     * Logs every user in, runs the traffic and returns the length of the measured window, warm-up excluded.
+     */
+    public Duration run() throws InterruptedException {
+        if (operations.isEmpty() || seed.touristEmails().isEmpty() || seed.lodgingIds().isEmpty()) {
+            throw new IllegalStateException("Nothing to run: check the traffic weights and the seeded data");
+        }
+        for (String owner : seed.createdBookingsByOwner().keySet()) {
+            Optional.ofNullable(login(owner)).ifPresent(token -> ownerTokens.put(owner, token));
+        }
+        List<Session> sessions = new ArrayList<>();
+        for (int i = 0; i < run.virtualUsers(); i++) {
+            String email = seed.touristEmails().get(i % seed.touristEmails().size());
+            sessions.add(new Session(Objects.requireNonNull(login(email), "Could not log in as " + email)));
+        }
+
+        long end = System.nanoTime() + run.warmup().toNanos() + run.duration().toNanos();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            sessions.forEach(session -> users.execute(() -> {
+                while (System.nanoTime() < end) {
+                    operations.get(ThreadLocalRandom.current().nextInt(operations.size())).accept(session);
+                }
+            }));
+            Thread.sleep(run.warmup());
+            stats.values().forEach(EndpointStats::reset);
+            log.info("Warm-up finished, measuring for {}", run.duration());
+            long measureStart = System.nanoTime();
+            users.shutdown();
+            users.awaitTermination(run.duration().toNanos() + run.requestTimeout().toNanos() * 2, TimeUnit.NANOSECONDS);
+            return Duration.ofNanos(System.nanoTime() - measureStart);
+        }
+    }
+
+    public Collection<EndpointStats> stats() {
+        return new TreeMap<>(stats).values();
+    }
+
+    private void addOperation(int weight, Consumer<Session> operation) {
+        for (int i = 0; i < weight; i++) {
+            operations.add(operation);
+        }
+    }
+
+    private void search(Session session) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (random.nextInt(3)) {
+            case 0 -> get(session, "GET /v1/touristic_place/name",
+                    "/v1/touristic_place/name?name=Place%20" + "%06d".formatted(random.nextInt(seed.touristicPlaceIds().size())).substring(0, 4) + "&size=20");
+            case 1 -> get(session, "GET /v1/touristic_place/region",
+                    "/v1/touristic_place/region?region=" + REGIONS[random.nextInt(REGIONS.length)] + "&size=20");
+            default -> get(session, "GET /v1/lodging/touristic_place/{id}",
+                    "/v1/lodging/touristic_place/" + random(seed.touristicPlaceIds()) + "?size=20");
+        }
+    }
+
+    private void createBooking(Session session) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate checkIn = LocalDate.now().plusDays(random.nextInt(1, 365));
+        BookingRequestDTO booking = new BookingRequestDTO(checkIn, checkIn.plusDays(random.nextInt(1, 8)),
+                random(seed.lodgingIds()), random.nextInt(1, 3), random.nextInt(0, 2), 0);
+        send("POST /v1/booking", HttpRequest.newBuilder(uri("/v1/booking"))
+                .header("Authorization", "Bearer " + session.token())
+                .header(IdempotencyService.IDEMPOTENCY_HEADER, UUID.randomUUID().toString())
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofString(write(booking)))
+                .build());
+    }
+
+    private void changeState(Session session) {
+        List<String> owners = new ArrayList<>(ownerTokens.keySet());
+        if (owners.isEmpty()) {
+            search(session);
+            return;
+        }
+        String owner = random(owners);
+        UUID bookingId = seed.createdBookingsByOwner().get(owner).poll();
+        if (bookingId == null) {
+            search(session);
+            return;
+        }
+        boolean accept = ThreadLocalRandom.current().nextInt(4) != 0;
+        String action = accept ? "pending" : "reject";
+        send("PUT /v1/booking/" + action + "/{id}", HttpRequest.newBuilder(uri("/v1/booking/" + action + "/" + bookingId))
+                .header("Authorization", "Bearer " + ownerTokens.get(owner))
+                .header("Content-Type", JSON)
+                .PUT(HttpRequest.BodyPublishers.noBody())
+                .build());
+    }
+
+    private String login(String email) {
+        HttpResponse<String> response = send("POST /v1/auth/login", HttpRequest.newBuilder(uri("/v1/auth/login"))
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofString(write(new AuthUserDto(email, password))))
+                .build());
+        if (response == null || response.statusCode() != 200) {
+            return null;
+        }
+        try {
+            JsonNode token = objectMapper.readTree(response.body()).path("data").path(0).path("accessToken");
+            return token.isMissingNode() ? null : token.asText();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void get(Session session, String endpoint, String path) {
+        send(endpoint, HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + session.token())
+                .header("Content-Type", JSON)
+                .GET()
+                .build());
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request) {
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, EndpointStats::new);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            endpointStats.record(System.nanoTime() - start, response.statusCode() < 400);
+            return response;
+        } catch (IOException e) {
+            endpointStats.record(System.nanoTime() - start, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private String write(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> T random(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    private String randomTourist() {
+        return random(seed.touristEmails());
+    }
+
+    private record Session(String token) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.tourism.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Throughput and latency percentiles per endpoint of one measured window, printed as a table and saved as JSON.
+ */
+public record LoadReport(int virtualUsers, double measuredSeconds, List<Row> endpoints, Pipeline bookingPipeline) {
+
+    public record Row(String endpoint, long requests, long errors, double throughput, double p50Ms, double p90Ms,
+                      double p99Ms, double p999Ms, double maxMs) {
+    }
+
+    /**
+     * Asynchronous side of booking creation, from the message leaving the controller to its outcome.
+     */
+    public record Pipeline(long processed, long failed, double meanMs, double maxMs) {
+    }
+
+    public static LoadReport of(int virtualUsers, Duration measured, Collection<EndpointStats> stats, Pipeline pipeline) {
+        double seconds = measured.toNanos() / 1e9;
+        List<Row> rows = stats.stream()
+                .filter(endpoint -> endpoint.requests() > 0)
+                .map(endpoint -> new Row(endpoint.endpoint(), endpoint.requests(), endpoint.errors(),
+                        endpoint.requests() / seconds, endpoint.percentileMillis(50), endpoint.percentileMillis(90),
+                        endpoint.percentileMillis(99), endpoint.percentileMillis(99.9), endpoint.maxMillis()))
+                .toList();
+        return new LoadReport(virtualUsers, seconds, rows, pipeline);
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%nLoad test: %d virtual users, %.1fs measured%n", virtualUsers, measuredSeconds);
+        out.printf("%-40s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Row row : endpoints) {
+            out.printf("%-40s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", row.endpoint(), row.requests(), row.errors(),
+                    row.throughput(), row.p50Ms(), row.p90Ms(), row.p99Ms(), row.p999Ms(), row.maxMs());
+        }
+        out.printf("Booking pipeline: %d processed, %d failed, mean %.2f ms, max %.2f ms%n",
+                bookingPipeline.processed(), bookingPipeline.failed(), bookingPipeline.meanMs(), bookingPipeline.maxMs());
+    }
+
+    public void write(File file) throws IOException {
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, this);
+    }
+}
@@ -0,0 +1,81 @@
+package com.tourism.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tourism.ServicesApplication;
+import com.tourism.util.helpers.BookingMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the real services application on a random port against the {@code loadtest} profile (H2 in PostgreSQL
+ * mode and the in-memory Kafka stand-in), seeds it, drives it over HTTP and prints the report.
+ * <pre>java -jar load-test/target/load-test-0.0.1-SNAPSHOT.jar --load-test.seed.lodgings=200000</pre>
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(LoadTestProperties.class)
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ServicesApplication.class, LoadTestApplication.class)
+                .profiles("loadtest")
+                .run(args);
+        int exitCode = 0;
+        try {
+            run(context);
+        } catch (Exception e) {
+            log.error("Load test failed", e);
+            exitCode = 1;
+        }
+        System.exit(SpringApplication.exit(context, () -> 0) + exitCode);
+    }
+
+    private static void run(ConfigurableApplicationContext context) throws Exception {
+        LoadTestProperties properties = context.getBean(LoadTestProperties.class);
+        if (properties.seed().enabled()) {
+            context.getBean(DataSeeder.class).seed(properties.seed());
+        }
+        SeedData seed;
+        EntityManager entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        try {
+            seed = SeedData.load(entityManager, properties.seed().sampleOwners());
+        } finally {
+            entityManager.close();
+        }
+        log.info("Driving {} touristic places, {} lodgings and {} tourists", seed.touristicPlaceIds().size(),
+                seed.lodgingIds().size(), seed.touristEmails().size());
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        LoadGenerator generator = new LoadGenerator("http://localhost:" + port, seed, properties.run(),
+                properties.seed().password(), context.getBean(ObjectMapper.class));
+        Duration measured = generator.run();
+
+        LoadReport report = LoadReport.of(properties.run().virtualUsers(), measured, generator.stats(),
+                pipeline(context.getBean(MeterRegistry.class), context.getBean(InMemoryKafkaBroker.class)));
+        report.print(System.out);
+        report.write(new File(properties.reportFile()));
+        log.info("Report written to {}", properties.reportFile());
+    }
+
+    private static LoadReport.Pipeline pipeline(MeterRegistry meterRegistry, InMemoryKafkaBroker broker) {
+        Collection<Timer> timers = meterRegistry.find(BookingMetrics.END_TO_END_METRIC).timers();
+        long count = timers.stream().mapToLong(Timer::count).sum();
+        double total = timers.stream().mapToDouble(timer -> timer.totalTime(TimeUnit.MILLISECONDS)).sum();
+        double max = timers.stream().mapToDouble(timer -> timer.max(TimeUnit.MILLISECONDS)).max().orElse(0);
+        return new LoadReport.Pipeline(broker.delivered(), broker.failed(), count == 0 ? 0 : total / count, max);
+    }
+}
@@ -0,0 +1,29 @@
+package com.tourism.loadtest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Volumes of the synthetic data set and shape of the generated traffic, bound from {@code load-test.*}.
+ */
+@ConfigurationProperties(prefix = "load-test")
+public record LoadTestProperties(Seed seed, Run run, String reportFile) {
+
+    /**
+     * @param bookings total seeded bookings, spread evenly over the lodgings; every night also gets a BookingDate
+     *                 and, unless rejected, a LodgingOccupancy row
+     * @param sampleOwners owners whose CREATED bookings are kept in memory as targets of state changes
+     */
+    public record Seed(boolean enabled, int touristicPlaces, int owners, int lodgings, int tourists, int bookings,
+                       int maxNights, int batchSize, int sampleOwners, String password) {
+    }
+
+    /**
+     * @param virtualUsers concurrent clients, each one a virtual thread issuing requests back to back
+     * @param searchWeight relative share of search requests; the other weights work the same way
+     */
+    public record Run(int virtualUsers, Duration warmup, Duration duration, Duration requestTimeout,
+                      int searchWeight, int createWeight, int stateChangeWeight, int loginWeight) {
+    }
+}
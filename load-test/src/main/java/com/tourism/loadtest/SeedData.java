@@ -0,0 +1,41 @@
+package com.tourism.loadtest;
+
+import com.tourism.model.BookingState;
+import jakarta.persistence.EntityManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * What the traffic generator needs from the database: ids to search and book, users to log in as and,
+ * per sampled owner, the CREATED bookings it may still move to PENDING or REJECTED.
+ */
+public record SeedData(List<UUID> touristicPlaceIds, List<UUID> lodgingIds, List<String> touristEmails,
+                       Map<String, Queue<UUID>> createdBookingsByOwner) {
+
+    private static final int MAX_TOURISTS = 10_000;
+
+    public static SeedData load(EntityManager entityManager, int sampleOwners) {
+        List<UUID> places = entityManager.createQuery("select p.id from TouristicPlace p", UUID.class).getResultList();
+        List<UUID> lodgings = entityManager.createQuery("select l.id from Lodging l", UUID.class).getResultList();
+        List<String> tourists = entityManager.createQuery("select t.email from Tourist t order by t.email", String.class)
+                .setMaxResults(MAX_TOURISTS)
+                .getResultList();
+        List<String> owners = entityManager.createQuery("select o.email from LodgingOwner o order by o.email", String.class)
+                .setMaxResults(sampleOwners)
+                .getResultList();
+
+        Map<String, Queue<UUID>> createdBookings = new ConcurrentHashMap<>();
+        owners.forEach(owner -> createdBookings.put(owner, new ConcurrentLinkedQueue<>()));
+        if (!owners.isEmpty()) {
+            entityManager.createQuery("select b.id, o.email from Booking b join b.lodging l join l.lodgingOwner o " +
+                            "where b.state = :state and o.email in :owners", Object[].class)
+                    .setParameter("state", BookingState.CREATED)
+                    .setParameter("owners", owners)
+                    .getResultList()
+                    .forEach(row -> createdBookings.get((String) row[1]).add((UUID) row[0]));
+        }
+        return new SeedData(places, lodgings, tourists, createdBookings);
+    }
+}
@@ -1,24 +1,34 @@
 package com.tourism.aspect;
 
-import lombok.extern.slf4j.Slf4j;
+import com.tourism.util.helpers.MethodTimers;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Aspect
 @Component
-@Slf4j
 public class TimerAspect {
 
-    @Around("execution(* com.tourism.service.*.*(..))")
-    public Object timeExecution(ProceedingJoinPoint joinPoint) throws Throwable {
-        long startTime = System.currentTimeMillis();
-        Object result = joinPoint.proceed();
-        long endTime = System.currentTimeMillis();
+    private final MethodTimers methodTimers;
 
-        log.info("Function {} executed in {}ms", joinPoint.getSignature().getName(), endTime - startTime);
+    @Autowired
+    public TimerAspect(MethodTimers methodTimers) {
+        this.methodTimers = methodTimers;
+    }
 
-        return result;
+    @Around("execution(* com.tourism.service.*.*(..))")
+    public Object timeExecution(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!methodTimers.sampled()) {
+            return joinPoint.proceed();
+        }
+        long startTime = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            methodTimers.record(((MethodSignature) joinPoint.getSignature()).getMethod(), System.nanoTime() - startTime);
+        }
     }
 }
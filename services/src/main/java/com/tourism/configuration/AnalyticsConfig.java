@@ -0,0 +1,29 @@
+package com.tourism.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Pool of the analytics aggregations. Every worker holds a database cursor while it runs, so the parallelism is kept
+ * well below the connection pool size instead of following the number of cores like the common pool does.
+ */
+@Configuration
+public class AnalyticsConfig {
+
+    public static final String ANALYTICS_POOL = "analyticsPool";
+
+    private static final String THREAD_PREFIX = "analytics-";
+
+    @Bean(name = ANALYTICS_POOL, destroyMethod = "shutdown")
+    public ForkJoinPool analyticsPool(@Value("${analytics.parallelism:4}") int parallelism) {
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(THREAD_PREFIX + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+}
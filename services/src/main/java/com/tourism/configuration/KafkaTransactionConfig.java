@@ -0,0 +1,44 @@
+package com.tourism.configuration;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import java.util.UUID;
+
+/**
+ * Exactly-once mode of the booking pipeline. The producer becomes transactional and the listener containers pick up
+ * the Kafka transaction manager, so consumer offsets are committed together with what the listener sends.
+ * The JPA transaction manager stays the primary one for every {@code @Transactional} method; Spring Boot would
+ * otherwise back off from creating it once another transaction manager exists.
+ */
+@Configuration
+@ConditionalOnProperty(name = "booking.kafka.exactly-once", havingValue = "true")
+public class KafkaTransactionConfig {
+
+    // transactional ids must not clash between nodes, producer-only transactions are fenced by them
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer transactionalProducerCustomizer(
+            @Value("${booking.kafka.transaction-id-prefix:booking-tx-}") String transactionIdPrefix) {
+        String nodePrefix = transactionIdPrefix + UUID.randomUUID().toString().substring(0, 8) + "-";
+        return producerFactory -> producerFactory.setTransactionIdPrefix(nodePrefix);
+    }
+
+    @Bean
+    public KafkaTransactionManager<Object, Object> kafkaTransactionManager(ProducerFactory<Object, Object> producerFactory) {
+        return new KafkaTransactionManager<>(producerFactory);
+    }
+
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
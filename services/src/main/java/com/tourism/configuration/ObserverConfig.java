@@ -1,8 +1,16 @@
 package com.tourism.configuration;
 
+import com.tourism.observer.CatalogObserver;
 import com.tourism.observer.LodgingOwnerObserver;
 import com.tourism.observer.TouristObserver;
+import com.tourism.observer.UserObserver;
+import com.tourism.service.AdminService;
 import com.tourism.service.BookingService;
+import com.tourism.service.LodgingOwnerService;
+import com.tourism.service.LodgingService;
+import com.tourism.service.TouristService;
+import com.tourism.service.TouristicPlaceService;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 
@@ -16,4 +24,26 @@ public class ObserverConfig {
         bookingService.addObserver(lodgingOwnerObserver);
         bookingService.addObserver(touristObserver);
     }
+
+    @Autowired
+    public void configureCatalogObservers(TouristicPlaceService placeService,
+                                          LodgingService lodgingService,
+                                          ObjectProvider<CatalogObserver> catalogObservers) {
+        catalogObservers.orderedStream().forEach(observer -> {
+            placeService.addObserver(observer);
+            lodgingService.addObserver(observer);
+        });
+    }
+
+    @Autowired
+    public void configureUserObservers(AdminService adminService,
+                                       TouristService touristService,
+                                       LodgingOwnerService lodgingOwnerService,
+                                       ObjectProvider<UserObserver> userObservers) {
+        userObservers.orderedStream().forEach(observer -> {
+            adminService.addObserver(observer);
+            touristService.addObserver(observer);
+            lodgingOwnerService.addObserver(observer);
+        });
+    }
 }
@@ -0,0 +1,45 @@
+package com.tourism.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor of the outbound Kafka sends, so they no longer share the common ForkJoinPool with the rest of the JVM.
+ * With {@code spring.threads.virtual.enabled} every send gets a virtual thread, capped by max-concurrency;
+ * otherwise a bounded platform thread pool is used.
+ */
+@Configuration
+public class QueueExecutorConfig {
+
+    public static final String BOOKING_SEND_EXECUTOR = "bookingSendExecutor";
+
+    private static final String THREAD_PREFIX = "booking-send-";
+
+    @Bean(name = BOOKING_SEND_EXECUTOR)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public TaskExecutor virtualBookingSendExecutor(@Value("${booking.send.max-concurrency:512}") int maxConcurrency) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(THREAD_PREFIX);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(maxConcurrency);
+        return executor;
+    }
+
+    @Bean(name = BOOKING_SEND_EXECUTOR)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public TaskExecutor platformBookingSendExecutor(@Value("${booking.send.pool-size:8}") int poolSize,
+                                                    @Value("${booking.send.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(THREAD_PREFIX);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
@@ -0,0 +1,35 @@
+package com.tourism.configuration;
+
+import com.tourism.util.ResponseAudit;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class ResponseAuditConfig {
+
+    @Value("${response-audit.sample-rate:0.01}")
+    private double sampleRate;
+
+    @Value("${response-audit.max-payload-length:2000}")
+    private int maxPayloadLength;
+
+    @Value("${response-audit.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${response-audit.full-payload-paths:}")
+    private List<String> fullPayloadPaths;
+
+    @PostConstruct
+    public void configureResponseAudit() {
+        ResponseAudit.configure(new ResponseAudit.Settings(sampleRate, maxPayloadLength, List.copyOf(fullPayloadPaths)), queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdownResponseAudit() {
+        ResponseAudit.shutdown();
+    }
+}
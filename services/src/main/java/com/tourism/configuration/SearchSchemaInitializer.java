@@ -0,0 +1,70 @@
+package com.tourism.configuration;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Adds the full-text columns the schema generated from the entities cannot express. Each search_vector is a stored
+ * generated column, so Postgres keeps it current on every insert and update, and a GIN index serves the @@ match.
+ * Name weighs A, description B and lodging information C in the ranking. Names also get a pg_trgm GIN index for
+ * the fuzzy search mode.
+ */
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "postgres", matchIfMissing = true)
+@Slf4j
+public class SearchSchemaInitializer implements CommandLineRunner {
+
+    private static final Pattern TEXT_CONFIG = Pattern.compile("[a-z_]+");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String textConfig;
+
+    // the entity manager factory is only required so the tables exist before the columns are added
+    @Autowired
+    public SearchSchemaInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+                                   @Value("${search.text-config:spanish}") String textConfig) {
+        if (!TEXT_CONFIG.matcher(textConfig).matches()) {
+            throw new IllegalArgumentException("Invalid text search configuration: " + textConfig);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.textConfig = textConfig;
+    }
+
+
+    @Override
+    public void run(String... args) {
+        for (String statement : this.statements()) {
+            jdbcTemplate.execute(statement);
+        }
+        log.info("*** Full-text and trigram search indexes ready ({}) ***", textConfig);
+    }
+
+    public List<String> statements() {
+        return List.of(
+                "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+                "ALTER TABLE public.touristic_places ADD COLUMN IF NOT EXISTS search_vector tsvector " +
+                        "GENERATED ALWAYS AS (" + this.weighted("name", 'A') + " || " +
+                        this.weighted("description", 'B') + ") STORED",
+                "CREATE INDEX IF NOT EXISTS idx_touristic_places_search ON public.touristic_places USING GIN (search_vector)",
+                "ALTER TABLE public.lodgings ADD COLUMN IF NOT EXISTS search_vector tsvector " +
+                        "GENERATED ALWAYS AS (" + this.weighted("name", 'A') + " || " +
+                        this.weighted("description", 'B') + " || " + this.weighted("information", 'C') + ") STORED",
+                "CREATE INDEX IF NOT EXISTS idx_lodgings_search ON public.lodgings USING GIN (search_vector)",
+                "CREATE INDEX IF NOT EXISTS idx_touristic_places_name_trgm ON public.touristic_places USING GIN (name gin_trgm_ops)",
+                "CREATE INDEX IF NOT EXISTS idx_lodgings_name_trgm ON public.lodgings USING GIN (name gin_trgm_ops)"
+        );
+    }
+
+    private String weighted(String column, char weight) {
+        return "setweight(to_tsvector('" + textConfig + "', coalesce(" + column + ", '')), '" + weight + "')";
+    }
+}
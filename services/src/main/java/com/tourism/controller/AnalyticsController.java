@@ -0,0 +1,51 @@
+package com.tourism.controller;
+
+import com.tourism.configuration.annotation.CommonApiResponses;
+import com.tourism.dto.response.OccupancyAnalyticsDTO;
+import com.tourism.dto.response.StandardResponseDto;
+import com.tourism.service.AnalyticsService;
+import com.tourism.util.EndpointConstants;
+import com.tourism.util.ResponseEntityUtil;
+import com.tourism.util.helpers.AuthenticationHelper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@Tag(name = "Analytics Controller", description = "Occupancy and demand analytics for planning")
+@Slf4j
+@RequestMapping(path = EndpointConstants.ROOT_PATH + EndpointConstants.ADMIN_PATH + EndpointConstants.ANALYTICS_PATH,
+        produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.ALL_VALUE)
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    @Autowired
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+
+    @Operation(summary = "Occupancy rate, booked persons, nights and revenue by region and by category within the window",
+            operationId = "occupancyAnalytics")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.ADMIN_ROLE)
+    @GetMapping("/occupancy")
+    public ResponseEntity<StandardResponseDto<OccupancyAnalyticsDTO>> occupancy(HttpServletRequest request,
+                                                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntityUtil.buildObject(request, analyticsService.occupancy(from, to));
+    }
+}
@@ -0,0 +1,101 @@
+package com.tourism.controller;
+
+import com.tourism.configuration.annotation.CommonApiResponses;
+import com.tourism.dto.request.AutocompleteRequest;
+import com.tourism.dto.response.StandardResponseDto;
+import com.tourism.dto.response.SuggestionDTO;
+import com.tourism.model.Role;
+import com.tourism.service.AutocompleteService;
+import com.tourism.util.EndpointConstants;
+import com.tourism.util.ResponseEntityUtil;
+import com.tourism.util.helpers.AuthenticationHelper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Tag(name = "Autocomplete Controller", description = "Type-ahead suggestions for user and place searches")
+@Slf4j
+@RequestMapping(path = EndpointConstants.ROOT_PATH + EndpointConstants.AUTOCOMPLETE_PATH,
+        produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.ALL_VALUE)
+@Validated
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    @Autowired
+    public AutocompleteController(AutocompleteService autocompleteService) {
+        this.autocompleteService = autocompleteService;
+    }
+
+
+    @Operation(summary = "Admins whose email starts with q", operationId = "autocompleteAdminEmails")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.ADMIN_ROLE)
+    @GetMapping(EndpointConstants.ADMIN_PATH + "/email")
+    public ResponseEntity<StandardResponseDto<SuggestionDTO>> adminEmails(HttpServletRequest request,
+                                                                          @Valid @ModelAttribute AutocompleteRequest autocomplete) {
+        return ResponseEntityUtil.buildArray(request, autocompleteService.suggestEmails(Role.ADMIN, autocomplete));
+    }
+
+
+    @Operation(summary = "Tourists whose email starts with q", operationId = "autocompleteTouristEmails")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.ADMIN_ROLE)
+    @GetMapping(EndpointConstants.TOURIST_PATH + "/email")
+    public ResponseEntity<StandardResponseDto<SuggestionDTO>> touristEmails(HttpServletRequest request,
+                                                                            @Valid @ModelAttribute AutocompleteRequest autocomplete) {
+        return ResponseEntityUtil.buildArray(request, autocompleteService.suggestEmails(Role.TOURIST, autocomplete));
+    }
+
+
+    @Operation(summary = "Tourists whose last name starts with q", operationId = "autocompleteTouristLastNames")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.ADMIN_ROLE)
+    @GetMapping(EndpointConstants.TOURIST_PATH + "/lastName")
+    public ResponseEntity<StandardResponseDto<SuggestionDTO>> touristLastNames(HttpServletRequest request,
+                                                                               @Valid @ModelAttribute AutocompleteRequest autocomplete) {
+        return ResponseEntityUtil.buildArray(request, autocompleteService.suggestLastNames(Role.TOURIST, autocomplete));
+    }
+
+
+    @Operation(summary = "Lodging owners whose email starts with q", operationId = "autocompleteLodgingOwnerEmails")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.ADMIN_ROLE)
+    @GetMapping(EndpointConstants.LODGING_OWNER_PATH + "/email")
+    public ResponseEntity<StandardResponseDto<SuggestionDTO>> lodgingOwnerEmails(HttpServletRequest request,
+                                                                                 @Valid @ModelAttribute AutocompleteRequest autocomplete) {
+        return ResponseEntityUtil.buildArray(request, autocompleteService.suggestEmails(Role.LODGING_OWNER, autocomplete));
+    }
+
+
+    @Operation(summary = "Lodging owners whose last name starts with q", operationId = "autocompleteLodgingOwnerLastNames")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.ADMIN_ROLE)
+    @GetMapping(EndpointConstants.LODGING_OWNER_PATH + "/lastName")
+    public ResponseEntity<StandardResponseDto<SuggestionDTO>> lodgingOwnerLastNames(HttpServletRequest request,
+                                                                                    @Valid @ModelAttribute AutocompleteRequest autocomplete) {
+        return ResponseEntityUtil.buildArray(request, autocompleteService.suggestLastNames(Role.LODGING_OWNER, autocomplete));
+    }
+
+
+    @Operation(summary = "Touristic places whose name starts with q", operationId = "autocompleteTouristicPlaceNames")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.EVERY_ROLE)
+    @GetMapping(EndpointConstants.TOURISTIC_PATH + "/name")
+    public ResponseEntity<StandardResponseDto<SuggestionDTO>> placeNames(HttpServletRequest request,
+                                                                         @Valid @ModelAttribute AutocompleteRequest autocomplete) {
+        return ResponseEntityUtil.buildArray(request, autocompleteService.suggestPlaceNames(autocomplete));
+    }
+}
@@ -1,35 +1,53 @@
 package com.tourism.controller;
 
 import com.tourism.configuration.annotation.CommonApiResponses;
+import com.tourism.dto.request.BookingBulkStateRequestDTO;
+import com.tourism.dto.request.BookingExportRequest;
 import com.tourism.dto.request.BookingRequestDTO;
 import com.tourism.dto.request.BookingUpdateRequestDTO;
+import com.tourism.dto.request.OwnerInboxRequest;
 import com.tourism.dto.request.PageableRequest;
+import com.tourism.dto.request.TouristTimelineRequest;
+import com.tourism.dto.response.BookingInboxPageDTO;
 import com.tourism.dto.response.BookingResponseDTO;
+import com.tourism.dto.response.BookingStateChangeResultDTO;
 import com.tourism.dto.response.ErrorDto;
 import com.tourism.dto.response.StandardResponseDto;
+import com.tourism.dto.response.TouristBookingDTO;
 import com.tourism.infrastructure.JwtTokenProvider;
 import com.tourism.model.Booking;
 import com.tourism.model.BookingState;
+import com.tourism.model.Role;
 import com.tourism.model.User;
+import com.tourism.service.BookingExportService;
+import com.tourism.service.BookingOutcomeService;
 import com.tourism.service.BookingService;
+import com.tourism.service.IdempotencyService;
 import com.tourism.util.EndpointConstants;
+import com.tourism.util.MessageConstants;
 import com.tourism.util.ResponseEntityUtil;
 import com.tourism.util.helpers.AuthenticationHelper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.vavr.control.Either;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.UUID;
 
 @RestController
@@ -41,11 +59,16 @@ import java.util.UUID;
 public class BookingController {
 
     private final BookingService service;
+    private final BookingOutcomeService outcomeService;
+    private final BookingExportService exportService;
     private final JwtTokenProvider jwtTokenProvider;
 
     @Autowired
-    public BookingController(BookingService service, JwtTokenProvider jwtTokenProvider) {
+    public BookingController(BookingService service, BookingOutcomeService outcomeService,
+                             BookingExportService exportService, JwtTokenProvider jwtTokenProvider) {
         this.service = service;
+        this.outcomeService = outcomeService;
+        this.exportService = exportService;
         this.jwtTokenProvider = jwtTokenProvider;
     }
 
@@ -54,10 +77,15 @@ public class BookingController {
     @CommonApiResponses
     @PreAuthorize(AuthenticationHelper.TOURIST_ROLE)
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<StandardResponseDto<String>> create(HttpServletRequest request, @RequestBody @Valid BookingRequestDTO booking) {
+    public ResponseEntity<StandardResponseDto<String>> create(HttpServletRequest request, @RequestBody @Valid BookingRequestDTO booking,
+                                                         @RequestHeader(value = IdempotencyService.IDEMPOTENCY_HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey != null && idempotencyKey.length() > IdempotencyService.IDEMPOTENCY_KEY_MAX_LENGTH) {
+            return ResponseEntityUtil.buildObject(request, Either.left(new ErrorDto[]{
+                    ErrorDto.of(HttpStatus.BAD_REQUEST, MessageConstants.ERROR_IDEMPOTENCY_KEY_TOO_LONG, null)}));
+        }
         User user = jwtTokenProvider.getUserFromToken(request);
         if (user != null) {
-            return ResponseEntityUtil.buildObject(request, service.create(booking, user.getId()));
+            return ResponseEntityUtil.buildObject(request, service.create(booking, user.getId(), idempotencyKey));
         } else {
             return ResponseEntityUtil.buildObject(request, Either.left(new ErrorDto[]{
                     ErrorDto.of(HttpStatus.BAD_REQUEST, "Error to create booking. User Not logged", null)}));
@@ -65,14 +93,40 @@ public class BookingController {
     }
 
 
+    @Operation(summary = "Stream the outcome of the tourist bookings once they are processed", operationId = "outcomes")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.TOURIST_ROLE)
+    @GetMapping(value = "/outcomes", consumes = MediaType.ALL_VALUE, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter outcomes(HttpServletRequest request) {
+        User user = jwtTokenProvider.getUserFromToken(request);
+        return outcomeService.subscribe(user.getId());
+    }
+
+
+    @Operation(summary = "Bookings of the logged tourist, upcoming, past or all of them", operationId = "timeline")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.TOURIST_ROLE)
+    @GetMapping(value = "/mine", consumes = MediaType.ALL_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StandardResponseDto<Slice<TouristBookingDTO>>> timeline(HttpServletRequest request,
+                                                                                 @Valid @ModelAttribute TouristTimelineRequest timeline) {
+        User user = jwtTokenProvider.getUserFromToken(request);
+        return ResponseEntityUtil.buildObject(request, service.findTouristTimeline(user.getId(), timeline));
+    }
+
+
     @Operation(summary = "update a booking", operationId = "update")
     @CommonApiResponses
     @PreAuthorize(AuthenticationHelper.TOURIST_ROLE)
     @PutMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<StandardResponseDto<String>> update(HttpServletRequest request, @RequestBody BookingUpdateRequestDTO bookingDto) {
+    public ResponseEntity<StandardResponseDto<String>> update(HttpServletRequest request, @RequestBody BookingUpdateRequestDTO bookingDto,
+                                                         @RequestHeader(value = IdempotencyService.IDEMPOTENCY_HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey != null && idempotencyKey.length() > IdempotencyService.IDEMPOTENCY_KEY_MAX_LENGTH) {
+            return ResponseEntityUtil.buildObject(request, Either.left(new ErrorDto[]{
+                    ErrorDto.of(HttpStatus.BAD_REQUEST, MessageConstants.ERROR_IDEMPOTENCY_KEY_TOO_LONG, null)}));
+        }
         User user = jwtTokenProvider.getUserFromToken(request);
         if (user != null) {
-            return ResponseEntityUtil.buildObject(request, service.update(bookingDto, user.getId()));
+            return ResponseEntityUtil.buildObject(request, service.update(bookingDto, user.getId(), idempotencyKey));
         } else {
             return ResponseEntityUtil.buildObject(request, Either.left(new ErrorDto[]{
                     ErrorDto.of(HttpStatus.BAD_REQUEST, "Error to update booking. User Not logged", null)}));
@@ -90,6 +144,40 @@ public class BookingController {
     }
 
 
+    @Operation(summary = "Bookings of every lodging of the logged lodging owner, filtered by state and check in range",
+            operationId = "ownerInbox")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.LODGING_OWNER_ROLE)
+    @GetMapping(value = "/inbox", consumes = MediaType.ALL_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StandardResponseDto<BookingInboxPageDTO>> ownerInbox(HttpServletRequest request,
+                                                                              @Valid @ModelAttribute OwnerInboxRequest inbox) {
+        User user = jwtTokenProvider.getUserFromToken(request);
+        return ResponseEntityUtil.buildObject(request, service.findOwnerInbox(user.getId(), inbox));
+    }
+
+
+    @Operation(summary = "Excel export of the bookings, night prices and revenue. Lodging owners get their lodgings, admins every lodging",
+            operationId = "exportXlsx")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.ADMIN_ROLE + " or " + AuthenticationHelper.LODGING_OWNER_ROLE)
+    @GetMapping(value = "/export/xlsx", consumes = MediaType.ALL_VALUE, produces = BookingExportService.XLSX_CONTENT_TYPE)
+    public void exportXlsx(HttpServletRequest request, HttpServletResponse response,
+                           @Valid @ModelAttribute BookingExportRequest export) throws IOException {
+        User user = jwtTokenProvider.getUserFromToken(request);
+        UUID ownerId = user.getRole() == Role.ADMIN ? null : user.getId();
+        response.setContentType(BookingExportService.XLSX_CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("bookings-" + export.getCheckInFrom() + "-" + export.getCheckInTo() + ".xlsx").build().toString());
+        Either<ErrorDto[], Long> result = exportService.exportXlsx(ownerId, export.getCheckInFrom(), export.getCheckInTo(),
+                response.getOutputStream());
+        if (result.isLeft() && !response.isCommitted()) {
+            ErrorDto error = result.getLeft()[0];
+            response.reset();
+            response.sendError(error.code().value(), error.message());
+        }
+    }
+
+
     @Operation(summary = "delete a touristic place", operationId = "delete")
     @CommonApiResponses
     @PreAuthorize(AuthenticationHelper.ADMIN_ROLE + " or " + AuthenticationHelper.LODGING_OWNER_ROLE)
@@ -118,6 +206,17 @@ public class BookingController {
         return ResponseEntityUtil.buildObject(request, service.changeState(bookingId, BookingState.PENDING, user.getId()));
     }
 
+    @Operation(summary = "Lodging owner accepts or rejects several bookings at once. Returns the result of every booking",
+            operationId = "bulkState")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.LODGING_OWNER_ROLE)
+    @PutMapping(value = "/state", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StandardResponseDto<BookingStateChangeResultDTO>> changeStates(HttpServletRequest request,
+                                                                                         @RequestBody @Valid BookingBulkStateRequestDTO bulk) {
+        User user = jwtTokenProvider.getUserFromToken(request);
+        return ResponseEntityUtil.buildArray(request, service.changeStates(bulk, user.getId()));
+    }
+
     @Operation(summary = "Booking payment. Booking is accepted", operationId = "payment")
     @CommonApiResponses
     @PreAuthorize(AuthenticationHelper.TOURIST_ROLE)
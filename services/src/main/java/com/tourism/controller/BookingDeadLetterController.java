@@ -0,0 +1,60 @@
+package com.tourism.controller;
+
+import com.tourism.configuration.annotation.CommonApiResponses;
+import com.tourism.dto.request.PageableRequest;
+import com.tourism.dto.response.BookingDeadLetterResponseDTO;
+import com.tourism.dto.response.StandardResponseDto;
+import com.tourism.service.BookingDeadLetterService;
+import com.tourism.util.EndpointConstants;
+import com.tourism.util.ResponseEntityUtil;
+import com.tourism.util.helpers.AuthenticationHelper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@Tag(name = "Booking Dead Letter Controller", description = "Booking messages that could not be processed")
+@Slf4j
+@RequestMapping(path = EndpointConstants.ROOT_PATH + EndpointConstants.ADMIN_PATH + EndpointConstants.BOOKING_DEAD_LETTER_PATH,
+        produces = MediaType.APPLICATION_JSON_VALUE)
+@Validated
+public class BookingDeadLetterController {
+
+    private final BookingDeadLetterService service;
+
+    @Autowired
+    public BookingDeadLetterController(BookingDeadLetterService service) {
+        this.service = service;
+    }
+
+
+    @Operation(summary = "Find all booking dead letters", operationId = "findAll")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.ADMIN_ROLE)
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StandardResponseDto<Page<BookingDeadLetterResponseDTO>>> findAll(HttpServletRequest request,
+                                                                                       @Valid @ModelAttribute PageableRequest paging) {
+        return ResponseEntityUtil.buildObject(request, service.findAll(paging));
+    }
+
+
+    @Operation(summary = "Send the oldest pending dead letters back to the booking topic", operationId = "replay")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.ADMIN_ROLE)
+    @PostMapping(value = "/replay", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StandardResponseDto<Integer>> replay(HttpServletRequest request,
+                                                               @RequestParam(value = "limit", defaultValue = "500") @Min(1) @Max(5000) int limit) {
+        return ResponseEntityUtil.buildObject(request, service.replay(limit));
+    }
+}
@@ -0,0 +1,103 @@
+package com.tourism.controller;
+
+import com.tourism.configuration.annotation.CommonApiResponses;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.model.ExportFormat;
+import com.tourism.service.DataExportService;
+import com.tourism.util.EndpointConstants;
+import com.tourism.util.helpers.AuthenticationHelper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.vavr.control.Either;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@Tag(name = "Data Export Controller", description = "Full table exports as newline delimited JSON or CSV")
+@Slf4j
+@RequestMapping(path = EndpointConstants.ROOT_PATH + EndpointConstants.ADMIN_PATH + EndpointConstants.EXPORT_PATH)
+public class DataExportController {
+
+    private static final String GZIP = "gzip";
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final DataExportService exportService;
+
+    @Autowired
+    public DataExportController(DataExportService exportService) {
+        this.exportService = exportService;
+    }
+
+
+    @Operation(summary = "Every booking as NDJSON or CSV, gzip encoded when the client accepts it", operationId = "exportBookings")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.ADMIN_ROLE)
+    @GetMapping(value = "/bookings", produces = {DataExportService.NDJSON_CONTENT_TYPE, DataExportService.CSV_CONTENT_TYPE})
+    public void exportBookings(HttpServletRequest request, HttpServletResponse response,
+                               @RequestParam(defaultValue = "NDJSON") ExportFormat format) throws IOException {
+        export(request, response, "bookings", format, out -> exportService.exportBookings(format, out));
+    }
+
+
+    @Operation(summary = "Every tourist as NDJSON or CSV, gzip encoded when the client accepts it", operationId = "exportTourists")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.ADMIN_ROLE)
+    @GetMapping(value = "/tourists", produces = {DataExportService.NDJSON_CONTENT_TYPE, DataExportService.CSV_CONTENT_TYPE})
+    public void exportTourists(HttpServletRequest request, HttpServletResponse response,
+                               @RequestParam(defaultValue = "NDJSON") ExportFormat format) throws IOException {
+        export(request, response, "tourists", format, out -> exportService.exportTourists(format, out));
+    }
+
+
+    @Operation(summary = "Every lodging as NDJSON or CSV, gzip encoded when the client accepts it", operationId = "exportLodgings")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.ADMIN_ROLE)
+    @GetMapping(value = "/lodgings", produces = {DataExportService.NDJSON_CONTENT_TYPE, DataExportService.CSV_CONTENT_TYPE})
+    public void exportLodgings(HttpServletRequest request, HttpServletResponse response,
+                               @RequestParam(defaultValue = "NDJSON") ExportFormat format) throws IOException {
+        export(request, response, "lodgings", format, out -> exportService.exportLodgings(format, out));
+    }
+
+
+    private void export(HttpServletRequest request, HttpServletResponse response, String name, ExportFormat format,
+                        Function<OutputStream, Either<ErrorDto[], Long>> writer) throws IOException {
+        boolean csv = format == ExportFormat.CSV;
+        response.setContentType(csv ? DataExportService.CSV_CONTENT_TYPE : DataExportService.NDJSON_CONTENT_TYPE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(name + (csv ? ".csv" : ".ndjson")).build().toString());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains(GZIP);
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            out = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+        }
+        Either<ErrorDto[], Long> result = writer.apply(out);
+        if (result.isRight()) {
+            out.close();
+            log.info("Exported {} {} rows as {}", result.get(), name, format);
+        } else if (!response.isCommitted()) {
+            ErrorDto error = result.getLeft()[0];
+            response.reset();
+            response.sendError(error.code().value(), error.message());
+        } else {
+            log.error("Export of {} stopped after the response was committed", name);
+        }
+    }
+}
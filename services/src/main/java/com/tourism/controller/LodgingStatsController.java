@@ -0,0 +1,94 @@
+package com.tourism.controller;
+
+import com.tourism.configuration.annotation.CommonApiResponses;
+import com.tourism.dto.request.LodgingStatsRequest;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.LodgingDailyStatsDTO;
+import com.tourism.dto.response.LodgingStatsSummaryDTO;
+import com.tourism.dto.response.StandardResponseDto;
+import com.tourism.infrastructure.JwtTokenProvider;
+import com.tourism.model.Role;
+import com.tourism.model.User;
+import com.tourism.service.AnalyticsService;
+import com.tourism.service.LodgingRollupService;
+import com.tourism.util.EndpointConstants;
+import com.tourism.util.ResponseEntityUtil;
+import com.tourism.util.helpers.AuthenticationHelper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.vavr.control.Either;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@Tag(name = "Lodging Stats Controller", description = "Revenue and occupancy dashboards read from the daily rollups")
+@Slf4j
+@RequestMapping(path = EndpointConstants.ROOT_PATH + EndpointConstants.LODGING_PATH + EndpointConstants.STATS_PATH,
+        produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.ALL_VALUE)
+@Validated
+public class LodgingStatsController {
+
+    private final LodgingRollupService rollupService;
+    private final AnalyticsService analyticsService;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    public LodgingStatsController(LodgingRollupService rollupService, AnalyticsService analyticsService,
+                                  JwtTokenProvider jwtTokenProvider) {
+        this.rollupService = rollupService;
+        this.analyticsService = analyticsService;
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+
+    @Operation(summary = "Booked persons, revenue and bookings per lodging and day. Lodging owners get their lodgings, admins every lodging",
+            operationId = "dailyStats")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.ADMIN_ROLE + " or " + AuthenticationHelper.LODGING_OWNER_ROLE)
+    @GetMapping("/daily")
+    public ResponseEntity<StandardResponseDto<LodgingDailyStatsDTO>> daily(HttpServletRequest request,
+                                                                          @Valid @ModelAttribute LodgingStatsRequest stats) {
+        return ResponseEntityUtil.buildArray(request, rollupService.findDaily(this.ownerId(request), stats));
+    }
+
+
+    @Operation(summary = "Revenue and occupancy rate per lodging over the range. Lodging owners get their lodgings, admins every lodging",
+            operationId = "summaryStats")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.ADMIN_ROLE + " or " + AuthenticationHelper.LODGING_OWNER_ROLE)
+    @GetMapping("/summary")
+    public ResponseEntity<StandardResponseDto<LodgingStatsSummaryDTO>> summary(HttpServletRequest request,
+                                                                              @Valid @ModelAttribute LodgingStatsRequest stats) {
+        return ResponseEntityUtil.buildArray(request, rollupService.findSummary(this.ownerId(request), stats));
+    }
+
+
+    @Operation(summary = "Rebuild the daily rollups of every lodging within the range from the bookings", operationId = "rebuildStats")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.ADMIN_ROLE)
+    @PostMapping("/rebuild")
+    public ResponseEntity<StandardResponseDto<Integer>> rebuild(HttpServletRequest request,
+                                                                @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Either<ErrorDto[], Integer> rebuilt = rollupService.rebuild(from, to);
+        analyticsService.evictCache();
+        return ResponseEntityUtil.buildObject(request, rebuilt);
+    }
+
+
+    private UUID ownerId(HttpServletRequest request) {
+        User user = jwtTokenProvider.getUserFromToken(request);
+        return user.getRole() == Role.ADMIN ? null : user.getId();
+    }
+}
@@ -0,0 +1,43 @@
+package com.tourism.controller;
+
+import com.tourism.configuration.annotation.CommonApiResponses;
+import com.tourism.dto.response.MethodTimingDTO;
+import com.tourism.dto.response.StandardResponseDto;
+import com.tourism.util.EndpointConstants;
+import com.tourism.util.ResponseEntityUtil;
+import com.tourism.util.helpers.AuthenticationHelper;
+import com.tourism.util.helpers.MethodTimers;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.vavr.control.Either;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Tag(name = "Method Timing Controller", description = "Latency percentiles of the service methods")
+@RequestMapping(path = EndpointConstants.ROOT_PATH + EndpointConstants.ADMIN_PATH + EndpointConstants.METHOD_TIMING_PATH,
+        produces = MediaType.APPLICATION_JSON_VALUE)
+public class MethodTimingController {
+
+    private final MethodTimers methodTimers;
+
+    @Autowired
+    public MethodTimingController(MethodTimers methodTimers) {
+        this.methodTimers = methodTimers;
+    }
+
+
+    @Operation(summary = "Snapshot of the service method timings, slowest p99 first", operationId = "snapshot")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.ADMIN_ROLE)
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StandardResponseDto<MethodTimingDTO>> snapshot(HttpServletRequest request) {
+        return ResponseEntityUtil.buildArray(request, Either.right(methodTimers.snapshot()));
+    }
+}
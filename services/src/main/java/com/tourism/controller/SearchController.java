@@ -0,0 +1,93 @@
+package com.tourism.controller;
+
+import com.tourism.configuration.annotation.CommonApiResponses;
+import com.tourism.dto.request.FacetRequest;
+import com.tourism.dto.request.SearchRequest;
+import com.tourism.dto.response.FacetedPageDTO;
+import com.tourism.dto.response.LodgingResponseDTO;
+import com.tourism.dto.response.SearchHitDTO;
+import com.tourism.dto.response.StandardResponseDto;
+import com.tourism.dto.response.TouristicPlaceResponseDTO;
+import com.tourism.service.CatalogFacetService;
+import com.tourism.service.CatalogSearchService;
+import com.tourism.util.EndpointConstants;
+import com.tourism.util.ResponseEntityUtil;
+import com.tourism.util.helpers.AuthenticationHelper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Tag(name = "Search Controller", description = "Free-text search over the catalogue")
+@Slf4j
+@RequestMapping(path = EndpointConstants.ROOT_PATH + EndpointConstants.SEARCH_PATH,
+        produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.ALL_VALUE)
+@Validated
+public class SearchController {
+
+    private final CatalogSearchService searchService;
+    private final CatalogFacetService facetService;
+
+    @Autowired
+    public SearchController(CatalogSearchService searchService, CatalogFacetService facetService) {
+        this.searchService = searchService;
+        this.facetService = facetService;
+    }
+
+
+    @Operation(summary = "Touristic places matching every word of q on name or description, ranked and highlighted. " +
+            "With mode FUZZY, places whose name is similar to q",
+            operationId = "searchTouristicPlaces")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.EVERY_ROLE)
+    @GetMapping(EndpointConstants.TOURISTIC_PATH)
+    public ResponseEntity<StandardResponseDto<SearchHitDTO>> searchPlaces(HttpServletRequest request,
+                                                                         @Valid @ModelAttribute SearchRequest search) {
+        return ResponseEntityUtil.buildArray(request, searchService.searchPlaces(search));
+    }
+
+
+    @Operation(summary = "Lodgings matching every word of q on name, description or information, ranked and highlighted. " +
+            "With mode FUZZY, lodgings whose name is similar to q",
+            operationId = "searchLodgings")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.EVERY_ROLE)
+    @GetMapping(EndpointConstants.LODGING_PATH)
+    public ResponseEntity<StandardResponseDto<SearchHitDTO>> searchLodgings(HttpServletRequest request,
+                                                                           @Valid @ModelAttribute SearchRequest search) {
+        return ResponseEntityUtil.buildArray(request, searchService.searchLodgings(search));
+    }
+
+
+    @Operation(summary = "Page of touristic places filtered by regions and categories, with the count of every region and category",
+            operationId = "browseTouristicPlaces")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.EVERY_ROLE)
+    @GetMapping(EndpointConstants.TOURISTIC_PATH + EndpointConstants.FACETS_PATH)
+    public ResponseEntity<StandardResponseDto<FacetedPageDTO<TouristicPlaceResponseDTO>>> browsePlaces(HttpServletRequest request,
+                                                                                                      @Valid @ModelAttribute FacetRequest facets) {
+        return ResponseEntityUtil.buildObject(request, facetService.browsePlaces(facets));
+    }
+
+
+    @Operation(summary = "Page of lodgings filtered by regions, categories, stars and price bands, with the count of every facet value",
+            operationId = "browseLodgings")
+    @CommonApiResponses
+    @PreAuthorize(AuthenticationHelper.EVERY_ROLE)
+    @GetMapping(EndpointConstants.LODGING_PATH + EndpointConstants.FACETS_PATH)
+    public ResponseEntity<StandardResponseDto<FacetedPageDTO<LodgingResponseDTO>>> browseLodgings(HttpServletRequest request,
+                                                                                                 @Valid @ModelAttribute FacetRequest facets) {
+        return ResponseEntityUtil.buildObject(request, facetService.browseLodgings(facets));
+    }
+}
@@ -0,0 +1,11 @@
+package com.tourism.dto.mappers;
+
+import com.tourism.dto.response.BookingDeadLetterResponseDTO;
+import com.tourism.model.BookingDeadLetter;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface BookingDeadLetterMapper {
+
+    BookingDeadLetterResponseDTO modelToResponseDto(BookingDeadLetter deadLetter);
+}
@@ -0,0 +1,23 @@
+package com.tourism.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Validated
+public class AutocompleteRequest {
+
+    @NotBlank
+    @Size(max = 100)
+    private String q;
+
+    @Min(1)
+    @Max(50)
+    private int limit = 10;
+}
@@ -0,0 +1,13 @@
+package com.tourism.dto.request;
+
+import com.tourism.model.BookingState;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BookingBulkStateRequestDTO(@NotEmpty @Size(max = 200) List<@NotNull UUID> bookingIds,
+                                         @NotNull BookingState state) {
+}
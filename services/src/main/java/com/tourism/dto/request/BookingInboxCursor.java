@@ -0,0 +1,45 @@
+package com.tourism.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position after the last booking of an inbox page. Pages are ordered by check-in and id, so the next page starts
+ * right after this pair through the index instead of skipping an offset.
+ */
+public record BookingInboxCursor(LocalDate checkIn, UUID id) {
+
+    private static final String SEPARATOR = "|";
+    // the database rejects dates near LocalDate.MIN and MAX, so a forged cursor has to fail while decoding
+    private static final LocalDate EARLIEST = LocalDate.of(1, 1, 1).minusDays(1);
+    private static final LocalDate LATEST = LocalDate.of(9999, 12, 31);
+
+    /**
+     * Position before every booking checking in on {@code from}.
+     */
+    public static BookingInboxCursor before(LocalDate from) {
+        return new BookingInboxCursor(from.minusDays(1), new UUID(-1L, -1L));
+    }
+
+    public static BookingInboxCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            LocalDate checkIn = LocalDate.parse(value.substring(0, separator));
+            if (checkIn.isBefore(EARLIEST) || checkIn.isAfter(LATEST)) {
+                throw new IllegalArgumentException("Inbox cursor check in out of range");
+            }
+            return new BookingInboxCursor(checkIn, UUID.fromString(value.substring(separator + 1)));
+        } catch (DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid inbox cursor", e);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((checkIn + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,7 +3,21 @@ package com.tourism.dto.request;
 import jakarta.validation.constraints.NotNull;
 import lombok.NonNull;
 
+import java.time.Instant;
 import java.util.UUID;
 
 public record BookingMessage(@NonNull @NotNull BookingRequestDTO bookingRequest,
-                             @NonNull @NotNull UUID touristId) {}
+                             @NonNull @NotNull UUID touristId,
+                             String idempotencyKey,
+                             Instant createdAt,
+                             String correlationId,
+                             UUID replacesBookingId) {
+
+    public BookingMessage(BookingRequestDTO bookingRequest, UUID touristId) {
+        this(bookingRequest, touristId, null);
+    }
+
+    public BookingMessage(BookingRequestDTO bookingRequest, UUID touristId, String idempotencyKey) {
+        this(bookingRequest, touristId, idempotencyKey, null, null, null);
+    }
+}
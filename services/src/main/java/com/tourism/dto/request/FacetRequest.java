@@ -0,0 +1,32 @@
+package com.tourism.dto.request;
+
+import com.tourism.model.Region;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Validated
+public class FacetRequest {
+
+    private List<Region> regions = new ArrayList<>();
+
+    private List<String> categories = new ArrayList<>();
+
+    private List<Integer> stars = new ArrayList<>();
+
+    private List<String> priceBands = new ArrayList<>();
+
+    @Min(0)
+    private int page = 0;
+
+    @Min(1)
+    @Max(100)
+    private int size = 20;
+}
@@ -0,0 +1,31 @@
+package com.tourism.dto.request;
+
+import com.tourism.model.BookingState;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Validated
+public class OwnerInboxRequest {
+
+    private BookingState state = BookingState.CREATED;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate checkInFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate checkInTo;
+
+    @Min(1)
+    @Max(100)
+    private Integer size = 20;
+
+    private String cursor;
+}
@@ -0,0 +1,30 @@
+package com.tourism.dto.request;
+
+import com.tourism.model.SearchMode;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Validated
+public class SearchRequest {
+
+    @NotBlank
+    @Size(max = 200)
+    private String q;
+
+    @Min(0)
+    @Max(100)
+    private int page = 0;
+
+    @Min(1)
+    @Max(50)
+    private int size = 20;
+
+    private SearchMode mode = SearchMode.FULL_TEXT;
+}
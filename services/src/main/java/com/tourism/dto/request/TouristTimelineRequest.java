@@ -0,0 +1,26 @@
+package com.tourism.dto.request;
+
+import com.tourism.model.BookingState;
+import com.tourism.model.BookingTimeline;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Validated
+public class TouristTimelineRequest {
+
+    private BookingTimeline timeline = BookingTimeline.UPCOMING;
+
+    private BookingState state;
+
+    @Min(0)
+    private Integer page = 0;
+
+    @Min(1)
+    @Max(100)
+    private Integer size = 20;
+}
@@ -0,0 +1,7 @@
+package com.tourism.dto.response;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record BookingDeadLetterResponseDTO(UUID id, String topic, String payload, String error, Instant createdDate,
+                                           Instant replayedDate) { }
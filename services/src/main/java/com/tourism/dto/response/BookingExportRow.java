@@ -0,0 +1,11 @@
+package com.tourism.dto.response;
+
+import com.tourism.model.BookingState;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record BookingExportRow(UUID id, UUID lodgingId, UUID touristId, LocalDate checkIn, LocalDate checkOut,
+                               Double totalPrice, BookingState state, Integer adults, Integer children, Integer babies,
+                               Boolean hasPaid, Instant createdDate) { }
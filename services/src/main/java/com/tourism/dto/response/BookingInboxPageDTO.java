@@ -0,0 +1,5 @@
+package com.tourism.dto.response;
+
+import java.util.List;
+
+public record BookingInboxPageDTO(List<BookingInboxItemDTO> bookings, String nextCursor) { }
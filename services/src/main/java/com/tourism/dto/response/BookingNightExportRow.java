@@ -0,0 +1,10 @@
+package com.tourism.dto.response;
+
+import com.tourism.model.BookingState;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record BookingNightExportRow(UUID bookingId, UUID lodgingId, String lodgingName, String firstName, String lastName,
+                                    LocalDate checkIn, LocalDate checkOut, BookingState state, Boolean hasPaid,
+                                    LocalDate date, Double nightPrice) { }
@@ -0,0 +1,9 @@
+package com.tourism.dto.response;
+
+import com.tourism.model.BookingState;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record BookingOutcomeMessage(UUID touristId, UUID bookingId, UUID lodgingId, LocalDate checkIn,
+                                    LocalDate checkOut, BookingState state, String idempotencyKey) { }
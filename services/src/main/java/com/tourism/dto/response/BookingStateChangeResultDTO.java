@@ -0,0 +1,8 @@
+package com.tourism.dto.response;
+
+import com.tourism.model.BookingState;
+import org.springframework.http.HttpStatus;
+
+import java.util.UUID;
+
+public record BookingStateChangeResultDTO(UUID bookingId, HttpStatus status, BookingState state, String message) { }
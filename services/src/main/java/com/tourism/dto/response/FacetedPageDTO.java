@@ -0,0 +1,11 @@
+package com.tourism.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page of the filtered catalogue, ordered by name, with the count of every facet value. The counts of a facet
+ * apply the filters of the other facets only, so they tell how many results each value would add or leave.
+ */
+public record FacetedPageDTO<T>(List<T> items, int total, int page, int size,
+                                Map<String, Map<String, Integer>> facets) { }
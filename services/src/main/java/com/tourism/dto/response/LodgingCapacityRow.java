@@ -0,0 +1,7 @@
+package com.tourism.dto.response;
+
+import com.tourism.model.Region;
+
+import java.util.UUID;
+
+public record LodgingCapacityRow(UUID touristicPlaceId, Region region, Integer capacity) { }
@@ -0,0 +1,7 @@
+package com.tourism.dto.response;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record LodgingDailyStatsDTO(UUID lodgingId, LocalDate date, Integer bookedPersons, Double revenue,
+                                   Integer bookingsCount) { }
@@ -0,0 +1,7 @@
+package com.tourism.dto.response;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record LodgingExportRow(UUID id, String name, String phone, Integer capacity, Double nightPrice, Integer stars,
+                               UUID touristicPlaceId, UUID lodgingOwnerId, Boolean enabled, Instant createdDate) { }
@@ -0,0 +1,7 @@
+package com.tourism.dto.response;
+
+import com.tourism.model.Region;
+
+import java.util.UUID;
+
+public record LodgingFacetRow(UUID id, UUID touristicPlaceId, Region region, Integer stars, Double nightPrice) { }
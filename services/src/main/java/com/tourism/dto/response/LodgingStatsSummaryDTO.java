@@ -0,0 +1,22 @@
+package com.tourism.dto.response;
+
+import java.util.UUID;
+
+/**
+ * Totals of a lodging over a date range. Booked persons and nights are summed per night, so a booking of three nights
+ * counts three times, and the occupancy rate is the share of the lodging capacity booked over the whole range.
+ */
+public record LodgingStatsSummaryDTO(UUID lodgingId, String lodgingName, Integer capacity, Long bookedPersons,
+                                     Double revenue, Long bookedNights, Double occupancyRate) {
+
+    public LodgingStatsSummaryDTO(UUID lodgingId, String lodgingName, Integer capacity, Long bookedPersons,
+                                  Double revenue, Long bookedNights) {
+        this(lodgingId, lodgingName, capacity, bookedPersons, revenue, bookedNights, null);
+    }
+
+    public LodgingStatsSummaryDTO withOccupancy(long days) {
+        double available = (double) capacity * days;
+        return new LodgingStatsSummaryDTO(lodgingId, lodgingName, capacity, bookedPersons, revenue, bookedNights,
+                available > 0 ? bookedPersons / available : 0.0);
+    }
+}
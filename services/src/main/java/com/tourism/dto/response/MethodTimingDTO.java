@@ -0,0 +1,4 @@
+package com.tourism.dto.response;
+
+public record MethodTimingDTO(String type, String method, String parameters, long count, double meanMs, double maxMs,
+                              double p50Ms, double p99Ms, double p999Ms) { }
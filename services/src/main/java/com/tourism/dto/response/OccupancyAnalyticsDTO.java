@@ -0,0 +1,7 @@
+package com.tourism.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record OccupancyAnalyticsDTO(LocalDate from, LocalDate to, List<SegmentOccupancyDTO> regions,
+                                    List<SegmentOccupancyDTO> categories) { }
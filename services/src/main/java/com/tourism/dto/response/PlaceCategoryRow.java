@@ -0,0 +1,5 @@
+package com.tourism.dto.response;
+
+import java.util.UUID;
+
+public record PlaceCategoryRow(UUID touristicPlaceId, String categoryName) { }
@@ -0,0 +1,7 @@
+package com.tourism.dto.response;
+
+import com.tourism.model.Region;
+
+import java.util.UUID;
+
+public record PlaceFacetRow(UUID id, Region region) { }
@@ -0,0 +1,5 @@
+package com.tourism.dto.response;
+
+import java.util.UUID;
+
+public record RollupAnalyticsRow(UUID touristicPlaceId, Integer bookedPersons, Double revenue, Integer bookingsCount) { }
@@ -0,0 +1,10 @@
+package com.tourism.dto.response;
+
+import java.util.UUID;
+
+public record SearchDocumentRow(UUID id, String title, String body, String detail) {
+
+    public SearchDocumentRow(UUID id, String title, String body) {
+        this(id, title, body, null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.tourism.dto.response;
+
+import java.util.UUID;
+
+/**
+ * A search result, best ranked first. In full-text mode the highlight is a fragment of the description with the
+ * matching words wrapped in mark tags; in fuzzy mode the rank is the name similarity and there is no highlight.
+ */
+public record SearchHitDTO(UUID id, String name, Double rank, String highlight) { }
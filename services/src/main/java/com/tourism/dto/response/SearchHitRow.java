@@ -0,0 +1,10 @@
+package com.tourism.dto.response;
+
+import java.util.UUID;
+
+public interface SearchHitRow {
+    UUID getId();
+    String getName();
+    Double getRank();
+    String getHighlight();
+}
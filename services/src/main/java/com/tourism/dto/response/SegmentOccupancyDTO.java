@@ -0,0 +1,8 @@
+package com.tourism.dto.response;
+
+/**
+ * Occupancy and demand of a region or category over a window. Capacity and booked persons are person nights, booked
+ * nights count one per booking and night.
+ */
+public record SegmentOccupancyDTO(String segment, Long capacity, Long bookedPersons, Long bookedNights, Double revenue,
+                                  Double occupancyRate) { }
@@ -3,19 +3,13 @@ package com.tourism.dto.response;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.media.Schema;
-import lombok.AccessLevel;
 import lombok.Data;
-import lombok.Getter;
-import lombok.Setter;
 
 @Schema(description = "Standard Response for all project's microservice")
 @Data
 public class StandardResponseDto<T> {
 
-    @JsonIgnore
-    @Getter(AccessLevel.NONE)
-    @Setter(AccessLevel.NONE)
-    private ObjectMapper mapper = new ObjectMapper();
+    private static final ObjectMapper MAPPER = new ObjectMapper();
 
     @Schema(description = "The metadata response")
     private MetaDto meta;
@@ -29,7 +23,7 @@ public class StandardResponseDto<T> {
     @JsonIgnore
     public String toString() {
         try {
-            return mapper.writeValueAsString(this);
+            return MAPPER.writeValueAsString(this);
         } catch (Exception e) {
             return "";
         }
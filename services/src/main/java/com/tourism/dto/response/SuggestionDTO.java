@@ -0,0 +1,8 @@
+package com.tourism.dto.response;
+
+import java.util.UUID;
+
+/**
+ * A type-ahead suggestion: the id of the user or place and the email, last name or name starting with the prefix.
+ */
+public record SuggestionDTO(UUID id, String value) { }
@@ -0,0 +1,10 @@
+package com.tourism.dto.response;
+
+import com.tourism.model.BookingState;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record TouristBookingDTO(UUID id, UUID lodgingId, String lodgingName, String lodgingPhone, LocalDate checkIn,
+                                LocalDate checkOut, Integer adults, Integer children, Integer babies, Double totalPrice,
+                                BookingState state, Boolean hasPaid) { }
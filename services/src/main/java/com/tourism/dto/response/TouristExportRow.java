@@ -0,0 +1,8 @@
+package com.tourism.dto.response;
+
+import com.tourism.model.TouristType;
+
+import java.util.UUID;
+
+public record TouristExportRow(UUID id, String email, String firstName, String lastName, TouristType type,
+                               Boolean enabled) { }
@@ -0,0 +1,10 @@
+package com.tourism.dto.response;
+
+import java.util.UUID;
+
+public record UserSuggestionRow(UUID id, String email, String lastName) {
+
+    public UserSuggestionRow(UUID id, String email) {
+        this(id, email, null);
+    }
+}
@@ -1,22 +1,74 @@
 package com.tourism.jobs;
 
+import com.tourism.service.AnalyticsService;
+import com.tourism.service.BookingOutcomeOutboxService;
 import com.tourism.service.BookingService;
+import com.tourism.service.IdempotencyService;
+import com.tourism.service.LodgingRollupService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
 @Component
 public class BookingJobs {
 
     private final BookingService bookingService;
+    private final BookingOutcomeOutboxService outboxService;
+    private final LodgingRollupService rollupService;
+    private final AnalyticsService analyticsService;
+    private final IdempotencyService idempotencyService;
+    private final Duration outboxRetention;
+    private final Duration idempotencyRetention;
+    private final int rollupPastDays;
+    private final int rollupFutureDays;
 
     @Autowired
-    public BookingJobs(BookingService bookingService) {
+    public BookingJobs(BookingService bookingService, BookingOutcomeOutboxService outboxService,
+                       LodgingRollupService rollupService, AnalyticsService analyticsService,
+                       IdempotencyService idempotencyService,
+                       @Value("${booking.outbox.retention-hours:168}") long outboxRetentionHours,
+                       @Value("${booking.idempotency.retention-hours:336}") long idempotencyRetentionHours,
+                       @Value("${booking.rollup.backfill.past-days:30}") int rollupPastDays,
+                       @Value("${booking.rollup.backfill.future-days:366}") int rollupFutureDays) {
         this.bookingService = bookingService;
+        this.outboxService = outboxService;
+        this.rollupService = rollupService;
+        this.analyticsService = analyticsService;
+        this.idempotencyService = idempotencyService;
+        this.outboxRetention = Duration.ofHours(outboxRetentionHours);
+        this.idempotencyRetention = Duration.ofHours(idempotencyRetentionHours);
+        this.rollupPastDays = rollupPastDays;
+        this.rollupFutureDays = rollupFutureDays;
     }
 
     @Scheduled(cron = "0 0 0 * * ?")
     public void expireBookings() {
         bookingService.updateToExpiredBookings();
+        analyticsService.evictCache();
+    }
+
+    // outbox rows are only needed until their booking message can no longer be redelivered
+    @Scheduled(cron = "0 30 * * * ?")
+    public void purgeOutcomeOutbox() {
+        outboxService.purge(Instant.now().minus(outboxRetention));
+    }
+
+    // a key must outlive every redelivery of its message, so the retention is kept above the Kafka topic retention
+    @Scheduled(cron = "0 45 * * * ?")
+    public void purgeProcessedRequests() {
+        idempotencyService.purge(Instant.now().minus(idempotencyRetention));
+    }
+
+    // repairs any drift of the incremental counters, older days no longer change once their bookings are closed
+    @Scheduled(cron = "${booking.rollup.backfill.cron:0 15 3 * * ?}")
+    public void backfillRollups() {
+        LocalDate today = LocalDate.now();
+        rollupService.rebuild(today.minusDays(rollupPastDays), today.plusDays(rollupFutureDays));
+        analyticsService.evictCache();
     }
 }
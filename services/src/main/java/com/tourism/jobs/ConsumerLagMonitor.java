@@ -0,0 +1,100 @@
+package com.tourism.jobs;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Publishes the lag of the booking consumer group per partition, read from the broker so it covers every node
+ * of the group and also the partitions that currently have no consumer.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "booking.queue.type", havingValue = "kafka", matchIfMissing = true)
+public class ConsumerLagMonitor {
+
+    public static final String LAG_METRIC = "booking.consumer.lag";
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final Admin adminClient;
+    private final MeterRegistry meterRegistry;
+    private final String groupId;
+    private final Map<TopicPartition, AtomicLong> lags = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ConsumerLagMonitor(KafkaAdmin kafkaAdmin, MeterRegistry meterRegistry,
+                              @Value("${spring.kafka.consumer.group-id}") String groupId) {
+        this(Admin.create(kafkaAdmin.getConfigurationProperties()), meterRegistry, groupId);
+    }
+
+    public ConsumerLagMonitor(Admin adminClient, MeterRegistry meterRegistry, String groupId) {
+        this.adminClient = adminClient;
+        this.meterRegistry = meterRegistry;
+        this.groupId = groupId;
+    }
+
+
+    @Scheduled(fixedDelayString = "${booking.metrics.lag-interval-ms:15000}")
+    public void refreshLag() {
+        try {
+            Map<TopicPartition, OffsetAndMetadata> committed = adminClient.listConsumerGroupOffsets(groupId)
+                    .partitionsToOffsetAndMetadata().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            Map<TopicPartition, OffsetSpec> latest = committed.keySet().stream()
+                    .collect(Collectors.toMap(partition -> partition, partition -> OffsetSpec.latest()));
+            Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> endOffsets = adminClient.listOffsets(latest)
+                    .all().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            committed.forEach((partition, offset) -> {
+                ListOffsetsResult.ListOffsetsResultInfo end = endOffsets.get(partition);
+                if (offset != null && end != null) {
+                    lagOf(partition).set(Math.max(0, end.offset() - offset.offset()));
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Could not refresh the lag of consumer group {}: {}", groupId, e.getMessage());
+        }
+    }
+
+    public long lag(TopicPartition partition) {
+        AtomicLong lag = lags.get(partition);
+        return lag == null ? 0 : lag.get();
+    }
+
+    @PreDestroy
+    public void close() {
+        adminClient.close();
+    }
+
+    private AtomicLong lagOf(TopicPartition partition) {
+        return lags.computeIfAbsent(partition, key -> {
+            AtomicLong lag = new AtomicLong();
+            Gauge.builder(LAG_METRIC, lag, AtomicLong::get)
+                    .description("Messages of the partition not yet committed by the booking consumer group")
+                    .tag("group", groupId)
+                    .tag("topic", key.topic())
+                    .tag("partition", String.valueOf(key.partition()))
+                    .register(meterRegistry);
+            return lag;
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package com.tourism.observer;
+
+import com.tourism.model.Lodging;
+import com.tourism.model.TouristicPlace;
+
+import java.util.UUID;
+
+public interface CatalogObserver {
+    void placeSaved(TouristicPlace place);
+    void placeDeleted(UUID placeId);
+    void lodgingSaved(Lodging lodging);
+    void lodgingDeleted(UUID lodgingId);
+}
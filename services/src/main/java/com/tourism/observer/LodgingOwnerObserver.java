@@ -20,6 +20,11 @@ public class LodgingOwnerObserver implements BookingObserver {
 
     @Override
     public void notifyStatusChange(String lodgingName, UUID bookingId, Tourist tourist, LodgingOwner owner, BookingState state) {
+        notificationService.createNotification(statusChangeNotification(lodgingName, bookingId, tourist, owner, state));
+    }
+
+    @Override
+    public Notification statusChangeNotification(String lodgingName, UUID bookingId, Tourist tourist, LodgingOwner owner, BookingState state) {
         StringBuilder builder = new StringBuilder();
         switch (state) {
             case CREATED:
@@ -47,6 +52,6 @@ public class LodgingOwnerObserver implements BookingObserver {
                         .append(MessageConstants.EXPIRED_BOOKING);
                 break;
         }
-        notificationService.createNotification(new Notification(owner, builder.toString(), MessageType.EMAIL));
+        return new Notification(owner, builder.toString(), MessageType.EMAIL);
     }
 }
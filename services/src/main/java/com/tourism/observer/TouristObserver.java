@@ -20,6 +20,11 @@ public class TouristObserver implements BookingObserver {
 
     @Override
     public void notifyStatusChange(String lodgingName, UUID bookingId, Tourist tourist, LodgingOwner owner, BookingState state) {
+        notificationService.createNotification(statusChangeNotification(lodgingName, bookingId, tourist, owner, state));
+    }
+
+    @Override
+    public Notification statusChangeNotification(String lodgingName, UUID bookingId, Tourist tourist, LodgingOwner owner, BookingState state) {
         StringBuilder builder = new StringBuilder();
         switch (state) {
             case CREATED:
@@ -52,6 +57,6 @@ public class TouristObserver implements BookingObserver {
                         .append(MessageConstants.ERROR_ENOUGH_CAPACITY);
                 break;
         }
-        notificationService.createNotification(new Notification(tourist, builder.toString(), MessageType.EMAIL));
+        return new Notification(tourist, builder.toString(), MessageType.EMAIL);
     }
 }
@@ -0,0 +1,10 @@
+package com.tourism.observer;
+
+import com.tourism.model.User;
+
+import java.util.UUID;
+
+public interface UserObserver {
+    void userSaved(User user);
+    void userDeleted(UUID userId);
+}
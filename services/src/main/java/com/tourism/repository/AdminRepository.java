@@ -1,13 +1,19 @@
 package com.tourism.repository;
 
+import com.tourism.dto.response.UserSuggestionRow;
 import com.tourism.model.Admin;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface AdminRepository extends JpaRepository<Admin, UUID> {
 
     Page<Admin> findByEmailStartingWithIgnoreCase(String email, Pageable pageable);
+
+    @Query("SELECT new com.tourism.dto.response.UserSuggestionRow(a.id, a.email) FROM Admin a")
+    List<UserSuggestionRow> findSuggestionRows();
 }
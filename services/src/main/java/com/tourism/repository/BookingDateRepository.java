@@ -1,18 +1,25 @@
 package com.tourism.repository;
 
 
+import com.tourism.dto.response.BookingNightExportRow;
+import com.tourism.dto.response.LodgingDailyStatsDTO;
 import com.tourism.model.Booking;
 import com.tourism.model.BookingDate;
 import com.tourism.model.BookingState;
 import com.tourism.model.Lodging;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface BookingDateRepository extends JpaRepository<BookingDate, UUID> {
 
@@ -26,4 +33,36 @@ public interface BookingDateRepository extends JpaRepository<BookingDate, UUID>
     @Query("DELETE FROM BookingDate bd WHERE bd.booking = :booking")
     void deleteByBooking(@Param("booking") Booking booking);
 
+    List<BookingDate> findByBookingId(UUID bookingId);
+
+    /**
+     * Daily totals of a lodging computed from the night lines of its bookings in the given states, the source the
+     * rollup table is rebuilt from.
+     */
+    @Query("SELECT new com.tourism.dto.response.LodgingDailyStatsDTO(b.lodging.id, bd.date, " +
+            "CAST(SUM(b.adults + b.children + b.babies) AS Integer), SUM(bd.nightPrice), CAST(COUNT(b.id) AS Integer)) " +
+            "FROM BookingDate bd JOIN bd.booking b " +
+            "WHERE b.lodging.id = :lodgingId AND bd.date BETWEEN :from AND :to AND b.state IN :states " +
+            "GROUP BY b.lodging.id, bd.date")
+    List<LodgingDailyStatsDTO> aggregateNights(@Param("lodgingId") UUID lodgingId, @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to, @Param("states") Collection<BookingState> states);
+
+    /**
+     * Night lines of every booking checking in within the range, ordered so the lines of a booking are contiguous.
+     * Rows are fetched from a server side cursor in chunks of the fetch size, never as a whole list.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.tourism.dto.response.BookingNightExportRow(b.id, l.id, l.name, t.firstName, t.lastName, " +
+            "b.checkIn, b.checkOut, b.state, b.hasPaid, bd.date, bd.nightPrice) " +
+            "FROM BookingDate bd JOIN bd.booking b JOIN b.lodging l JOIN b.tourist t " +
+            "WHERE (:ownerId IS NULL OR l.lodgingOwner.id = :ownerId) " +
+            "AND b.checkIn >= :checkInFrom AND b.checkIn <= :checkInTo " +
+            "ORDER BY b.checkIn ASC, b.id ASC, bd.date ASC")
+    Stream<BookingNightExportRow> streamNightsForExport(@Param("ownerId") UUID ownerId,
+                                                         @Param("checkInFrom") LocalDate checkInFrom,
+                                                         @Param("checkInTo") LocalDate checkInTo);
+
 }
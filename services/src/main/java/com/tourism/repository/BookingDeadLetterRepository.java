@@ -0,0 +1,24 @@
+package com.tourism.repository;
+
+import com.tourism.model.BookingDeadLetter;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface BookingDeadLetterRepository extends JpaRepository<BookingDeadLetter, UUID> {
+
+    List<BookingDeadLetter> findByReplayedDateIsNullOrderByCreatedDateAsc(Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE BookingDeadLetter d SET d.replayedDate = :replayedDate WHERE d.id IN :ids")
+    int markReplayed(@Param("ids") Collection<UUID> ids, @Param("replayedDate") Instant replayedDate);
+}
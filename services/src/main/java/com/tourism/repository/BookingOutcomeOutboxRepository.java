@@ -0,0 +1,22 @@
+package com.tourism.repository;
+
+import com.tourism.model.BookingOutcomeOutbox;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface BookingOutcomeOutboxRepository extends JpaRepository<BookingOutcomeOutbox, UUID> {
+
+    Optional<BookingOutcomeOutbox> findByRequestKey(String requestKey);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM BookingOutcomeOutbox o WHERE o.createdDate < :before")
+    int deleteCreatedBefore(@Param("before") Instant before);
+}
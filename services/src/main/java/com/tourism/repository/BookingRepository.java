@@ -1,15 +1,86 @@
 package com.tourism.repository;
 
+import com.tourism.dto.response.BookingExportRow;
+import com.tourism.dto.response.BookingInboxItemDTO;
+import com.tourism.dto.response.TouristBookingDTO;
 import com.tourism.model.Booking;
 import com.tourism.model.BookingState;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface BookingRepository extends JpaRepository<Booking, UUID> {
 
     List<Booking> findAllByOrderByCheckInAsc();
     List<Booking> findByCheckInLessThanAndStateIn(LocalDate checkInDate, List<BookingState> states);
+
+    @Query("SELECT b.lodging.id FROM Booking b WHERE b.id = :id")
+    Optional<UUID> findLodgingIdById(@Param("id") UUID id);
+
+    /**
+     * One page of an owner inbox in a single joined query. The keyset condition continues after the (checkIn, id)
+     * of the previous page, so every page is a range scan of idx_bookings_lodging_state_check_in per lodging.
+     */
+    @Query("SELECT new com.tourism.dto.response.BookingInboxItemDTO(b.id, l.id, l.name, t.firstName, t.lastName, " +
+            "b.checkIn, b.checkOut, b.adults, b.children, b.babies, b.totalPrice, b.state) " +
+            "FROM Booking b JOIN b.lodging l JOIN b.tourist t " +
+            "WHERE l.lodgingOwner.id = :ownerId AND b.state = :state " +
+            "AND b.checkIn >= :checkInFrom AND b.checkIn <= :checkInTo " +
+            "AND (b.checkIn > :afterCheckIn OR (b.checkIn = :afterCheckIn AND b.id > :afterId)) " +
+            "ORDER BY b.checkIn ASC, b.id ASC")
+    List<BookingInboxItemDTO> findOwnerInbox(@Param("ownerId") UUID ownerId, @Param("state") BookingState state,
+                                             @Param("checkInFrom") LocalDate checkInFrom, @Param("checkInTo") LocalDate checkInTo,
+                                             @Param("afterCheckIn") LocalDate afterCheckIn, @Param("afterId") UUID afterId,
+                                             Pageable pageable);
+
+    /**
+     * Timeline of a tourist with the lodging name and phone inline. Every booking column read here is part of
+     * idx_bookings_tourist_check_in, so the bookings side is served by the index alone.
+     */
+    @Query("SELECT new com.tourism.dto.response.TouristBookingDTO(b.id, l.id, l.name, l.phone, b.checkIn, b.checkOut, " +
+            "b.adults, b.children, b.babies, b.totalPrice, b.state, b.hasPaid) " +
+            "FROM Booking b JOIN b.lodging l " +
+            "WHERE b.tourist.id = :touristId AND b.checkIn >= :checkInFrom AND b.checkIn < :checkInUntil " +
+            "AND (:state IS NULL OR b.state = :state)")
+    Slice<TouristBookingDTO> findTouristTimeline(@Param("touristId") UUID touristId, @Param("state") BookingState state,
+                                                 @Param("checkInFrom") LocalDate checkInFrom,
+                                                 @Param("checkInUntil") LocalDate checkInUntil, Pageable pageable);
+
+    @Query("SELECT DISTINCT b.lodging.id FROM Booking b WHERE b.id IN :ids")
+    List<UUID> findLodgingIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // the parties end up serialized into notifications, a lazy proxy there fails the dirty check once its session is gone
+    @Query("SELECT b FROM Booking b JOIN FETCH b.lodging l JOIN FETCH l.lodgingOwner JOIN FETCH b.tourist WHERE b.id = :id")
+    Optional<Booking> findWithPartiesById(@Param("id") UUID id);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.lodging l JOIN FETCH l.lodgingOwner JOIN FETCH b.tourist WHERE b.id IN :ids")
+    List<Booking> findWithPartiesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // the transition only happens from the expected states, so concurrent writers on any node release capacity once
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Booking b SET b.state = :state, b.updatedDate = :updatedDate WHERE b.id = :id AND b.state IN :from")
+    int updateStateIfIn(@Param("id") UUID id, @Param("from") Collection<BookingState> from,
+                        @Param("state") BookingState state, @Param("updatedDate") Instant updatedDate);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.tourism.dto.response.BookingExportRow(b.id, b.lodging.id, b.tourist.id, b.checkIn, b.checkOut, " +
+            "b.totalPrice, b.state, b.adults, b.children, b.babies, b.hasPaid, b.createdDate) FROM Booking b")
+    Stream<BookingExportRow> streamAllForExport();
 }
@@ -1,7 +1,11 @@
 package com.tourism.repository;
 
+import com.tourism.dto.response.PlaceCategoryRow;
 import com.tourism.model.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
 
@@ -9,4 +13,8 @@ public interface CategoryRepository extends JpaRepository<Category, Integer> {
 
     Category[] findAllByOrderByNameAsc();
 
+    @Query("SELECT new com.tourism.dto.response.PlaceCategoryRow(tpc.touristicPlace.id, c.name) " +
+            "FROM TouristicPlaceCategory tpc JOIN tpc.category c WHERE c.enabled = true")
+    List<PlaceCategoryRow> findPlaceCategories();
+
 }
@@ -0,0 +1,77 @@
+package com.tourism.repository;
+
+import com.tourism.dto.response.LodgingDailyStatsDTO;
+import com.tourism.dto.response.LodgingStatsSummaryDTO;
+import com.tourism.dto.response.RollupAnalyticsRow;
+import com.tourism.model.LodgingDailyRollup;
+import com.tourism.model.Region;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface LodgingDailyRollupRepository extends JpaRepository<LodgingDailyRollup, UUID> {
+
+    /**
+     * Creates an empty rollup row for a lodging day if it does not exist yet. Concurrent callers race on the unique key
+     * and only one row survives, so the following increment always finds its row.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO public.lodging_daily_rollups (id, lodging_id, date, booked_persons, revenue, bookings_count) " +
+            "VALUES (:id, :lodgingId, :date, 0, 0, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("lodgingId") UUID lodgingId, @Param("date") LocalDate date);
+
+    /**
+     * Adds the deltas to a lodging day in a single statement, negative deltas take a booking out of the day.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE LodgingDailyRollup r SET r.bookedPersons = r.bookedPersons + :persons, r.revenue = r.revenue + :revenue, " +
+            "r.bookingsCount = r.bookingsCount + :bookings WHERE r.lodging.id = :lodgingId AND r.date = :date")
+    int increment(@Param("lodgingId") UUID lodgingId, @Param("date") LocalDate date, @Param("persons") int persons,
+                  @Param("revenue") double revenue, @Param("bookings") int bookings);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM LodgingDailyRollup r WHERE r.lodging.id = :lodgingId AND r.date BETWEEN :from AND :to")
+    int deleteByLodgingIdAndDateBetween(@Param("lodgingId") UUID lodgingId, @Param("from") LocalDate from,
+                                        @Param("to") LocalDate to);
+
+    /**
+     * Rollup days of the lodgings of an owner, or of every lodging when the owner is null, optionally of a single lodging.
+     */
+    @Query("SELECT new com.tourism.dto.response.LodgingDailyStatsDTO(l.id, r.date, r.bookedPersons, r.revenue, r.bookingsCount) " +
+            "FROM LodgingDailyRollup r JOIN r.lodging l " +
+            "WHERE (:ownerId IS NULL OR l.lodgingOwner.id = :ownerId) AND (:lodgingId IS NULL OR l.id = :lodgingId) " +
+            "AND r.date BETWEEN :from AND :to ORDER BY r.date ASC, l.id ASC")
+    List<LodgingDailyStatsDTO> findDaily(@Param("ownerId") UUID ownerId, @Param("lodgingId") UUID lodgingId,
+                                         @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT new com.tourism.dto.response.LodgingStatsSummaryDTO(l.id, l.name, l.capacity, " +
+            "SUM(r.bookedPersons), SUM(r.revenue), SUM(r.bookingsCount)) " +
+            "FROM LodgingDailyRollup r JOIN r.lodging l " +
+            "WHERE (:ownerId IS NULL OR l.lodgingOwner.id = :ownerId) AND r.date BETWEEN :from AND :to " +
+            "GROUP BY l.id, l.name, l.capacity ORDER BY SUM(r.revenue) DESC")
+    List<LodgingStatsSummaryDTO> summarize(@Param("ownerId") UUID ownerId, @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.tourism.dto.response.RollupAnalyticsRow(p.id, r.bookedPersons, r.revenue, r.bookingsCount) " +
+            "FROM LodgingDailyRollup r JOIN r.lodging l JOIN l.touristicPlace p " +
+            "WHERE p.region = :region AND r.date BETWEEN :from AND :to")
+    Stream<RollupAnalyticsRow> streamRegionDays(@Param("region") Region region, @Param("from") LocalDate from,
+                                                @Param("to") LocalDate to);
+}
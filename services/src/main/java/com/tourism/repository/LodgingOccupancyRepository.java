@@ -0,0 +1,47 @@
+package com.tourism.repository;
+
+import com.tourism.model.LodgingOccupancy;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface LodgingOccupancyRepository extends JpaRepository<LodgingOccupancy, UUID> {
+
+    Optional<LodgingOccupancy> findByLodgingIdAndDate(UUID lodgingId, LocalDate date);
+
+    /**
+     * Creates the counter row for a lodging night if it does not exist yet, seeded with the persons of the bookings
+     * that already hold capacity on that night. Concurrent callers race on the unique key and only one row survives.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO public.lodging_occupancy (id, lodging_id, date, booked_persons) " +
+            "SELECT :id, :lodgingId, :date, COALESCE(SUM(b.adults + b.children + b.babies), 0) " +
+            "FROM public.bookings b JOIN public.booking_dates bd ON bd.booking_id = b.id " +
+            "WHERE b.lodging_id = :lodgingId AND bd.date = :date AND b.state IN ('CREATED', 'PENDING', 'ACCEPTED') " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("lodgingId") UUID lodgingId, @Param("date") LocalDate date);
+
+    /**
+     * Adds persons to a lodging night only while the lodging capacity is not exceeded.
+     * Returns 0 when the night is full, so check and increment happen in a single statement.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE LodgingOccupancy o SET o.bookedPersons = o.bookedPersons + :persons " +
+            "WHERE o.lodging.id = :lodgingId AND o.date = :date AND o.bookedPersons + :persons <= :capacity")
+    int reserve(@Param("lodgingId") UUID lodgingId, @Param("date") LocalDate date,
+                @Param("persons") int persons, @Param("capacity") int capacity);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE LodgingOccupancy o SET o.bookedPersons = o.bookedPersons - :persons " +
+            "WHERE o.lodging.id = :lodgingId AND o.date = :date AND o.bookedPersons >= :persons")
+    int release(@Param("lodgingId") UUID lodgingId, @Param("date") LocalDate date, @Param("persons") int persons);
+}
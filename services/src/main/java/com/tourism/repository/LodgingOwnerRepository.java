@@ -1,14 +1,20 @@
 package com.tourism.repository;
 
+import com.tourism.dto.response.UserSuggestionRow;
 import com.tourism.model.LodgingOwner;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface LodgingOwnerRepository extends JpaRepository<LodgingOwner, UUID> {
 
     Page<LodgingOwner> findByEmailStartingWithIgnoreCase(String email, Pageable pageable);
     Page<LodgingOwner> findByLastNameStartingWithIgnoreCase(String lastName, Pageable pageable);
+
+    @Query("SELECT new com.tourism.dto.response.UserSuggestionRow(o.id, o.email, o.lastName) FROM LodgingOwner o")
+    List<UserSuggestionRow> findSuggestionRows();
 }
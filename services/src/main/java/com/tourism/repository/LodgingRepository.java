@@ -1,15 +1,80 @@
 package com.tourism.repository;
 
+import com.tourism.dto.response.LodgingCapacityRow;
+import com.tourism.dto.response.LodgingExportRow;
+import com.tourism.dto.response.LodgingFacetRow;
+import com.tourism.dto.response.SearchDocumentRow;
+import com.tourism.dto.response.SearchHitRow;
 import com.tourism.model.Lodging;
 import com.tourism.model.TouristicPlace;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface LodgingRepository extends JpaRepository<Lodging, UUID> {
     
     Page<Lodging> findByTouristicPlace(TouristicPlace touristicPlace, Pageable pageable);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.tourism.dto.response.LodgingExportRow(l.id, l.name, l.phone, l.capacity, l.nightPrice, l.stars, " +
+            "l.touristicPlace.id, l.lodgingOwner.id, l.enabled, l.createdDate) FROM Lodging l")
+    Stream<LodgingExportRow> streamAllForExport();
+
+    @Query("SELECT l.id FROM Lodging l ORDER BY l.id")
+    List<UUID> findAllIds();
+
+    @Query(value = "SELECT id FROM public.lodgings WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<UUID> lockById(@Param("id") UUID id);
+
+    @Query("SELECT new com.tourism.dto.response.LodgingCapacityRow(p.id, p.region, l.capacity) " +
+            "FROM Lodging l JOIN l.touristicPlace p WHERE l.enabled = true")
+    List<LodgingCapacityRow> findEnabledCapacities();
+
+    /**
+     * Ranks the enabled lodgings on the generated search_vector column, highlighting description and information
+     * of the returned page only.
+     */
+    @Query(value = "SELECT r.id AS id, r.name AS name, r.rank AS rank, " +
+            "ts_headline(CAST(:config AS regconfig), r.description || ' ' || r.information, r.query, " +
+            "'StartSel=<mark>, StopSel=</mark>, MaxWords=20, MinWords=10') AS highlight " +
+            "FROM (SELECT l.id, l.name, l.description, l.information, q.query, " +
+            "CAST(ts_rank_cd(l.search_vector, q.query) AS double precision) AS rank " +
+            "FROM public.lodgings l, websearch_to_tsquery(CAST(:config AS regconfig), :text) AS q(query) " +
+            "WHERE l.enabled = true AND l.search_vector @@ q.query " +
+            "ORDER BY rank DESC, l.name, l.id LIMIT :limit OFFSET :offset) r " +
+            "ORDER BY r.rank DESC, r.name, r.id", nativeQuery = true)
+    List<SearchHitRow> searchFullText(@Param("config") String config, @Param("text") String text,
+                                      @Param("limit") int limit, @Param("offset") int offset);
+
+    /**
+     * Enabled lodgings whose name is similar to the text over the pg_trgm threshold of the transaction, served by
+     * the trigram GIN index on name.
+     */
+    @Query(value = "SELECT l.id AS id, l.name AS name, CAST(similarity(l.name, :text) AS double precision) AS rank, " +
+            "CAST(NULL AS text) AS highlight FROM public.lodgings l " +
+            "WHERE l.enabled = true AND l.name % :text " +
+            "ORDER BY rank DESC, l.name, l.id LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<SearchHitRow> searchSimilarNames(@Param("text") String text, @Param("limit") int limit,
+                                          @Param("offset") int offset);
+
+    @Query("SELECT new com.tourism.dto.response.SearchDocumentRow(l.id, l.name, l.description, l.information) " +
+            "FROM Lodging l WHERE l.enabled = true")
+    List<SearchDocumentRow> findSearchDocuments();
+
+    @Query("SELECT new com.tourism.dto.response.LodgingFacetRow(l.id, p.id, p.region, l.stars, l.nightPrice) " +
+            "FROM Lodging l JOIN l.touristicPlace p WHERE l.enabled = true AND p.enabled = true ORDER BY l.name, l.id")
+    List<LodgingFacetRow> findFacetRows();
 }
@@ -0,0 +1,31 @@
+package com.tourism.repository;
+
+import com.tourism.model.ProcessedBookingRequest;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface ProcessedBookingRequestRepository extends JpaRepository<ProcessedBookingRequest, UUID> {
+
+    boolean existsByRequestKey(String requestKey);
+
+    /**
+     * Returns 1 when the key is new and 0 when it was already stored, so concurrent consumers of the same
+     * message agree on a single winner through the unique index.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO public.processed_booking_requests (id, request_key, created_date) " +
+            "VALUES (:id, :requestKey, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("requestKey") String requestKey);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ProcessedBookingRequest p WHERE p.createdDate < :before")
+    int deleteCreatedBefore(@Param("before") Instant before);
+}
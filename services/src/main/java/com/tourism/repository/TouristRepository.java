@@ -1,13 +1,32 @@
 package com.tourism.repository;
 
+import com.tourism.dto.response.TouristExportRow;
+import com.tourism.dto.response.UserSuggestionRow;
 import com.tourism.model.Tourist;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface TouristRepository extends JpaRepository<Tourist, UUID> {
     Page<Tourist> findByEmailStartingWithIgnoreCase(String email, Pageable pageable);
     Page<Tourist> findByLastNameStartingWithIgnoreCase(String lastName, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.tourism.dto.response.TouristExportRow(t.id, t.email, t.firstName, t.lastName, t.type, t.enabled) " +
+            "FROM Tourist t")
+    Stream<TouristExportRow> streamAllForExport();
+
+    @Query("SELECT new com.tourism.dto.response.UserSuggestionRow(t.id, t.email, t.lastName) FROM Tourist t")
+    List<UserSuggestionRow> findSuggestionRows();
 }
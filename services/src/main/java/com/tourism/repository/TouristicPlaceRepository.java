@@ -1,15 +1,65 @@
 package com.tourism.repository;
 
+import com.tourism.dto.response.PlaceFacetRow;
+import com.tourism.dto.response.SearchDocumentRow;
+import com.tourism.dto.response.SearchHitRow;
+import com.tourism.dto.response.SuggestionDTO;
 import com.tourism.model.Region;
 import com.tourism.model.TouristicPlace;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface TouristicPlaceRepository extends JpaRepository<TouristicPlace, UUID> {
 
     Page<TouristicPlace> findByNameStartingWithIgnoreCase(String name, Pageable pageable);
     Page<TouristicPlace> findByRegion(Region region, Pageable pageable);
+
+    /**
+     * Ranks the enabled places on the generated search_vector column through its GIN index. The headline is the
+     * costly part, so it only runs on the page of places picked by the inner query.
+     */
+    @Query(value = "SELECT r.id AS id, r.name AS name, r.rank AS rank, " +
+            "ts_headline(CAST(:config AS regconfig), r.description, r.query, " +
+            "'StartSel=<mark>, StopSel=</mark>, MaxWords=20, MinWords=10') AS highlight " +
+            "FROM (SELECT p.id, p.name, p.description, q.query, " +
+            "CAST(ts_rank_cd(p.search_vector, q.query) AS double precision) AS rank " +
+            "FROM public.touristic_places p, websearch_to_tsquery(CAST(:config AS regconfig), :text) AS q(query) " +
+            "WHERE p.enabled = true AND p.search_vector @@ q.query " +
+            "ORDER BY rank DESC, p.name, p.id LIMIT :limit OFFSET :offset) r " +
+            "ORDER BY r.rank DESC, r.name, r.id", nativeQuery = true)
+    List<SearchHitRow> searchFullText(@Param("config") String config, @Param("text") String text,
+                                      @Param("limit") int limit, @Param("offset") int offset);
+
+    /**
+     * Scopes the pg_trgm similarity threshold of the % operator to the current transaction.
+     */
+    @Query(value = "SELECT set_config('pg_trgm.similarity_threshold', :threshold, true)", nativeQuery = true)
+    String setSimilarityThreshold(@Param("threshold") String threshold);
+
+    /**
+     * Enabled places whose name is similar to the text over the threshold, served by the trigram GIN index on name.
+     */
+    @Query(value = "SELECT p.id AS id, p.name AS name, CAST(similarity(p.name, :text) AS double precision) AS rank, " +
+            "CAST(NULL AS text) AS highlight FROM public.touristic_places p " +
+            "WHERE p.enabled = true AND p.name % :text " +
+            "ORDER BY rank DESC, p.name, p.id LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<SearchHitRow> searchSimilarNames(@Param("text") String text, @Param("limit") int limit,
+                                          @Param("offset") int offset);
+
+    @Query("SELECT new com.tourism.dto.response.SearchDocumentRow(p.id, p.name, p.description) " +
+            "FROM TouristicPlace p WHERE p.enabled = true")
+    List<SearchDocumentRow> findSearchDocuments();
+
+    @Query("SELECT new com.tourism.dto.response.PlaceFacetRow(p.id, p.region) " +
+            "FROM TouristicPlace p WHERE p.enabled = true ORDER BY p.name, p.id")
+    List<PlaceFacetRow> findFacetRows();
+
+    @Query("SELECT new com.tourism.dto.response.SuggestionDTO(p.id, p.name) FROM TouristicPlace p")
+    List<SuggestionDTO> findNameSuggestions();
 }
@@ -4,6 +4,7 @@ import com.tourism.dto.request.AuthUserDto;
 import com.tourism.dto.request.PageableRequest;
 import com.tourism.dto.response.ErrorDto;
 import com.tourism.dto.response.AdminResponseDTO;
+import com.tourism.observer.UserObserver;
 import io.vavr.control.Either;
 import org.springframework.data.domain.Page;
 
@@ -20,4 +21,8 @@ public interface AdminService {
     Either<ErrorDto[], AdminResponseDTO> getById(UUID id);
 
     Either<ErrorDto[], Page<AdminResponseDTO>> findByEmail(String email, PageableRequest paging);
+
+    void addObserver(UserObserver observer);
+
+    void removeObserver(UserObserver observer);
 }
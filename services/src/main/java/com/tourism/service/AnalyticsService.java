@@ -0,0 +1,21 @@
+package com.tourism.service;
+
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.OccupancyAnalyticsDTO;
+import io.vavr.control.Either;
+
+import java.time.LocalDate;
+
+public interface AnalyticsService {
+
+    /**
+     * Occupancy and demand of every region and category between both dates, both included. Windows that ended before
+     * today are cached until they expire or the cache is evicted.
+     */
+    Either<ErrorDto[], OccupancyAnalyticsDTO> occupancy(LocalDate from, LocalDate to);
+
+    /**
+     * Drops every cached window, for jobs that change the rollups of past days.
+     */
+    void evictCache();
+}
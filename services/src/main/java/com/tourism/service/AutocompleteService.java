@@ -0,0 +1,25 @@
+package com.tourism.service;
+
+import com.tourism.dto.request.AutocompleteRequest;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.SuggestionDTO;
+import com.tourism.model.Role;
+import io.vavr.control.Either;
+
+public interface AutocompleteService {
+
+    /**
+     * Users of the role whose email starts with the query, ignoring case and accents, in alphabetical order.
+     */
+    Either<ErrorDto[], SuggestionDTO[]> suggestEmails(Role role, AutocompleteRequest request);
+
+    /**
+     * Tourists or lodging owners whose last name starts with the query, ignoring case and accents, in alphabetical order.
+     */
+    Either<ErrorDto[], SuggestionDTO[]> suggestLastNames(Role role, AutocompleteRequest request);
+
+    /**
+     * Touristic places whose name starts with the query, ignoring case and accents, in alphabetical order.
+     */
+    Either<ErrorDto[], SuggestionDTO[]> suggestPlaceNames(AutocompleteRequest request);
+}
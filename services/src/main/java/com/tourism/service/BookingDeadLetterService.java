@@ -0,0 +1,13 @@
+package com.tourism.service;
+
+import com.tourism.dto.request.PageableRequest;
+import com.tourism.dto.response.BookingDeadLetterResponseDTO;
+import com.tourism.dto.response.ErrorDto;
+import io.vavr.control.Either;
+import org.springframework.data.domain.Page;
+
+public interface BookingDeadLetterService {
+    void save(String topic, String payload, String error);
+    Either<ErrorDto[], Page<BookingDeadLetterResponseDTO>> findAll(PageableRequest paging);
+    Either<ErrorDto[], Integer> replay(int limit);
+}
@@ -0,0 +1,19 @@
+package com.tourism.service;
+
+import com.tourism.dto.response.ErrorDto;
+import io.vavr.control.Either;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface BookingExportService {
+
+    String XLSX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    /**
+     * Writes the bookings checking in within the range, their night lines and the revenue per lodging as an xlsx
+     * workbook. A null owner exports every lodging. Returns the number of night lines written.
+     */
+    Either<ErrorDto[], Long> exportXlsx(UUID ownerId, LocalDate checkInFrom, LocalDate checkInTo, OutputStream out);
+}
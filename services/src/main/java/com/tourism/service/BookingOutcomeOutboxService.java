@@ -0,0 +1,12 @@
+package com.tourism.service;
+
+import com.tourism.dto.response.BookingOutcomeMessage;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface BookingOutcomeOutboxService {
+    void record(BookingOutcomeMessage outcome);
+    void publish(UUID touristId, String idempotencyKey);
+    int purge(Instant before);
+}
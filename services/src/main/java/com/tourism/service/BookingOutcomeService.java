@@ -0,0 +1,12 @@
+package com.tourism.service;
+
+import com.tourism.dto.response.BookingOutcomeMessage;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+public interface BookingOutcomeService {
+    SseEmitter subscribe(UUID touristId);
+    void publish(BookingOutcomeMessage outcome);
+    void receiveOutcome(String messageBody);
+}
@@ -2,4 +2,5 @@ package com.tourism.service;
 
 public interface BookingReceiveQueueService {
     void receiveMessage(String messageBody);
+    void receiveDeadLetter(String messageBody, String originalTopic, String error);
 }
@@ -3,7 +3,21 @@ package com.tourism.service;
 import com.tourism.dto.request.BookingRequestDTO;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public interface BookingSendingQueueService {
-    void sendMessage(BookingRequestDTO bookingDto, UUID touristId);
+    /**
+     * Queues a booking request. With a replaced booking id the request is an update, and the old booking is only
+     * removed once the new stay has been booked.
+     */
+    void sendMessage(BookingRequestDTO bookingDto, UUID touristId, String idempotencyKey, UUID replacesBookingId);
+
+    default void sendMessage(BookingRequestDTO bookingDto, UUID touristId, String idempotencyKey) {
+        this.sendMessage(bookingDto, touristId, idempotencyKey, null);
+    }
+
+    /**
+     * Sends an already serialized booking message again, completing once the queue has accepted it.
+     */
+    CompletableFuture<Void> resend(String messageBody);
 }
@@ -1,11 +1,17 @@
 package com.tourism.service;
 
+import com.tourism.dto.request.BookingBulkStateRequestDTO;
 import com.tourism.dto.request.BookingMessage;
 import com.tourism.dto.request.BookingRequestDTO;
 import com.tourism.dto.request.BookingUpdateRequestDTO;
+import com.tourism.dto.request.OwnerInboxRequest;
 import com.tourism.dto.request.PageableRequest;
+import com.tourism.dto.request.TouristTimelineRequest;
+import com.tourism.dto.response.BookingInboxPageDTO;
 import com.tourism.dto.response.BookingResponseDTO;
+import com.tourism.dto.response.BookingStateChangeResultDTO;
 import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.TouristBookingDTO;
 import com.tourism.model.Booking;
 import com.tourism.model.BookingState;
 import com.tourism.model.LodgingOwner;
@@ -13,18 +19,22 @@ import com.tourism.model.Tourist;
 import com.tourism.observer.BookingObserver;
 import io.vavr.control.Either;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.UUID;
 
 public interface BookingService {
 
-    Either<ErrorDto[], String> create(BookingRequestDTO bookingDto, UUID touristId);
+    Either<ErrorDto[], String> create(BookingRequestDTO bookingDto, UUID touristId, String idempotencyKey);
     void processBooking(BookingMessage bookingMessage);
-    Either<ErrorDto[], String> update(BookingUpdateRequestDTO bookingDto, UUID touristId);
+    Either<ErrorDto[], String> update(BookingUpdateRequestDTO bookingDto, UUID touristId, String idempotencyKey);
     Either<ErrorDto[], Page<BookingResponseDTO>> findAll(PageableRequest paging);
     Either<ErrorDto[], Booking> delete(UUID id);
     Either<ErrorDto[], BookingResponseDTO> getById(UUID id);
+    Either<ErrorDto[], BookingInboxPageDTO> findOwnerInbox(UUID ownerId, OwnerInboxRequest request);
+    Either<ErrorDto[], Slice<TouristBookingDTO>> findTouristTimeline(UUID touristId, TouristTimelineRequest request);
     Either<ErrorDto[], BookingResponseDTO> changeState(UUID bookingId, BookingState state, UUID userId);
+    Either<ErrorDto[], BookingStateChangeResultDTO[]> changeStates(BookingBulkStateRequestDTO request, UUID ownerId);
     void updateToExpiredBookings();
     void notifyObservers(String lodgingName, UUID bookingId, Tourist tourist, LodgingOwner owner, BookingState state);
     void addObserver(BookingObserver observer);
@@ -0,0 +1,16 @@
+package com.tourism.service;
+
+import com.tourism.model.BookingState;
+import com.tourism.model.Lodging;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+public interface CapacityReservationService {
+
+    Set<BookingState> CAPACITY_HOLDING_STATES = EnumSet.of(BookingState.CREATED, BookingState.PENDING, BookingState.ACCEPTED);
+
+    boolean reserve(Lodging lodging, LocalDate checkIn, LocalDate checkOut, int persons);
+    void release(Lodging lodging, LocalDate checkIn, LocalDate checkOut, int persons);
+}
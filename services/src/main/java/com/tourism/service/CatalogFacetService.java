@@ -0,0 +1,27 @@
+package com.tourism.service;
+
+import com.tourism.dto.request.FacetRequest;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.FacetedPageDTO;
+import com.tourism.dto.response.LodgingResponseDTO;
+import com.tourism.dto.response.TouristicPlaceResponseDTO;
+import io.vavr.control.Either;
+
+public interface CatalogFacetService {
+
+    String REGION = "region";
+    String CATEGORY = "category";
+    String STARS = "stars";
+    String PRICE_BAND = "priceBand";
+
+    /**
+     * Enabled touristic places filtered by region and category, with the region and category counts.
+     */
+    Either<ErrorDto[], FacetedPageDTO<TouristicPlaceResponseDTO>> browsePlaces(FacetRequest request);
+
+    /**
+     * Enabled lodgings filtered by region and category of their place, stars and price band, with the counts of
+     * every facet.
+     */
+    Either<ErrorDto[], FacetedPageDTO<LodgingResponseDTO>> browseLodgings(FacetRequest request);
+}
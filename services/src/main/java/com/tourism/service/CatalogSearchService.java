@@ -0,0 +1,21 @@
+package com.tourism.service;
+
+import com.tourism.dto.request.SearchRequest;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.SearchHitDTO;
+import io.vavr.control.Either;
+
+public interface CatalogSearchService {
+
+    /**
+     * Enabled touristic places matching every word of the query on name or description, best ranked first.
+     * In fuzzy mode, the places whose name is similar enough to the query, typos included.
+     */
+    Either<ErrorDto[], SearchHitDTO[]> searchPlaces(SearchRequest request);
+
+    /**
+     * Enabled lodgings matching every word of the query on name, description or information, best ranked first.
+     * In fuzzy mode, the lodgings whose name is similar enough to the query, typos included.
+     */
+    Either<ErrorDto[], SearchHitDTO[]> searchLodgings(SearchRequest request);
+}
@@ -0,0 +1,20 @@
+package com.tourism.service;
+
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.model.ExportFormat;
+import io.vavr.control.Either;
+
+import java.io.OutputStream;
+
+public interface DataExportService {
+
+    String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+    String CSV_CONTENT_TYPE = "text/csv";
+
+    /**
+     * Each export writes every row of its table to the stream and returns the number of rows written.
+     */
+    Either<ErrorDto[], Long> exportBookings(ExportFormat format, OutputStream out);
+    Either<ErrorDto[], Long> exportTourists(ExportFormat format, OutputStream out);
+    Either<ErrorDto[], Long> exportLodgings(ExportFormat format, OutputStream out);
+}
@@ -0,0 +1,16 @@
+package com.tourism.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface IdempotencyService {
+
+    String IDEMPOTENCY_HEADER = "Idempotency-Key";
+    // the stored request key prefixes the tourist id, so this leaves room in its 200 character column
+    int IDEMPOTENCY_KEY_MAX_LENGTH = 128;
+
+    String requestKey(UUID touristId, String idempotencyKey);
+    boolean isProcessed(String requestKey);
+    boolean register(String requestKey);
+    int purge(Instant before);
+}
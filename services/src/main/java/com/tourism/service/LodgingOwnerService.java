@@ -5,6 +5,7 @@ import com.tourism.dto.request.PageableRequest;
 import com.tourism.dto.response.ErrorDto;
 import com.tourism.dto.response.LodgingOwnerResponseDTO;
 import com.tourism.model.LodgingOwner;
+import com.tourism.observer.UserObserver;
 import io.vavr.control.Either;
 import org.springframework.data.domain.Page;
 
@@ -23,4 +24,8 @@ public interface LodgingOwnerService {
     Either<ErrorDto[], Page<LodgingOwnerResponseDTO>> findByEmail(String email, PageableRequest paging);
 
     Either<ErrorDto[], Page<LodgingOwnerResponseDTO>> findByLastName(String email, PageableRequest paging);
+
+    void addObserver(UserObserver observer);
+
+    void removeObserver(UserObserver observer);
 }
@@ -0,0 +1,40 @@
+package com.tourism.service;
+
+import com.tourism.dto.request.LodgingStatsRequest;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.LodgingDailyStatsDTO;
+import com.tourism.dto.response.LodgingStatsSummaryDTO;
+import com.tourism.model.Booking;
+import com.tourism.model.BookingDate;
+import io.vavr.control.Either;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface LodgingRollupService {
+
+    /**
+     * Adds the nights of a booking that starts holding capacity to the daily rollup of its lodging.
+     */
+    void addBooking(Booking booking, List<BookingDate> nights);
+
+    /**
+     * Takes the nights of a booking that stops holding capacity out of the daily rollup. Must run before its night
+     * lines are deleted.
+     */
+    void removeBooking(Booking booking);
+
+    /**
+     * Recomputes the rollup days of every lodging within the range from the booking night lines, one lodging per
+     * transaction. Returns the number of lodgings rebuilt.
+     */
+    Either<ErrorDto[], Integer> rebuild(LocalDate from, LocalDate to);
+
+    /**
+     * Rollup days of the lodgings of an owner, or of every lodging when the owner is null.
+     */
+    Either<ErrorDto[], LodgingDailyStatsDTO[]> findDaily(UUID ownerId, LodgingStatsRequest request);
+
+    Either<ErrorDto[], LodgingStatsSummaryDTO[]> findSummary(UUID ownerId, LodgingStatsRequest request);
+}
@@ -5,6 +5,7 @@ import com.tourism.dto.request.PageableRequest;
 import com.tourism.dto.response.ErrorDto;
 import com.tourism.dto.response.LodgingResponseDTO;
 import com.tourism.model.Lodging;
+import com.tourism.observer.CatalogObserver;
 import io.vavr.control.Either;
 import org.springframework.data.domain.Page;
 
@@ -18,4 +19,6 @@ public interface LodgingService {
     Either<ErrorDto[], Lodging> delete(UUID id);
     Either<ErrorDto[], LodgingResponseDTO> getById(UUID id);
     Either<ErrorDto[], Page<LodgingResponseDTO>> findLodgingsByTouristicPlace(UUID id, PageableRequest paging);
+    void addObserver(CatalogObserver observer);
+    void removeObserver(CatalogObserver observer);
 }
@@ -2,7 +2,11 @@ package com.tourism.service;
 
 import com.tourism.model.Notification;
 
+import java.util.List;
+
 public interface NotificationService {
 
     void createNotification(Notification notification);
+
+    void createNotifications(List<Notification> notifications);
 }
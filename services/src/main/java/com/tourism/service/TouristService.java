@@ -5,6 +5,7 @@ import com.tourism.dto.request.TouristRequestDTO;
 import com.tourism.dto.response.ErrorDto;
 import com.tourism.dto.response.TouristResponseDTO;
 import com.tourism.model.Tourist;
+import com.tourism.observer.UserObserver;
 import io.vavr.control.Either;
 import org.springframework.data.domain.Page;
 
@@ -23,4 +24,8 @@ public interface TouristService {
     Either<ErrorDto[], Page<TouristResponseDTO>> findByEmail(String email, PageableRequest paging);
 
     Either<ErrorDto[], Page<TouristResponseDTO>> findByLastName(String email, PageableRequest paging);
+
+    void addObserver(UserObserver observer);
+
+    void removeObserver(UserObserver observer);
 }
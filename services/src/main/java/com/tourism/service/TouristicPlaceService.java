@@ -6,6 +6,7 @@ import com.tourism.dto.response.ErrorDto;
 import com.tourism.dto.response.TouristicPlaceResponseDTO;
 import com.tourism.model.Region;
 import com.tourism.model.TouristicPlace;
+import com.tourism.observer.CatalogObserver;
 import io.vavr.control.Either;
 import org.springframework.data.domain.Page;
 
@@ -20,4 +21,6 @@ public interface TouristicPlaceService {
     Either<ErrorDto[], TouristicPlaceResponseDTO> getById(UUID id);
     Either<ErrorDto[], Page<TouristicPlaceResponseDTO>> findByName(String name, PageableRequest paging);
     Either<ErrorDto[], Page<TouristicPlaceResponseDTO>> findByRegion(Region region, PageableRequest paging);
+    void addObserver(CatalogObserver observer);
+    void removeObserver(CatalogObserver observer);
 }
@@ -9,12 +9,14 @@ import com.tourism.dto.response.AdminResponseDTO;
 import com.tourism.infrastructure.PasswordEncryptionService;
 import com.tourism.model.Admin;
 import com.tourism.model.User;
+import com.tourism.observer.UserObserver;
 import com.tourism.repository.AdminRepository;
 import com.tourism.repository.RefreshTokenRepository;
 import com.tourism.repository.UserRepository;
 import com.tourism.service.AdminService;
 import com.tourism.util.MessageConstants;
 import com.tourism.util.PageService;
+import com.tourism.util.helpers.TransactionHooks;
 import com.tourism.util.validations.UserValidation;
 import io.vavr.control.Either;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +29,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -39,6 +42,7 @@ public class AdminServiceImpl implements AdminService {
     private final UserValidation userValidation;
     private final PageService pageService;
     private final AdminMapper mapper;
+    private final List<UserObserver> observers = new ArrayList<>();
 
     @Autowired
     public AdminServiceImpl(AdminRepository repository, UserRepository userRepository, RefreshTokenRepository tokenRepository,
@@ -59,6 +63,7 @@ public class AdminServiceImpl implements AdminService {
             Either<ErrorDto[], Boolean> validation = userValidation.validateEmailAndPassword(userDto.getEmail(), userDto.getPassword());
             if (validation.isRight()) {
                 Admin admin = repository.save(new Admin(userDto.getEmail(), encryptionService.encryptPassword(userDto.getPassword()), Role.ADMIN, true));
+                this.notifySaved(admin);
                 return Either.right(admin.getId() != null ? mapper.modelToResponseDto(admin) : null);
             } else {
                 return Either.left(validation.getLeft());
@@ -92,6 +97,7 @@ public class AdminServiceImpl implements AdminService {
                 Admin admin = repository.findById(id).orElse(null);
                 tokenRepository.deleteByUser(user);
                 repository.delete(Objects.requireNonNull(admin));
+                this.notifyDeleted(admin.getId());
                 return Either.right(null);
             } else {
                 return Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.BAD_REQUEST, MessageConstants.ERROR_CANNOT_DELETE_LAST_ADMIN)});
@@ -131,4 +137,32 @@ public class AdminServiceImpl implements AdminService {
             return Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_GET_ADMINS, e.getMessage())});
         }
     }
+
+    @Override
+    public void addObserver(UserObserver observer) {
+        observers.add(observer);
+    }
+
+    @Override
+    public void removeObserver(UserObserver observer) {
+        observers.remove(observer);
+    }
+
+    private void notifySaved(User user) {
+        TransactionHooks.afterCommit(() -> this.notifyObservers(observer -> observer.userSaved(user)));
+    }
+
+    private void notifyDeleted(UUID id) {
+        TransactionHooks.afterCommit(() -> this.notifyObservers(observer -> observer.userDeleted(id)));
+    }
+
+    private void notifyObservers(Consumer<UserObserver> notification) {
+        for (UserObserver observer : observers) {
+            try {
+                notification.accept(observer);
+            } catch (RuntimeException e) {
+                log.error(e.getMessage());
+            }
+        }
+    }
 }
@@ -0,0 +1,266 @@
+package com.tourism.service.impl;
+
+import com.tourism.configuration.AnalyticsConfig;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.LodgingCapacityRow;
+import com.tourism.dto.response.OccupancyAnalyticsDTO;
+import com.tourism.dto.response.PlaceCategoryRow;
+import com.tourism.dto.response.RollupAnalyticsRow;
+import com.tourism.dto.response.SegmentOccupancyDTO;
+import com.tourism.model.Region;
+import com.tourism.repository.CategoryRepository;
+import com.tourism.repository.LodgingDailyRollupRepository;
+import com.tourism.repository.LodgingRepository;
+import com.tourism.service.AnalyticsService;
+import com.tourism.util.MessageConstants;
+import io.vavr.control.Either;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Aggregates the daily rollups by region and category. The window is split by region and then into date chunks, every
+ * chunk streams its rollup rows from its own read-only cursor on the analytics pool, and the partial totals are merged
+ * on the way back up. Category totals come from the same rows through the categories of their touristic place.
+ */
+@Slf4j
+@Service
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private final LodgingDailyRollupRepository rollupRepository;
+    private final LodgingRepository lodgingRepository;
+    private final CategoryRepository categoryRepository;
+    private final ForkJoinPool pool;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int chunkDays;
+    private final int maxDays;
+    private final Duration cacheTtl;
+    private final Map<Window, CachedWindow> cache;
+    private final ReentrantLock cacheLock = new ReentrantLock();
+
+    @Autowired
+    public AnalyticsServiceImpl(LodgingDailyRollupRepository rollupRepository, LodgingRepository lodgingRepository,
+                                CategoryRepository categoryRepository,
+                                @Qualifier(AnalyticsConfig.ANALYTICS_POOL) ForkJoinPool pool,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${analytics.chunk-days:31}") int chunkDays,
+                                @Value("${analytics.max-days:1096}") int maxDays,
+                                @Value("${analytics.cache.size:256}") int cacheSize,
+                                @Value("${analytics.cache.ttl-minutes:60}") long cacheTtlMinutes) {
+        this.rollupRepository = rollupRepository;
+        this.lodgingRepository = lodgingRepository;
+        this.categoryRepository = categoryRepository;
+        this.pool = pool;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.chunkDays = Math.max(1, chunkDays);
+        this.maxDays = maxDays;
+        this.cacheTtl = Duration.ofMinutes(cacheTtlMinutes);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Window, CachedWindow> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    @Override
+    public Either<ErrorDto[], OccupancyAnalyticsDTO> occupancy(LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= maxDays) {
+            return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.BAD_REQUEST, MessageConstants.ERROR_INVALID_ANALYTICS_RANGE, null)});
+        }
+        Window window = new Window(from, to);
+        // today and later days still change with every booking, only finished windows are worth keeping
+        boolean finished = to.isBefore(LocalDate.now());
+        if (finished) {
+            OccupancyAnalyticsDTO cached = this.cached(window);
+            if (cached != null) {
+                return Either.right(cached);
+            }
+        }
+        try {
+            OccupancyAnalyticsDTO analytics = this.compute(from, to);
+            if (finished) {
+                this.remember(window, analytics);
+            }
+            return Either.right(analytics);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_GET_ANALYTICS, e.getMessage())});
+        }
+    }
+
+    @Override
+    public void evictCache() {
+        cacheLock.lock();
+        try {
+            cache.clear();
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private OccupancyAnalyticsDTO compute(LocalDate from, LocalDate to) {
+        Map<UUID, List<String>> categoriesByPlace = new HashMap<>();
+        for (PlaceCategoryRow row : categoryRepository.findPlaceCategories()) {
+            categoriesByPlace.computeIfAbsent(row.touristicPlaceId(), id -> new ArrayList<>()).add(row.categoryName());
+        }
+        Map<Region, Long> regionCapacity = new EnumMap<>(Region.class);
+        Map<String, Long> categoryCapacity = new TreeMap<>();
+        for (LodgingCapacityRow row : lodgingRepository.findEnabledCapacities()) {
+            regionCapacity.merge(row.region(), row.capacity().longValue(), Long::sum);
+            for (String category : categoriesByPlace.getOrDefault(row.touristicPlaceId(), List.of())) {
+                categoryCapacity.merge(category, row.capacity().longValue(), Long::sum);
+            }
+        }
+
+        Totals totals = pool.invoke(new WindowTask(List.of(Region.values()), from, to, categoriesByPlace));
+
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        List<SegmentOccupancyDTO> regions = new ArrayList<>();
+        for (Region region : Region.values()) {
+            regions.add(totals.regions.getOrDefault(region, new Segment())
+                    .toDto(region.name(), regionCapacity.getOrDefault(region, 0L) * days));
+        }
+        Set<String> categoryNames = new TreeSet<>(categoryCapacity.keySet());
+        categoryNames.addAll(totals.categories.keySet());
+        List<SegmentOccupancyDTO> categories = new ArrayList<>();
+        for (String category : categoryNames) {
+            categories.add(totals.categories.getOrDefault(category, new Segment())
+                    .toDto(category, categoryCapacity.getOrDefault(category, 0L) * days));
+        }
+        return new OccupancyAnalyticsDTO(from, to, regions, categories);
+    }
+
+    private Totals aggregate(Region region, LocalDate from, LocalDate to, Map<UUID, List<String>> categoriesByPlace) {
+        return readOnlyTransaction.execute(status -> {
+            Totals totals = new Totals();
+            Segment regionSegment = totals.regions.computeIfAbsent(region, r -> new Segment());
+            try (Stream<RollupAnalyticsRow> rows = rollupRepository.streamRegionDays(region, from, to)) {
+                rows.forEach(row -> {
+                    regionSegment.add(row);
+                    for (String category : categoriesByPlace.getOrDefault(row.touristicPlaceId(), List.of())) {
+                        totals.categories.computeIfAbsent(category, c -> new Segment()).add(row);
+                    }
+                });
+            }
+            return totals;
+        });
+    }
+
+    private OccupancyAnalyticsDTO cached(Window window) {
+        cacheLock.lock();
+        try {
+            CachedWindow cached = cache.get(window);
+            if (cached == null || cached.expiresAt().isBefore(Instant.now())) {
+                cache.remove(window);
+                return null;
+            }
+            return cached.analytics();
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private void remember(Window window, OccupancyAnalyticsDTO analytics) {
+        cacheLock.lock();
+        try {
+            cache.put(window, new CachedWindow(analytics, Instant.now().plus(cacheTtl)));
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private final class WindowTask extends RecursiveTask<Totals> {
+
+        private final List<Region> regions;
+        private final LocalDate from;
+        private final LocalDate to;
+        private final Map<UUID, List<String>> categoriesByPlace;
+
+        private WindowTask(List<Region> regions, LocalDate from, LocalDate to, Map<UUID, List<String>> categoriesByPlace) {
+            this.regions = regions;
+            this.from = from;
+            this.to = to;
+            this.categoriesByPlace = categoriesByPlace;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (regions.size() > 1) {
+                int half = regions.size() / 2;
+                return split(new WindowTask(regions.subList(0, half), from, to, categoriesByPlace),
+                        new WindowTask(regions.subList(half, regions.size()), from, to, categoriesByPlace));
+            }
+            long days = ChronoUnit.DAYS.between(from, to) + 1;
+            if (days > chunkDays) {
+                LocalDate middle = from.plusDays(days / 2 - 1);
+                return split(new WindowTask(regions, from, middle, categoriesByPlace),
+                        new WindowTask(regions, middle.plusDays(1), to, categoriesByPlace));
+            }
+            return aggregate(regions.get(0), from, to, categoriesByPlace);
+        }
+
+        private Totals split(WindowTask left, WindowTask right) {
+            left.fork();
+            Totals totals = right.compute();
+            return totals.merge(left.join());
+        }
+    }
+
+    private static final class Totals {
+
+        private final Map<Region, Segment> regions = new EnumMap<>(Region.class);
+        private final Map<String, Segment> categories = new HashMap<>();
+
+        private Totals merge(Totals other) {
+            other.regions.forEach((region, segment) -> regions.merge(region, segment, Segment::merge));
+            other.categories.forEach((category, segment) -> categories.merge(category, segment, Segment::merge));
+            return this;
+        }
+    }
+
+    private static final class Segment {
+
+        private long bookedPersons;
+        private long bookedNights;
+        private double revenue;
+
+        private void add(RollupAnalyticsRow row) {
+            bookedPersons += row.bookedPersons();
+            bookedNights += row.bookingsCount();
+            revenue += row.revenue();
+        }
+
+        private Segment merge(Segment other) {
+            bookedPersons += other.bookedPersons;
+            bookedNights += other.bookedNights;
+            revenue += other.revenue;
+            return this;
+        }
+
+        private SegmentOccupancyDTO toDto(String name, long capacity) {
+            return new SegmentOccupancyDTO(name, capacity, bookedPersons, bookedNights, revenue,
+                    capacity > 0 ? (double) bookedPersons / capacity : 0.0);
+        }
+    }
+
+    private record Window(LocalDate from, LocalDate to) { }
+
+    private record CachedWindow(OccupancyAnalyticsDTO analytics, Instant expiresAt) { }
+}
@@ -0,0 +1,191 @@
+package com.tourism.service.impl;
+
+import com.tourism.dto.request.AutocompleteRequest;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.SuggestionDTO;
+import com.tourism.dto.response.UserSuggestionRow;
+import com.tourism.model.Lodging;
+import com.tourism.model.LodgingOwner;
+import com.tourism.model.Role;
+import com.tourism.model.Tourist;
+import com.tourism.model.TouristicPlace;
+import com.tourism.model.User;
+import com.tourism.observer.CatalogObserver;
+import com.tourism.observer.UserObserver;
+import com.tourism.repository.AdminRepository;
+import com.tourism.repository.LodgingOwnerRepository;
+import com.tourism.repository.TouristRepository;
+import com.tourism.repository.TouristicPlaceRepository;
+import com.tourism.service.AutocompleteService;
+import com.tourism.util.MessageConstants;
+import com.tourism.util.helpers.PrefixIndex;
+import com.tourism.util.helpers.ReloadableIndexes;
+import io.vavr.control.Either;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Type-ahead over user emails, last names and place names on in-memory prefix indexes, so a keystroke does not cost
+ * a LIKE query. The indexes are loaded once the application is ready and kept current by the user and catalogue
+ * services after each commit. Those only run on the node that made the change, so every node also reloads the
+ * indexes periodically to pick up the writes of the others, without losing the updates that arrive meanwhile.
+ */
+@Slf4j
+@Service
+public class AutocompleteServiceImpl implements AutocompleteService, UserObserver, CatalogObserver {
+
+    private final AdminRepository adminRepository;
+    private final TouristRepository touristRepository;
+    private final LodgingOwnerRepository ownerRepository;
+    private final TouristicPlaceRepository placeRepository;
+    private final ReloadableIndexes<Indexes> indexes = new ReloadableIndexes<>(Indexes.empty());
+
+    private record Indexes(Map<Role, PrefixIndex> emails, Map<Role, PrefixIndex> lastNames, PrefixIndex placeNames) {
+
+        private static Indexes empty() {
+            Map<Role, PrefixIndex> emails = new EnumMap<>(Role.class);
+            for (Role role : List.of(Role.ADMIN, Role.TOURIST, Role.LODGING_OWNER)) {
+                emails.put(role, new PrefixIndex());
+            }
+            Map<Role, PrefixIndex> lastNames = new EnumMap<>(Role.class);
+            lastNames.put(Role.TOURIST, new PrefixIndex());
+            lastNames.put(Role.LODGING_OWNER, new PrefixIndex());
+            return new Indexes(emails, lastNames, new PrefixIndex());
+        }
+    }
+
+    @Autowired
+    public AutocompleteServiceImpl(AdminRepository adminRepository, TouristRepository touristRepository,
+                                   LodgingOwnerRepository ownerRepository, TouristicPlaceRepository placeRepository) {
+        this.adminRepository = adminRepository;
+        this.touristRepository = touristRepository;
+        this.ownerRepository = ownerRepository;
+        this.placeRepository = placeRepository;
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Indexes loaded = indexes.reload(() -> {
+            Indexes fresh = Indexes.empty();
+            this.loadUsers(fresh, Role.ADMIN, adminRepository.findSuggestionRows());
+            this.loadUsers(fresh, Role.TOURIST, touristRepository.findSuggestionRows());
+            this.loadUsers(fresh, Role.LODGING_OWNER, ownerRepository.findSuggestionRows());
+            Map<UUID, String> names = new HashMap<>();
+            for (SuggestionDTO place : placeRepository.findNameSuggestions()) {
+                names.put(place.id(), place.value());
+            }
+            fresh.placeNames().load(names);
+            return fresh;
+        });
+        log.info("Autocomplete indexes loaded with {} admins, {} tourists, {} lodging owners and {} touristic places",
+                loaded.emails().get(Role.ADMIN).size(), loaded.emails().get(Role.TOURIST).size(),
+                loaded.emails().get(Role.LODGING_OWNER).size(), loaded.placeNames().size());
+    }
+
+    // a failed reload keeps serving the previous indexes until the next one
+    @Scheduled(initialDelayString = "${catalog.autocomplete.reload-seconds:300}",
+            fixedDelayString = "${catalog.autocomplete.reload-seconds:300}", timeUnit = TimeUnit.SECONDS)
+    public void reload() {
+        try {
+            this.load();
+        } catch (Exception e) {
+            log.error("Could not reload the autocomplete indexes: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public Either<ErrorDto[], SuggestionDTO[]> suggestEmails(Role role, AutocompleteRequest request) {
+        return suggest(indexes.current().emails().get(role), role, request);
+    }
+
+    @Override
+    public Either<ErrorDto[], SuggestionDTO[]> suggestLastNames(Role role, AutocompleteRequest request) {
+        return suggest(indexes.current().lastNames().get(role), role, request);
+    }
+
+    @Override
+    public Either<ErrorDto[], SuggestionDTO[]> suggestPlaceNames(AutocompleteRequest request) {
+        return suggest(indexes.current().placeNames(), Role.EVERY_ROLE, request);
+    }
+
+    @Override
+    public void userSaved(User user) {
+        indexes.update(current -> {
+            PrefixIndex emailIndex = current.emails().get(user.getRole());
+            if (emailIndex != null) {
+                emailIndex.put(user.getId(), user.getEmail());
+            }
+            if (user instanceof Tourist tourist) {
+                current.lastNames().get(Role.TOURIST).put(tourist.getId(), tourist.getLastName());
+            } else if (user instanceof LodgingOwner owner) {
+                current.lastNames().get(Role.LODGING_OWNER).put(owner.getId(), owner.getLastName());
+            }
+        });
+    }
+
+    @Override
+    public void userDeleted(UUID userId) {
+        indexes.update(current -> {
+            current.emails().values().forEach(index -> index.remove(userId));
+            current.lastNames().values().forEach(index -> index.remove(userId));
+        });
+    }
+
+    @Override
+    public void placeSaved(TouristicPlace place) {
+        indexes.update(current -> current.placeNames().put(place.getId(), place.getName()));
+    }
+
+    @Override
+    public void placeDeleted(UUID placeId) {
+        indexes.update(current -> current.placeNames().remove(placeId));
+    }
+
+    @Override
+    public void lodgingSaved(Lodging lodging) {
+        // lodging names are not suggested
+    }
+
+    @Override
+    public void lodgingDeleted(UUID lodgingId) {
+        // lodging names are not suggested
+    }
+
+    private void loadUsers(Indexes fresh, Role role, List<UserSuggestionRow> rows) {
+        Map<UUID, String> userEmails = new HashMap<>();
+        Map<UUID, String> userLastNames = new HashMap<>();
+        for (UserSuggestionRow row : rows) {
+            userEmails.put(row.id(), row.email());
+            userLastNames.put(row.id(), row.lastName());
+        }
+        fresh.emails().get(role).load(userEmails);
+        PrefixIndex lastNameIndex = fresh.lastNames().get(role);
+        if (lastNameIndex != null) {
+            lastNameIndex.load(userLastNames);
+        }
+    }
+
+    private Either<ErrorDto[], SuggestionDTO[]> suggest(PrefixIndex index, Role role, AutocompleteRequest request) {
+        try {
+            if (index == null) {
+                return Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.BAD_REQUEST, MessageConstants.ERROR_AUTOCOMPLETE,
+                        "No suggestions for role " + role)});
+            }
+            return Either.right(index.search(request.getQ(), request.getLimit()).stream()
+                    .map(hit -> new SuggestionDTO(hit.id(), hit.value()))
+                    .toArray(SuggestionDTO[]::new));
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_AUTOCOMPLETE, e.getMessage())});
+        }
+    }
+}
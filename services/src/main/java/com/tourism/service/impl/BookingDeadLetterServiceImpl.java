@@ -0,0 +1,86 @@
+package com.tourism.service.impl;
+
+import com.tourism.dto.mappers.BookingDeadLetterMapper;
+import com.tourism.dto.request.PageableRequest;
+import com.tourism.dto.response.BookingDeadLetterResponseDTO;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.model.BookingDeadLetter;
+import com.tourism.repository.BookingDeadLetterRepository;
+import com.tourism.service.BookingDeadLetterService;
+import com.tourism.service.BookingSendingQueueService;
+import com.tourism.util.MessageConstants;
+import com.tourism.util.PageService;
+import io.vavr.control.Either;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+@Service
+public class BookingDeadLetterServiceImpl implements BookingDeadLetterService {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final BookingDeadLetterRepository repository;
+    private final BookingSendingQueueService queueSendingService;
+    private final PageService pageService;
+    private final BookingDeadLetterMapper mapper;
+
+    @Autowired
+    public BookingDeadLetterServiceImpl(BookingDeadLetterRepository repository, BookingSendingQueueService queueSendingService,
+                                        PageService pageService, BookingDeadLetterMapper mapper) {
+        this.repository = repository;
+        this.queueSendingService = queueSendingService;
+        this.pageService = pageService;
+        this.mapper = mapper;
+    }
+
+
+    @Override
+    public void save(String topic, String payload, String error) {
+        BookingDeadLetter deadLetter = new BookingDeadLetter(topic, payload);
+        if (error != null) {
+            deadLetter.setError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        }
+        repository.save(deadLetter);
+        log.warn("Booking message from [{}] moved to dead letter {}: {}", topic, deadLetter.getId(), error);
+    }
+
+    @Override
+    public Either<ErrorDto[], Page<BookingDeadLetterResponseDTO>> findAll(PageableRequest paging) {
+        try {
+            Page<BookingDeadLetter> deadLetters = repository.findAll(pageService.createSortedPageable(paging));
+            return Either.right(deadLetters.map(mapper::modelToResponseDto));
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_GET_DEAD_LETTERS, e.getMessage())});
+        }
+    }
+
+    @Override
+    public Either<ErrorDto[], Integer> replay(int limit) {
+        try {
+            List<BookingDeadLetter> deadLetters = repository.findByReplayedDateIsNullOrderByCreatedDateAsc(PageRequest.of(0, limit));
+            if (deadLetters.isEmpty()) {
+                return Either.right(0);
+            }
+            // every message is accepted by the queue before the batch is marked, so a failed replay can run again
+            CompletableFuture.allOf(deadLetters.stream()
+                    .map(deadLetter -> queueSendingService.resend(deadLetter.getPayload()))
+                    .toArray(CompletableFuture[]::new)).join();
+            repository.markReplayed(deadLetters.stream().map(BookingDeadLetter::getId).toList(), Instant.now());
+            log.info("Replayed {} booking dead letters", deadLetters.size());
+            return Either.right(deadLetters.size());
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_REPLAY_DEAD_LETTERS, e.getMessage())});
+        }
+    }
+}
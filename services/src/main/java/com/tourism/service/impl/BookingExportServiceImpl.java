@@ -0,0 +1,205 @@
+package com.tourism.service.impl;
+
+import com.tourism.dto.response.BookingNightExportRow;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.repository.BookingDateRepository;
+import com.tourism.service.BookingExportService;
+import com.tourism.service.CapacityReservationService;
+import com.tourism.util.MessageConstants;
+import io.vavr.control.Either;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Builds the export with a streaming workbook: only the last rows of each sheet stay in memory, older rows are flushed
+ * to a compressed temporary file, and the night lines come from a database cursor instead of a list.
+ */
+@Slf4j
+@Service
+public class BookingExportServiceImpl implements BookingExportService {
+
+    private static final String[] BOOKING_HEADERS = {"Booking", "Lodging", "First name", "Last name", "Check in",
+            "Check out", "Nights", "State", "Paid", "Total price"};
+    private static final String[] NIGHT_HEADERS = {"Booking", "Lodging", "Date", "Night price"};
+    private static final String[] REVENUE_HEADERS = {"Lodging", "Bookings", "Nights", "Booked amount", "Paid amount"};
+    private static final int COLUMN_WIDTH = 20 * 256;
+
+    private final BookingDateRepository dateRepository;
+    private final int rowWindow;
+    private final int maxDays;
+
+    @Autowired
+    public BookingExportServiceImpl(BookingDateRepository dateRepository,
+                                    @Value("${booking.export.row-window:100}") int rowWindow,
+                                    @Value("${booking.export.max-days:366}") int maxDays) {
+        this.dateRepository = dateRepository;
+        this.rowWindow = rowWindow;
+        this.maxDays = maxDays;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Either<ErrorDto[], Long> exportXlsx(UUID ownerId, LocalDate checkInFrom, LocalDate checkInTo, OutputStream out) {
+        if (checkInTo.isBefore(checkInFrom) || ChronoUnit.DAYS.between(checkInFrom, checkInTo) > maxDays) {
+            return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.BAD_REQUEST, MessageConstants.ERROR_INVALID_EXPORT_RANGE, null)});
+        }
+        SXSSFWorkbook workbook = new SXSSFWorkbook(rowWindow);
+        workbook.setCompressTempFiles(true);
+        try (Stream<BookingNightExportRow> rows = dateRepository.streamNightsForExport(ownerId, checkInFrom, checkInTo)) {
+            ExportWriter writer = new ExportWriter(workbook);
+            rows.forEach(writer::add);
+            writer.finish();
+            workbook.write(out);
+            out.flush();
+            return Either.right(writer.nights);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_EXPORT_BOOKINGS, e.getMessage())});
+        } finally {
+            try {
+                workbook.close();
+            } catch (IOException e) {
+                log.error(e.getMessage());
+            }
+        }
+    }
+
+    private static final class ExportWriter {
+
+        private final Sheet bookingSheet;
+        private final Sheet nightSheet;
+        private final Sheet revenueSheet;
+        private final CellStyle dateStyle;
+        private final CellStyle moneyStyle;
+        private final Map<UUID, LodgingRevenue> revenue = new LinkedHashMap<>();
+        private BookingNightExportRow currentBooking;
+        private long currentNights;
+        private double currentAmount;
+        private long nights;
+
+        private ExportWriter(SXSSFWorkbook workbook) {
+            bookingSheet = sheet(workbook, "Bookings", BOOKING_HEADERS);
+            nightSheet = sheet(workbook, "Nights", NIGHT_HEADERS);
+            revenueSheet = sheet(workbook, "Revenue", REVENUE_HEADERS);
+            dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+            moneyStyle = workbook.createCellStyle();
+            moneyStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("#,##0.00"));
+        }
+
+        private void add(BookingNightExportRow line) {
+            LodgingRevenue lodging = revenue.computeIfAbsent(line.lodgingId(), id -> new LodgingRevenue(line.lodgingName()));
+            if (currentBooking == null || !line.bookingId().equals(currentBooking.bookingId())) {
+                writeBooking();
+                currentBooking = line;
+                lodging.bookings++;
+            }
+            Row row = nightSheet.createRow(nightSheet.getLastRowNum() + 1);
+            row.createCell(0).setCellValue(line.bookingId().toString());
+            row.createCell(1).setCellValue(line.lodgingName());
+            date(row, 2, line.date());
+            money(row, 3, line.nightPrice());
+            currentNights++;
+            currentAmount += line.nightPrice();
+            lodging.nights++;
+            // rejected, expired and unavailable bookings stay listed but were never booked revenue
+            if (CapacityReservationService.CAPACITY_HOLDING_STATES.contains(line.state())) {
+                lodging.booked += line.nightPrice();
+            }
+            if (Boolean.TRUE.equals(line.hasPaid())) {
+                lodging.paid += line.nightPrice();
+            }
+            nights++;
+        }
+
+        private void finish() {
+            writeBooking();
+            writeRevenue();
+        }
+
+        // nights and total come from the exported night rows, so a booking with deleted dates matches the other sheets
+        private void writeBooking() {
+            if (currentBooking == null) {
+                return;
+            }
+            Row row = bookingSheet.createRow(bookingSheet.getLastRowNum() + 1);
+            row.createCell(0).setCellValue(currentBooking.bookingId().toString());
+            row.createCell(1).setCellValue(currentBooking.lodgingName());
+            row.createCell(2).setCellValue(currentBooking.firstName());
+            row.createCell(3).setCellValue(currentBooking.lastName());
+            date(row, 4, currentBooking.checkIn());
+            date(row, 5, currentBooking.checkOut());
+            row.createCell(6).setCellValue(currentNights);
+            row.createCell(7).setCellValue(currentBooking.state().name());
+            row.createCell(8).setCellValue(Boolean.TRUE.equals(currentBooking.hasPaid()));
+            money(row, 9, currentAmount);
+            currentBooking = null;
+            currentNights = 0;
+            currentAmount = 0;
+        }
+
+        private void writeRevenue() {
+            for (LodgingRevenue lodging : revenue.values()) {
+                Row row = revenueSheet.createRow(revenueSheet.getLastRowNum() + 1);
+                row.createCell(0).setCellValue(lodging.name);
+                row.createCell(1).setCellValue(lodging.bookings);
+                row.createCell(2).setCellValue(lodging.nights);
+                money(row, 3, lodging.booked);
+                money(row, 4, lodging.paid);
+            }
+        }
+
+        private void date(Row row, int column, LocalDate value) {
+            Cell cell = row.createCell(column);
+            cell.setCellValue(value);
+            cell.setCellStyle(dateStyle);
+        }
+
+        private void money(Row row, int column, double value) {
+            Cell cell = row.createCell(column);
+            cell.setCellValue(value);
+            cell.setCellStyle(moneyStyle);
+        }
+
+        private static Sheet sheet(SXSSFWorkbook workbook, String name, String[] headers) {
+            Sheet sheet = workbook.createSheet(name);
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < headers.length; i++) {
+                header.createCell(i).setCellValue(headers[i]);
+                sheet.setColumnWidth(i, COLUMN_WIDTH);
+            }
+            return sheet;
+        }
+    }
+
+    private static final class LodgingRevenue {
+
+        private final String name;
+        private long bookings;
+        private long nights;
+        private double booked;
+        private double paid;
+
+        private LodgingRevenue(String name) {
+            this.name = name;
+        }
+    }
+}
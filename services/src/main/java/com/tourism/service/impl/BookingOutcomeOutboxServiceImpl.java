@@ -0,0 +1,91 @@
+package com.tourism.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tourism.dto.response.BookingOutcomeMessage;
+import com.tourism.model.BookingOutcomeOutbox;
+import com.tourism.repository.BookingOutcomeOutboxRepository;
+import com.tourism.service.BookingOutcomeOutboxService;
+import com.tourism.service.IdempotencyService;
+import com.tourism.util.helpers.KafkaSendMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Outbox of the exactly-once mode. The outcome is stored in the database transaction of the booking and sent
+ * afterwards inside the Kafka transaction of the listener, which also commits the consumer offset. If that Kafka
+ * transaction never commits, the redelivered booking is skipped as already processed and its stored outcome is
+ * sent again, so read_committed consumers see every outcome exactly once.
+ */
+@Slf4j
+@Service
+public class BookingOutcomeOutboxServiceImpl implements BookingOutcomeOutboxService {
+
+    @Value("${spring.kafka.topic.booking-outcome}")
+    private String outcomeTopic;
+
+    private final BookingOutcomeOutboxRepository repository;
+    private final IdempotencyService idempotencyService;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final KafkaSendMetrics sendMetrics;
+
+    @Autowired
+    public BookingOutcomeOutboxServiceImpl(BookingOutcomeOutboxRepository repository, IdempotencyService idempotencyService,
+                                           KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper,
+                                           KafkaSendMetrics sendMetrics) {
+        this.repository = repository;
+        this.idempotencyService = idempotencyService;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.sendMetrics = sendMetrics;
+    }
+
+
+    @Override
+    public void record(BookingOutcomeMessage outcome) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(outcome);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializing booking outcome", e);
+        }
+        String messageKey = outcome.touristId().toString();
+        if (outcome.idempotencyKey() == null) {
+            // without a key the booking cannot be recognized on redelivery either, so there is nothing to send again
+            this.send(messageKey, payload);
+            return;
+        }
+        repository.save(new BookingOutcomeOutbox(idempotencyService.requestKey(outcome.touristId(), outcome.idempotencyKey()),
+                messageKey, payload));
+    }
+
+    @Override
+    public void publish(UUID touristId, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return;
+        }
+        repository.findByRequestKey(idempotencyService.requestKey(touristId, idempotencyKey))
+                .ifPresent(outbox -> this.send(outbox.getMessageKey(), outbox.getPayload()));
+    }
+
+    @Override
+    public int purge(Instant before) {
+        int deleted = repository.deleteCreatedBefore(before);
+        if (deleted > 0) {
+            log.info("Purged {} booking outcomes from the outbox", deleted);
+        }
+        return deleted;
+    }
+
+    private void send(String messageKey, String payload) {
+        sendMetrics.track(outcomeTopic, kafkaTemplate.send(outcomeTopic, messageKey, payload));
+        log.info("Outcome sent to Kafka topic [{}] in the listener transaction: {}", outcomeTopic, payload);
+    }
+}
@@ -1,40 +1,72 @@
 package com.tourism.service.impl;
 
 import com.tourism.dto.mappers.BookingMapper;
+import com.tourism.dto.request.BookingBulkStateRequestDTO;
 import com.tourism.dto.request.BookingMessage;
 import com.tourism.dto.request.BookingRequestDTO;
+import com.tourism.dto.request.BookingInboxCursor;
 import com.tourism.dto.request.BookingUpdateRequestDTO;
+import com.tourism.dto.request.OwnerInboxRequest;
 import com.tourism.dto.request.PageableRequest;
+import com.tourism.dto.request.TouristTimelineRequest;
+import com.tourism.dto.response.BookingInboxItemDTO;
+import com.tourism.dto.response.BookingInboxPageDTO;
+import com.tourism.dto.response.BookingOutcomeMessage;
 import com.tourism.dto.response.BookingResponseDTO;
+import com.tourism.dto.response.BookingStateChangeResultDTO;
 import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.TouristBookingDTO;
 import com.tourism.model.*;
 import com.tourism.observer.BookingObserver;
 import com.tourism.repository.*;
+import com.tourism.service.BookingOutcomeService;
 import com.tourism.service.BookingSendingQueueService;
 import com.tourism.service.BookingService;
+import com.tourism.service.CapacityReservationService;
+import com.tourism.service.IdempotencyService;
+import com.tourism.service.LodgingRollupService;
+import com.tourism.service.NotificationService;
 import com.tourism.util.validations.DateValidation;
 import com.tourism.util.MessageConstants;
 import com.tourism.util.PageService;
 import com.tourism.util.validations.BookingValidation;
+import com.tourism.util.helpers.BookingMetrics;
+import com.tourism.util.helpers.LodgingLockManager;
 import com.tourism.util.helpers.PricingService;
 import io.vavr.control.Either;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class BookingServiceImpl implements BookingService {
 
+    private static final String CORRELATION_ID = "correlationId";
+    private static final LocalDate FIRST_CHECK_IN = LocalDate.of(1, 1, 1);
+    private static final LocalDate LAST_CHECK_IN = LocalDate.of(9999, 12, 31);
+    private static final Set<BookingState> OWNER_BULK_STATES = EnumSet.of(BookingState.PENDING, BookingState.REJECTED);
+    private static final Set<BookingState> MODIFIABLE_STATES = EnumSet.of(BookingState.CREATED, BookingState.PENDING);
+
     private final BookingRepository repository;
     private final TouristRepository touristRepository;
     private final LodgingRepository lodgingRepository;
@@ -44,6 +76,14 @@ public class BookingServiceImpl implements BookingService {
     private final PageService pageService;
     private final PricingService pricingService;
     private final BookingSendingQueueService queueSendingService;
+    private final CapacityReservationService capacityService;
+    private final LodgingLockManager lockManager;
+    private final IdempotencyService idempotencyService;
+    private final BookingOutcomeService outcomeService;
+    private final BookingMetrics bookingMetrics;
+    private final NotificationService notificationService;
+    private final LodgingRollupService rollupService;
+    private final TransactionTemplate transactionTemplate;
     private final BookingMapper mapper;
 
     private final List<BookingObserver> observers = new ArrayList<>();
@@ -54,7 +94,11 @@ public class BookingServiceImpl implements BookingService {
                               LodgingRepository lodgingRepository, BookingValidation bookingValidation,
                               DateValidation dateValidation, BookingDateRepository dateRepository, PageService pageService,
                               PricingService pricingService, BookingMapper mapper,
-                              @Qualifier("bookingQueueServiceKafkaImpl") BookingSendingQueueService queueSendingService) {
+                              BookingSendingQueueService queueSendingService,
+                              CapacityReservationService capacityService, LodgingLockManager lockManager,
+                              IdempotencyService idempotencyService, BookingOutcomeService outcomeService,
+                              BookingMetrics bookingMetrics, NotificationService notificationService,
+                              LodgingRollupService rollupService, PlatformTransactionManager transactionManager) {
         this.repository = repository;
         this.touristRepository = touristRepository;
         this.lodgingRepository = lodgingRepository;
@@ -64,13 +108,24 @@ public class BookingServiceImpl implements BookingService {
         this.pageService = pageService;
         this.pricingService = pricingService;
         this.queueSendingService = queueSendingService;
+        this.capacityService = capacityService;
+        this.lockManager = lockManager;
+        this.idempotencyService = idempotencyService;
+        this.outcomeService = outcomeService;
+        this.bookingMetrics = bookingMetrics;
+        this.notificationService = notificationService;
+        this.rollupService = rollupService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
         this.mapper = mapper;
     }
 
     @Override
     @Transactional
-    public Either<ErrorDto[], String> create(BookingRequestDTO bookingDto, UUID touristId) {
+    public Either<ErrorDto[], String> create(BookingRequestDTO bookingDto, UUID touristId, String idempotencyKey) {
         try {
+            if (this.isProcessed(touristId, idempotencyKey)) {
+                return Either.right(MessageConstants.BOOKING_IS_BEING_PROCESSED);
+            }
             Tourist tourist = touristRepository.findById(touristId).orElse(null);
             Lodging lodging = lodgingRepository.findById(bookingDto.lodgingId()).orElse(null);
             Either<ErrorDto[], Boolean> validation = bookingValidation.validateBooking(bookingDto, tourist, lodging);
@@ -79,11 +134,13 @@ public class BookingServiceImpl implements BookingService {
                 queueSendingService.sendMessage(
                         new BookingRequestDTO(bookingDto.checkIn(), bookingDto.checkOut(),
                         bookingDto.lodgingId(), bookingDto.adults(), bookingDto.children(), bookingDto.babies()),
-                        touristId);
+                        touristId, this.messageKey(idempotencyKey));
                 return Either.right(MessageConstants.BOOKING_IS_BEING_PROCESSED);
             } else {
                 return Either.left(validation.getLeft());
             }
+        } catch (RejectedExecutionException e) {
+            return Either.left(this.queueFull(e));
         } catch (IllegalArgumentException e) {
             log.error(e.getMessage());
             return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.CONFLICT, MessageConstants.ERROR_BOOKING_DATES, e.getMessage())});
@@ -95,35 +152,44 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public void processBooking(BookingMessage bookingMessage) {
-        Either<ErrorDto[], Booking> booking;
-        Tourist tourist = touristRepository.findById(bookingMessage.touristId()).orElse(null);
-        Lodging lodging = lodgingRepository.findById(bookingMessage.bookingRequest().lodgingId()).orElse(null);
-        if (bookingValidation.validLodgingCapacityVsBookings(bookingMessage.bookingRequest().adults(),
-                bookingMessage.bookingRequest().children(), bookingMessage.bookingRequest().babies(),
-                bookingMessage.bookingRequest().checkIn(), bookingMessage.bookingRequest().checkOut(),
-                lodging)) {
-
-            booking = this.createBooking(bookingMessage.bookingRequest(), Objects.requireNonNull(lodging), Objects.requireNonNull(tourist), BookingState.CREATED);
-            this.notifyObservers(lodging.getName(), booking.get().getId(), tourist, lodging.getLodgingOwner(), BookingState.CREATED);
-        } else {
-            booking = this.createBooking(bookingMessage.bookingRequest(), Objects.requireNonNull(lodging), Objects.requireNonNull(tourist), BookingState.UNAVAILABLE);
-            this.notifyObservers(lodging.getName(), booking.get().getId(), tourist, lodging.getLodgingOwner(), BookingState.UNAVAILABLE);
+        bookingMetrics.recordQueueWait(bookingMessage.createdAt());
+        if (bookingMessage.correlationId() != null) {
+            MDC.put(CORRELATION_ID, bookingMessage.correlationId());
+        }
+        try {
+            // the booking, its nights, the counters and the idempotency key commit or roll back together
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                this.processLodgingBooking(bookingMessage);
+            } else {
+                transactionTemplate.executeWithoutResult(status -> this.processLodgingBooking(bookingMessage));
+            }
+        } finally {
+            MDC.remove(CORRELATION_ID);
         }
     }
 
     @Override
     @Transactional
-    public Either<ErrorDto[], String> update(BookingUpdateRequestDTO bookingDto, UUID touristId) {
+    public Either<ErrorDto[], String> update(BookingUpdateRequestDTO bookingDto, UUID touristId, String idempotencyKey) {
         try {
+            if (this.isProcessed(touristId, idempotencyKey)) {
+                return Either.right(MessageConstants.BOOKING_IS_BEING_PROCESSED);
+            }
             Tourist tourist = touristRepository.findById(touristId).orElse(null);
             Booking booking = repository.findById(bookingDto.bookingId()).orElse(null);
             if (booking != null) {
+                if (!booking.getTourist().getId().equals(touristId)) {
+                    return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.FORBIDDEN, MessageConstants.ERROR_USER_TOURIST, null)});
+                }
+                if (!MODIFIABLE_STATES.contains(booking.getState())) {
+                    return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.CONFLICT, MessageConstants.ERROR_BOOKING_NOT_MODIFIABLE, null)});
+                }
                 Lodging lodging = lodgingRepository.findById(booking.getLodging().getId()).orElse(null);
                 BookingRequestDTO bookingRequest = mapper.updateToRequest(bookingDto, lodging, booking.getAdults(), booking.getChildren(), booking.getBabies());
                 Either<ErrorDto[], Boolean> validation = bookingValidation.validateBooking(bookingRequest, tourist, lodging);
                 if (validation.isRight()) {
-                    dateRepository.deleteByBooking(booking);
-                    queueSendingService.sendMessage(bookingRequest, touristId);
+                    // the old booking stays until the consumer has booked the new stay, see processLodgingBooking
+                    queueSendingService.sendMessage(bookingRequest, touristId, this.messageKey(idempotencyKey), booking.getId());
                     return Either.right(MessageConstants.BOOKING_IS_BEING_PROCESSED);
                 } else {
                     return Either.left(validation.getLeft());
@@ -131,6 +197,8 @@ public class BookingServiceImpl implements BookingService {
             } else {
                 return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.NOT_FOUND, MessageConstants.ERROR_BOOKING_NOT_FOUND, null)});
             }
+        } catch (RejectedExecutionException e) {
+            return Either.left(this.queueFull(e));
         } catch (IllegalArgumentException e) {
             log.error(e.getMessage());
             return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.CONFLICT, MessageConstants.ERROR_BOOKING_DATES, e.getMessage())});
@@ -155,8 +223,9 @@ public class BookingServiceImpl implements BookingService {
     @Override
     public Either<ErrorDto[], Booking> delete(UUID id) {
         try {
-            Booking booking = repository.findById(id).orElse(null);
-            repository.delete(Objects.requireNonNull(booking));
+            Booking booking = Objects.requireNonNull(repository.findById(id).orElse(null));
+            this.releaseCapacity(booking);
+            repository.delete(booking);
             return Either.right(null);
         } catch (InvalidDataAccessApiUsageException e) {
             log.error(e.getMessage());
@@ -182,17 +251,74 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
+    @Override
+    public Either<ErrorDto[], BookingInboxPageDTO> findOwnerInbox(UUID ownerId, OwnerInboxRequest request) {
+        try {
+            LocalDate from = request.getCheckInFrom() != null ? request.getCheckInFrom() : LocalDate.now();
+            LocalDate to = request.getCheckInTo() != null ? request.getCheckInTo() : LAST_CHECK_IN;
+            if (from.isAfter(to)) {
+                throw new IllegalArgumentException(MessageConstants.ERROR_CHECK_IN_AFTER_CHECKOUT);
+            }
+            if (from.isBefore(FIRST_CHECK_IN) || to.isAfter(LAST_CHECK_IN)) {
+                throw new IllegalArgumentException(MessageConstants.ERROR_INVALID_INBOX_FILTER);
+            }
+            BookingInboxCursor after = request.getCursor() != null ? BookingInboxCursor.decode(request.getCursor())
+                    : BookingInboxCursor.before(from);
+            int size = request.getSize();
+            // one extra row tells whether there is a next page without a count query
+            List<BookingInboxItemDTO> bookings = repository.findOwnerInbox(ownerId, request.getState(), from, to,
+                    after.checkIn(), after.id(), PageRequest.of(0, size + 1));
+            String nextCursor = null;
+            if (bookings.size() > size) {
+                bookings = bookings.subList(0, size);
+                BookingInboxItemDTO last = bookings.get(size - 1);
+                nextCursor = new BookingInboxCursor(last.checkIn(), last.id()).encode();
+            }
+            return Either.right(new BookingInboxPageDTO(bookings, nextCursor));
+        } catch (IllegalArgumentException e) {
+            log.error(e.getMessage());
+            return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.BAD_REQUEST, MessageConstants.ERROR_INVALID_INBOX_FILTER, e.getMessage())});
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_GET_OWNER_INBOX, e.getMessage())});
+        }
+    }
+
+    @Override
+    public Either<ErrorDto[], Slice<TouristBookingDTO>> findTouristTimeline(UUID touristId, TouristTimelineRequest request) {
+        try {
+            LocalDate today = LocalDate.now();
+            LocalDate from = request.getTimeline() == BookingTimeline.UPCOMING ? today : FIRST_CHECK_IN;
+            LocalDate until = request.getTimeline() == BookingTimeline.PAST ? today : LAST_CHECK_IN;
+            // upcoming trips read soonest first, the rest newest first, both along the (tourist_id, check_in) index
+            Sort.Direction direction = request.getTimeline() == BookingTimeline.UPCOMING ? Sort.Direction.ASC : Sort.Direction.DESC;
+            Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), Sort.by(direction, "checkIn", "id"));
+            return Either.right(repository.findTouristTimeline(touristId, request.getState(), from, until, pageable));
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_GET_TOURIST_TIMELINE, e.getMessage())});
+        }
+    }
+
     @Override
     @Transactional
     public Either<ErrorDto[], BookingResponseDTO> changeState(UUID bookingId, BookingState newState, UUID userId) {
         try {
-            Booking booking = repository.findById(bookingId).orElse(null);
+            repository.findLodgingIdById(bookingId).ifPresent(lockManager::lockUntilTransactionEnds);
+            Booking booking = repository.findWithPartiesById(bookingId).orElse(null);
             if (booking != null) {
                 if (bookingValidation.validChangeState(booking, newState, userId).isRight()) {
+                    // the expiry job of another node may have moved the booking since it was read
+                    if (repository.updateStateIfIn(bookingId, List.of(booking.getState()), newState, Instant.now()) == 0) {
+                        return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.BAD_REQUEST, MessageConstants.ERROR_INVALID_BOOKING_CHANGE_STATE, null)});
+                    }
                     notifyObservers(booking.getLodging().getName(), bookingId, booking.getTourist(), booking.getLodging().getLodgingOwner(), newState);
                     if (newState.equals(BookingState.ACCEPTED)) {
                         booking.setHasPaid(true);
                     }
+                    if (!CapacityReservationService.CAPACITY_HOLDING_STATES.contains(newState)) {
+                        this.releaseCapacity(booking);
+                    }
                     booking.setState(newState);
                     repository.save(booking);
                 } else {
@@ -211,16 +337,94 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     @Transactional
+    public Either<ErrorDto[], BookingStateChangeResultDTO[]> changeStates(BookingBulkStateRequestDTO request, UUID ownerId) {
+        try {
+            BookingState newState = request.state();
+            if (!OWNER_BULK_STATES.contains(newState)) {
+                return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.BAD_REQUEST, MessageConstants.ERROR_BULK_STATE_NOT_ALLOWED, null)});
+            }
+            Set<UUID> ids = new LinkedHashSet<>(request.bookingIds());
+            lockManager.lockAllUntilTransactionEnds(repository.findLodgingIdsByIdIn(ids));
+            Map<UUID, Booking> bookings = new HashMap<>();
+            for (Booking booking : repository.findWithPartiesByIdIn(ids)) {
+                bookings.put(booking.getId(), booking);
+            }
+
+            List<BookingStateChangeResultDTO> results = new ArrayList<>(ids.size());
+            List<Notification> notifications = new ArrayList<>();
+            Instant now = Instant.now();
+            for (UUID id : ids) {
+                Booking booking = bookings.get(id);
+                if (booking == null) {
+                    results.add(new BookingStateChangeResultDTO(id, HttpStatus.NOT_FOUND, null, MessageConstants.ERROR_BOOKING_NOT_FOUND));
+                } else if (!booking.getLodging().getLodgingOwner().getId().equals(ownerId)) {
+                    results.add(new BookingStateChangeResultDTO(id, HttpStatus.FORBIDDEN, booking.getState(), MessageConstants.ERROR_USER_LODGING_OWNER));
+                } else if (bookingValidation.validChangeState(booking, newState, ownerId).isLeft()) {
+                    results.add(new BookingStateChangeResultDTO(id, HttpStatus.BAD_REQUEST, booking.getState(), MessageConstants.ERROR_INVALID_BOOKING_CHANGE_STATE));
+                } else if (repository.updateStateIfIn(id, List.of(booking.getState()), newState, now) == 0) {
+                    // the stripe locks only cover this node, another one expired or moved the booking since it was read
+                    results.add(new BookingStateChangeResultDTO(id, HttpStatus.CONFLICT, booking.getState(), MessageConstants.ERROR_BOOKING_CHANGED_MEANWHILE));
+                } else {
+                    if (!CapacityReservationService.CAPACITY_HOLDING_STATES.contains(newState)) {
+                        this.releaseCapacity(booking);
+                    }
+                    for (BookingObserver observer : observers) {
+                        notifications.add(observer.statusChangeNotification(booking.getLodging().getName(), id,
+                                booking.getTourist(), booking.getLodging().getLodgingOwner(), newState));
+                    }
+                    results.add(new BookingStateChangeResultDTO(id, HttpStatus.OK, newState, null));
+                }
+            }
+            if (!notifications.isEmpty()) {
+                notificationService.createNotifications(notifications);
+            }
+            return Either.right(results.toArray(new BookingStateChangeResultDTO[0]));
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            }
+            return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_BULK_CHANGE_STATE, e.getMessage())});
+        }
+    }
+
+    @Override
     public void updateToExpiredBookings() {
         LocalDate tomorrow = LocalDate.now().plusDays(1);
         List<BookingState> states = Arrays.asList(BookingState.CREATED, BookingState.PENDING);
         List<Booking> bookingsToExpire = repository.findByCheckInLessThanAndStateIn(tomorrow, states);
+        if (bookingsToExpire.isEmpty()) {
+            return;
+        }
+        Map<UUID, List<Booking>> bookingsByLodging = bookingsToExpire.stream()
+                .collect(Collectors.groupingBy(booking -> booking.getLodging().getId(), LinkedHashMap::new, Collectors.toList()));
 
-        for (Booking booking : bookingsToExpire) {
-            booking.setState(BookingState.EXPIRED);
+        // one short transaction per lodging holds a single stripe, so booking processing elsewhere never waits on the job
+        int expired = 0;
+        for (Map.Entry<UUID, List<Booking>> lodgingBookings : bookingsByLodging.entrySet()) {
+            try {
+                Integer lodgingExpired = transactionTemplate.execute(status ->
+                        this.expireLodgingBookings(lodgingBookings.getKey(), lodgingBookings.getValue(), states));
+                expired += lodgingExpired == null ? 0 : lodgingExpired;
+            } catch (Exception e) {
+                log.error("Error expiring the bookings of lodging {}", lodgingBookings.getKey(), e);
+            }
         }
+        log.info("Expired {} of {} open bookings", expired, bookingsToExpire.size());
+    }
 
-        repository.saveAll(bookingsToExpire);
+    // every node runs the job, only the one whose update still finds the booking open releases its capacity
+    private int expireLodgingBookings(UUID lodgingId, List<Booking> bookings, List<BookingState> states) {
+        lockManager.lockUntilTransactionEnds(lodgingId);
+        int expired = 0;
+        for (Booking booking : bookings) {
+            if (repository.updateStateIfIn(booking.getId(), states, BookingState.EXPIRED, Instant.now()) == 1) {
+                this.releaseCapacity(booking);
+                booking.setState(BookingState.EXPIRED);
+                expired++;
+            }
+        }
+        return expired;
     }
 
     @Override
@@ -240,8 +444,92 @@ public class BookingServiceImpl implements BookingService {
         observers.remove(observer);
     }
 
+    private void processLodgingBooking(BookingMessage bookingMessage) {
+        long stageStart = System.nanoTime();
+        BookingRequestDTO bookingRequest = bookingMessage.bookingRequest();
+        lockManager.lockUntilTransactionEnds(bookingRequest.lodgingId());
+        Tourist tourist = Objects.requireNonNull(touristRepository.findById(bookingMessage.touristId()).orElse(null));
+        Lodging lodging = Objects.requireNonNull(lodgingRepository.findById(bookingRequest.lodgingId()).orElse(null));
+        int persons = bookingRequest.adults() + bookingRequest.children() + bookingRequest.babies();
+
+        String requestKey = bookingMessage.idempotencyKey() == null ? null
+                : idempotencyService.requestKey(bookingMessage.touristId(), bookingMessage.idempotencyKey());
+        if (requestKey != null && !idempotencyService.register(requestKey)) {
+            log.info("Skipping replayed booking request {}", requestKey);
+            return;
+        }
+
+        Booking replaced = null;
+        if (bookingMessage.replacesBookingId() != null) {
+            replaced = repository.findById(bookingMessage.replacesBookingId())
+                    .filter(old -> old.getTourist().getId().equals(tourist.getId()) && MODIFIABLE_STATES.contains(old.getState()))
+                    .orElse(null);
+            if (replaced == null) {
+                log.info("Booking {} can no longer be modified, dropping its update", bookingMessage.replacesBookingId());
+                return;
+            }
+            // the old stay hands its places back first, so a new stay overlapping it can use them
+            capacityService.release(replaced.getLodging(), replaced.getCheckIn(), replaced.getCheckOut(), persons(replaced));
+        }
+
+        boolean reserved = capacityService.reserve(lodging, bookingRequest.checkIn(), bookingRequest.checkOut(), persons);
+        if (replaced != null) {
+            this.settleReplaced(replaced, reserved);
+        }
+        BookingState state = reserved ? BookingState.CREATED : BookingState.UNAVAILABLE;
+        bookingMetrics.record(BookingMetrics.Stage.VALIDATION, stageStart);
+        Either<ErrorDto[], Booking> booking = this.createBooking(bookingRequest, lodging, tourist, state);
+        stageStart = System.nanoTime();
+        this.notifyObservers(lodging.getName(), booking.get().getId(), tourist, lodging.getLodgingOwner(), state);
+        outcomeService.publish(new BookingOutcomeMessage(tourist.getId(), booking.get().getId(), lodging.getId(),
+                bookingRequest.checkIn(), bookingRequest.checkOut(), state, bookingMessage.idempotencyKey()));
+        bookingMetrics.record(BookingMetrics.Stage.NOTIFICATION, stageStart);
+        bookingMetrics.recordEndToEnd(bookingMessage.createdAt(), state);
+    }
+
+    private boolean isProcessed(UUID touristId, String idempotencyKey) {
+        return idempotencyKey != null && idempotencyService.isProcessed(idempotencyService.requestKey(touristId, idempotencyKey));
+    }
+
+    // the booking never reached the queue, so changes already made in this request must not be committed
+    private ErrorDto[] queueFull(RejectedExecutionException e) {
+        log.error(e.getMessage());
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+        return new ErrorDto[]{new ErrorDto(HttpStatus.SERVICE_UNAVAILABLE, MessageConstants.ERROR_BOOKING_QUEUE_FULL, e.getMessage())};
+    }
+
+    // requests without a client key still get one, so a Kafka redelivery of the same message is recognized
+    private String messageKey(String idempotencyKey) {
+        return idempotencyKey != null ? idempotencyKey : UUID.randomUUID().toString();
+    }
+
+    // the daily rollup counts the same bookings the capacity counters do, so both are released together
+    // the replaced booking goes with the transaction that books the new stay, or keeps its places when that failed
+    private void settleReplaced(Booking replaced, boolean newStayReserved) {
+        if (newStayReserved) {
+            rollupService.removeBooking(replaced);
+            dateRepository.deleteByBooking(replaced);
+            repository.delete(replaced);
+        } else if (!capacityService.reserve(replaced.getLodging(), replaced.getCheckIn(), replaced.getCheckOut(), persons(replaced))) {
+            throw new IllegalStateException("Could not restore the capacity of booking " + replaced.getId());
+        }
+    }
+
+    private void releaseCapacity(Booking booking) {
+        if (booking.getState() != null && CapacityReservationService.CAPACITY_HOLDING_STATES.contains(booking.getState())) {
+            capacityService.release(booking.getLodging(), booking.getCheckIn(), booking.getCheckOut(), persons(booking));
+            rollupService.removeBooking(booking);
+        }
+    }
+
+    private static int persons(Booking booking) {
+        return booking.getAdults() + booking.getChildren() + booking.getBabies();
+    }
 
     private Either<ErrorDto[], Booking> createBooking(BookingRequestDTO bookingDto, Lodging lodging, Tourist tourist, BookingState state) {
+        long stageStart = System.nanoTime();
         List<LocalDate> bookingDays = dateValidation.datesBetweenDates(bookingDto.checkIn(), bookingDto.checkOut());
         Double bookingPrice = pricingService.calculateBookingPrice(tourist.getType(), lodging, bookingDays, bookingDto.adults(), bookingDto.children(), bookingDto.babies());
         Booking booking = new Booking(
@@ -256,15 +544,18 @@ public class BookingServiceImpl implements BookingService {
                 bookingDto.babies(),
                 false
         );
+        stageStart = bookingMetrics.record(BookingMetrics.Stage.PRICING, stageStart);
         repository.save(booking);
 
         if (state.equals(BookingState.CREATED)) {
             this.createBookingDates(bookingDto, lodging, bookingDays, booking);
         }
+        bookingMetrics.record(BookingMetrics.Stage.PERSISTENCE, stageStart);
         return Either.right(booking);
     }
 
     private void createBookingDates(BookingRequestDTO bookingDto, Lodging lodging, List<LocalDate> bookingDays, Booking booking) {
+        List<BookingDate> nights = new ArrayList<>(bookingDays.size());
         for (LocalDate date : bookingDays) {
             BookingDate bookingDate = new BookingDate(
                     booking,
@@ -273,7 +564,9 @@ public class BookingServiceImpl implements BookingService {
                             bookingDto.adults(), bookingDto.children(), bookingDto.babies())
             );
             dateRepository.save(bookingDate);
+            nights.add(bookingDate);
         }
+        rollupService.addBooking(booking, nights);
     }
 
 }
@@ -0,0 +1,55 @@
+package com.tourism.service.impl;
+
+import com.tourism.model.Lodging;
+import com.tourism.repository.LodgingOccupancyRepository;
+import com.tourism.service.CapacityReservationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class CapacityReservationServiceImpl implements CapacityReservationService {
+
+    private final LodgingOccupancyRepository repository;
+
+    @Autowired
+    public CapacityReservationServiceImpl(LodgingOccupancyRepository repository) {
+        this.repository = repository;
+    }
+
+
+    @Override
+    public boolean reserve(Lodging lodging, LocalDate checkIn, LocalDate checkOut, int persons) {
+        // nights are always taken in ascending order, so concurrent reservations lock the counter rows in the same order
+        List<LocalDate> reserved = new ArrayList<>();
+        for (LocalDate night : nights(checkIn, checkOut)) {
+            repository.insertIfAbsent(UUID.randomUUID(), lodging.getId(), night);
+            if (repository.reserve(lodging.getId(), night, persons, lodging.getCapacity()) == 0) {
+                reserved.forEach(date -> repository.release(lodging.getId(), date, persons));
+                log.info("Lodging {} has no capacity for {} persons on {}", lodging.getId(), persons, night);
+                return false;
+            }
+            reserved.add(night);
+        }
+        return true;
+    }
+
+    @Override
+    public void release(Lodging lodging, LocalDate checkIn, LocalDate checkOut, int persons) {
+        for (LocalDate night : nights(checkIn, checkOut)) {
+            if (repository.release(lodging.getId(), night, persons) == 0) {
+                log.warn("Lodging {} has no reservation of {} persons to release on {}", lodging.getId(), persons, night);
+            }
+        }
+    }
+
+    private static List<LocalDate> nights(LocalDate checkIn, LocalDate checkOut) {
+        return checkIn.datesUntil(checkOut).toList();
+    }
+}
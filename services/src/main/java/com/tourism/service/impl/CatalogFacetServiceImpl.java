@@ -0,0 +1,221 @@
+package com.tourism.service.impl;
+
+import com.tourism.dto.mappers.LodgingMapper;
+import com.tourism.dto.mappers.TouristicPlaceMapper;
+import com.tourism.dto.request.FacetRequest;
+import com.tourism.dto.response.*;
+import com.tourism.model.Lodging;
+import com.tourism.model.Region;
+import com.tourism.model.TouristicPlace;
+import com.tourism.observer.CatalogObserver;
+import com.tourism.repository.CategoryRepository;
+import com.tourism.repository.LodgingRepository;
+import com.tourism.repository.TouristicPlaceRepository;
+import com.tourism.service.CatalogFacetService;
+import com.tourism.util.MessageConstants;
+import com.tourism.util.helpers.FacetIndex;
+import io.vavr.control.Either;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Facet counts and filtered pages from an in-memory snapshot of the enabled catalogue, one bitset per facet value.
+ * Catalogue writes only mark the snapshot stale, the next browse rebuilds it with three queries. The snapshot also
+ * expires after a maximum age, which bounds how long writes made by other nodes or to categories go unseen.
+ */
+@Slf4j
+@Service
+public class CatalogFacetServiceImpl implements CatalogFacetService, CatalogObserver {
+
+    private static final List<String> STAR_VALUES = IntStream.rangeClosed(1, 5).mapToObj(String::valueOf).toList();
+
+    private final TouristicPlaceRepository placeRepository;
+    private final LodgingRepository lodgingRepository;
+    private final CategoryRepository categoryRepository;
+    private final TouristicPlaceMapper placeMapper;
+    private final LodgingMapper lodgingMapper;
+    private final double[] priceBounds;
+    private final List<String> priceBands;
+    private final Duration maxAge;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+    private volatile boolean stale = true;
+
+    private record Snapshot(FacetIndex places, FacetIndex lodgings, Instant builtAt) {
+    }
+
+    @Autowired
+    public CatalogFacetServiceImpl(TouristicPlaceRepository placeRepository, LodgingRepository lodgingRepository,
+                                   CategoryRepository categoryRepository, TouristicPlaceMapper placeMapper,
+                                   LodgingMapper lodgingMapper,
+                                   @Value("${catalog.facets.price-bands:50,100,200}") double[] priceBounds,
+                                   @Value("${catalog.facets.max-age-seconds:300}") long maxAgeSeconds) {
+        this.placeRepository = placeRepository;
+        this.lodgingRepository = lodgingRepository;
+        this.categoryRepository = categoryRepository;
+        this.placeMapper = placeMapper;
+        this.lodgingMapper = lodgingMapper;
+        this.priceBounds = Arrays.stream(priceBounds).sorted().toArray();
+        this.priceBands = bandLabels(this.priceBounds);
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+    }
+
+
+    @Override
+    public Either<ErrorDto[], FacetedPageDTO<TouristicPlaceResponseDTO>> browsePlaces(FacetRequest request) {
+        try {
+            FacetIndex index = this.current().places();
+            Map<String, Set<String>> selection = selection(request);
+            BitSet matching = index.match(selection);
+            List<UUID> ids = index.page(matching, request.getPage() * request.getSize(), request.getSize());
+            List<TouristicPlaceResponseDTO> items = inOrder(ids, placeRepository.findAllById(ids), TouristicPlace::getId)
+                    .stream().map(placeMapper::modelToResponseDto).toList();
+            return Either.right(new FacetedPageDTO<>(items, matching.cardinality(), request.getPage(), request.getSize(),
+                    index.counts(selection)));
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_BROWSE_CATALOGUE, e.getMessage())});
+        }
+    }
+
+    @Override
+    public Either<ErrorDto[], FacetedPageDTO<LodgingResponseDTO>> browseLodgings(FacetRequest request) {
+        try {
+            FacetIndex index = this.current().lodgings();
+            Map<String, Set<String>> selection = selection(request);
+            BitSet matching = index.match(selection);
+            List<UUID> ids = index.page(matching, request.getPage() * request.getSize(), request.getSize());
+            List<LodgingResponseDTO> items = inOrder(ids, lodgingRepository.findAllById(ids), Lodging::getId)
+                    .stream().map(lodgingMapper::modelToResponseDto).toList();
+            return Either.right(new FacetedPageDTO<>(items, matching.cardinality(), request.getPage(), request.getSize(),
+                    index.counts(selection)));
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_BROWSE_CATALOGUE, e.getMessage())});
+        }
+    }
+
+    @Override
+    public void placeSaved(TouristicPlace place) {
+        stale = true;
+    }
+
+    @Override
+    public void placeDeleted(UUID placeId) {
+        stale = true;
+    }
+
+    @Override
+    public void lodgingSaved(Lodging lodging) {
+        stale = true;
+    }
+
+    @Override
+    public void lodgingDeleted(UUID lodgingId) {
+        stale = true;
+    }
+
+    public String priceBand(double nightPrice) {
+        for (int i = 0; i < priceBounds.length; i++) {
+            if (nightPrice < priceBounds[i]) {
+                return priceBands.get(i);
+            }
+        }
+        return priceBands.get(priceBands.size() - 1);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && !stale && current.builtAt().plus(maxAge).isAfter(Instant.now())) {
+            return current;
+        }
+        rebuildLock.lock();
+        try {
+            current = snapshot;
+            if (current != null && !stale && current.builtAt().plus(maxAge).isAfter(Instant.now())) {
+                return current;
+            }
+            // cleared before reading, so a write committed during the rebuild marks the new snapshot stale again
+            stale = false;
+            current = this.build();
+            snapshot = current;
+            return current;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Snapshot build() {
+        Instant builtAt = Instant.now();
+        Map<UUID, List<String>> categoriesByPlace = categoryRepository.findPlaceCategories().stream()
+                .collect(Collectors.groupingBy(PlaceCategoryRow::touristicPlaceId,
+                        Collectors.mapping(PlaceCategoryRow::categoryName, Collectors.toList())));
+        List<String> categoryNames = categoriesByPlace.values().stream().flatMap(List::stream).distinct().sorted().toList();
+        List<String> regionNames = Arrays.stream(Region.values()).map(Region::name).toList();
+
+        FacetIndex.Builder places = FacetIndex.builder(REGION, CATEGORY)
+                .values(REGION, regionNames)
+                .values(CATEGORY, categoryNames);
+        for (PlaceFacetRow row : placeRepository.findFacetRows()) {
+            int position = places.add(row.id());
+            places.value(position, REGION, row.region().name());
+            categoriesByPlace.getOrDefault(row.id(), List.of()).forEach(name -> places.value(position, CATEGORY, name));
+        }
+
+        FacetIndex.Builder lodgings = FacetIndex.builder(REGION, CATEGORY, STARS, PRICE_BAND)
+                .values(REGION, regionNames)
+                .values(CATEGORY, categoryNames)
+                .values(STARS, STAR_VALUES)
+                .values(PRICE_BAND, priceBands);
+        for (LodgingFacetRow row : lodgingRepository.findFacetRows()) {
+            int position = lodgings.add(row.id());
+            lodgings.value(position, REGION, row.region().name());
+            lodgings.value(position, STARS, String.valueOf(row.stars()));
+            lodgings.value(position, PRICE_BAND, this.priceBand(row.nightPrice()));
+            categoriesByPlace.getOrDefault(row.touristicPlaceId(), List.of())
+                    .forEach(name -> lodgings.value(position, CATEGORY, name));
+        }
+        Snapshot built = new Snapshot(places.build(), lodgings.build(), builtAt);
+        log.info("Catalogue facets rebuilt with {} touristic places and {} lodgings", built.places().size(),
+                built.lodgings().size());
+        return built;
+    }
+
+    private static Map<String, Set<String>> selection(FacetRequest request) {
+        Map<String, Set<String>> selection = new HashMap<>();
+        selection.put(REGION, request.getRegions().stream().map(Region::name).collect(Collectors.toSet()));
+        selection.put(CATEGORY, new HashSet<>(request.getCategories()));
+        selection.put(STARS, request.getStars().stream().map(String::valueOf).collect(Collectors.toSet()));
+        selection.put(PRICE_BAND, new HashSet<>(request.getPriceBands()));
+        return selection;
+    }
+
+    private static <T> List<T> inOrder(List<UUID> ids, List<T> entities, Function<T, UUID> id) {
+        Map<UUID, T> byId = entities.stream().collect(Collectors.toMap(id, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    private static List<String> bandLabels(double[] bounds) {
+        List<String> labels = new ArrayList<>();
+        String lower = "0";
+        for (double bound : bounds) {
+            String upper = BigDecimal.valueOf(bound).stripTrailingZeros().toPlainString();
+            labels.add(lower + "-" + upper);
+            lower = upper;
+        }
+        labels.add(lower + "+");
+        return labels;
+    }
+}
@@ -0,0 +1,112 @@
+package com.tourism.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tourism.dto.response.BookingExportRow;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.LodgingExportRow;
+import com.tourism.dto.response.TouristExportRow;
+import com.tourism.model.ExportFormat;
+import com.tourism.repository.BookingRepository;
+import com.tourism.repository.LodgingRepository;
+import com.tourism.repository.TouristRepository;
+import com.tourism.service.DataExportService;
+import com.tourism.util.MessageConstants;
+import io.vavr.control.Either;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes whole tables row by row from a database cursor through a single Jackson generator, so memory stays the same
+ * whatever the number of rows. Rows are constructor projections and never enter the persistence context.
+ */
+@Slf4j
+@Service
+public class DataExportServiceImpl implements DataExportService {
+
+    private final BookingRepository bookingRepository;
+    private final TouristRepository touristRepository;
+    private final LodgingRepository lodgingRepository;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+
+    @Autowired
+    public DataExportServiceImpl(BookingRepository bookingRepository, TouristRepository touristRepository,
+                                 LodgingRepository lodgingRepository, ObjectMapper objectMapper) {
+        this.bookingRepository = bookingRepository;
+        this.touristRepository = touristRepository;
+        this.lodgingRepository = lodgingRepository;
+        this.objectMapper = objectMapper;
+        this.csvMapper = CsvMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Either<ErrorDto[], Long> exportBookings(ExportFormat format, OutputStream out) {
+        return export(bookingRepository::streamAllForExport, BookingExportRow.class, format, out);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Either<ErrorDto[], Long> exportTourists(ExportFormat format, OutputStream out) {
+        return export(touristRepository::streamAllForExport, TouristExportRow.class, format, out);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Either<ErrorDto[], Long> exportLodgings(ExportFormat format, OutputStream out) {
+        return export(lodgingRepository::streamAllForExport, LodgingExportRow.class, format, out);
+    }
+
+    private <T> Either<ErrorDto[], Long> export(Supplier<Stream<T>> source, Class<T> type, ExportFormat format, OutputStream out) {
+        ObjectWriter writer = (format == ExportFormat.CSV ? csvMapper : objectMapper).writerFor(type)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (Stream<T> rows = source.get(); JsonGenerator generator = generator(type, format, out)) {
+            long written = 0;
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                if (format == ExportFormat.NDJSON) {
+                    generator.writeRaw('\n');
+                }
+                written++;
+            }
+            return Either.right(written);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_EXPORT_DATA, e.getMessage())});
+        }
+    }
+
+    private JsonGenerator generator(Class<?> type, ExportFormat format, OutputStream out) throws IOException {
+        JsonGenerator generator;
+        if (format == ExportFormat.CSV) {
+            generator = csvMapper.getFactory().createGenerator(out);
+            generator.setSchema(csvMapper.schemaFor(type).withHeader());
+        } else {
+            generator = objectMapper.getFactory().createGenerator(out);
+            generator.setRootValueSeparator(null);
+        }
+        // the caller owns the response stream, closing the generator only flushes into it
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return generator;
+    }
+}
@@ -0,0 +1,110 @@
+package com.tourism.service.impl;
+
+import com.tourism.repository.ProcessedBookingRequestRepository;
+import com.tourism.service.IdempotencyService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Remembers booking requests already handed to the consumer. The most recent keys live in a bounded
+ * in-memory set so replays are answered without a database round trip; the unique-indexed table is the
+ * source of truth across restarts and nodes.
+ */
+@Slf4j
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private final ProcessedBookingRequestRepository repository;
+    private final Set<String> recentKeys;
+    private final ReentrantLock recentKeysLock = new ReentrantLock();
+
+    @Autowired
+    public IdempotencyServiceImpl(ProcessedBookingRequestRepository repository,
+                                  @Value("${booking.idempotency.recent-keys:10000}") int recentKeysSize) {
+        this.repository = repository;
+        this.recentKeys = Collections.newSetFromMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > recentKeysSize;
+            }
+        });
+    }
+
+
+    @Override
+    public String requestKey(UUID touristId, String idempotencyKey) {
+        return touristId + ":" + idempotencyKey;
+    }
+
+    @Override
+    public boolean isProcessed(String requestKey) {
+        return isRecent(requestKey) || repository.existsByRequestKey(requestKey);
+    }
+
+    @Override
+    public boolean register(String requestKey) {
+        if (isRecent(requestKey)) {
+            return false;
+        }
+        boolean inserted = repository.insertIfAbsent(UUID.randomUUID(), requestKey) > 0;
+        this.rememberWhenCommitted(requestKey);
+        if (!inserted) {
+            log.info("Booking request {} was already processed", requestKey);
+        }
+        return inserted;
+    }
+
+    // keys still in the recent set keep answering replays from memory, which only errs on the safe side
+    @Override
+    public int purge(Instant before) {
+        int deleted = repository.deleteCreatedBefore(before);
+        if (deleted > 0) {
+            log.info("Purged {} processed booking requests", deleted);
+        }
+        return deleted;
+    }
+
+    // a key registered in a transaction that rolls back must stay unknown, or its redelivery would be skipped
+    private void rememberWhenCommitted(String requestKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            withRecentKeys(() -> recentKeys.add(requestKey));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                withRecentKeys(() -> recentKeys.add(requestKey));
+            }
+        });
+    }
+
+    /**
+     * The access-ordered set mutates on reads too. A ReentrantLock rather than a synchronized wrapper keeps
+     * contending virtual threads from pinning their carrier.
+     */
+    private boolean isRecent(String requestKey) {
+        return withRecentKeys(() -> recentKeys.contains(requestKey));
+    }
+
+    private boolean withRecentKeys(BooleanSupplier action) {
+        recentKeysLock.lock();
+        try {
+            return action.getAsBoolean();
+        } finally {
+            recentKeysLock.unlock();
+        }
+    }
+}
@@ -9,12 +9,14 @@ import com.tourism.infrastructure.PasswordEncryptionService;
 import com.tourism.model.Role;
 import com.tourism.model.LodgingOwner;
 import com.tourism.model.User;
+import com.tourism.observer.UserObserver;
 import com.tourism.repository.LodgingOwnerRepository;
 import com.tourism.repository.RefreshTokenRepository;
 import com.tourism.repository.UserRepository;
 import com.tourism.service.LodgingOwnerService;
 import com.tourism.util.MessageConstants;
 import com.tourism.util.PageService;
+import com.tourism.util.helpers.TransactionHooks;
 import com.tourism.util.validations.UserValidation;
 import io.vavr.control.Either;
 import jakarta.transaction.Transactional;
@@ -27,9 +29,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -42,6 +47,7 @@ public class LodgingOwnerServiceImpl implements LodgingOwnerService {
     private final UserValidation userValidation;
     private final PageService pageService;
     private final LodgingOwnerMapper mapper;
+    private final List<UserObserver> observers = new ArrayList<>();
 
     @Autowired
     public LodgingOwnerServiceImpl(LodgingOwnerRepository repository, UserRepository userRepository, RefreshTokenRepository tokenRepository,
@@ -68,6 +74,7 @@ public class LodgingOwnerServiceImpl implements LodgingOwnerService {
                         userDto.getLastName(),
                         Role.LODGING_OWNER,
                         true));
+                this.notifySaved(lodgingOwner);
                 return Either.right(lodgingOwner.getId() != null ? mapper.modelToResponseDto(lodgingOwner) : null);
             } else {
                 return Either.left(validation.getLeft());
@@ -101,6 +108,7 @@ public class LodgingOwnerServiceImpl implements LodgingOwnerService {
             LodgingOwner lodgingOwner = repository.findById(id).orElse(null);
             tokenRepository.deleteByUser(Objects.requireNonNull(user));
             repository.delete(Objects.requireNonNull(lodgingOwner));
+            this.notifyDeleted(lodgingOwner.getId());
             return Either.right(null);
         } catch (NoSuchElementException e) {
             log.error(e.getMessage());
@@ -156,4 +164,32 @@ public class LodgingOwnerServiceImpl implements LodgingOwnerService {
             return Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_GET_LODGING_OWNER, e.getMessage())});
         }
     }
+
+    @Override
+    public void addObserver(UserObserver observer) {
+        observers.add(observer);
+    }
+
+    @Override
+    public void removeObserver(UserObserver observer) {
+        observers.remove(observer);
+    }
+
+    private void notifySaved(User user) {
+        TransactionHooks.afterCommit(() -> this.notifyObservers(observer -> observer.userSaved(user)));
+    }
+
+    private void notifyDeleted(UUID id) {
+        TransactionHooks.afterCommit(() -> this.notifyObservers(observer -> observer.userDeleted(id)));
+    }
+
+    private void notifyObservers(Consumer<UserObserver> notification) {
+        for (UserObserver observer : observers) {
+            try {
+                notification.accept(observer);
+            } catch (RuntimeException e) {
+                log.error(e.getMessage());
+            }
+        }
+    }
 }
@@ -0,0 +1,160 @@
+package com.tourism.service.impl;
+
+import com.tourism.dto.request.LodgingStatsRequest;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.LodgingDailyStatsDTO;
+import com.tourism.dto.response.LodgingStatsSummaryDTO;
+import com.tourism.model.Booking;
+import com.tourism.model.BookingDate;
+import com.tourism.model.Lodging;
+import com.tourism.model.LodgingDailyRollup;
+import com.tourism.repository.BookingDateRepository;
+import com.tourism.repository.LodgingDailyRollupRepository;
+import com.tourism.repository.LodgingRepository;
+import com.tourism.service.CapacityReservationService;
+import com.tourism.service.LodgingRollupService;
+import com.tourism.util.MessageConstants;
+import com.tourism.util.helpers.LodgingLockManager;
+import io.vavr.control.Either;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps one row per lodging and day with the persons, revenue and bookings of the bookings holding capacity on that
+ * night. Bookings move the counters with single statement increments as they enter or leave the capacity holding
+ * states, so dashboards read a few hundred rows instead of aggregating the booking night lines.
+ */
+@Slf4j
+@Service
+public class LodgingRollupServiceImpl implements LodgingRollupService {
+
+    private final LodgingDailyRollupRepository repository;
+    private final BookingDateRepository dateRepository;
+    private final LodgingRepository lodgingRepository;
+    private final LodgingLockManager lockManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxDays;
+
+    @Autowired
+    public LodgingRollupServiceImpl(LodgingDailyRollupRepository repository, BookingDateRepository dateRepository,
+                                    LodgingRepository lodgingRepository, LodgingLockManager lockManager,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${booking.rollup.max-days:366}") int maxDays) {
+        this.repository = repository;
+        this.dateRepository = dateRepository;
+        this.lodgingRepository = lodgingRepository;
+        this.lockManager = lockManager;
+        this.transactionTemplate = transactionTemplate;
+        this.maxDays = maxDays;
+    }
+
+    @Override
+    public void addBooking(Booking booking, List<BookingDate> nights) {
+        UUID lodgingId = booking.getLodging().getId();
+        int persons = persons(booking);
+        for (BookingDate night : nights) {
+            repository.insertIfAbsent(UUID.randomUUID(), lodgingId, night.getDate());
+            repository.increment(lodgingId, night.getDate(), persons, night.getNightPrice(), 1);
+        }
+    }
+
+    @Override
+    public void removeBooking(Booking booking) {
+        UUID lodgingId = booking.getLodging().getId();
+        int persons = persons(booking);
+        for (BookingDate night : dateRepository.findByBookingId(booking.getId())) {
+            if (repository.increment(lodgingId, night.getDate(), -persons, -night.getNightPrice(), -1) == 0) {
+                log.warn("Lodging {} has no rollup on {} to remove booking {} from", lodgingId, night.getDate(), booking.getId());
+            }
+        }
+    }
+
+    @Override
+    public Either<ErrorDto[], Integer> rebuild(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.BAD_REQUEST, MessageConstants.ERROR_INVALID_STATS_RANGE, null)});
+        }
+        try {
+            int lodgings = 0;
+            int failed = 0;
+            for (UUID lodgingId : lodgingRepository.findAllIds()) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> this.rebuildLodging(lodgingId, from, to));
+                    lodgings++;
+                } catch (Exception e) {
+                    log.warn("Could not rebuild the daily rollups of lodging {}: {}", lodgingId, e.getMessage());
+                    failed++;
+                }
+            }
+            log.info("Rebuilt the daily rollups of {} lodgings from {} to {}, {} failed", lodgings, from, to, failed);
+            return Either.right(lodgings);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_REBUILD_ROLLUPS, e.getMessage())});
+        }
+    }
+
+    @Override
+    public Either<ErrorDto[], LodgingDailyStatsDTO[]> findDaily(UUID ownerId, LodgingStatsRequest request) {
+        if (!this.validRange(request)) {
+            return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.BAD_REQUEST, MessageConstants.ERROR_INVALID_STATS_RANGE, null)});
+        }
+        try {
+            return Either.right(repository.findDaily(ownerId, request.getLodgingId(), request.getFrom(), request.getTo())
+                    .toArray(new LodgingDailyStatsDTO[0]));
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_GET_LODGING_STATS, e.getMessage())});
+        }
+    }
+
+    @Override
+    public Either<ErrorDto[], LodgingStatsSummaryDTO[]> findSummary(UUID ownerId, LodgingStatsRequest request) {
+        if (!this.validRange(request)) {
+            return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.BAD_REQUEST, MessageConstants.ERROR_INVALID_STATS_RANGE, null)});
+        }
+        try {
+            long days = ChronoUnit.DAYS.between(request.getFrom(), request.getTo()) + 1;
+            return Either.right(repository.summarize(ownerId, request.getFrom(), request.getTo()).stream()
+                    .map(summary -> summary.withOccupancy(days))
+                    .toArray(LodgingStatsSummaryDTO[]::new));
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_GET_LODGING_STATS, e.getMessage())});
+        }
+    }
+
+    // the lodging lock keeps bookings of the lodging from moving the counters between the delete and the insert, the
+    // row lock keeps a rebuild running on another node from inserting the same days
+    private void rebuildLodging(UUID lodgingId, LocalDate from, LocalDate to) {
+        lockManager.lockUntilTransactionEnds(lodgingId);
+        lodgingRepository.lockById(lodgingId);
+        repository.deleteByLodgingIdAndDateBetween(lodgingId, from, to);
+        Lodging lodging = lodgingRepository.getReferenceById(lodgingId);
+        List<LodgingDailyRollup> days = new ArrayList<>();
+        for (LodgingDailyStatsDTO day : dateRepository.aggregateNights(lodgingId, from, to,
+                CapacityReservationService.CAPACITY_HOLDING_STATES)) {
+            days.add(new LodgingDailyRollup(lodging, day.date(), day.bookedPersons(), day.revenue(), day.bookingsCount()));
+        }
+        repository.saveAll(days);
+    }
+
+    private boolean validRange(LodgingStatsRequest request) {
+        return !request.getTo().isBefore(request.getFrom())
+                && ChronoUnit.DAYS.between(request.getFrom(), request.getTo()) < maxDays;
+    }
+
+    private static int persons(Booking booking) {
+        return booking.getAdults() + booking.getChildren() + booking.getBabies();
+    }
+}
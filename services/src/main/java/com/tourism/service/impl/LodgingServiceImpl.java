@@ -6,10 +6,12 @@ import com.tourism.dto.request.PageableRequest;
 import com.tourism.dto.response.ErrorDto;
 import com.tourism.dto.response.LodgingResponseDTO;
 import com.tourism.model.*;
+import com.tourism.observer.CatalogObserver;
 import com.tourism.repository.*;
 import com.tourism.service.LodgingService;
 import com.tourism.util.MessageConstants;
 import com.tourism.util.PageService;
+import com.tourism.util.helpers.TransactionHooks;
 import com.tourism.util.validations.BookingValidation;
 import io.vavr.control.Either;
 import jakarta.persistence.EntityNotFoundException;
@@ -24,6 +26,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -36,6 +39,7 @@ public class LodgingServiceImpl implements LodgingService {
     private final BookingDateRepository bookingDateRepository;
     private final PageService pageService;
     private final LodgingMapper mapper;
+    private final List<CatalogObserver> observers = new ArrayList<>();
 
     @Autowired
     public LodgingServiceImpl(LodgingRepository repository,
@@ -62,8 +66,9 @@ public class LodgingServiceImpl implements LodgingService {
                     () -> new EntityNotFoundException("Touristic Place not found with id: " + requestDto.touristicPlaceId()));
             LodgingOwner owner = ownerRepository.findById(ownerId).orElseThrow(
                     () -> new EntityNotFoundException("Lodging Owner not found with id: " + ownerId));
-            Lodging lodging = mapper.requestDtoToModel(requestDto, place, owner, true);
-            return Either.right(mapper.modelToResponseDto(repository.save(lodging)));
+            Lodging lodging = repository.save(mapper.requestDtoToModel(requestDto, place, owner, true));
+            this.notifySaved(lodging);
+            return Either.right(mapper.modelToResponseDto(lodging));
         } catch (DataIntegrityViolationException | EntityNotFoundException e) {
             log.error(e.getMessage());
             return Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.NOT_ACCEPTABLE, MessageConstants.ERROR_LODGING_NOT_CREATED, e.getMessage())});
@@ -87,7 +92,9 @@ public class LodgingServiceImpl implements LodgingService {
 
                 TouristicPlace place = placeRepository.findById(lodging.getTouristicPlace().getId()).orElse(null);
                 lodging.updateLodgingFromDTO(lodgingDTO, place);
-                return Either.right(mapper.modelToResponseDto(repository.save(lodging)));
+                Lodging saved = repository.save(lodging);
+                this.notifySaved(saved);
+                return Either.right(mapper.modelToResponseDto(saved));
             } else {
                 return Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.NOT_ACCEPTABLE, MessageConstants.ERROR_LODGING_LODGING_OWNER)});
             }
@@ -117,6 +124,7 @@ public class LodgingServiceImpl implements LodgingService {
         try {
             Lodging lodging = repository.findById(id).orElse(null);
             repository.delete(Objects.requireNonNull(lodging));
+            this.notifyDeleted(lodging.getId());
             return Either.right(null);
         } catch (NoSuchElementException e) {
             log.error(e.getMessage());
@@ -156,4 +164,32 @@ public class LodgingServiceImpl implements LodgingService {
             return Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.BAD_REQUEST, MessageConstants.ERROR_GET_LODGINGS, e.getMessage())});
         }
     }
+
+    @Override
+    public void addObserver(CatalogObserver observer) {
+        observers.add(observer);
+    }
+
+    @Override
+    public void removeObserver(CatalogObserver observer) {
+        observers.remove(observer);
+    }
+
+    private void notifySaved(Lodging lodging) {
+        TransactionHooks.afterCommit(() -> this.notifyObservers(observer -> observer.lodgingSaved(lodging)));
+    }
+
+    private void notifyDeleted(UUID id) {
+        TransactionHooks.afterCommit(() -> this.notifyObservers(observer -> observer.lodgingDeleted(id)));
+    }
+
+    private void notifyObservers(Consumer<CatalogObserver> notification) {
+        for (CatalogObserver observer : observers) {
+            try {
+                notification.accept(observer);
+            } catch (RuntimeException e) {
+                log.error(e.getMessage());
+            }
+        }
+    }
 }
@@ -8,6 +8,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Slf4j
 @Service
 public class NotificationServiceImpl implements NotificationService {
@@ -28,4 +30,13 @@ public class NotificationServiceImpl implements NotificationService {
             log.error(MessageConstants.ERROR_CREATE_NOTIFICATION);
         }
     }
+
+    @Override
+    public void createNotifications(List<Notification> notifications) {
+        try {
+            repository.saveAll(notifications);
+        } catch (Exception e) {
+            log.error(MessageConstants.ERROR_CREATE_NOTIFICATION);
+        }
+    }
 }
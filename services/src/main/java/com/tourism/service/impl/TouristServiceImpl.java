@@ -10,12 +10,14 @@ import com.tourism.model.Role;
 import com.tourism.model.Tourist;
 import com.tourism.model.TouristType;
 import com.tourism.model.User;
+import com.tourism.observer.UserObserver;
 import com.tourism.repository.RefreshTokenRepository;
 import com.tourism.repository.TouristRepository;
 import com.tourism.repository.UserRepository;
 import com.tourism.service.TouristService;
 import com.tourism.util.MessageConstants;
 import com.tourism.util.PageService;
+import com.tourism.util.helpers.TransactionHooks;
 import com.tourism.util.validations.UserValidation;
 import io.vavr.control.Either;
 import jakarta.transaction.Transactional;
@@ -29,6 +31,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -41,6 +44,7 @@ public class TouristServiceImpl implements TouristService {
     private final UserValidation userValidation;
     private final PageService pageService;
     private final TouristMapper mapper;
+    private final List<UserObserver> observers = new ArrayList<>();
 
     @Autowired
     public TouristServiceImpl(TouristRepository repository, UserRepository userRepository, RefreshTokenRepository tokenRepository,
@@ -69,6 +73,7 @@ public class TouristServiceImpl implements TouristService {
                         TouristType.STANDARD,
                         true
                 ));
+                this.notifySaved(tourist);
                 return Either.right(tourist.getId() != null ? mapper.modelToResponseDto(tourist) : null);
             } else {
                 return Either.left(validation.getLeft());
@@ -102,6 +107,7 @@ public class TouristServiceImpl implements TouristService {
             Tourist tourist = repository.findById(id).orElse(null);
             tokenRepository.deleteByUser(user);
             repository.delete(Objects.requireNonNull(tourist));
+            this.notifyDeleted(tourist.getId());
             return Either.right(null);
         } catch (NoSuchElementException e) {
             log.error(e.getMessage());
@@ -157,4 +163,32 @@ public class TouristServiceImpl implements TouristService {
             return Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_GET_TOURIST, e.getMessage())});
         }
     }
+
+    @Override
+    public void addObserver(UserObserver observer) {
+        observers.add(observer);
+    }
+
+    @Override
+    public void removeObserver(UserObserver observer) {
+        observers.remove(observer);
+    }
+
+    private void notifySaved(User user) {
+        TransactionHooks.afterCommit(() -> this.notifyObservers(observer -> observer.userSaved(user)));
+    }
+
+    private void notifyDeleted(UUID id) {
+        TransactionHooks.afterCommit(() -> this.notifyObservers(observer -> observer.userDeleted(id)));
+    }
+
+    private void notifyObservers(Consumer<UserObserver> notification) {
+        for (UserObserver observer : observers) {
+            try {
+                notification.accept(observer);
+            } catch (RuntimeException e) {
+                log.error(e.getMessage());
+            }
+        }
+    }
 }
@@ -6,12 +6,14 @@ import com.tourism.dto.request.TouristicPlaceRequestDTO;
 import com.tourism.dto.response.ErrorDto;
 import com.tourism.dto.response.TouristicPlaceResponseDTO;
 import com.tourism.model.*;
+import com.tourism.observer.CatalogObserver;
 import com.tourism.repository.CategoryRepository;
 import com.tourism.repository.TouristicPlaceRepository;
 import com.tourism.repository.UserRepository;
 import com.tourism.service.TouristicPlaceService;
 import com.tourism.util.MessageConstants;
 import com.tourism.util.PageService;
+import com.tourism.util.helpers.TransactionHooks;
 import io.vavr.control.Either;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
@@ -25,6 +27,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -36,6 +39,7 @@ public class TouristicPlaceServiceImpl implements TouristicPlaceService {
     private final CategoryRepository categoryRepository;
     private final PageService pageService;
     private final TouristicPlaceMapper mapper;
+    private final List<CatalogObserver> observers = new ArrayList<>();
 
     @Autowired
     public TouristicPlaceServiceImpl(TouristicPlaceRepository repository, UserRepository userRepository,
@@ -63,7 +67,9 @@ public class TouristicPlaceServiceImpl implements TouristicPlaceService {
             );
             place.setCategories(this.transformCategoriesToTouristicPlaceCategory(touristicPlaceDto, place));
 
-            return Either.right(mapper.modelToResponseDto(repository.save(place)));
+            TouristicPlace saved = repository.save(place);
+            this.notifySaved(saved);
+            return Either.right(mapper.modelToResponseDto(saved));
         } catch (DataIntegrityViolationException e) {
             log.error(e.getMessage());
             return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.NOT_ACCEPTABLE, MessageConstants.ERROR_CREATE_TOURISTIC_PLACE, e.getMessage())});
@@ -87,7 +93,9 @@ public class TouristicPlaceServiceImpl implements TouristicPlaceService {
                 place.get().setRegion(placeDTO.getRegion());
                 place.get().getCategories().addAll(this.transformCategoriesToTouristicPlaceCategory(placeDTO, place.get()));
                 place.get().setEnabled(placeDTO.getEnabled());
-                return Either.right(mapper.modelToResponseDto(repository.save(place.get())));
+                TouristicPlace saved = repository.save(place.get());
+                this.notifySaved(saved);
+                return Either.right(mapper.modelToResponseDto(saved));
             } else {
                 return Either.left(new ErrorDto[]{new ErrorDto(HttpStatus.NOT_FOUND, "Error to delete touristic place", null)});
             }
@@ -120,6 +128,7 @@ public class TouristicPlaceServiceImpl implements TouristicPlaceService {
         try {
             TouristicPlace place = repository.findById(id).orElse(null);
             repository.delete(Objects.requireNonNull(place));
+            this.notifyDeleted(place.getId());
             return Either.right(null);
         } catch (InvalidDataAccessApiUsageException | NoSuchElementException e) {
             log.error(e.getMessage());
@@ -175,6 +184,34 @@ public class TouristicPlaceServiceImpl implements TouristicPlaceService {
         }
     }
 
+    @Override
+    public void addObserver(CatalogObserver observer) {
+        observers.add(observer);
+    }
+
+    @Override
+    public void removeObserver(CatalogObserver observer) {
+        observers.remove(observer);
+    }
+
+    private void notifySaved(TouristicPlace place) {
+        TransactionHooks.afterCommit(() -> this.notifyObservers(observer -> observer.placeSaved(place)));
+    }
+
+    private void notifyDeleted(UUID id) {
+        TransactionHooks.afterCommit(() -> this.notifyObservers(observer -> observer.placeDeleted(id)));
+    }
+
+    private void notifyObservers(Consumer<CatalogObserver> notification) {
+        for (CatalogObserver observer : observers) {
+            try {
+                notification.accept(observer);
+            } catch (RuntimeException e) {
+                log.error(e.getMessage());
+            }
+        }
+    }
+
     private List<TouristicPlaceCategory> transformCategoriesToTouristicPlaceCategory(TouristicPlaceRequestDTO touristicPlaceDto, TouristicPlace place) {
         return touristicPlaceDto.getCategories().stream()
                 .map(c -> {
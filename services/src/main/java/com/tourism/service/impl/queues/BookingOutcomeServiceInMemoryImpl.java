@@ -0,0 +1,70 @@
+package com.tourism.service.impl.queues;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tourism.configuration.QueueExecutorConfig;
+import com.tourism.dto.response.BookingOutcomeMessage;
+import com.tourism.service.BookingOutcomeService;
+import com.tourism.util.helpers.SseEmitterRegistry;
+import com.tourism.util.helpers.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * With the in-memory queue every booking is consumed by the node holding the tourist connections,
+ * so outcomes go straight to the local emitters.
+ */
+@Service
+@ConditionalOnProperty(name = "booking.queue.type", havingValue = "memory")
+@Slf4j
+public class BookingOutcomeServiceInMemoryImpl implements BookingOutcomeService {
+
+    private final ObjectMapper objectMapper;
+    private final SseEmitterRegistry emitterRegistry;
+    private final Executor sendExecutor;
+
+    @Autowired
+    public BookingOutcomeServiceInMemoryImpl(ObjectMapper objectMapper, SseEmitterRegistry emitterRegistry,
+                                             @Qualifier(QueueExecutorConfig.BOOKING_SEND_EXECUTOR) Executor sendExecutor) {
+        this.objectMapper = objectMapper;
+        this.emitterRegistry = emitterRegistry;
+        this.sendExecutor = sendExecutor;
+    }
+
+
+    @Override
+    public SseEmitter subscribe(UUID touristId) {
+        return emitterRegistry.register(touristId);
+    }
+
+    @Override
+    public void publish(BookingOutcomeMessage outcome) {
+        TransactionHooks.afterCommit(() -> CompletableFuture.runAsync(() -> this.send(outcome), sendExecutor)
+                .exceptionally(throwable -> {
+                    log.error("Error sending booking outcome: {}", throwable.getMessage());
+                    return null;
+                }));
+    }
+
+    @Override
+    public void receiveOutcome(String messageBody) {
+        try {
+            this.send(objectMapper.readValue(messageBody, BookingOutcomeMessage.class));
+        } catch (JsonProcessingException e) {
+            log.error("Error deserializing booking outcome", e);
+        }
+    }
+
+    private void send(BookingOutcomeMessage outcome) {
+        emitterRegistry.send(outcome.touristId(), BookingOutcomeServiceKafkaImpl.OUTCOME_EVENT,
+                String.valueOf(outcome.bookingId()), outcome);
+    }
+}
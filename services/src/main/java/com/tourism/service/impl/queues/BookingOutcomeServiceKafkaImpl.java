@@ -0,0 +1,116 @@
+package com.tourism.service.impl.queues;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tourism.configuration.QueueExecutorConfig;
+import com.tourism.dto.response.BookingOutcomeMessage;
+import com.tourism.service.BookingOutcomeOutboxService;
+import com.tourism.service.BookingOutcomeService;
+import com.tourism.util.helpers.KafkaSendMetrics;
+import com.tourism.util.helpers.SseEmitterRegistry;
+import com.tourism.util.helpers.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Booking outcomes are produced by whichever node consumed the booking, while the tourist may be connected
+ * to any other node. Every node reads the outcome topic with its own consumer group, named after the stable
+ * {@code booking.outcome.instance-id} so a restart rejoins its group instead of leaving one behind, and sees every
+ * outcome and pushes it to the connections it holds, or to one the tourist opens within the replay window of
+ * {@link SseEmitterRegistry}. In exactly-once mode the outcome goes through the outbox
+ * and is sent in the Kafka transaction of the booking listener instead.
+ */
+@Service
+@ConditionalOnProperty(name = "booking.queue.type", havingValue = "kafka", matchIfMissing = true)
+@Slf4j
+public class BookingOutcomeServiceKafkaImpl implements BookingOutcomeService {
+
+    public static final String OUTCOME_EVENT = "booking-outcome";
+
+    @Value("${spring.kafka.topic.booking-outcome}")
+    private String outcomeTopic;
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final SseEmitterRegistry emitterRegistry;
+    private final KafkaSendMetrics sendMetrics;
+    private final BookingOutcomeOutboxService outboxService;
+    private final Executor sendExecutor;
+    private final boolean exactlyOnce;
+
+    @Autowired
+    public BookingOutcomeServiceKafkaImpl(KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper,
+                                          SseEmitterRegistry emitterRegistry, KafkaSendMetrics sendMetrics,
+                                          BookingOutcomeOutboxService outboxService,
+                                          @Qualifier(QueueExecutorConfig.BOOKING_SEND_EXECUTOR) Executor sendExecutor,
+                                          @Value("${booking.kafka.exactly-once:false}") boolean exactlyOnce) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.emitterRegistry = emitterRegistry;
+        this.sendMetrics = sendMetrics;
+        this.outboxService = outboxService;
+        this.sendExecutor = sendExecutor;
+        this.exactlyOnce = exactlyOnce;
+    }
+
+
+    @Override
+    public SseEmitter subscribe(UUID touristId) {
+        return emitterRegistry.register(touristId);
+    }
+
+    @Override
+    public void publish(BookingOutcomeMessage outcome) {
+        if (exactlyOnce) {
+            outboxService.record(outcome);
+            return;
+        }
+        // a booking that rolls back must not be announced
+        TransactionHooks.afterCommit(() -> this.send(outcome));
+    }
+
+    private void send(BookingOutcomeMessage outcome) {
+        CompletableFuture.runAsync(() -> {
+            try {
+                String messageBody = objectMapper.writeValueAsString(outcome);
+                sendMetrics.track(outcomeTopic, kafkaTemplate.send(outcomeTopic, outcome.touristId().toString(), messageBody))
+                        .whenComplete((result, error) -> {
+                            if (error != null) {
+                                log.error("Error sending outcome to Kafka topic [{}]: {}", outcomeTopic, error.getMessage());
+                            } else {
+                                log.info("Outcome sent to Kafka topic [{}]: {}", outcomeTopic, messageBody);
+                            }
+                        });
+            } catch (JsonProcessingException e) {
+                log.error("Error serializing booking outcome", e);
+            }
+        }, sendExecutor).exceptionally(throwable -> {
+            log.error("Error sending outcome to Kafka topic [{}]: {}", outcomeTopic, throwable.getMessage());
+            return null;
+        });
+    }
+
+    @KafkaListener(topics = "${spring.kafka.topic.booking-outcome}",
+            groupId = "${spring.kafka.consumer.group-id}-outcome-${booking.outcome.instance-id:${HOSTNAME:local}}",
+            properties = "auto.offset.reset=latest")
+    @Override
+    public void receiveOutcome(String messageBody) {
+        try {
+            BookingOutcomeMessage outcome = objectMapper.readValue(messageBody, BookingOutcomeMessage.class);
+            emitterRegistry.send(outcome.touristId(), OUTCOME_EVENT, String.valueOf(outcome.bookingId()), outcome);
+        } catch (JsonProcessingException e) {
+            log.error("Error deserializing booking outcome", e);
+        }
+    }
+}
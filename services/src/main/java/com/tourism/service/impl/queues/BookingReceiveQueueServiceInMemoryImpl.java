@@ -0,0 +1,97 @@
+package com.tourism.service.impl.queues;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tourism.dto.request.BookingMessage;
+import com.tourism.service.BookingDeadLetterService;
+import com.tourism.service.BookingReceiveQueueService;
+import com.tourism.service.BookingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Consumes the in-memory booking queue once the application is ready. There are no retry topics in process,
+ * so a failing booking is retried right away up to the configured attempts and then stored as a dead letter.
+ */
+@Service("bookingReceiveQueueServiceInMemoryImpl")
+@ConditionalOnProperty(name = "booking.queue.type", havingValue = "memory")
+@Slf4j
+public class BookingReceiveQueueServiceInMemoryImpl implements BookingReceiveQueueService {
+
+    public static final String QUEUE_NAME = "in-memory-booking-queue";
+
+    private final InMemoryBookingQueue queue;
+    private final ObjectMapper objectMapper;
+    private final BookingService bookingService;
+    private final BookingDeadLetterService deadLetterService;
+    private final int attempts;
+
+    @Autowired
+    public BookingReceiveQueueServiceInMemoryImpl(InMemoryBookingQueue queue, ObjectMapper objectMapper,
+                                                  BookingService bookingService, BookingDeadLetterService deadLetterService,
+                                                  @Value("${booking.retry.attempts:4}") int attempts) {
+        this.queue = queue;
+        this.objectMapper = objectMapper;
+        this.bookingService = bookingService;
+        this.deadLetterService = deadLetterService;
+        this.attempts = Math.max(1, attempts);
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        queue.start(this::receiveBatch);
+    }
+
+    public void receiveBatch(List<BookingMessage> batch) {
+        for (BookingMessage message : batch) {
+            this.process(message);
+        }
+    }
+
+    @Override
+    public void receiveMessage(String messageBody) {
+        try {
+            this.process(objectMapper.readValue(messageBody, BookingMessage.class));
+        } catch (JsonProcessingException e) {
+            throw new MessageConversionException("Error deserializing booking message", e);
+        }
+    }
+
+    @Override
+    public void receiveDeadLetter(String messageBody, String originalTopic, String error) {
+        deadLetterService.save(originalTopic, messageBody, error);
+    }
+
+    private void process(BookingMessage message) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                bookingService.processBooking(message);
+                log.info("Message processed from in-memory booking queue: {}", message);
+                return;
+            } catch (Exception e) {
+                if (attempt >= attempts) {
+                    this.deadLetter(message, e);
+                    return;
+                }
+                log.warn("Attempt {} of booking message {} failed: {}", attempt, message.correlationId(), e.getMessage());
+            }
+        }
+    }
+
+    private void deadLetter(BookingMessage message, Exception error) {
+        try {
+            this.receiveDeadLetter(objectMapper.writeValueAsString(message), QUEUE_NAME, error.getMessage());
+        } catch (Exception e) {
+            log.error("Error moving booking message {} to dead letter: {}", message.correlationId(), e.getMessage());
+        }
+    }
+}
@@ -3,40 +3,95 @@ package com.tourism.service.impl.queues;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tourism.dto.request.BookingMessage;
+import com.tourism.service.BookingDeadLetterService;
+import com.tourism.service.BookingOutcomeOutboxService;
 import com.tourism.service.BookingReceiveQueueService;
 import com.tourism.service.BookingService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.DltStrategy;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import lombok.extern.slf4j.Slf4j;
 
 @Service("bookingReceiveQueueServiceKafkaImpl")
+@ConditionalOnProperty(name = "booking.queue.type", havingValue = "kafka", matchIfMissing = true)
 @Slf4j
 public class BookingReceiveQueueServiceKafkaImpl implements BookingReceiveQueueService {
 
     private final ObjectMapper objectMapper;
     private final BookingService bookingService;
+    private final BookingDeadLetterService deadLetterService;
+    private final BookingOutcomeOutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean exactlyOnce;
 
     @Value("${spring.kafka.topic.booking}")
     private String bookingTopic;
 
     @Autowired
-    public BookingReceiveQueueServiceKafkaImpl(ObjectMapper objectMapper, BookingService bookingService) {
+    public BookingReceiveQueueServiceKafkaImpl(ObjectMapper objectMapper, BookingService bookingService,
+                                               BookingDeadLetterService deadLetterService,
+                                               BookingOutcomeOutboxService outboxService,
+                                               TransactionTemplate transactionTemplate,
+                                               @Value("${booking.kafka.exactly-once:false}") boolean exactlyOnce) {
         this.objectMapper = objectMapper;
         this.bookingService = bookingService;
+        this.deadLetterService = deadLetterService;
+        this.outboxService = outboxService;
+        this.transactionTemplate = transactionTemplate;
+        this.exactlyOnce = exactlyOnce;
     }
 
 
+    /**
+     * A failing message leaves the main topic at once and is retried from the retry topics with exponential backoff,
+     * so it never holds back the rest of the partition. Unreadable messages skip the retries and go straight to the DLT.
+     */
+    @RetryableTopic(attempts = "${booking.retry.attempts:4}",
+            backoff = @Backoff(delayExpression = "${booking.retry.delay-ms:1000}",
+                    multiplierExpression = "${booking.retry.multiplier:2}",
+                    maxDelayExpression = "${booking.retry.max-delay-ms:30000}"),
+            kafkaTemplate = "kafkaTemplate",
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            dltStrategy = DltStrategy.FAIL_ON_ERROR)
     @KafkaListener(topics = "${spring.kafka.topic.booking}", groupId = "${spring.kafka.consumer.group-id}")
     @Override
     public void receiveMessage(String messageBody) {
+        BookingMessage message;
         try {
-            BookingMessage message = objectMapper.readValue(messageBody, BookingMessage.class);
-            bookingService.processBooking(message);
-            log.info("Message processed from Kafka topic [{}]: {}", bookingTopic, message);
+            message = objectMapper.readValue(messageBody, BookingMessage.class);
         } catch (JsonProcessingException e) {
-            log.error("Error deserializing booking message", e);
+            throw new MessageConversionException("Error deserializing booking message", e);
+        }
+        if (exactlyOnce) {
+            this.processExactlyOnce(message);
+        } else {
+            bookingService.processBooking(message);
         }
+        log.info("Message processed from Kafka topic [{}]: {}", bookingTopic, message);
+    }
+
+    @DltHandler
+    @Override
+    public void receiveDeadLetter(String messageBody,
+                                  @Header(KafkaHeaders.ORIGINAL_TOPIC) String originalTopic,
+                                  @Header(name = KafkaHeaders.EXCEPTION_MESSAGE, required = false) String error) {
+        deadLetterService.save(originalTopic, messageBody, error);
+    }
+
+    // the booking and its outbox row commit first, then the outcome joins the listener's Kafka transaction with the offset
+    private void processExactlyOnce(BookingMessage message) {
+        transactionTemplate.executeWithoutResult(status -> bookingService.processBooking(message));
+        outboxService.publish(message.touristId(), message.idempotencyKey());
     }
 }
@@ -0,0 +1,65 @@
+package com.tourism.service.impl.queues;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tourism.dto.request.BookingMessage;
+import com.tourism.dto.request.BookingRequestDTO;
+import com.tourism.service.BookingSendingQueueService;
+import com.tourism.util.MessageConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Hands bookings to the in-process queue instead of a broker, for single-node deployments and tests.
+ * When the queue stays full the booking is rejected, so the caller can answer with back-pressure.
+ */
+@Service("bookingQueueServiceInMemoryImpl")
+@ConditionalOnProperty(name = "booking.queue.type", havingValue = "memory")
+@Slf4j
+public class BookingSendingQueueServiceInMemoryImpl implements BookingSendingQueueService {
+
+    private final InMemoryBookingQueue queue;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public BookingSendingQueueServiceInMemoryImpl(InMemoryBookingQueue queue, ObjectMapper objectMapper) {
+        this.queue = queue;
+        this.objectMapper = objectMapper;
+    }
+
+
+    @Override
+    public void sendMessage(BookingRequestDTO bookingDto, UUID touristId, String idempotencyKey, UUID replacesBookingId) {
+        this.publish(new BookingMessage(bookingDto, touristId, idempotencyKey, Instant.now(),
+                UUID.randomUUID().toString(), replacesBookingId));
+    }
+
+    @Override
+    public CompletableFuture<Void> resend(String messageBody) {
+        try {
+            this.publish(objectMapper.readValue(messageBody, BookingMessage.class));
+            return CompletableFuture.completedFuture(null);
+        } catch (JsonProcessingException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void publish(BookingMessage message) {
+        try {
+            if (!queue.publish(message)) {
+                throw new RejectedExecutionException(MessageConstants.ERROR_BOOKING_QUEUE_FULL);
+            }
+            log.debug("Message sent to in-memory booking queue: {}", message);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException(MessageConstants.ERROR_BOOKING_QUEUE_FULL, e);
+        }
+    }
+}
@@ -2,21 +2,27 @@ package com.tourism.service.impl.queues;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tourism.configuration.QueueExecutorConfig;
 import com.tourism.dto.request.BookingMessage;
 import com.tourism.dto.request.BookingRequestDTO;
 import com.tourism.service.BookingSendingQueueService;
+import com.tourism.util.helpers.KafkaSendMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Primary;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Service("bookingQueueServiceKafkaImpl")
-@Primary
+@ConditionalOnProperty(name = "booking.queue.type", havingValue = "kafka", matchIfMissing = true)
 @Slf4j
 public class BookingSendingQueueServiceKafkaImpl implements BookingSendingQueueService {
 
@@ -25,27 +31,53 @@ public class BookingSendingQueueServiceKafkaImpl implements BookingSendingQueueS
 
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper;
+    private final KafkaSendMetrics sendMetrics;
+    private final Executor sendExecutor;
 
     @Autowired
-    public BookingSendingQueueServiceKafkaImpl(KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper) {
+    public BookingSendingQueueServiceKafkaImpl(KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper,
+                                               KafkaSendMetrics sendMetrics,
+                                               @Qualifier(QueueExecutorConfig.BOOKING_SEND_EXECUTOR) Executor sendExecutor) {
         this.kafkaTemplate = kafkaTemplate;
         this.objectMapper = objectMapper;
+        this.sendMetrics = sendMetrics;
+        this.sendExecutor = sendExecutor;
     }
 
     @Override
-    public void sendMessage(BookingRequestDTO bookingDto, UUID touristId) {
+    public void sendMessage(BookingRequestDTO bookingDto, UUID touristId, String idempotencyKey, UUID replacesBookingId) {
+        BookingMessage message = new BookingMessage(bookingDto, touristId, idempotencyKey, Instant.now(),
+                UUID.randomUUID().toString(), replacesBookingId);
         CompletableFuture.runAsync(() -> {
             try {
-                BookingMessage message = new BookingMessage(bookingDto, touristId);
                 String messageBody = objectMapper.writeValueAsString(message);
-                kafkaTemplate.send(bookingTopic, messageBody);
-                log.info("Message sent to Kafka topic [{}]: {}", bookingTopic, messageBody);
+                sendMetrics.track(bookingTopic, this.send(messageBody)).whenComplete((result, error) -> {
+                    if (error != null) {
+                        log.error("Error sending message to Kafka topic [{}]: {}", bookingTopic, error.getMessage());
+                    } else {
+                        log.info("Message sent to Kafka topic [{}] partition {} offset {}: {}", bookingTopic,
+                                result.getRecordMetadata().partition(), result.getRecordMetadata().offset(), messageBody);
+                    }
+                });
             } catch (JsonProcessingException e) {
                 log.error("Error serializing booking message", e);
             }
-        }).exceptionally(throwable -> {
+        }, sendExecutor).exceptionally(throwable -> {
             log.error("Error sending message to Kafka topic [{}]: {}", bookingTopic, throwable.getMessage());
             return null;
         });
     }
+
+    @Override
+    public CompletableFuture<Void> resend(String messageBody) {
+        return sendMetrics.track(bookingTopic, this.send(messageBody)).thenApply(result -> null);
+    }
+
+    // in exactly-once mode the producer is transactional, and sends made outside a listener need their own transaction
+    private CompletableFuture<SendResult<String, String>> send(String messageBody) {
+        if (kafkaTemplate.isTransactional() && !kafkaTemplate.inTransaction()) {
+            return kafkaTemplate.executeInTransaction(template -> template.send(bookingTopic, messageBody));
+        }
+        return kafkaTemplate.send(bookingTopic, messageBody);
+    }
 }
@@ -0,0 +1,160 @@
+package com.tourism.service.impl.queues;
+
+import com.tourism.dto.request.BookingMessage;
+import com.tourism.util.helpers.RingBuffer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * In-process replacement of the booking topic. Messages are sharded by lodging onto ring buffers, each drained in
+ * batches by its own consumer thread, so bookings of one lodging keep their order while different lodgings
+ * are processed in parallel.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "booking.queue.type", havingValue = "memory")
+public class InMemoryBookingQueue {
+
+    public static final String DEPTH_METRIC = "booking.queue.memory.depth";
+
+    private static final int SPINS_BEFORE_PARK = 100;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Shard[] shards;
+    private final int mask;
+    private final int batchSize;
+    private final long offerTimeoutMs;
+    private volatile boolean running;
+
+    @Autowired
+    public InMemoryBookingQueue(@Value("${booking.queue.memory.shards:4}") int shardCount,
+                                @Value("${booking.queue.memory.capacity:4096}") int capacity,
+                                @Value("${booking.queue.memory.batch-size:64}") int batchSize,
+                                @Value("${booking.queue.memory.offer-timeout-ms:1000}") long offerTimeoutMs,
+                                MeterRegistry meterRegistry) {
+        int size = shardCount <= 1 ? 1 : Integer.highestOneBit(shardCount - 1) << 1;
+        this.shards = new Shard[size];
+        this.mask = size - 1;
+        this.batchSize = Math.max(1, batchSize);
+        this.offerTimeoutMs = offerTimeoutMs;
+        for (int i = 0; i < size; i++) {
+            shards[i] = new Shard(new RingBuffer<>(capacity));
+            Gauge.builder(DEPTH_METRIC, shards[i].buffer, RingBuffer::size)
+                    .description("Booking messages waiting in the in-memory queue")
+                    .tag("shard", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+    }
+
+
+    /**
+     * Enqueues the message on the shard of its lodging, waiting up to the configured timeout while the shard is full.
+     *
+     * @return false if the shard stayed full for the whole timeout
+     */
+    public boolean publish(BookingMessage message) throws InterruptedException {
+        Shard shard = shards[shardOf(message.bookingRequest().lodgingId())];
+        if (!shard.buffer.offer(message, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        if (shard.waiting) {
+            LockSupport.unpark(shard.consumer);
+        }
+        return true;
+    }
+
+    public synchronized void start(Consumer<List<BookingMessage>> handler) {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < shards.length; i++) {
+            Shard shard = shards[i];
+            shard.consumer = new Thread(() -> this.consume(shard, handler), "booking-queue-" + i);
+            shard.consumer.setDaemon(true);
+            shard.consumer.start();
+        }
+        log.info("In-memory booking queue started with {} shards of {} messages", shards.length, shards[0].buffer.capacity());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        for (Shard shard : shards) {
+            if (shard.consumer != null) {
+                LockSupport.unpark(shard.consumer);
+                try {
+                    shard.consumer.join(TimeUnit.SECONDS.toMillis(10));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    public int shardOf(UUID lodgingId) {
+        int hash = lodgingId.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    public int depth() {
+        int depth = 0;
+        for (Shard shard : shards) {
+            depth += shard.buffer.size();
+        }
+        return depth;
+    }
+
+    // spins briefly before parking so a burst is drained without a context switch, and drains what is left on stop
+    private void consume(Shard shard, Consumer<List<BookingMessage>> handler) {
+        List<BookingMessage> batch = new ArrayList<>(batchSize);
+        int idle = 0;
+        while (running || !shard.buffer.isEmpty()) {
+            if (shard.buffer.drainTo(batch, batchSize) > 0) {
+                idle = 0;
+                try {
+                    handler.accept(batch);
+                } catch (Exception e) {
+                    log.error("Error handling in-memory booking batch: {}", e.getMessage());
+                }
+                batch.clear();
+            } else if (++idle < SPINS_BEFORE_PARK) {
+                Thread.onSpinWait();
+            } else {
+                shard.waiting = true;
+                if (shard.buffer.isEmpty() && running) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                shard.waiting = false;
+            }
+        }
+    }
+
+    private static final class Shard {
+        private final RingBuffer<BookingMessage> buffer;
+        private volatile boolean waiting;
+        private Thread consumer;
+
+        private Shard(RingBuffer<BookingMessage> buffer) {
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.tourism.service.impl.search;
+
+import com.tourism.dto.request.SearchRequest;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.SearchDocumentRow;
+import com.tourism.dto.response.SearchHitDTO;
+import com.tourism.model.Lodging;
+import com.tourism.model.SearchMode;
+import com.tourism.model.TouristicPlace;
+import com.tourism.observer.CatalogObserver;
+import com.tourism.repository.LodgingRepository;
+import com.tourism.repository.TouristicPlaceRepository;
+import com.tourism.service.CatalogSearchService;
+import com.tourism.util.MessageConstants;
+import com.tourism.util.helpers.InvertedIndex;
+import com.tourism.util.helpers.ReloadableIndexes;
+import com.tourism.util.helpers.TrigramIndex;
+import io.vavr.control.Either;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Full-text search on in-memory inverted indexes and fuzzy name search on in-memory trigram indexes, for H2 and
+ * single-node setups without the Postgres columns and extension. The indexes are loaded once the application is
+ * ready and kept current by the catalogue services after each commit. A load builds a complete new set before
+ * publishing it, so searches meanwhile keep answering from the previous one.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "search.engine", havingValue = "memory")
+public class CatalogSearchServiceInMemoryImpl implements CatalogSearchService, CatalogObserver {
+
+    private final TouristicPlaceRepository placeRepository;
+    private final LodgingRepository lodgingRepository;
+    private final ReloadableIndexes<Indexes> indexes = new ReloadableIndexes<>(new Indexes());
+    private final double similarityThreshold;
+
+    private record Indexes(InvertedIndex places, InvertedIndex lodgings, TrigramIndex placeNames, TrigramIndex lodgingNames) {
+
+        private Indexes() {
+            this(new InvertedIndex(), new InvertedIndex(), new TrigramIndex(), new TrigramIndex());
+        }
+    }
+
+    @Autowired
+    public CatalogSearchServiceInMemoryImpl(TouristicPlaceRepository placeRepository, LodgingRepository lodgingRepository,
+                                            @Value("${search.fuzzy.similarity-threshold:0.3}") double similarityThreshold) {
+        this.placeRepository = placeRepository;
+        this.lodgingRepository = lodgingRepository;
+        this.similarityThreshold = similarityThreshold;
+    }
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Indexes loaded = indexes.reload(() -> {
+            Indexes fresh = new Indexes();
+            for (SearchDocumentRow row : placeRepository.findSearchDocuments()) {
+                fresh.places().put(row.id(), row.title(), row.body(), row.detail());
+                fresh.placeNames().put(row.id(), row.title());
+            }
+            for (SearchDocumentRow row : lodgingRepository.findSearchDocuments()) {
+                fresh.lodgings().put(row.id(), row.title(), row.body(), row.detail());
+                fresh.lodgingNames().put(row.id(), row.title());
+            }
+            return fresh;
+        });
+        log.info("Search indexes loaded with {} touristic places and {} lodgings", loaded.places().size(), loaded.lodgings().size());
+    }
+
+    @Override
+    public Either<ErrorDto[], SearchHitDTO[]> searchPlaces(SearchRequest request) {
+        Indexes current = indexes.current();
+        return search(current.places(), current.placeNames(), request);
+    }
+
+    @Override
+    public Either<ErrorDto[], SearchHitDTO[]> searchLodgings(SearchRequest request) {
+        Indexes current = indexes.current();
+        return search(current.lodgings(), current.lodgingNames(), request);
+    }
+
+    @Override
+    public void placeSaved(TouristicPlace place) {
+        if (Boolean.TRUE.equals(place.getEnabled())) {
+            indexes.update(current -> {
+                current.places().put(place.getId(), place.getName(), place.getDescription(), null);
+                current.placeNames().put(place.getId(), place.getName());
+            });
+        } else {
+            this.placeDeleted(place.getId());
+        }
+    }
+
+    @Override
+    public void placeDeleted(UUID placeId) {
+        indexes.update(current -> {
+            current.places().remove(placeId);
+            current.placeNames().remove(placeId);
+        });
+    }
+
+    @Override
+    public void lodgingSaved(Lodging lodging) {
+        if (Boolean.TRUE.equals(lodging.getEnabled())) {
+            indexes.update(current -> {
+                current.lodgings().put(lodging.getId(), lodging.getName(), lodging.getDescription(), lodging.getInformation());
+                current.lodgingNames().put(lodging.getId(), lodging.getName());
+            });
+        } else {
+            this.lodgingDeleted(lodging.getId());
+        }
+    }
+
+    @Override
+    public void lodgingDeleted(UUID lodgingId) {
+        indexes.update(current -> {
+            current.lodgings().remove(lodgingId);
+            current.lodgingNames().remove(lodgingId);
+        });
+    }
+
+    private Either<ErrorDto[], SearchHitDTO[]> search(InvertedIndex index, TrigramIndex names, SearchRequest request) {
+        try {
+            int offset = request.getPage() * request.getSize();
+            if (request.getMode() == SearchMode.FUZZY) {
+                return Either.right(names.search(request.getQ(), similarityThreshold, offset, request.getSize())
+                        .stream()
+                        .map(hit -> new SearchHitDTO(hit.id(), hit.name(), hit.similarity(), null))
+                        .toArray(SearchHitDTO[]::new));
+            }
+            return Either.right(index.search(request.getQ(), offset, request.getSize())
+                    .stream()
+                    .map(hit -> new SearchHitDTO(hit.id(), hit.title(), hit.rank(), hit.highlight()))
+                    .toArray(SearchHitDTO[]::new));
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_SEARCH_CATALOGUE, e.getMessage())});
+        }
+    }
+}
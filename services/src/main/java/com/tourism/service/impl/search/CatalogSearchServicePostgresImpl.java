@@ -0,0 +1,97 @@
+package com.tourism.service.impl.search;
+
+import com.tourism.dto.request.SearchRequest;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.SearchHitDTO;
+import com.tourism.dto.response.SearchHitRow;
+import com.tourism.model.SearchMode;
+import com.tourism.repository.LodgingRepository;
+import com.tourism.repository.TouristicPlaceRepository;
+import com.tourism.service.CatalogSearchService;
+import com.tourism.util.MessageConstants;
+import io.vavr.control.Either;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Full-text search on the generated tsvector columns and fuzzy name search on the pg_trgm indexes, see
+ * SearchSchemaInitializer. The fuzzy threshold is set for its own read-only transaction only, so pooled
+ * connections keep the server default.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "search.engine", havingValue = "postgres", matchIfMissing = true)
+public class CatalogSearchServicePostgresImpl implements CatalogSearchService {
+
+    private final TouristicPlaceRepository placeRepository;
+    private final LodgingRepository lodgingRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final String textConfig;
+    private final String similarityThreshold;
+
+    @Autowired
+    public CatalogSearchServicePostgresImpl(TouristicPlaceRepository placeRepository, LodgingRepository lodgingRepository,
+                                            PlatformTransactionManager transactionManager,
+                                            @Value("${search.text-config:spanish}") String textConfig,
+                                            @Value("${search.fuzzy.similarity-threshold:0.3}") double similarityThreshold) {
+        this.placeRepository = placeRepository;
+        this.lodgingRepository = lodgingRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.textConfig = textConfig;
+        this.similarityThreshold = String.valueOf(similarityThreshold);
+    }
+
+
+    @Override
+    public Either<ErrorDto[], SearchHitDTO[]> searchPlaces(SearchRequest request) {
+        try {
+            int offset = request.getPage() * request.getSize();
+            if (request.getMode() == SearchMode.FUZZY) {
+                return Either.right(toHits(this.withThreshold(() ->
+                        placeRepository.searchSimilarNames(request.getQ(), request.getSize(), offset))));
+            }
+            return Either.right(toHits(placeRepository.searchFullText(textConfig, request.getQ(), request.getSize(), offset)));
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_SEARCH_CATALOGUE, e.getMessage())});
+        }
+    }
+
+    @Override
+    public Either<ErrorDto[], SearchHitDTO[]> searchLodgings(SearchRequest request) {
+        try {
+            int offset = request.getPage() * request.getSize();
+            if (request.getMode() == SearchMode.FUZZY) {
+                return Either.right(toHits(this.withThreshold(() ->
+                        lodgingRepository.searchSimilarNames(request.getQ(), request.getSize(), offset))));
+            }
+            return Either.right(toHits(lodgingRepository.searchFullText(textConfig, request.getQ(), request.getSize(), offset)));
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_SEARCH_CATALOGUE, e.getMessage())});
+        }
+    }
+
+    private List<SearchHitRow> withThreshold(Supplier<List<SearchHitRow>> query) {
+        return readOnlyTransaction.execute(status -> {
+            placeRepository.setSimilarityThreshold(similarityThreshold);
+            return query.get();
+        });
+    }
+
+    private static SearchHitDTO[] toHits(List<SearchHitRow> rows) {
+        return rows.stream()
+                .map(row -> new SearchHitDTO(row.getId(), row.getName(), row.getRank(), row.getHighlight()))
+                .toArray(SearchHitDTO[]::new);
+    }
+}
@@ -12,6 +12,14 @@ public final class EndpointConstants {
     public static final String TOURISTIC_PATH = "/touristic_place";
     public static final String LODGING_PATH = "/lodging";
     public static final String BOOKING_PATH = "/booking";
+    public static final String BOOKING_DEAD_LETTER_PATH = "/booking_dead_letter";
+    public static final String METHOD_TIMING_PATH = "/method_timing";
+    public static final String EXPORT_PATH = "/export";
+    public static final String STATS_PATH = "/stats";
+    public static final String ANALYTICS_PATH = "/analytics";
+    public static final String SEARCH_PATH = "/search";
+    public static final String FACETS_PATH = "/facets";
+    public static final String AUTOCOMPLETE_PATH = "/autocomplete";
 
     public static final String LOGIN_PATH = "/login";
     public static final String LOGOUT_PATH = "/logout";
@@ -42,11 +42,31 @@ public final class MessageConstants {
     public static final String ERROR_BOOKING_NOT_CREATED = "Booking not created";
     public static final String ERROR_BOOKING_NOT_FOUND = "Booking not found";
     public static final String ERROR_BOOKING_NOT_UPDATED = "Booking not updated";
+    public static final String ERROR_BOOKING_NOT_MODIFIABLE = "Only created or pending bookings can be modified";
     public static final String ERROR_DELETING_BOOKING = "Error to delete booking";
     public static final String ERROR_GET_BOOKING = "Error to get a booking";
+    public static final String ERROR_GET_OWNER_INBOX = "Error to get the lodging owner booking inbox";
+    public static final String ERROR_INVALID_INBOX_FILTER = "Invalid inbox cursor or check in range";
+    public static final String ERROR_GET_TOURIST_TIMELINE = "Error to get the tourist bookings";
+    public static final String ERROR_BULK_CHANGE_STATE = "Error to change the state of the bookings";
+    public static final String ERROR_BULK_STATE_NOT_ALLOWED = "Bookings can only be moved to PENDING or REJECTED in bulk";
+    public static final String ERROR_EXPORT_BOOKINGS = "Error to export the bookings";
+    public static final String ERROR_INVALID_EXPORT_RANGE = "Invalid export check in range";
+    public static final String ERROR_EXPORT_DATA = "Error to export the data";
+    public static final String ERROR_INVALID_STATS_RANGE = "Invalid lodging stats date range";
+    public static final String ERROR_GET_LODGING_STATS = "Error to get the lodging stats";
+    public static final String ERROR_REBUILD_ROLLUPS = "Error to rebuild the lodging daily rollups";
+    public static final String ERROR_INVALID_ANALYTICS_RANGE = "Invalid analytics date window";
+    public static final String ERROR_GET_ANALYTICS = "Error to compute the occupancy analytics";
+    public static final String ERROR_SEARCH_CATALOGUE = "Error to search the catalogue";
+    public static final String ERROR_BROWSE_CATALOGUE = "Error to browse the catalogue facets";
+    public static final String ERROR_AUTOCOMPLETE = "Error to get the autocomplete suggestions";
     public static final String ERROR_INVALID_BOOKING_CHANGE_STATE = "Invalid change state";
+    public static final String ERROR_BOOKING_CHANGED_MEANWHILE = "The booking changed state meanwhile";
     public static final String ERROR_BOOKING_CHANGE_STATE = "Error to booking change state";
     public static final String ERROR_USER_LODGING_OWNER = "User is not the lodging owner";
+    public static final String ERROR_GET_DEAD_LETTERS = "Error to get booking dead letters";
+    public static final String ERROR_REPLAY_DEAD_LETTERS = "Error to replay booking dead letters";
 
     public static final String ERROR_LODGING_OWNER_NOT_CREATED = "Lodging owner not created";
     public static final String ERROR_GET_LODGING_OWNER = "Error to get a lodging owner";
@@ -73,6 +93,8 @@ public final class MessageConstants {
     public static final String ERROR_BOOKING_WITHOUT_ADULT = "At least one adult is necessary";
 
     public static final String ERROR_SENDING_MESSAGE = "Error sending message: {}";
+    public static final String ERROR_IDEMPOTENCY_KEY_TOO_LONG = "Idempotency-Key header is longer than 128 characters";
+    public static final String ERROR_BOOKING_QUEUE_FULL = "Booking queue is full, try again later";
     public static final String MESSAGE_SUCCESSFULLY = "Message sent successfully";
     public static final String ERROR_FORMATTING_JSON = "Error to process entity to JSON";
     public static final String MESSAGE_SENT_TO_OBSERVERS = "Booking request sent to queue for tourist: {} and lodwing owner: {}";
@@ -0,0 +1,127 @@
+package com.tourism.util;
+
+import io.vavr.control.Either;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Response logging used by {@link ResponseEntityUtil}. The request thread only decides whether a response is audited;
+ * rendering and writing the log line happen on a single background thread with a bounded queue, and lines are dropped
+ * rather than slowing requests down when the queue is full. Payloads are rendered for errors and for the configured
+ * paths, the rest are summarized for a sample of the requests.
+ */
+@Slf4j
+public final class ResponseAudit {
+
+    public static final String RESPONSE_LOG_INFO = "Response: {} {} -> {} {}";
+    public static final String RESPONSE_SUMMARY_INFO = "Response: {} {} -> {} {} [{} items]";
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final AtomicLong DROPPED = new AtomicLong();
+
+    private static volatile Settings settings = new Settings(0.0, 2000, List.of());
+    private static volatile ExecutorService executor = newExecutor(1000);
+
+    private ResponseAudit() {}
+
+    public record Settings(double sampleRate, int maxPayloadLength, List<String> fullPayloadPaths) { }
+
+    public static void configure(Settings newSettings, int queueCapacity) {
+        ExecutorService previous = executor;
+        settings = newSettings;
+        executor = newExecutor(queueCapacity);
+        previous.shutdown();
+    }
+
+    public static void shutdown() {
+        executor.shutdown();
+    }
+
+    public static long dropped() {
+        return DROPPED.get();
+    }
+
+    public static void audit(HttpServletRequest request, HttpStatus status, Either<?, ?> response) {
+        Settings current = settings;
+        boolean error = response.isLeft();
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+        if (error || fullPayload(current, uri)) {
+            submit(() -> log.info(RESPONSE_LOG_INFO, method, uri, status.value(),
+                    truncate(render(error ? response.getLeft() : response.get()), current.maxPayloadLength())));
+        } else if (current.sampleRate() > 0 && ThreadLocalRandom.current().nextDouble() < current.sampleRate()) {
+            Object payload = response.get();
+            submit(() -> log.info(RESPONSE_SUMMARY_INFO, method, uri, status.value(),
+                    payload == null ? "null" : payload.getClass().getSimpleName(), size(payload)));
+        }
+    }
+
+    public static String truncate(String payload, int maxLength) {
+        if (payload.length() <= maxLength) {
+            return payload;
+        }
+        return payload.substring(0, maxLength) + "...(" + (payload.length() - maxLength) + " more chars)";
+    }
+
+    private static String render(Object payload) {
+        if (payload instanceof Object[] array) {
+            return Arrays.deepToString(array);
+        } else if (payload instanceof Slice<?> slice) {
+            return "page " + slice.getNumber() + " " + slice.getContent();
+        }
+        return String.valueOf(payload);
+    }
+
+    private static boolean fullPayload(Settings current, String uri) {
+        for (String path : current.fullPayloadPaths()) {
+            if (PATH_MATCHER.match(path, uri)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int size(Object payload) {
+        if (payload == null) {
+            return 0;
+        } else if (payload instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        } else if (payload instanceof Collection<?> collection) {
+            return collection.size();
+        } else if (payload.getClass().isArray()) {
+            return Array.getLength(payload);
+        }
+        return 1;
+    }
+
+    private static void submit(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            DROPPED.incrementAndGet();
+        }
+    }
+
+    private static ExecutorService newExecutor(int queueCapacity) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "response-audit");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+}
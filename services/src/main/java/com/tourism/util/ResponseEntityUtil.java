@@ -4,22 +4,17 @@ import com.tourism.dto.response.ErrorDto;
 import com.tourism.dto.response.StandardResponseDto;
 import io.vavr.control.Either;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.util.Arrays;
 
-@Slf4j
 public class ResponseEntityUtil {
 
-    public static final String RESPONSE_LOG_INFO = "Response: {}";
-
     private ResponseEntityUtil() {}
 
     public static <T> ResponseEntity<StandardResponseDto<T>> buildArray(HttpServletRequest request, Either<ErrorDto[], T[]> responseEither) {
         HttpStatus status = HttpStatus.OK;
-        log.info(RESPONSE_LOG_INFO, responseEither);
         StandardResponseDto<T> responseDto;
 
         if (responseEither.isLeft() && Arrays.stream(responseEither.getLeft()).findFirst().isPresent()) {
@@ -29,12 +24,12 @@ public class ResponseEntityUtil {
             responseDto = ResponseUtil.build(request, responseEither.get());
         }
 
+        ResponseAudit.audit(request, status, responseEither);
         return new ResponseEntity<>(responseDto, status);
     }
 
     public static <T> ResponseEntity<StandardResponseDto<T>> buildObject(HttpServletRequest request, Either<ErrorDto[], T> responseEither) {
         HttpStatus status = HttpStatus.OK;
-        log.info(RESPONSE_LOG_INFO, responseEither);
         StandardResponseDto<T> responseDto;
 
         if (responseEither.isLeft() && Arrays.stream(responseEither.getLeft()).findFirst().isPresent()) {
@@ -44,6 +39,7 @@ public class ResponseEntityUtil {
             responseDto = ResponseUtil.build(request, responseEither.get());
         }
 
+        ResponseAudit.audit(request, status, responseEither);
         return new ResponseEntity<>(responseDto, status);
     }
 
@@ -60,7 +56,6 @@ public class ResponseEntityUtil {
 
     public static <T> ResponseEntity<StandardResponseDto<T>> buildStandardResponse(HttpServletRequest request, Either<ErrorDto[], StandardResponseDto<T>> responseEither) {
         HttpStatus status = HttpStatus.OK;
-        log.info(RESPONSE_LOG_INFO, responseEither);
         StandardResponseDto<T> responseDto;
 
         if (responseEither.isLeft() && Arrays.stream(responseEither.getLeft()).findFirst().isPresent()) {
@@ -74,12 +69,12 @@ public class ResponseEntityUtil {
             responseDto = responseEitherDto;
         }
 
+        ResponseAudit.audit(request, status, responseEither);
         return new ResponseEntity<>(responseDto, status);
     }
 
     public static <T> ResponseEntity<StandardResponseDto<T>> buildErrorArray(HttpServletRequest request, Either<ErrorDto[], T> responseEither) {
         HttpStatus status = HttpStatus.BAD_REQUEST;
-        log.info(RESPONSE_LOG_INFO, responseEither);
         StandardResponseDto<T> responseDto;
 
         if (responseEither.isLeft() && Arrays.stream(responseEither.getLeft()).findFirst().isPresent()) {
@@ -89,12 +84,12 @@ public class ResponseEntityUtil {
             responseDto = ResponseUtil.build(request, responseEither.get());
         }
 
+        ResponseAudit.audit(request, status, responseEither);
         return new ResponseEntity<>(responseDto, status);
     }
 
     public static <T> ResponseEntity<StandardResponseDto<T>> buildArrayErrorArray(HttpServletRequest request, Either<ErrorDto[], T[]> responseEither) {
         HttpStatus status = HttpStatus.BAD_REQUEST;
-        log.info(RESPONSE_LOG_INFO, responseEither);
         StandardResponseDto<T> responseDto;
 
         if (responseEither.isLeft() && Arrays.stream(responseEither.getLeft()).findFirst().isPresent()) {
@@ -104,6 +99,7 @@ public class ResponseEntityUtil {
             responseDto = ResponseUtil.build(request, responseEither.get());
         }
 
+        ResponseAudit.audit(request, status, responseEither);
         return new ResponseEntity<>(responseDto, status);
     }
 }
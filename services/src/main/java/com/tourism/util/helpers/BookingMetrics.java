@@ -0,0 +1,76 @@
+package com.tourism.util.helpers;
+
+import com.tourism.model.BookingState;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the asynchronous booking flow. Every stage of processBooking has its own histogram, and the end to end
+ * timer measures from the moment the request was queued until the tourist is notified.
+ */
+@Component
+public class BookingMetrics {
+
+    public static final String STAGE_METRIC = "booking.processing.stage";
+    public static final String END_TO_END_METRIC = "booking.processing.end_to_end";
+
+    public enum Stage { QUEUE_WAIT, VALIDATION, PRICING, PERSISTENCE, NOTIFICATION }
+
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Map<BookingState, Timer> endToEndTimers = new EnumMap<>(BookingState.class);
+
+    @Autowired
+    public BookingMetrics(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder(STAGE_METRIC)
+                    .description("Time spent by a booking message in each processing stage")
+                    .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        for (BookingState state : BookingState.values()) {
+            endToEndTimers.put(state, Timer.builder(END_TO_END_METRIC)
+                    .description("Time between the booking request and its outcome")
+                    .tag("state", state.name())
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(Duration.ofMinutes(10))
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Records the stage that started at startNanos and returns the current nanoTime, so consecutive stages can be chained.
+     */
+    public long record(Stage stage, long startNanos) {
+        long now = System.nanoTime();
+        stageTimers.get(stage).record(now - startNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    public void recordQueueWait(Instant createdAt) {
+        if (createdAt != null) {
+            stageTimers.get(Stage.QUEUE_WAIT).record(elapsedSince(createdAt));
+        }
+    }
+
+    public void recordEndToEnd(Instant createdAt, BookingState state) {
+        if (createdAt != null) {
+            endToEndTimers.get(state).record(elapsedSince(createdAt));
+        }
+    }
+
+    // clocks of the producing and consuming nodes may drift, a negative wait is recorded as zero
+    private static Duration elapsedSince(Instant createdAt) {
+        Duration elapsed = Duration.between(createdAt, Instant.now());
+        return elapsed.isNegative() ? Duration.ZERO : elapsed;
+    }
+}
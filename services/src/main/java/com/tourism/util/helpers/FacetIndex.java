@@ -0,0 +1,136 @@
+package com.tourism.util.helpers;
+
+import java.util.*;
+
+/**
+ * Immutable facet bitsets over a list of rows. Every facet value owns a bitset of the rows carrying it, so a filter
+ * is an OR of the selected values inside a facet and an AND across facets, and a facet count is the cardinality of
+ * a value bitset intersected with the filter of the other facets. Rows keep their insertion order, which is the
+ * order pages are returned in.
+ */
+public final class FacetIndex {
+
+    private final UUID[] ids;
+    private final Map<String, Map<String, BitSet>> facets;
+
+    private FacetIndex(UUID[] ids, Map<String, Map<String, BitSet>> facets) {
+        this.ids = ids;
+        this.facets = facets;
+    }
+
+    public static Builder builder(String... facetNames) {
+        return new Builder(facetNames);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Rows carrying at least one selected value of every facet with a selection.
+     */
+    public BitSet match(Map<String, Set<String>> selection) {
+        return this.matchExcept(selection, null);
+    }
+
+    /**
+     * Count of every value of every facet under the selection of the other facets, so the values of a facet stay
+     * selectable next to each other.
+     */
+    public Map<String, Map<String, Integer>> counts(Map<String, Set<String>> selection) {
+        Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+        facets.forEach((facet, values) -> {
+            BitSet others = this.matchExcept(selection, facet);
+            Map<String, Integer> valueCounts = new LinkedHashMap<>();
+            values.forEach((value, rows) -> {
+                BitSet matching = (BitSet) rows.clone();
+                matching.and(others);
+                valueCounts.put(value, matching.cardinality());
+            });
+            counts.put(facet, valueCounts);
+        });
+        return counts;
+    }
+
+    public List<UUID> page(BitSet rows, int offset, int limit) {
+        List<UUID> page = new ArrayList<>(Math.max(0, Math.min(limit, rows.cardinality())));
+        int skipped = 0;
+        for (int row = rows.nextSetBit(0); row >= 0 && page.size() < limit; row = rows.nextSetBit(row + 1)) {
+            if (skipped++ >= offset) {
+                page.add(ids[row]);
+            }
+        }
+        return page;
+    }
+
+    private BitSet matchExcept(Map<String, Set<String>> selection, String excluded) {
+        BitSet result = new BitSet(ids.length);
+        result.set(0, ids.length);
+        for (Map.Entry<String, Set<String>> selected : selection.entrySet()) {
+            if (selected.getKey().equals(excluded) || selected.getValue() == null || selected.getValue().isEmpty()) {
+                continue;
+            }
+            Map<String, BitSet> values = facets.getOrDefault(selected.getKey(), Map.of());
+            BitSet any = new BitSet(ids.length);
+            for (String value : selected.getValue()) {
+                BitSet rows = values.get(value);
+                if (rows != null) {
+                    any.or(rows);
+                }
+            }
+            result.and(any);
+        }
+        return result;
+    }
+
+    public static final class Builder {
+
+        private final List<UUID> ids = new ArrayList<>();
+        private final Map<String, Map<String, BitSet>> facets = new LinkedHashMap<>();
+
+        private Builder(String... facetNames) {
+            for (String facetName : facetNames) {
+                facets.put(facetName, new LinkedHashMap<>());
+            }
+        }
+
+        /**
+         * Declares the values of a facet up front, fixing their order in the counts and reporting them even when no
+         * row carries them. Values met later are appended after them.
+         */
+        public Builder values(String facet, Collection<String> values) {
+            Map<String, BitSet> known = this.facet(facet);
+            for (String value : values) {
+                known.computeIfAbsent(value, v -> new BitSet());
+            }
+            return this;
+        }
+
+        /**
+         * Appends a row and returns its position for the values that follow.
+         */
+        public int add(UUID id) {
+            ids.add(id);
+            return ids.size() - 1;
+        }
+
+        public Builder value(int row, String facet, String value) {
+            if (value != null) {
+                this.facet(facet).computeIfAbsent(value, v -> new BitSet()).set(row);
+            }
+            return this;
+        }
+
+        private Map<String, BitSet> facet(String facet) {
+            Map<String, BitSet> values = facets.get(facet);
+            if (values == null) {
+                throw new IllegalArgumentException("Unknown facet: " + facet);
+            }
+            return values;
+        }
+
+        public FacetIndex build() {
+            return new FacetIndex(ids.toArray(UUID[]::new), facets);
+        }
+    }
+}
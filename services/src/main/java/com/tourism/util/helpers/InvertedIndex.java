@@ -0,0 +1,206 @@
+package com.tourism.util.helpers;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+
+/**
+ * In-memory inverted index over a title and two text fields, the fallback of the Postgres tsvector search. Every
+ * term points to the documents containing it with a weighted frequency. A query walks the postings of its rarest
+ * term, probes the others, keeps the best hits in a bounded heap and only builds the highlight of the page returned.
+ */
+public class InvertedIndex {
+
+    // the default ts_rank weights of the A, B and C labels
+    public static final float TITLE_WEIGHT = 1.0f;
+    public static final float BODY_WEIGHT = 0.4f;
+    public static final float DETAIL_WEIGHT = 0.2f;
+
+    public static final String START_SEL = "<mark>";
+    public static final String STOP_SEL = "</mark>";
+
+    private static final int HIGHLIGHT_WORDS = 20;
+    private static final int HIGHLIGHT_LEAD = 5;
+    private static final Comparator<Scored> BEST_FIRST = Comparator.comparingDouble(Scored::rank).reversed()
+            .thenComparing(scored -> scored.document().title(), Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(scored -> scored.document().id());
+
+    private final Map<String, Map<UUID, Float>> postings = new HashMap<>();
+    private final Map<UUID, Document> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record Hit(UUID id, String title, double rank, String highlight) {
+    }
+
+    private record Document(UUID id, String title, String text, String[] terms) {
+    }
+
+    private record Scored(Document document, double rank) {
+    }
+
+    /**
+     * Adds the document or replaces the previous version of it.
+     */
+    public void put(UUID id, String title, String body, String detail) {
+        Map<String, Float> weights = new HashMap<>();
+        addTerms(weights, title, TITLE_WEIGHT);
+        addTerms(weights, body, BODY_WEIGHT);
+        addTerms(weights, detail, DETAIL_WEIGHT);
+        Document document = new Document(id, title, join(body, detail), weights.keySet().toArray(String[]::new));
+        lock.writeLock().lock();
+        try {
+            unindex(documents.put(id, document));
+            weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(id, weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            unindex(documents.remove(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Documents containing every term of the query, best ranked first.
+     */
+    public List<Hit> search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(SearchText.terms(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int keep = (int) Math.min(Integer.MAX_VALUE, (long) Math.max(0, offset) + limit);
+        List<Scored> ranked;
+        lock.readLock().lock();
+        try {
+            List<Map<UUID, Float>> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<UUID, Float> list = postings.get(term);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < idf.length; i++) {
+                idf[i] = Math.log(1.0 + (double) documents.size() / lists.get(i).size());
+            }
+            PriorityQueue<Scored> top = new PriorityQueue<>(BEST_FIRST.reversed());
+            for (Map.Entry<UUID, Float> entry : lists.get(0).entrySet()) {
+                double rank = entry.getValue() * idf[0];
+                for (int i = 1; i < lists.size() && rank >= 0; i++) {
+                    Float weight = lists.get(i).get(entry.getKey());
+                    rank = weight == null ? -1 : rank + weight * idf[i];
+                }
+                if (rank >= 0) {
+                    top.offer(new Scored(documents.get(entry.getKey()), rank));
+                    if (top.size() > keep) {
+                        top.poll();
+                    }
+                }
+            }
+            ranked = new ArrayList<>(top);
+        } finally {
+            lock.readLock().unlock();
+        }
+        ranked.sort(BEST_FIRST);
+        List<Hit> hits = new ArrayList<>();
+        for (int i = Math.max(0, offset); i < ranked.size(); i++) {
+            Document document = ranked.get(i).document();
+            hits.add(new Hit(document.id(), document.title(), ranked.get(i).rank(), highlight(document.text(), terms)));
+        }
+        return hits;
+    }
+
+    /**
+     * A window of words around the first match with every matching word wrapped, like ts_headline does.
+     */
+    public static String highlight(String text, Set<String> terms) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        List<int[]> words = new ArrayList<>();
+        int first = -1;
+        Matcher matcher = SearchText.WORD.matcher(text);
+        while (matcher.find()) {
+            words.add(new int[]{matcher.start(), matcher.end()});
+            if (first < 0 && terms.contains(SearchText.fold(matcher.group()))) {
+                first = words.size() - 1;
+            }
+            if (first >= 0 && words.size() >= first + HIGHLIGHT_WORDS) {
+                break;
+            }
+        }
+        if (words.isEmpty()) {
+            return "";
+        }
+        int start = first < 0 ? 0 : Math.max(0, first - HIGHLIGHT_LEAD);
+        int end = Math.min(words.size(), start + HIGHLIGHT_WORDS);
+        StringBuilder fragment = new StringBuilder();
+        int position = words.get(start)[0];
+        for (int i = start; i < end; i++) {
+            int[] word = words.get(i);
+            fragment.append(text, position, word[0]);
+            String value = text.substring(word[0], word[1]);
+            if (terms.contains(SearchText.fold(value))) {
+                fragment.append(START_SEL).append(value).append(STOP_SEL);
+            } else {
+                fragment.append(value);
+            }
+            position = word[1];
+        }
+        return fragment.toString();
+    }
+
+    private void unindex(Document document) {
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            Map<UUID, Float> list = postings.get(term);
+            if (list != null) {
+                list.remove(document.id());
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static void addTerms(Map<String, Float> weights, String text, float weight) {
+        for (String term : SearchText.terms(text)) {
+            weights.merge(term, weight, Float::sum);
+        }
+    }
+
+    private static String join(String body, String detail) {
+        if (detail == null || detail.isEmpty()) {
+            return body == null ? "" : body;
+        }
+        return body == null || body.isEmpty() ? detail : body + " " + detail;
+    }
+}
@@ -0,0 +1,50 @@
+package com.tourism.util.helpers;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome and latency of every Kafka send, from the call to the broker acknowledgement. The timer count per
+ * result doubles as the success and failure counter, so a failing producer shows up without reading the logs.
+ */
+@Component
+public class KafkaSendMetrics {
+
+    public static final String SEND_METRIC = "kafka.producer.send";
+    public static final String SUCCESS = "success";
+    public static final String FAILURE = "failure";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public KafkaSendMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+
+    /**
+     * Records the send when the returned future completes. The future itself is returned unchanged.
+     */
+    public <T> CompletableFuture<T> track(String topic, CompletableFuture<T> sendFuture) {
+        long start = System.nanoTime();
+        return sendFuture.whenComplete((result, error) ->
+                timer(topic, error == null ? SUCCESS : FAILURE).record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+
+    public Timer timer(String topic, String result) {
+        return timers.computeIfAbsent(topic + '|' + result, key -> Timer.builder(SEND_METRIC)
+                .description("Time until the broker acknowledged a Kafka send")
+                .tag("topic", topic)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,135 @@
+package com.tourism.util.helpers;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serializes booking operations of the same lodging inside this node while different lodgings run in parallel.
+ * Lodgings are hashed onto a fixed number of stripes, so memory stays constant whatever the catalogue size.
+ */
+@Slf4j
+@Component
+public class LodgingLockManager {
+
+    public static final String LOCK_WAIT_METRIC = "booking.lodging.lock.wait";
+    public static final String LOCK_QUEUE_METRIC = "booking.lodging.lock.queue";
+
+    private static final Duration SLOW_WAIT = Duration.ofMillis(200);
+
+    private final ReentrantLock[] stripes;
+    private final Timer[] waitTimers;
+    private final int mask;
+
+    @Autowired
+    public LodgingLockManager(@Value("${booking.lock.stripes:64}") int stripeCount, MeterRegistry meterRegistry) {
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new ReentrantLock[size];
+        this.waitTimers = new Timer[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            ReentrantLock lock = new ReentrantLock();
+            String stripe = String.valueOf(i);
+            stripes[i] = lock;
+            waitTimers[i] = Timer.builder(LOCK_WAIT_METRIC)
+                    .description("Time spent waiting for a lodging stripe lock")
+                    .tag("stripe", stripe)
+                    .register(meterRegistry);
+            Gauge.builder(LOCK_QUEUE_METRIC, lock, ReentrantLock::getQueueLength)
+                    .description("Threads waiting for a lodging stripe lock")
+                    .tag("stripe", stripe)
+                    .register(meterRegistry);
+        }
+    }
+
+    public void withLock(UUID lodgingId, Runnable action) {
+        ReentrantLock lock = acquire(lodgingId);
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Locks the lodging stripe and keeps it until the current transaction commits or rolls back,
+     * so the next operation on the lodging always reads committed data.
+     */
+    public void lockUntilTransactionEnds(UUID lodgingId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("No active transaction to bind the lodging lock to");
+        }
+        ReentrantLock lock = acquire(lodgingId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Locks the stripes of several lodgings until the current transaction ends. Stripes are taken once each and in
+     * ascending order, so two bulk operations over overlapping lodgings cannot deadlock each other.
+     */
+    public void lockAllUntilTransactionEnds(Collection<UUID> lodgingIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("No active transaction to bind the lodging lock to");
+        }
+        TreeMap<Integer, UUID> lodgingByStripe = new TreeMap<>();
+        for (UUID lodgingId : lodgingIds) {
+            lodgingByStripe.putIfAbsent(stripeOf(lodgingId), lodgingId);
+        }
+        List<ReentrantLock> locks = new ArrayList<>(lodgingByStripe.size());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                for (int i = locks.size() - 1; i >= 0; i--) {
+                    locks.get(i).unlock();
+                }
+            }
+        });
+        lodgingByStripe.values().forEach(lodgingId -> locks.add(acquire(lodgingId)));
+    }
+
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    public int stripeOf(UUID lodgingId) {
+        int hash = lodgingId.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private ReentrantLock acquire(UUID lodgingId) {
+        int stripe = stripeOf(lodgingId);
+        ReentrantLock lock = stripes[stripe];
+        if (lock.tryLock()) {
+            waitTimers[stripe].record(0, TimeUnit.NANOSECONDS);
+            return lock;
+        }
+        long start = System.nanoTime();
+        lock.lock();
+        long waited = System.nanoTime() - start;
+        waitTimers[stripe].record(waited, TimeUnit.NANOSECONDS);
+        if (waited > SLOW_WAIT.toNanos()) {
+            log.warn("Waited {}ms for lock of lodging {} (stripe {})", TimeUnit.NANOSECONDS.toMillis(waited), lodgingId, stripe);
+        }
+        return lock;
+    }
+}
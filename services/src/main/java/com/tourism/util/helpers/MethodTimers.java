@@ -0,0 +1,85 @@
+package com.tourism.util.helpers;
+
+import com.tourism.dto.response.MethodTimingDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * One Micrometer timer per service method, created on the first call and cached, so the hot path is a map lookup
+ * and a lock-free histogram update. With a sample rate below 1 only that share of the calls is timed.
+ */
+@Component
+public class MethodTimers {
+
+    public static final String METHOD_METRIC = "service.method";
+
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public MethodTimers(MeterRegistry meterRegistry, @Value("${method-timer.sample-rate:1.0}") double sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+    }
+
+
+    public boolean sampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    public void record(Method method, long nanos) {
+        timers.computeIfAbsent(method, this::register).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public MethodTimingDTO[] snapshot() {
+        return timers.entrySet().stream()
+                .map(entry -> toDto(entry.getKey(), entry.getValue().takeSnapshot()))
+                .sorted(Comparator.comparingDouble(MethodTimingDTO::p99Ms).reversed())
+                .toArray(MethodTimingDTO[]::new);
+    }
+
+    private Timer register(Method method) {
+        return Timer.builder(METHOD_METRIC)
+                .description("Execution time of service methods")
+                .tag("type", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                // overloads share a name, without their parameter types they would register the same timer
+                .tag("parameters", parameters(method))
+                .publishPercentiles(PERCENTILES)
+                .register(meterRegistry);
+    }
+
+    private static MethodTimingDTO toDto(Method method, HistogramSnapshot snapshot) {
+        double[] values = new double[PERCENTILES.length];
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                if (percentile.percentile() == PERCENTILES[i]) {
+                    values[i] = percentile.value(TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        return new MethodTimingDTO(method.getDeclaringClass().getSimpleName(), method.getName(), parameters(method), snapshot.count(),
+                snapshot.mean(TimeUnit.MILLISECONDS), snapshot.max(TimeUnit.MILLISECONDS), values[0], values[1], values[2]);
+    }
+
+    private static String parameters(Method method) {
+        return Arrays.stream(method.getParameterTypes()).map(Class::getSimpleName).collect(Collectors.joining(","));
+    }
+}
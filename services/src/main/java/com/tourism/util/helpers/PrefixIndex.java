@@ -0,0 +1,123 @@
+package com.tourism.util.helpers;
+
+import java.util.*;
+
+/**
+ * In-memory prefix index over one short text per id, for type-ahead lookups. Entries live in a single array sorted
+ * by folded text, so a lookup is a binary search to the first key not below the prefix and a scan of at most limit
+ * entries. Writers publish a new array and readers never lock, which suits a catalogue read on every keystroke and
+ * written a few times a day.
+ */
+public class PrefixIndex {
+
+    private static final Entry[] EMPTY = new Entry[0];
+    private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::key)
+            .thenComparing(Entry::value)
+            .thenComparing(Entry::id);
+
+    private final Map<UUID, Entry> byId = new HashMap<>();
+    private volatile Entry[] entries = EMPTY;
+
+    public record Hit(UUID id, String value) {
+    }
+
+    private record Entry(String key, UUID id, String value) {
+    }
+
+    /**
+     * Replaces the whole content, sorting once instead of inserting one by one.
+     */
+    public synchronized void load(Map<UUID, String> values) {
+        byId.clear();
+        values.forEach((id, value) -> {
+            if (value != null && !value.isBlank()) {
+                byId.put(id, new Entry(SearchText.fold(value), id, value));
+            }
+        });
+        Entry[] loaded = byId.values().toArray(Entry[]::new);
+        Arrays.sort(loaded, ORDER);
+        entries = loaded;
+    }
+
+    /**
+     * Adds the text of the id or replaces its previous one. A blank text removes the id.
+     */
+    public synchronized void put(UUID id, String value) {
+        if (value == null || value.isBlank()) {
+            this.remove(id);
+            return;
+        }
+        Entry entry = new Entry(SearchText.fold(value), id, value);
+        Entry previous = byId.put(id, entry);
+        if (entry.equals(previous)) {
+            return;
+        }
+        Entry[] current = previous == null ? entries : without(entries, previous);
+        int position = -Arrays.binarySearch(current, entry, ORDER) - 1;
+        Entry[] updated = new Entry[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, position);
+        updated[position] = entry;
+        System.arraycopy(current, position, updated, position + 1, current.length - position);
+        entries = updated;
+    }
+
+    public synchronized void remove(UUID id) {
+        Entry previous = byId.remove(id);
+        if (previous != null) {
+            entries = without(entries, previous);
+        }
+    }
+
+    public synchronized void clear() {
+        byId.clear();
+        entries = EMPTY;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Up to limit entries whose folded text starts with the folded prefix, in alphabetical order.
+     */
+    public List<Hit> search(String prefix, int limit) {
+        String key = SearchText.fold(prefix == null ? null : prefix.trim());
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Entry[] snapshot = entries;
+        List<Hit> hits = new ArrayList<>(Math.min(limit, 16));
+        for (int i = lowerBound(snapshot, key); i < snapshot.length && hits.size() < limit; i++) {
+            if (!snapshot[i].key().startsWith(key)) {
+                break;
+            }
+            hits.add(new Hit(snapshot[i].id(), snapshot[i].value()));
+        }
+        return hits;
+    }
+
+    private static int lowerBound(Entry[] snapshot, String key) {
+        int low = 0;
+        int high = snapshot.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (snapshot[middle].key().compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static Entry[] without(Entry[] current, Entry entry) {
+        int position = Arrays.binarySearch(current, entry, ORDER);
+        if (position < 0) {
+            return current;
+        }
+        Entry[] updated = new Entry[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, position);
+        System.arraycopy(current, position + 1, updated, position, current.length - position - 1);
+        return updated;
+    }
+}
@@ -0,0 +1,82 @@
+package com.tourism.util.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Current set of in-memory indexes of a service that rebuilds them from the database while its observers keep
+ * updating them. A reload builds the new set off to the side and publishes it at once, so searches see either the
+ * old indexes or the new ones and never a half-filled set. Updates that arrive while the database is read go to the
+ * current set and are replayed on the new one before it is published, since the rows read may predate them.
+ */
+public class ReloadableIndexes<T> {
+
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile T current;
+    private List<Consumer<T>> pending;
+
+    public ReloadableIndexes(T initial) {
+        this.current = initial;
+    }
+
+
+    public T current() {
+        return current;
+    }
+
+    /**
+     * Applies an update to the current indexes, and keeps it for the new ones when a reload is reading.
+     */
+    public void update(Consumer<T> update) {
+        updateLock.lock();
+        try {
+            update.accept(current);
+            if (pending != null) {
+                pending.add(update);
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * Builds a new set with the loader and publishes it. When the loader fails the current set stays published.
+     */
+    public T reload(Supplier<T> loader) {
+        reloadLock.lock();
+        try {
+            this.setPending(new ArrayList<>());
+            T loaded;
+            try {
+                loaded = loader.get();
+            } catch (RuntimeException e) {
+                this.setPending(null);
+                throw e;
+            }
+            updateLock.lock();
+            try {
+                pending.forEach(update -> update.accept(loaded));
+                pending = null;
+                current = loaded;
+            } finally {
+                updateLock.unlock();
+            }
+            return loaded;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private void setPending(List<Consumer<T>> updates) {
+        updateLock.lock();
+        try {
+            pending = updates;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+}
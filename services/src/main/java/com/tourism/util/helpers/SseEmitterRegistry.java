@@ -0,0 +1,140 @@
+package com.tourism.util.helpers;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Open SSE connections of this node, grouped by user. Emitters remove themselves when they complete,
+ * time out or fail, so the registry only holds live subscriptions. Events sent in the last replay window are kept
+ * per user and sent again to a new connection, so an outcome that reaches the node just before the tourist
+ * subscribes is not lost. Clients tell a replayed event apart by its id.
+ */
+@Slf4j
+@Component
+public class SseEmitterRegistry {
+
+    private final Map<UUID, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<UUID, Deque<RecentEvent>> recentEvents = new ConcurrentHashMap<>();
+    private final long timeout;
+    private final long replayMillis;
+    private final int replayLimit;
+
+    private record RecentEvent(String name, String id, Object data, long sentAt) {
+    }
+
+    @Autowired
+    public SseEmitterRegistry(@Value("${booking.outcome.sse-timeout-ms:300000}") long timeout,
+                              @Value("${booking.outcome.replay-seconds:60}") long replaySeconds,
+                              @Value("${booking.outcome.replay-limit:20}") int replayLimit) {
+        this.timeout = timeout;
+        this.replayMillis = replaySeconds * 1000;
+        this.replayLimit = replayLimit;
+    }
+
+    public SseEmitter register(UUID userId) {
+        SseEmitter emitter = new SseEmitter(timeout);
+        emitters.computeIfAbsent(userId, id -> new CopyOnWriteArraySet<>()).add(emitter);
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+        // replayed after joining the set, an event racing the registration may arrive twice but never zero times
+        for (RecentEvent event : recent(userId)) {
+            if (!this.send(userId, emitter, event.name(), event.id(), event.data())) {
+                break;
+            }
+        }
+        return emitter;
+    }
+
+    public int send(UUID userId, String eventName, String eventId, Object data) {
+        this.remember(userId, new RecentEvent(eventName, eventId, data, System.currentTimeMillis()));
+        Set<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) {
+            return 0;
+        }
+        int sent = 0;
+        for (SseEmitter emitter : userEmitters) {
+            if (this.send(userId, emitter, eventName, eventId, data)) {
+                sent++;
+            }
+        }
+        return sent;
+    }
+
+    // users who never reconnect would otherwise keep their last events forever
+    @Scheduled(fixedDelayString = "${booking.outcome.replay-evict-ms:60000}")
+    public void evictExpired() {
+        long oldest = System.currentTimeMillis() - replayMillis;
+        for (UUID userId : recentEvents.keySet()) {
+            recentEvents.computeIfPresent(userId, (id, events) -> {
+                synchronized (events) {
+                    events.removeIf(event -> event.sentAt() < oldest);
+                    return events.isEmpty() ? null : events;
+                }
+            });
+        }
+    }
+
+    public int size() {
+        return emitters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private boolean send(UUID userId, SseEmitter emitter, String eventName, String eventId, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).id(eventId).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping SSE connection of user {}: {}", userId, e.getMessage());
+            remove(userId, emitter);
+            return false;
+        }
+    }
+
+    private void remember(UUID userId, RecentEvent event) {
+        if (replayMillis <= 0 || replayLimit <= 0) {
+            return;
+        }
+        recentEvents.compute(userId, (id, events) -> {
+            Deque<RecentEvent> userEvents = events == null ? new ArrayDeque<>() : events;
+            synchronized (userEvents) {
+                userEvents.addLast(event);
+                while (userEvents.size() > replayLimit) {
+                    userEvents.removeFirst();
+                }
+            }
+            return userEvents;
+        });
+    }
+
+    private List<RecentEvent> recent(UUID userId) {
+        Deque<RecentEvent> events = recentEvents.get(userId);
+        if (events == null) {
+            return List.of();
+        }
+        long oldest = System.currentTimeMillis() - replayMillis;
+        synchronized (events) {
+            return events.stream().filter(event -> event.sentAt() >= oldest).toList();
+        }
+    }
+
+    private void remove(UUID userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, userEmitters) -> {
+            userEmitters.remove(emitter);
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+}
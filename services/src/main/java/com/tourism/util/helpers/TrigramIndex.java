@@ -0,0 +1,151 @@
+package com.tourism.util.helpers;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process counterpart of a pg_trgm GIN index over names. Words are padded and cut into trigrams the way pg_trgm
+ * does, each trigram points to the names containing it, and a query counts the trigrams it shares with every
+ * candidate in one pass over its own postings. Similarity is shared trigrams over the union of both sets.
+ */
+public class TrigramIndex {
+
+    private static final Comparator<Hit> BEST_FIRST = Comparator.comparingDouble(Hit::similarity).reversed()
+            .thenComparing(Hit::name, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(Hit::id);
+
+    private final Map<String, Set<UUID>> postings = new HashMap<>();
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record Hit(UUID id, String name, double similarity) {
+    }
+
+    private record Entry(UUID id, String name, String[] trigrams) {
+    }
+
+    /**
+     * Adds the name or replaces the previous name of the same id.
+     */
+    public void put(UUID id, String name) {
+        Entry entry = new Entry(id, name, trigrams(name).toArray(String[]::new));
+        lock.writeLock().lock();
+        try {
+            unindex(entries.put(id, entry));
+            for (String trigram : entry.trigrams()) {
+                postings.computeIfAbsent(trigram, t -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            unindex(entries.remove(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Names at least as similar to the text as the threshold, most similar first.
+     */
+    public List<Hit> search(String text, double threshold, int offset, int limit) {
+        Set<String> query = trigrams(text);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int keep = (int) Math.min(Integer.MAX_VALUE, (long) Math.max(0, offset) + limit);
+        PriorityQueue<Hit> top = new PriorityQueue<>(BEST_FIRST.reversed());
+        lock.readLock().lock();
+        try {
+            Map<UUID, Integer> shared = new HashMap<>();
+            for (String trigram : query) {
+                Set<UUID> ids = postings.get(trigram);
+                if (ids != null) {
+                    for (UUID id : ids) {
+                        shared.merge(id, 1, Integer::sum);
+                    }
+                }
+            }
+            for (Map.Entry<UUID, Integer> candidate : shared.entrySet()) {
+                Entry entry = entries.get(candidate.getKey());
+                int common = candidate.getValue();
+                double similarity = (double) common / (query.size() + entry.trigrams().length - common);
+                if (similarity >= threshold) {
+                    top.offer(new Hit(entry.id(), entry.name(), similarity));
+                    if (top.size() > keep) {
+                        top.poll();
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Hit> ranked = new ArrayList<>(top);
+        ranked.sort(BEST_FIRST);
+        return offset <= 0 ? ranked : ranked.subList(Math.min(offset, ranked.size()), ranked.size());
+    }
+
+    public static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : SearchText.terms(text)) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    public static double similarity(String first, String second) {
+        Set<String> a = trigrams(first);
+        Set<String> b = trigrams(second);
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        int common = 0;
+        for (String trigram : a) {
+            if (b.contains(trigram)) {
+                common++;
+            }
+        }
+        return (double) common / (a.size() + b.size() - common);
+    }
+
+    private void unindex(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        for (String trigram : entry.trigrams()) {
+            Set<UUID> ids = postings.get(trigram);
+            if (ids != null) {
+                ids.remove(entry.id());
+                if (ids.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.tourism.test.controller;
+
+import com.tourism.controller.AnalyticsController;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.OccupancyAnalyticsDTO;
+import com.tourism.dto.response.StandardResponseDto;
+import com.tourism.service.AnalyticsService;
+import com.tourism.util.MessageConstants;
+import io.vavr.control.Either;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class AnalyticsControllerTests {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 3, 31);
+
+    @Mock
+    private AnalyticsService analyticsService;
+
+    @Mock
+    private HttpServletRequest request;
+
+    @InjectMocks
+    private AnalyticsController controller;
+
+    @Test
+    @DisplayName("Occupancy Analytics")
+    void occupancy() {
+        OccupancyAnalyticsDTO analytics = new OccupancyAnalyticsDTO(FROM, TO, List.of(), List.of());
+        when(analyticsService.occupancy(FROM, TO)).thenReturn(Either.right(analytics));
+
+        ResponseEntity<StandardResponseDto<OccupancyAnalyticsDTO>> response = controller.occupancy(request, FROM, TO);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        verify(analyticsService, times(1)).occupancy(FROM, TO);
+    }
+
+    @Test
+    @DisplayName("Occupancy Analytics - Invalid Window")
+    void occupancyInvalidWindow() {
+        when(analyticsService.occupancy(TO, FROM)).thenReturn(Either.left(new ErrorDto[]{
+                new ErrorDto(HttpStatus.BAD_REQUEST, MessageConstants.ERROR_INVALID_ANALYTICS_RANGE, null)}));
+
+        ResponseEntity<StandardResponseDto<OccupancyAnalyticsDTO>> response = controller.occupancy(request, TO, FROM);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+}
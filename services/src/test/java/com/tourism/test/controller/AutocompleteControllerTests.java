@@ -0,0 +1,79 @@
+package com.tourism.test.controller;
+
+import com.tourism.controller.AutocompleteController;
+import com.tourism.dto.request.AutocompleteRequest;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.StandardResponseDto;
+import com.tourism.dto.response.SuggestionDTO;
+import com.tourism.model.Role;
+import com.tourism.service.AutocompleteService;
+import com.tourism.util.MessageConstants;
+import io.vavr.control.Either;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class AutocompleteControllerTests {
+
+    @Mock
+    private AutocompleteService autocompleteService;
+
+    @Mock
+    private HttpServletRequest request;
+
+    @InjectMocks
+    private AutocompleteController controller;
+
+    @Test
+    @DisplayName("Autocomplete Tourist Emails")
+    void touristEmails() {
+        AutocompleteRequest autocomplete = new AutocompleteRequest("tve", 10);
+        when(autocompleteService.suggestEmails(Role.TOURIST, autocomplete)).thenReturn(Either.right(new SuggestionDTO[]{
+                new SuggestionDTO(UUID.randomUUID(), "tverano@email.com")}));
+
+        ResponseEntity<StandardResponseDto<SuggestionDTO>> response = controller.touristEmails(request, autocomplete);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        verify(autocompleteService, times(1)).suggestEmails(Role.TOURIST, autocomplete);
+    }
+
+    @Test
+    @DisplayName("Autocomplete Lodging Owner Last Names")
+    void lodgingOwnerLastNames() {
+        AutocompleteRequest autocomplete = new AutocompleteRequest("hot", 10);
+        when(autocompleteService.suggestLastNames(Role.LODGING_OWNER, autocomplete)).thenReturn(Either.right(new SuggestionDTO[]{}));
+
+        ResponseEntity<StandardResponseDto<SuggestionDTO>> response = controller.lodgingOwnerLastNames(request, autocomplete);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(autocompleteService, times(1)).suggestLastNames(Role.LODGING_OWNER, autocomplete);
+    }
+
+    @Test
+    @DisplayName("Autocomplete Touristic Place Names - Error")
+    void placeNamesError() {
+        AutocompleteRequest autocomplete = new AutocompleteRequest("pun", 10);
+        when(autocompleteService.suggestPlaceNames(autocomplete)).thenReturn(Either.left(new ErrorDto[]{
+                new ErrorDto(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_AUTOCOMPLETE, null)}));
+
+        ResponseEntity<StandardResponseDto<SuggestionDTO>> response = controller.placeNames(request, autocomplete);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+}
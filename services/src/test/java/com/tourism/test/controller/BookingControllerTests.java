@@ -1,15 +1,27 @@
 package com.tourism.test.controller;
 
 import com.tourism.controller.BookingController;
+import com.tourism.dto.request.BookingBulkStateRequestDTO;
+import com.tourism.dto.request.BookingExportRequest;
 import com.tourism.dto.request.BookingRequestDTO;
 import com.tourism.dto.request.BookingUpdateRequestDTO;
+import com.tourism.dto.request.OwnerInboxRequest;
 import com.tourism.dto.request.PageableRequest;
+import com.tourism.dto.request.TouristTimelineRequest;
+import com.tourism.dto.response.BookingInboxItemDTO;
+import com.tourism.dto.response.BookingInboxPageDTO;
 import com.tourism.dto.response.BookingResponseDTO;
+import com.tourism.dto.response.BookingStateChangeResultDTO;
+import com.tourism.dto.response.ErrorDto;
 import com.tourism.dto.response.StandardResponseDto;
+import com.tourism.dto.response.TouristBookingDTO;
 import com.tourism.infrastructure.JwtTokenProvider;
 import com.tourism.model.Role;
 import com.tourism.model.*;
+import com.tourism.service.BookingExportService;
+import com.tourism.service.BookingOutcomeService;
 import com.tourism.service.BookingService;
+import com.tourism.service.IdempotencyService;
 import com.tourism.util.MessageConstants;
 import io.vavr.control.Either;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,9 +36,14 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -39,9 +56,17 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class BookingControllerTests {
 
+    private static final String IDEMPOTENCY_KEY = "3f1c2a4e-booking-retry";
+
     @Mock
     private BookingService service;
 
+    @Mock
+    private BookingOutcomeService outcomeService;
+
+    @Mock
+    private BookingExportService exportService;
+
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
@@ -71,11 +96,68 @@ class BookingControllerTests {
     void create() {
         User user = new User(UUID.randomUUID(), "tverano@email.com", Role.TOURIST);
         when(jwtTokenProvider.getUserFromToken(request)).thenReturn(user);
-        when(service.create(requestDTO, user.getId())).thenReturn(Either.right(MessageConstants.BOOKING_IS_BEING_PROCESSED));
-        ResponseEntity<StandardResponseDto<String>> response = controller.create(request, requestDTO);
+        when(service.create(requestDTO, user.getId(), IDEMPOTENCY_KEY)).thenReturn(Either.right(MessageConstants.BOOKING_IS_BEING_PROCESSED));
+        ResponseEntity<StandardResponseDto<String>> response = controller.create(request, requestDTO, IDEMPOTENCY_KEY);
 
         validateBookingProcessed(response);
-        verify(service, times(1)).create(requestDTO, user.getId());
+        verify(service, times(1)).create(requestDTO, user.getId(), IDEMPOTENCY_KEY);
+    }
+
+    @Test
+    @DisplayName("Create Booking - Idempotency Key Too Long Is A Bad Request")
+    void createWithTooLongIdempotencyKey() {
+        String idempotencyKey = "k".repeat(IdempotencyService.IDEMPOTENCY_KEY_MAX_LENGTH + 1);
+
+        ResponseEntity<StandardResponseDto<String>> response = controller.create(request, requestDTO, idempotencyKey);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(service, never()).create(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Update Booking - Idempotency Key Too Long Is A Bad Request")
+    void updateWithTooLongIdempotencyKey() {
+        String idempotencyKey = "k".repeat(IdempotencyService.IDEMPOTENCY_KEY_MAX_LENGTH + 1);
+
+        ResponseEntity<StandardResponseDto<String>> response = controller.update(request, updateRequestDTO, idempotencyKey);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(service, never()).update(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Subscribe To Booking Outcomes")
+    void outcomes() {
+        User user = new User(UUID.randomUUID(), "tverano@email.com", Role.TOURIST);
+        SseEmitter emitter = new SseEmitter();
+        when(jwtTokenProvider.getUserFromToken(request)).thenReturn(user);
+        when(outcomeService.subscribe(user.getId())).thenReturn(emitter);
+
+        SseEmitter response = controller.outcomes(request);
+
+        assertSame(emitter, response);
+        verify(outcomeService, times(1)).subscribe(user.getId());
+    }
+
+    @Test
+    @DisplayName("Tourist Booking Timeline")
+    void timeline() {
+        User user = new User(UUID.randomUUID(), "tverano@email.com", Role.TOURIST);
+        TouristTimelineRequest timeline = new TouristTimelineRequest(BookingTimeline.UPCOMING, null, 0, 20);
+        TouristBookingDTO booking = new TouristBookingDTO(responseDTO.id(), UUID.randomUUID(), responseDTO.lodgingName(),
+                responseDTO.lodgingPhone(), responseDTO.checkIn(), responseDTO.checkOut(), 2, 1, 1, responseDTO.totalPrice(),
+                BookingState.CREATED, false);
+        when(jwtTokenProvider.getUserFromToken(request)).thenReturn(user);
+        when(service.findTouristTimeline(user.getId(), timeline)).thenReturn(Either.right(new SliceImpl<>(List.of(booking))));
+
+        ResponseEntity<StandardResponseDto<Slice<TouristBookingDTO>>> response = controller.timeline(request, timeline);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        StandardResponseDto<Slice<TouristBookingDTO>> body = response.getBody();
+        assertNotNull(body);
+        Object[] data = body.getData();
+        assertInstanceOf(Slice.class, data[0]);
+        verify(service, times(1)).findTouristTimeline(user.getId(), timeline);
     }
 
     @Test
@@ -83,12 +165,12 @@ class BookingControllerTests {
     void update() {
         User user = new User(UUID.randomUUID(), "tverano@email.com", Role.TOURIST);
         when(jwtTokenProvider.getUserFromToken(request)).thenReturn(user);
-        when(service.update(updateRequestDTO, user.getId())).thenReturn(Either.right(MessageConstants.BOOKING_IS_BEING_PROCESSED));
+        when(service.update(updateRequestDTO, user.getId(), IDEMPOTENCY_KEY)).thenReturn(Either.right(MessageConstants.BOOKING_IS_BEING_PROCESSED));
 
-        ResponseEntity<StandardResponseDto<String>> response = controller.update(request, updateRequestDTO);
+        ResponseEntity<StandardResponseDto<String>> response = controller.update(request, updateRequestDTO, IDEMPOTENCY_KEY);
 
         validateBookingProcessed(response);
-        verify(service, times(1)).update(updateRequestDTO, user.getId());
+        verify(service, times(1)).update(updateRequestDTO, user.getId(), IDEMPOTENCY_KEY);
     }
 
     @Test
@@ -106,6 +188,82 @@ class BookingControllerTests {
         verify(service, times(1)).findAll(pageableRequest);
     }
 
+    @Test
+    @DisplayName("Owner Booking Inbox")
+    void ownerInbox() {
+        User user = new User(UUID.randomUUID(), "owner@email.com", Role.LODGING_OWNER);
+        OwnerInboxRequest inbox = new OwnerInboxRequest(BookingState.CREATED, LocalDate.now(), null, 20, null);
+        BookingInboxItemDTO item = new BookingInboxItemDTO(responseDTO.id(), UUID.randomUUID(), responseDTO.lodgingName(),
+                responseDTO.firstName(), responseDTO.lastName(), responseDTO.checkIn(), responseDTO.checkOut(), 2, 1, 1,
+                responseDTO.totalPrice(), BookingState.CREATED);
+        when(jwtTokenProvider.getUserFromToken(request)).thenReturn(user);
+        when(service.findOwnerInbox(user.getId(), inbox)).thenReturn(Either.right(new BookingInboxPageDTO(List.of(item), "next")));
+
+        ResponseEntity<StandardResponseDto<BookingInboxPageDTO>> response = controller.ownerInbox(request, inbox);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        StandardResponseDto<BookingInboxPageDTO> body = response.getBody();
+        assertNotNull(body);
+        Object[] data = body.getData();
+        assertInstanceOf(BookingInboxPageDTO.class, data[0]);
+        BookingInboxPageDTO page = (BookingInboxPageDTO) data[0];
+        assertEquals("next", page.nextCursor());
+        assertEquals(responseDTO.id(), page.bookings().getFirst().id());
+        verify(service, times(1)).findOwnerInbox(user.getId(), inbox);
+    }
+
+    @Test
+    @DisplayName("Bulk Change Booking State")
+    void changeStates() {
+        User user = new User(UUID.randomUUID(), "owner@email.com", Role.LODGING_OWNER);
+        BookingBulkStateRequestDTO bulk = new BookingBulkStateRequestDTO(List.of(responseDTO.id()), BookingState.PENDING);
+        BookingStateChangeResultDTO[] results = {new BookingStateChangeResultDTO(responseDTO.id(), HttpStatus.OK, BookingState.PENDING, null)};
+        when(jwtTokenProvider.getUserFromToken(request)).thenReturn(user);
+        when(service.changeStates(bulk, user.getId())).thenReturn(Either.right(results));
+
+        ResponseEntity<StandardResponseDto<BookingStateChangeResultDTO>> response = controller.changeStates(request, bulk);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        StandardResponseDto<BookingStateChangeResultDTO> body = response.getBody();
+        assertNotNull(body);
+        assertEquals(1, body.getData().length);
+        verify(service, times(1)).changeStates(bulk, user.getId());
+    }
+
+    @Test
+    @DisplayName("Export Bookings Xlsx - Lodging Owner Gets Own Lodgings")
+    void exportXlsxOwner() throws Exception {
+        User user = new User(UUID.randomUUID(), "owner@email.com", Role.LODGING_OWNER);
+        BookingExportRequest export = new BookingExportRequest(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(jwtTokenProvider.getUserFromToken(request)).thenReturn(user);
+        when(exportService.exportXlsx(eq(user.getId()), eq(export.getCheckInFrom()), eq(export.getCheckInTo()), any()))
+                .thenReturn(Either.right(10L));
+
+        controller.exportXlsx(request, response, export);
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(BookingExportService.XLSX_CONTENT_TYPE, response.getContentType());
+        assertTrue(response.getHeader(HttpHeaders.CONTENT_DISPOSITION).contains("bookings-2026-01-01-2026-12-31.xlsx"));
+    }
+
+    @Test
+    @DisplayName("Export Bookings Xlsx - Admin Gets Every Lodging And Errors Become The Status")
+    void exportXlsxAdminError() throws Exception {
+        User user = new User(UUID.randomUUID(), "admin@email.com", Role.ADMIN);
+        BookingExportRequest export = new BookingExportRequest(LocalDate.of(2026, 1, 1), LocalDate.of(2025, 1, 1));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(jwtTokenProvider.getUserFromToken(request)).thenReturn(user);
+        when(exportService.exportXlsx(isNull(), any(), any(), any())).thenReturn(Either.left(new ErrorDto[]{
+                new ErrorDto(HttpStatus.BAD_REQUEST, MessageConstants.ERROR_INVALID_EXPORT_RANGE, null)}));
+
+        controller.exportXlsx(request, response, export);
+
+        assertEquals(HttpStatus.BAD_REQUEST.value(), response.getStatus());
+        assertEquals(MessageConstants.ERROR_INVALID_EXPORT_RANGE, response.getErrorMessage());
+        verify(exportService).exportXlsx(isNull(), eq(export.getCheckInFrom()), eq(export.getCheckInTo()), any());
+    }
+
     @Test
     @DisplayName("Delete Booking")
     void delete() {
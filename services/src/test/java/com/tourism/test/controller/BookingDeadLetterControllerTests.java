@@ -0,0 +1,76 @@
+package com.tourism.test.controller;
+
+import com.tourism.controller.BookingDeadLetterController;
+import com.tourism.dto.request.PageableRequest;
+import com.tourism.dto.response.BookingDeadLetterResponseDTO;
+import com.tourism.dto.response.StandardResponseDto;
+import com.tourism.service.BookingDeadLetterService;
+import io.vavr.control.Either;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class BookingDeadLetterControllerTests {
+
+    @Mock
+    private BookingDeadLetterService service;
+
+    @Mock
+    private HttpServletRequest request;
+
+    @InjectMocks
+    private BookingDeadLetterController controller;
+
+    @Test
+    @DisplayName("Find All Dead Letters")
+    void findAll() {
+        BookingDeadLetterResponseDTO dto = new BookingDeadLetterResponseDTO(UUID.randomUUID(), "booking-topic", "{}",
+                "boom", Instant.now(), null);
+        PageableRequest paging = new PageableRequest(0, 10, new String[]{"createdDate"}, Sort.Direction.ASC);
+        when(service.findAll(paging)).thenReturn(Either.right(new PageImpl<>(List.of(dto))));
+
+        ResponseEntity<StandardResponseDto<Page<BookingDeadLetterResponseDTO>>> response = controller.findAll(request, paging);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        StandardResponseDto<Page<BookingDeadLetterResponseDTO>> body = response.getBody();
+        assertNotNull(body);
+        Object[] data = body.getData();
+        assertEquals(1, data.length);
+        assertInstanceOf(Page.class, data[0]);
+        assertEquals(List.of(dto), ((Page<?>) data[0]).getContent());
+    }
+
+    @Test
+    @DisplayName("Replay Dead Letters")
+    void replay() {
+        when(service.replay(200)).thenReturn(Either.right(12));
+
+        ResponseEntity<StandardResponseDto<Integer>> response = controller.replay(request, 200);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        StandardResponseDto<Integer> body = response.getBody();
+        assertNotNull(body);
+        assertArrayEquals(new Object[]{12}, body.getData());
+        verify(service, times(1)).replay(200);
+    }
+}
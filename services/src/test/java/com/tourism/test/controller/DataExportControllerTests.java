@@ -0,0 +1,92 @@
+package com.tourism.test.controller;
+
+import com.tourism.controller.DataExportController;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.model.ExportFormat;
+import com.tourism.service.DataExportService;
+import com.tourism.util.MessageConstants;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class DataExportControllerTests {
+
+    private static final String ROWS = "{\"id\":1}\n{\"id\":2}\n";
+
+    @Mock
+    private DataExportService exportService;
+
+    @InjectMocks
+    private DataExportController controller;
+
+    @Test
+    @DisplayName("Export Bookings - Plain NDJSON")
+    void exportBookingsPlain() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(exportService.exportBookings(eq(ExportFormat.NDJSON), any())).thenAnswer(invocation -> write(invocation.getArgument(1)));
+
+        controller.exportBookings(new MockHttpServletRequest(), response, ExportFormat.NDJSON);
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+        assertEquals(DataExportService.NDJSON_CONTENT_TYPE + ";charset=UTF-8", response.getContentType());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(ROWS, response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Export Tourists - Gzip Encoded CSV When Accepted")
+    void exportTouristsGzip() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(exportService.exportTourists(eq(ExportFormat.CSV), any())).thenAnswer(invocation -> write(invocation.getArgument(1)));
+
+        controller.exportTourists(request, response, ExportFormat.CSV);
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(response.getHeader(HttpHeaders.CONTENT_DISPOSITION).contains("tourists.csv"));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertEquals(ROWS, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("Export Lodgings - Error Before Any Row Becomes The Status")
+    void exportLodgingsError() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(exportService.exportLodgings(eq(ExportFormat.NDJSON), any())).thenReturn(Either.left(new ErrorDto[]{
+                new ErrorDto(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_EXPORT_DATA, null)}));
+
+        controller.exportLodgings(new MockHttpServletRequest(), response, ExportFormat.NDJSON);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), response.getStatus());
+        assertEquals(MessageConstants.ERROR_EXPORT_DATA, response.getErrorMessage());
+    }
+
+    private static Either<ErrorDto[], Long> write(OutputStream out) throws Exception {
+        out.write(ROWS.getBytes(StandardCharsets.UTF_8));
+        return Either.right(2L);
+    }
+}
@@ -0,0 +1,117 @@
+package com.tourism.test.controller;
+
+import com.tourism.controller.LodgingStatsController;
+import com.tourism.dto.request.LodgingStatsRequest;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.LodgingDailyStatsDTO;
+import com.tourism.dto.response.LodgingStatsSummaryDTO;
+import com.tourism.dto.response.StandardResponseDto;
+import com.tourism.infrastructure.JwtTokenProvider;
+import com.tourism.model.Role;
+import com.tourism.model.User;
+import com.tourism.service.AnalyticsService;
+import com.tourism.service.LodgingRollupService;
+import com.tourism.util.MessageConstants;
+import io.vavr.control.Either;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class LodgingStatsControllerTests {
+
+    @Mock
+    private LodgingRollupService rollupService;
+
+    @Mock
+    private AnalyticsService analyticsService;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private HttpServletRequest request;
+
+    @InjectMocks
+    private LodgingStatsController controller;
+
+    private LodgingStatsRequest stats;
+
+    @BeforeEach
+    void setUp() {
+        stats = new LodgingStatsRequest(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), null);
+    }
+
+    @Test
+    @DisplayName("Daily Stats - Lodging Owner Gets Own Lodgings")
+    void dailyOwner() {
+        User user = new User(UUID.randomUUID(), "owner@email.com", Role.LODGING_OWNER);
+        LodgingDailyStatsDTO[] days = {new LodgingDailyStatsDTO(UUID.randomUUID(), stats.getFrom(), 4, 160.0, 2)};
+        when(jwtTokenProvider.getUserFromToken(request)).thenReturn(user);
+        when(rollupService.findDaily(user.getId(), stats)).thenReturn(Either.right(days));
+
+        ResponseEntity<StandardResponseDto<LodgingDailyStatsDTO>> response = controller.daily(request, stats);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        StandardResponseDto<LodgingDailyStatsDTO> body = response.getBody();
+        assertNotNull(body);
+        assertEquals(1, body.getData().length);
+        verify(rollupService, times(1)).findDaily(user.getId(), stats);
+    }
+
+    @Test
+    @DisplayName("Summary Stats - Admin Gets Every Lodging")
+    void summaryAdmin() {
+        User user = new User(UUID.randomUUID(), "admin@email.com", Role.ADMIN);
+        LodgingStatsSummaryDTO[] summaries = {new LodgingStatsSummaryDTO(UUID.randomUUID(), "Hotel", 10, 31L, 1240.0, 12L, 0.1)};
+        when(jwtTokenProvider.getUserFromToken(request)).thenReturn(user);
+        when(rollupService.findSummary(isNull(), eq(stats))).thenReturn(Either.right(summaries));
+
+        ResponseEntity<StandardResponseDto<LodgingStatsSummaryDTO>> response = controller.summary(request, stats);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(rollupService, times(1)).findSummary(null, stats);
+    }
+
+    @Test
+    @DisplayName("Summary Stats - Invalid Range")
+    void summaryInvalidRange() {
+        User user = new User(UUID.randomUUID(), "owner@email.com", Role.LODGING_OWNER);
+        when(jwtTokenProvider.getUserFromToken(request)).thenReturn(user);
+        when(rollupService.findSummary(user.getId(), stats)).thenReturn(Either.left(new ErrorDto[]{
+                new ErrorDto(HttpStatus.BAD_REQUEST, MessageConstants.ERROR_INVALID_STATS_RANGE, null)}));
+
+        ResponseEntity<StandardResponseDto<LodgingStatsSummaryDTO>> response = controller.summary(request, stats);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Rebuild Stats - Cached Analytics Are Evicted")
+    void rebuild() {
+        when(rollupService.rebuild(stats.getFrom(), stats.getTo())).thenReturn(Either.right(3));
+
+        ResponseEntity<StandardResponseDto<Integer>> response = controller.rebuild(request, stats.getFrom(), stats.getTo());
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(rollupService, times(1)).rebuild(stats.getFrom(), stats.getTo());
+        verify(analyticsService).evictCache();
+    }
+}
@@ -0,0 +1,48 @@
+package com.tourism.test.controller;
+
+import com.tourism.controller.MethodTimingController;
+import com.tourism.dto.response.MethodTimingDTO;
+import com.tourism.dto.response.StandardResponseDto;
+import com.tourism.util.helpers.MethodTimers;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class MethodTimingControllerTests {
+
+    @Mock
+    private MethodTimers methodTimers;
+
+    @Mock
+    private HttpServletRequest request;
+
+    @InjectMocks
+    private MethodTimingController controller;
+
+    @Test
+    @DisplayName("Method Timings Snapshot")
+    void snapshot() {
+        MethodTimingDTO timing = new MethodTimingDTO("BookingService", "getById", "UUID", 10, 2.5, 9.0, 2.0, 8.5, 9.0);
+        when(methodTimers.snapshot()).thenReturn(new MethodTimingDTO[]{timing});
+
+        ResponseEntity<StandardResponseDto<MethodTimingDTO>> response = controller.snapshot(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        StandardResponseDto<MethodTimingDTO> body = response.getBody();
+        assertNotNull(body);
+        assertArrayEquals(new MethodTimingDTO[]{timing}, body.getData());
+    }
+}
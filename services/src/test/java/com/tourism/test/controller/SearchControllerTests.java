@@ -0,0 +1,91 @@
+package com.tourism.test.controller;
+
+import com.tourism.controller.SearchController;
+import com.tourism.dto.request.FacetRequest;
+import com.tourism.dto.request.SearchRequest;
+import com.tourism.dto.response.FacetedPageDTO;
+import com.tourism.dto.response.LodgingResponseDTO;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.SearchHitDTO;
+import com.tourism.dto.response.StandardResponseDto;
+import com.tourism.model.SearchMode;
+import com.tourism.service.CatalogFacetService;
+import com.tourism.service.CatalogSearchService;
+import com.tourism.util.MessageConstants;
+import io.vavr.control.Either;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class SearchControllerTests {
+
+    @Mock
+    private CatalogSearchService searchService;
+
+    @Mock
+    private CatalogFacetService facetService;
+
+    @Mock
+    private HttpServletRequest request;
+
+    @InjectMocks
+    private SearchController controller;
+
+    @Test
+    @DisplayName("Search Touristic Places")
+    void searchPlaces() {
+        SearchRequest search = new SearchRequest("playa", 0, 20, SearchMode.FULL_TEXT);
+        when(searchService.searchPlaces(search)).thenReturn(Either.right(new SearchHitDTO[]{
+                new SearchHitDTO(UUID.randomUUID(), "Punta del Este", 0.5, "<mark>Playa</mark> mansa")}));
+
+        ResponseEntity<StandardResponseDto<SearchHitDTO>> response = controller.searchPlaces(request, search);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        verify(searchService, times(1)).searchPlaces(search);
+    }
+
+    @Test
+    @DisplayName("Search Lodgings - Error")
+    void searchLodgingsError() {
+        SearchRequest search = new SearchRequest("hotel", 0, 20, SearchMode.FULL_TEXT);
+        when(searchService.searchLodgings(search)).thenReturn(Either.left(new ErrorDto[]{
+                new ErrorDto(HttpStatus.INTERNAL_SERVER_ERROR, MessageConstants.ERROR_SEARCH_CATALOGUE, null)}));
+
+        ResponseEntity<StandardResponseDto<SearchHitDTO>> response = controller.searchLodgings(request, search);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Browse Lodgings - Facets")
+    void browseLodgings() {
+        FacetRequest facets = new FacetRequest();
+        FacetedPageDTO<LodgingResponseDTO> page = new FacetedPageDTO<>(List.of(), 0, 0, 20,
+                Map.of(CatalogFacetService.STARS, Map.of("5", 0)));
+        when(facetService.browseLodgings(facets)).thenReturn(Either.right(page));
+
+        ResponseEntity<StandardResponseDto<FacetedPageDTO<LodgingResponseDTO>>> response = controller.browseLodgings(request, facets);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        verify(facetService, times(1)).browseLodgings(facets);
+    }
+}
@@ -9,6 +9,7 @@ import com.tourism.infrastructure.PasswordEncryptionService;
 import com.tourism.model.Role;
 import com.tourism.model.Admin;
 import com.tourism.model.User;
+import com.tourism.observer.UserObserver;
 import com.tourism.repository.AdminRepository;
 import com.tourism.repository.RefreshTokenRepository;
 import com.tourism.repository.UserRepository;
@@ -115,6 +116,20 @@ class AdminServiceTests {
         ));
     }
 
+    @Test
+    @DisplayName("Create Admin - Notifies User Observers")
+    void createNotifiesObservers() {
+        UserObserver observer = mock(UserObserver.class);
+        service.addObserver(observer);
+        when(userValidation.validateEmailAndPassword(authUserDto.getEmail(), authUserDto.getPassword())).thenReturn(Either.right(true));
+        when(repository.save(any(Admin.class))).thenReturn(admin);
+
+        service.create(authUserDto);
+
+        verify(observer).userSaved(admin);
+        verify(observer, never()).userDeleted(any());
+    }
+
     @Test
     @DisplayName("Create Admin - Validation Fails")
     void createValidationFails() {
@@ -237,10 +252,28 @@ class AdminServiceTests {
         verify(repository).delete(admin);
     }
 
+    @Test
+    @DisplayName("Delete Admin - Notifies User Observers")
+    void deleteAdminNotifiesObservers() {
+        UUID id = UUID.randomUUID();
+        admin.setId(id);
+        UserObserver observer = mock(UserObserver.class);
+        service.addObserver(observer);
+        when(repository.count()).thenReturn(2L);
+        when(userRepository.findById(id)).thenReturn(Optional.of(new User()));
+        when(repository.findById(id)).thenReturn(Optional.of(admin));
+
+        service.delete(id);
+
+        verify(observer).userDeleted(id);
+    }
+
     @Test
     @DisplayName("Delete Admin - Cannot Delete Last Admin")
     void deleteLastAdmin() {
         UUID id = UUID.randomUUID();
+        UserObserver observer = mock(UserObserver.class);
+        service.addObserver(observer);
         when(repository.count()).thenReturn(1L);
 
         Either<ErrorDto[], AdminResponseDTO> result = service.delete(id);
@@ -250,6 +283,7 @@ class AdminServiceTests {
         assertEquals(1, errors.length);
         assertEquals(HttpStatus.BAD_REQUEST, errors[0].code());
         assertEquals(MessageConstants.ERROR_CANNOT_DELETE_LAST_ADMIN, errors[0].message());
+        verify(observer, never()).userDeleted(any());
     }
 
     @Test
@@ -0,0 +1,190 @@
+package com.tourism.test.service;
+
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.LodgingCapacityRow;
+import com.tourism.dto.response.OccupancyAnalyticsDTO;
+import com.tourism.dto.response.PlaceCategoryRow;
+import com.tourism.dto.response.RollupAnalyticsRow;
+import com.tourism.dto.response.SegmentOccupancyDTO;
+import com.tourism.model.Region;
+import com.tourism.repository.CategoryRepository;
+import com.tourism.repository.LodgingDailyRollupRepository;
+import com.tourism.repository.LodgingRepository;
+import com.tourism.service.impl.AnalyticsServiceImpl;
+import com.tourism.util.MessageConstants;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class AnalyticsServiceTests {
+
+    private static final int CHUNK_DAYS = 7;
+
+    @Mock
+    private LodgingDailyRollupRepository rollupRepository;
+    @Mock
+    private LodgingRepository lodgingRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ForkJoinPool pool;
+    private AnalyticsServiceImpl analyticsService;
+    private UUID beachPlace;
+    private UUID mountainPlace;
+    private LocalDate from;
+    private Set<String> streamedChunks;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(2);
+        analyticsService = new AnalyticsServiceImpl(rollupRepository, lodgingRepository, categoryRepository, pool,
+                transactionManager, CHUNK_DAYS, 1096, 16, 60);
+        beachPlace = UUID.randomUUID();
+        mountainPlace = UUID.randomUUID();
+        from = LocalDate.now().minusDays(60);
+        streamedChunks = ConcurrentHashMap.newKeySet();
+        when(categoryRepository.findPlaceCategories()).thenReturn(List.of(
+                new PlaceCategoryRow(beachPlace, "Beach"),
+                new PlaceCategoryRow(beachPlace, "Family"),
+                new PlaceCategoryRow(mountainPlace, "Mountain")));
+        when(lodgingRepository.findEnabledCapacities()).thenReturn(List.of(
+                new LodgingCapacityRow(beachPlace, Region.EAST, 10),
+                new LodgingCapacityRow(mountainPlace, Region.NORTH, 5)));
+        // one rollup day per night and place, two persons at 50 each in the east and one person at 30 in the north
+        when(rollupRepository.streamRegionDays(any(), any(), any())).thenAnswer(invocation -> {
+            Region region = invocation.getArgument(0);
+            LocalDate chunkFrom = invocation.getArgument(1);
+            LocalDate chunkTo = invocation.getArgument(2);
+            streamedChunks.add(region + ":" + chunkFrom + ":" + chunkTo);
+            int days = (int) ChronoUnit.DAYS.between(chunkFrom, chunkTo) + 1;
+            return switch (region) {
+                case EAST -> Stream.generate(() -> new RollupAnalyticsRow(beachPlace, 2, 50.0, 1)).limit(days);
+                case NORTH -> Stream.generate(() -> new RollupAnalyticsRow(mountainPlace, 1, 30.0, 1)).limit(days);
+                default -> Stream.empty();
+            };
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Occupancy Analytics - Split By Region And Date Chunk And Merged")
+    void splitsByRegionAndChunk() {
+        LocalDate to = from.plusDays(29);
+
+        Either<ErrorDto[], OccupancyAnalyticsDTO> result = analyticsService.occupancy(from, to);
+
+        assertTrue(result.isRight());
+        OccupancyAnalyticsDTO analytics = result.get();
+        SegmentOccupancyDTO east = segment(analytics.regions(), "EAST");
+        assertEquals(300L, east.capacity());
+        assertEquals(60L, east.bookedPersons());
+        assertEquals(30L, east.bookedNights());
+        assertEquals(1500.0, east.revenue());
+        assertEquals(0.2, east.occupancyRate());
+        assertEquals(30L, segment(analytics.regions(), "NORTH").bookedPersons());
+        assertEquals(0L, segment(analytics.regions(), "WEST").bookedPersons());
+        assertEquals(List.of("Beach", "Family", "Mountain"), analytics.categories().stream().map(SegmentOccupancyDTO::segment).toList());
+        assertEquals(60L, segment(analytics.categories(), "Family").bookedPersons());
+        assertEquals(0.2, segment(analytics.categories(), "Mountain").occupancyRate());
+
+        // every region streamed chunks of at most a week that cover the window exactly once
+        for (Region region : Region.values()) {
+            long days = streamedChunks.stream().filter(chunk -> chunk.startsWith(region + ":"))
+                    .mapToLong(chunk -> {
+                        String[] parts = chunk.split(":");
+                        long chunkDays = ChronoUnit.DAYS.between(LocalDate.parse(parts[1]), LocalDate.parse(parts[2])) + 1;
+                        assertTrue(chunkDays <= CHUNK_DAYS);
+                        return chunkDays;
+                    }).sum();
+            assertEquals(30, days);
+        }
+    }
+
+    @Test
+    @DisplayName("Occupancy Analytics - Finished Windows Are Cached Until Evicted")
+    void finishedWindowsAreCached() {
+        LocalDate to = from.plusDays(6);
+
+        OccupancyAnalyticsDTO first = analyticsService.occupancy(from, to).get();
+        OccupancyAnalyticsDTO second = analyticsService.occupancy(from, to).get();
+
+        assertSame(first, second);
+        verify(rollupRepository, times(Region.values().length)).streamRegionDays(any(), eq(from), eq(to));
+
+        analyticsService.evictCache();
+        analyticsService.occupancy(from, to);
+
+        verify(rollupRepository, times(2 * Region.values().length)).streamRegionDays(any(), eq(from), eq(to));
+    }
+
+    @Test
+    @DisplayName("Occupancy Analytics - Windows Reaching Today Are Always Computed")
+    void openWindowsAreNotCached() {
+        LocalDate to = LocalDate.now();
+        LocalDate windowFrom = to.minusDays(3);
+
+        analyticsService.occupancy(windowFrom, to);
+        analyticsService.occupancy(windowFrom, to);
+
+        verify(rollupRepository, times(2 * Region.values().length)).streamRegionDays(any(), eq(windowFrom), eq(to));
+    }
+
+    @Test
+    @DisplayName("Occupancy Analytics - Invalid Window")
+    void invalidWindow() {
+        Either<ErrorDto[], OccupancyAnalyticsDTO> inverted = analyticsService.occupancy(from, from.minusDays(1));
+        Either<ErrorDto[], OccupancyAnalyticsDTO> tooLong = analyticsService.occupancy(from, from.plusDays(2000));
+
+        assertTrue(inverted.isLeft());
+        assertEquals(HttpStatus.BAD_REQUEST, inverted.getLeft()[0].code());
+        assertEquals(MessageConstants.ERROR_INVALID_ANALYTICS_RANGE, tooLong.getLeft()[0].message());
+        verify(rollupRepository, never()).streamRegionDays(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Occupancy Analytics - Failure")
+    void failure() {
+        doThrow(new RuntimeException("Database down")).when(rollupRepository).streamRegionDays(eq(Region.WEST), any(), any());
+
+        Either<ErrorDto[], OccupancyAnalyticsDTO> result = analyticsService.occupancy(from, from.plusDays(3));
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getLeft()[0].code());
+        assertEquals(MessageConstants.ERROR_GET_ANALYTICS, result.getLeft()[0].message());
+    }
+
+    private static SegmentOccupancyDTO segment(List<SegmentOccupancyDTO> segments, String name) {
+        return segments.stream().filter(segment -> segment.segment().equals(name)).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,54 @@
+package com.tourism.test.service;
+
+import com.tourism.dto.response.SuggestionDTO;
+import com.tourism.dto.response.UserSuggestionRow;
+import com.tourism.model.*;
+import com.tourism.repository.LodgingOwnerRepository;
+import com.tourism.repository.TouristicPlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "jpa-test.database=autocomplete")
+@ActiveProfiles("jpa")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class AutocompleteQueryTests {
+
+    @Autowired
+    private LodgingOwnerRepository ownerRepository;
+    @Autowired
+    private TouristicPlaceRepository placeRepository;
+
+    private LodgingOwner owner;
+    private TouristicPlace place;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        owner = ownerRepository.save(new LodgingOwner("owner" + suffix + "@email.com", "validPassword123",
+                "Owner", "Hotel", Role.LODGING_OWNER, true));
+        place = placeRepository.save(new TouristicPlace("Place " + suffix, "Un lugar de pruebas",
+                Region.EAST, null, owner, true));
+        placeRepository.save(new TouristicPlace("Hidden " + suffix, "Un lugar deshabilitado",
+                Region.EAST, null, owner, false));
+    }
+
+    @Test
+    @DisplayName("Suggestion Rows - Every Place Name And Lodging Owner")
+    void suggestionRows() {
+        List<SuggestionDTO> names = placeRepository.findNameSuggestions();
+
+        assertEquals(2, names.size());
+        assertTrue(names.contains(new SuggestionDTO(place.getId(), place.getName())));
+        assertEquals(List.of(new UserSuggestionRow(owner.getId(), owner.getEmail(), "Hotel")), ownerRepository.findSuggestionRows());
+    }
+}
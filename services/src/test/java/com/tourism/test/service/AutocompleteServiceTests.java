@@ -0,0 +1,214 @@
+package com.tourism.test.service;
+
+import com.tourism.dto.request.AutocompleteRequest;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.SuggestionDTO;
+import com.tourism.dto.response.UserSuggestionRow;
+import com.tourism.model.*;
+import com.tourism.repository.AdminRepository;
+import com.tourism.repository.LodgingOwnerRepository;
+import com.tourism.repository.TouristRepository;
+import com.tourism.repository.TouristicPlaceRepository;
+import com.tourism.service.impl.AutocompleteServiceImpl;
+import com.tourism.util.MessageConstants;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class AutocompleteServiceTests {
+
+    @Mock
+    private AdminRepository adminRepository;
+
+    @Mock
+    private TouristRepository touristRepository;
+
+    @Mock
+    private LodgingOwnerRepository ownerRepository;
+
+    @Mock
+    private TouristicPlaceRepository placeRepository;
+
+    private AutocompleteServiceImpl service;
+    private UUID adminId;
+    private UUID touristId;
+    private UUID ownerId;
+    private UUID placeId;
+
+    @BeforeEach
+    void setUp() {
+        adminId = UUID.randomUUID();
+        touristId = UUID.randomUUID();
+        ownerId = UUID.randomUUID();
+        placeId = UUID.randomUUID();
+        when(adminRepository.findSuggestionRows()).thenReturn(List.of(new UserSuggestionRow(adminId, "admin@email.com")));
+        when(touristRepository.findSuggestionRows()).thenReturn(List.of(
+                new UserSuggestionRow(touristId, "tverano@email.com", "Verano")));
+        when(ownerRepository.findSuggestionRows()).thenReturn(List.of(
+                new UserSuggestionRow(ownerId, "owner@email.com", "Hotelero")));
+        when(placeRepository.findNameSuggestions()).thenReturn(List.of(new SuggestionDTO(placeId, "Piriápolis")));
+        service = new AutocompleteServiceImpl(adminRepository, touristRepository, ownerRepository, placeRepository);
+        service.load();
+    }
+
+    @Test
+    @DisplayName("Suggest Emails - Only Users Of The Role")
+    void suggestEmailsByRole() {
+        Either<ErrorDto[], SuggestionDTO[]> admins = service.suggestEmails(Role.ADMIN, new AutocompleteRequest("ADM", 10));
+        Either<ErrorDto[], SuggestionDTO[]> tourists = service.suggestEmails(Role.TOURIST, new AutocompleteRequest("adm", 10));
+
+        assertTrue(admins.isRight());
+        assertArrayEquals(new SuggestionDTO[]{new SuggestionDTO(adminId, "admin@email.com")}, admins.get());
+        assertEquals(0, tourists.get().length);
+        assertEquals(ownerId, service.suggestEmails(Role.LODGING_OWNER, new AutocompleteRequest("own", 10)).get()[0].id());
+    }
+
+    @Test
+    @DisplayName("Suggest Last Names - Tourists And Lodging Owners")
+    void suggestLastNames() {
+        assertArrayEquals(new SuggestionDTO[]{new SuggestionDTO(touristId, "Verano")},
+                service.suggestLastNames(Role.TOURIST, new AutocompleteRequest("ver", 10)).get());
+        assertArrayEquals(new SuggestionDTO[]{new SuggestionDTO(ownerId, "Hotelero")},
+                service.suggestLastNames(Role.LODGING_OWNER, new AutocompleteRequest("hot", 10)).get());
+    }
+
+    @Test
+    @DisplayName("Suggest Last Names - Admins Have None")
+    void suggestLastNamesOfAdmins() {
+        Either<ErrorDto[], SuggestionDTO[]> result = service.suggestLastNames(Role.ADMIN, new AutocompleteRequest("a", 10));
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.BAD_REQUEST, result.getLeft()[0].code());
+        assertEquals(MessageConstants.ERROR_AUTOCOMPLETE, result.getLeft()[0].message());
+    }
+
+    @Test
+    @DisplayName("Suggest Place Names - Ignores Accents")
+    void suggestPlaceNames() {
+        Either<ErrorDto[], SuggestionDTO[]> result = service.suggestPlaceNames(new AutocompleteRequest("piria", 10));
+
+        assertTrue(result.isRight());
+        assertArrayEquals(new SuggestionDTO[]{new SuggestionDTO(placeId, "Piriápolis")}, result.get());
+    }
+
+    @Test
+    @DisplayName("User Observer - Saved And Deleted Users")
+    void userObserverKeepsIndexesCurrent() {
+        Tourist tourist = new Tourist("nuevo@email.com", "password", "Turista", "Invierno", Role.TOURIST, TouristType.STANDARD, true);
+        tourist.setId(UUID.randomUUID());
+
+        service.userSaved(tourist);
+        service.userDeleted(ownerId);
+
+        assertEquals(tourist.getId(), service.suggestEmails(Role.TOURIST, new AutocompleteRequest("nue", 10)).get()[0].id());
+        assertEquals(tourist.getId(), service.suggestLastNames(Role.TOURIST, new AutocompleteRequest("inv", 10)).get()[0].id());
+        assertEquals(0, service.suggestEmails(Role.LODGING_OWNER, new AutocompleteRequest("own", 10)).get().length);
+        assertEquals(0, service.suggestLastNames(Role.LODGING_OWNER, new AutocompleteRequest("hot", 10)).get().length);
+    }
+
+    @Test
+    @DisplayName("Catalog Observer - Renamed And Deleted Places")
+    void catalogObserverKeepsPlaceNamesCurrent() {
+        TouristicPlace place = new TouristicPlace();
+        place.setId(placeId);
+        place.setName("Punta del Este");
+
+        service.placeSaved(place);
+
+        assertEquals(0, service.suggestPlaceNames(new AutocompleteRequest("piri", 10)).get().length);
+        assertEquals(placeId, service.suggestPlaceNames(new AutocompleteRequest("punta", 10)).get()[0].id());
+
+        service.placeDeleted(placeId);
+
+        assertEquals(0, service.suggestPlaceNames(new AutocompleteRequest("punta", 10)).get().length);
+    }
+
+    @Test
+    @DisplayName("Reload - Picks Up Users Changed On Other Nodes")
+    void reloadPicksUpOtherNodes() {
+        UUID otherTouristId = UUID.randomUUID();
+        when(touristRepository.findSuggestionRows()).thenReturn(List.of(
+                new UserSuggestionRow(otherTouristId, "invierno@email.com", "Invierno")));
+
+        service.reload();
+
+        assertEquals(0, service.suggestEmails(Role.TOURIST, new AutocompleteRequest("tver", 10)).get().length);
+        assertEquals(otherTouristId, service.suggestLastNames(Role.TOURIST, new AutocompleteRequest("inv", 10)).get()[0].id());
+    }
+
+    @Test
+    @DisplayName("Reload - Failure Keeps The Previous Indexes")
+    void reloadFailureKeepsIndexes() {
+        when(placeRepository.findNameSuggestions()).thenThrow(new RuntimeException("Database down"));
+
+        service.reload();
+
+        assertEquals(placeId, service.suggestPlaceNames(new AutocompleteRequest("piri", 10)).get()[0].id());
+        assertEquals(touristId, service.suggestEmails(Role.TOURIST, new AutocompleteRequest("tver", 10)).get()[0].id());
+    }
+
+    @Test
+    @DisplayName("Reload - Users Saved While Reading Are Kept")
+    void reloadKeepsUsersSavedMeanwhile() {
+        Tourist tourist = new Tourist("nuevo@email.com", "password", "Turista", "Invierno", Role.TOURIST, TouristType.STANDARD, true);
+        tourist.setId(UUID.randomUUID());
+        when(touristRepository.findSuggestionRows()).thenAnswer(invocation -> {
+            List<UserSuggestionRow> rows = List.of(new UserSuggestionRow(touristId, "tverano@email.com", "Verano"));
+            service.userSaved(tourist);
+            return rows;
+        });
+
+        service.reload();
+
+        assertEquals(tourist.getId(), service.suggestEmails(Role.TOURIST, new AutocompleteRequest("nue", 10)).get()[0].id());
+        assertEquals(tourist.getId(), service.suggestLastNames(Role.TOURIST, new AutocompleteRequest("inv", 10)).get()[0].id());
+        assertEquals(touristId, service.suggestEmails(Role.TOURIST, new AutocompleteRequest("tver", 10)).get()[0].id());
+    }
+
+    @Test
+    @DisplayName("Reload - Places Deleted While Reading Stay Deleted")
+    void reloadKeepsPlacesDeletedMeanwhile() {
+        when(placeRepository.findNameSuggestions()).thenAnswer(invocation -> {
+            List<SuggestionDTO> rows = List.of(new SuggestionDTO(placeId, "Piriápolis"));
+            service.placeDeleted(placeId);
+            return rows;
+        });
+
+        service.reload();
+
+        assertEquals(0, service.suggestPlaceNames(new AutocompleteRequest("piri", 10)).get().length);
+    }
+
+    @Test
+    @DisplayName("Reload - Searches While Reading See The Previous Indexes")
+    void reloadPublishesAllIndexesAtOnce() {
+        UUID otherTouristId = UUID.randomUUID();
+        when(touristRepository.findSuggestionRows()).thenReturn(List.of(
+                new UserSuggestionRow(otherTouristId, "invierno@email.com", "Invierno")));
+        when(ownerRepository.findSuggestionRows()).thenAnswer(invocation -> {
+            assertEquals(touristId, service.suggestEmails(Role.TOURIST, new AutocompleteRequest("tver", 10)).get()[0].id());
+            assertEquals(0, service.suggestEmails(Role.TOURIST, new AutocompleteRequest("invi", 10)).get().length);
+            return List.of(new UserSuggestionRow(ownerId, "owner@email.com", "Hotelero"));
+        });
+
+        service.reload();
+
+        verify(ownerRepository, times(2)).findSuggestionRows();
+        assertEquals(otherTouristId, service.suggestEmails(Role.TOURIST, new AutocompleteRequest("invi", 10)).get()[0].id());
+    }
+}
@@ -0,0 +1,104 @@
+package com.tourism.test.service;
+
+import com.tourism.dto.response.BookingInboxItemDTO;
+import com.tourism.model.*;
+import com.tourism.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "jpa-test.database=bulkstate")
+@ActiveProfiles("jpa")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BookingBulkStateQueryTests {
+
+    private static final LocalDate LAST_CHECK_IN = LocalDate.of(9999, 12, 31);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private LodgingRepository lodgingRepository;
+    @Autowired
+    private LodgingOwnerRepository ownerRepository;
+    @Autowired
+    private TouristicPlaceRepository placeRepository;
+    @Autowired
+    private TouristRepository touristRepository;
+
+    private LodgingOwner owner;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        owner = ownerRepository.save(new LodgingOwner("owner" + suffix + "@email.com", "validPassword123",
+                "Owner", "Hotel", Role.LODGING_OWNER, true));
+        LodgingOwner otherOwner = ownerRepository.save(new LodgingOwner("other" + suffix + "@email.com", "validPassword123",
+                "Other", "Hotel", Role.LODGING_OWNER, true));
+        TouristicPlace place = placeRepository.save(new TouristicPlace("Place " + suffix, "Un lugar de pruebas",
+                Region.EAST, null, owner, true));
+        Tourist tourist = touristRepository.save(new Tourist("tourist" + suffix + "@email.com", "12345678", "Turista",
+                "Verano", Role.TOURIST, TouristType.STANDARD, true));
+        Lodging first = lodgingRepository.save(lodging("Hotel A " + suffix, place, owner));
+        Lodging second = lodgingRepository.save(lodging("Hotel B " + suffix, place, owner));
+        Lodging foreign = lodgingRepository.save(lodging("Hotel C " + suffix, place, otherOwner));
+        today = LocalDate.now();
+
+        List<Booking> bookings = new ArrayList<>();
+        for (int day = 0; day < 5; day++) {
+            bookings.add(booking(first, tourist, today.plusDays(day), BookingState.CREATED));
+            bookings.add(booking(second, tourist, today.plusDays(day), BookingState.CREATED));
+        }
+        bookings.add(booking(first, tourist, today.plusDays(1), BookingState.PENDING));
+        bookings.add(booking(first, tourist, today.minusDays(1), BookingState.CREATED));
+        bookings.add(booking(foreign, tourist, today.plusDays(1), BookingState.CREATED));
+        bookingRepository.saveAll(bookings);
+    }
+
+    @Test
+    @DisplayName("Owner Bulk State - Conditional Updates Move The Open Bookings Out Of The Inbox")
+    void bulkStateUpdateMovesBookingsOutOfInbox() {
+        List<BookingInboxItemDTO> inbox = bookingRepository.findOwnerInbox(owner.getId(), BookingState.CREATED, today,
+                LAST_CHECK_IN, today.minusDays(1), new UUID(-1L, -1L), PageRequest.of(0, 4));
+        List<UUID> ids = inbox.stream().map(BookingInboxItemDTO::id).toList();
+
+        List<Booking> loaded = bookingRepository.findWithPartiesByIdIn(ids);
+        assertEquals(4, loaded.size());
+        assertTrue(loaded.stream().allMatch(booking -> owner.getId().equals(booking.getLodging().getLodgingOwner().getId())));
+        assertEquals(2, bookingRepository.findLodgingIdsByIdIn(ids).size());
+
+        Instant now = Instant.now();
+        assertEquals(1, bookingRepository.updateStateIfIn(ids.getFirst(), List.of(BookingState.CREATED), BookingState.EXPIRED, now));
+        int changed = 0;
+        for (UUID id : ids) {
+            changed += bookingRepository.updateStateIfIn(id, List.of(BookingState.CREATED), BookingState.REJECTED, now);
+        }
+        assertEquals(3, changed);
+
+        List<BookingInboxItemDTO> rejected = bookingRepository.findOwnerInbox(owner.getId(), BookingState.REJECTED, today,
+                LAST_CHECK_IN, today.minusDays(1), new UUID(-1L, -1L), PageRequest.of(0, 100));
+        assertEquals(ids.subList(1, 4), rejected.stream().map(BookingInboxItemDTO::id).toList());
+    }
+
+    private static Lodging lodging(String name, TouristicPlace place, LodgingOwner owner) {
+        return new Lodging(name, "Un hotel de pruebas", "Parada 5, playa mansa", "+5984422112233", 20, 25.0, 5,
+                place, owner, true);
+    }
+
+    private static Booking booking(Lodging lodging, Tourist tourist, LocalDate checkIn, BookingState state) {
+        return new Booking(checkIn, checkIn.plusDays(2), 50.0, lodging, tourist, state, 2, 0, 0, false);
+    }
+}
@@ -0,0 +1,129 @@
+package com.tourism.test.service;
+
+import com.tourism.dto.mappers.BookingDeadLetterMapper;
+import com.tourism.dto.request.PageableRequest;
+import com.tourism.dto.response.BookingDeadLetterResponseDTO;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.model.BookingDeadLetter;
+import com.tourism.repository.BookingDeadLetterRepository;
+import com.tourism.service.BookingSendingQueueService;
+import com.tourism.service.impl.BookingDeadLetterServiceImpl;
+import com.tourism.util.MessageConstants;
+import com.tourism.util.PageService;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class BookingDeadLetterServiceTests {
+
+    private static final String BOOKING_TOPIC = "booking-topic";
+
+    @Mock
+    private BookingDeadLetterRepository repository;
+    @Mock
+    private BookingSendingQueueService queueSendingService;
+    @Mock
+    private PageService pageService;
+    @Mock
+    private BookingDeadLetterMapper mapper;
+
+    @InjectMocks
+    private BookingDeadLetterServiceImpl deadLetterService;
+
+    private BookingDeadLetter deadLetter;
+
+    @BeforeEach
+    void setUp() {
+        deadLetter = new BookingDeadLetter(BOOKING_TOPIC, "{\"touristId\":\"1\"}");
+        deadLetter.setId(UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("Save Dead Letter - Truncates Long Errors")
+    void saveTruncatesError() {
+        deadLetterService.save(BOOKING_TOPIC, "payload", "x".repeat(5000));
+
+        verify(repository).save(argThat(saved -> saved.getError().length() == 2000 && saved.getPayload().equals("payload")));
+    }
+
+    @Test
+    @DisplayName("Find All Dead Letters")
+    void findAll() {
+        Pageable pageable = mock(Pageable.class);
+        BookingDeadLetterResponseDTO dto = new BookingDeadLetterResponseDTO(deadLetter.getId(), BOOKING_TOPIC,
+                deadLetter.getPayload(), null, null, null);
+        when(pageService.createSortedPageable(any())).thenReturn(pageable);
+        when(repository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(deadLetter)));
+        when(mapper.modelToResponseDto(deadLetter)).thenReturn(dto);
+
+        Either<ErrorDto[], Page<BookingDeadLetterResponseDTO>> result = deadLetterService.findAll(
+                new PageableRequest(0, 10, new String[]{"createdDate"}, Sort.Direction.ASC));
+
+        assertTrue(result.isRight());
+        assertEquals(List.of(dto), result.get().getContent());
+    }
+
+    @Test
+    @DisplayName("Replay Dead Letters - Sends Pending Messages And Marks Them")
+    void replaySuccess() {
+        when(repository.findByReplayedDateIsNullOrderByCreatedDateAsc(any())).thenReturn(List.of(deadLetter));
+        when(queueSendingService.resend(deadLetter.getPayload())).thenReturn(CompletableFuture.completedFuture(null));
+
+        Either<ErrorDto[], Integer> result = deadLetterService.replay(100);
+
+        assertTrue(result.isRight());
+        assertEquals(1, result.get());
+        verify(repository).markReplayed(eq(List.of(deadLetter.getId())), any());
+    }
+
+    @Test
+    @DisplayName("Replay Dead Letters - Nothing Pending")
+    void replayNothingPending() {
+        when(repository.findByReplayedDateIsNullOrderByCreatedDateAsc(any())).thenReturn(Collections.emptyList());
+
+        Either<ErrorDto[], Integer> result = deadLetterService.replay(100);
+
+        assertTrue(result.isRight());
+        assertEquals(0, result.get());
+        verify(queueSendingService, never()).resend(any());
+    }
+
+    @Test
+    @DisplayName("Replay Dead Letters - Broker Failure Keeps Them Pending")
+    void replayBrokerFailure() {
+        when(repository.findByReplayedDateIsNullOrderByCreatedDateAsc(any())).thenReturn(List.of(deadLetter));
+        when(queueSendingService.resend(deadLetter.getPayload()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        Either<ErrorDto[], Integer> result = deadLetterService.replay(100);
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getLeft()[0].code());
+        assertEquals(MessageConstants.ERROR_REPLAY_DEAD_LETTERS, result.getLeft()[0].message());
+        verify(repository, never()).markReplayed(any(), any());
+    }
+}
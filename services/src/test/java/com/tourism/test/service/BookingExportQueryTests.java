@@ -0,0 +1,107 @@
+package com.tourism.test.service;
+
+import com.tourism.dto.response.BookingNightExportRow;
+import com.tourism.model.*;
+import com.tourism.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "jpa-test.database=export")
+@ActiveProfiles("jpa")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BookingExportQueryTests {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private LodgingRepository lodgingRepository;
+    @Autowired
+    private LodgingOwnerRepository ownerRepository;
+    @Autowired
+    private TouristicPlaceRepository placeRepository;
+    @Autowired
+    private TouristRepository touristRepository;
+    @Autowired
+    private BookingDateRepository dateRepository;
+
+    private LodgingOwner owner;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        owner = ownerRepository.save(new LodgingOwner("owner" + suffix + "@email.com", "validPassword123",
+                "Owner", "Hotel", Role.LODGING_OWNER, true));
+        LodgingOwner otherOwner = ownerRepository.save(new LodgingOwner("other" + suffix + "@email.com", "validPassword123",
+                "Other", "Hotel", Role.LODGING_OWNER, true));
+        TouristicPlace place = placeRepository.save(new TouristicPlace("Place " + suffix, "Un lugar de pruebas",
+                Region.EAST, null, owner, true));
+        Tourist tourist = touristRepository.save(new Tourist("tourist" + suffix + "@email.com", "12345678", "Turista",
+                "Verano", Role.TOURIST, TouristType.STANDARD, true));
+        Lodging first = lodgingRepository.save(lodging("Hotel A " + suffix, place, owner));
+        Lodging second = lodgingRepository.save(lodging("Hotel B " + suffix, place, owner));
+        Lodging foreign = lodgingRepository.save(lodging("Hotel C " + suffix, place, otherOwner));
+        today = LocalDate.now();
+
+        List<Booking> bookings = new ArrayList<>();
+        for (int day = 0; day < 5; day++) {
+            bookings.add(booking(first, tourist, today.plusDays(day), BookingState.CREATED));
+            bookings.add(booking(second, tourist, today.plusDays(day), BookingState.CREATED));
+        }
+        bookings.add(booking(first, tourist, today.plusDays(1), BookingState.PENDING));
+        bookings.add(booking(first, tourist, today.minusDays(1), BookingState.CREATED));
+        bookings.add(booking(foreign, tourist, today.plusDays(1), BookingState.CREATED));
+        bookingRepository.saveAll(bookings);
+    }
+
+    @Test
+    @DisplayName("Owner Export - Streams The Night Lines Of The Owner Lodgings In Booking Order")
+    void exportStreamsOwnerNights() {
+        for (Booking booking : bookingRepository.findAll()) {
+            for (LocalDate night = booking.getCheckIn(); night.isBefore(booking.getCheckOut()); night = night.plusDays(1)) {
+                dateRepository.save(new BookingDate(booking, night, 25.0));
+            }
+        }
+
+        List<BookingNightExportRow> lines;
+        try (Stream<BookingNightExportRow> rows = dateRepository.streamNightsForExport(owner.getId(), today, today.plusDays(1))) {
+            lines = rows.toList();
+        }
+
+        assertEquals(10, lines.size());
+        assertTrue(lines.stream().noneMatch(line -> line.lodgingName().startsWith("Hotel C")));
+        for (int i = 1; i < lines.size(); i++) {
+            BookingNightExportRow previous = lines.get(i - 1);
+            BookingNightExportRow current = lines.get(i);
+            assertFalse(current.checkIn().isBefore(previous.checkIn()));
+            if (current.bookingId().equals(previous.bookingId())) {
+                assertTrue(current.date().isAfter(previous.date()));
+            }
+        }
+        try (Stream<BookingNightExportRow> rows = dateRepository.streamNightsForExport(null, today, today.plusDays(1))) {
+            assertEquals(12, rows.count());
+        }
+    }
+
+    private static Lodging lodging(String name, TouristicPlace place, LodgingOwner owner) {
+        return new Lodging(name, "Un hotel de pruebas", "Parada 5, playa mansa", "+5984422112233", 20, 25.0, 5,
+                place, owner, true);
+    }
+
+    private static Booking booking(Lodging lodging, Tourist tourist, LocalDate checkIn, BookingState state) {
+        return new Booking(checkIn, checkIn.plusDays(2), 50.0, lodging, tourist, state, 2, 0, 0, false);
+    }
+}
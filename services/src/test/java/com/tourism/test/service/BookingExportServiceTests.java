@@ -0,0 +1,181 @@
+package com.tourism.test.service;
+
+import com.tourism.dto.response.BookingNightExportRow;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.model.BookingState;
+import com.tourism.repository.BookingDateRepository;
+import com.tourism.service.impl.BookingExportServiceImpl;
+import com.tourism.util.MessageConstants;
+import io.vavr.control.Either;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class BookingExportServiceTests {
+
+    @Mock
+    private BookingDateRepository dateRepository;
+
+    private BookingExportServiceImpl exportService;
+    private LocalDate from;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new BookingExportServiceImpl(dateRepository, 10, 366);
+        from = LocalDate.of(2026, 1, 1);
+    }
+
+    @Test
+    @DisplayName("Export Xlsx - Bookings, Nights And Revenue Sheets")
+    void exportWritesEverySheet() throws Exception {
+        UUID ownerId = UUID.randomUUID();
+        UUID lodgingId = UUID.randomUUID();
+        List<BookingNightExportRow> rows = new ArrayList<>();
+        rows.addAll(nights(UUID.randomUUID(), lodgingId, from, 3, true));
+        rows.addAll(nights(UUID.randomUUID(), lodgingId, from.plusDays(5), 2, false));
+        rows.addAll(nights(UUID.randomUUID(), UUID.randomUUID(), from.plusDays(7), 1, true));
+        AtomicBoolean closed = new AtomicBoolean();
+        when(dateRepository.streamNightsForExport(ownerId, from, from.plusDays(30)))
+                .thenReturn(rows.stream().onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Either<ErrorDto[], Long> result = exportService.exportXlsx(ownerId, from, from.plusDays(30), out);
+
+        assertTrue(result.isRight());
+        assertEquals(6L, result.get());
+        assertTrue(closed.get());
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet bookings = workbook.getSheet("Bookings");
+            Sheet nights = workbook.getSheet("Nights");
+            Sheet revenue = workbook.getSheet("Revenue");
+            assertEquals(3, bookings.getLastRowNum());
+            assertEquals(6, nights.getLastRowNum());
+            assertEquals(2, revenue.getLastRowNum());
+            assertEquals(3, (int) bookings.getRow(1).getCell(6).getNumericCellValue());
+            assertEquals(from, nights.getRow(1).getCell(2).getLocalDateTimeCellValue().toLocalDate());
+            assertEquals(2, (int) revenue.getRow(1).getCell(1).getNumericCellValue());
+            assertEquals(5, (int) revenue.getRow(1).getCell(2).getNumericCellValue());
+            assertEquals(250.0, revenue.getRow(1).getCell(3).getNumericCellValue());
+            assertEquals(150.0, revenue.getRow(1).getCell(4).getNumericCellValue());
+        }
+    }
+
+    @Test
+    @DisplayName("Export Xlsx - Closed Bookings Are Listed But Not Booked")
+    void exportClosedBookingsNotBooked() throws Exception {
+        UUID lodgingId = UUID.randomUUID();
+        List<BookingNightExportRow> rows = new ArrayList<>();
+        rows.addAll(nights(UUID.randomUUID(), lodgingId, from, 2, BookingState.PENDING, false));
+        rows.addAll(nights(UUID.randomUUID(), lodgingId, from.plusDays(3), 3, BookingState.REJECTED, false));
+        rows.addAll(nights(UUID.randomUUID(), lodgingId, from.plusDays(7), 1, BookingState.EXPIRED, false));
+        when(dateRepository.streamNightsForExport(null, from, from.plusDays(30))).thenReturn(rows.stream());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Either<ErrorDto[], Long> result = exportService.exportXlsx(null, from, from.plusDays(30), out);
+
+        assertTrue(result.isRight());
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet bookings = workbook.getSheet("Bookings");
+            Sheet revenue = workbook.getSheet("Revenue");
+            assertEquals(3, bookings.getLastRowNum());
+            assertEquals(BookingState.REJECTED.name(), bookings.getRow(2).getCell(7).getStringCellValue());
+            assertEquals(3, (int) revenue.getRow(1).getCell(1).getNumericCellValue());
+            assertEquals(6, (int) revenue.getRow(1).getCell(2).getNumericCellValue());
+            assertEquals(100.0, revenue.getRow(1).getCell(3).getNumericCellValue());
+            assertEquals(0.0, revenue.getRow(1).getCell(4).getNumericCellValue());
+        }
+    }
+
+    @Test
+    @DisplayName("Export Xlsx - Booking With Deleted Dates Is Totalled From Its Exported Nights")
+    void exportPartiallyDeletedBooking() throws Exception {
+        UUID lodgingId = UUID.randomUUID();
+        UUID bookingId = UUID.randomUUID();
+        // a four night booking of 200 whose second night row was deleted
+        List<BookingNightExportRow> rows = new ArrayList<>(nights(bookingId, lodgingId, from, 4, true));
+        rows.remove(1);
+        when(dateRepository.streamNightsForExport(null, from, from.plusDays(30))).thenReturn(rows.stream());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Either<ErrorDto[], Long> result = exportService.exportXlsx(null, from, from.plusDays(30), out);
+
+        assertTrue(result.isRight());
+        assertEquals(3L, result.get());
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Row booking = workbook.getSheet("Bookings").getRow(1);
+            Row revenue = workbook.getSheet("Revenue").getRow(1);
+            assertEquals(3, (int) booking.getCell(6).getNumericCellValue());
+            assertEquals(150.0, booking.getCell(9).getNumericCellValue());
+            assertEquals(3, (int) revenue.getCell(2).getNumericCellValue());
+            assertEquals(150.0, revenue.getCell(3).getNumericCellValue());
+        }
+    }
+
+    @Test
+    @DisplayName("Export Xlsx - Invalid Range Writes Nothing")
+    void exportInvalidRange() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Either<ErrorDto[], Long> reversed = exportService.exportXlsx(null, from, from.minusDays(1), out);
+        Either<ErrorDto[], Long> tooLong = exportService.exportXlsx(null, from, from.plusDays(400), out);
+
+        assertTrue(reversed.isLeft());
+        assertTrue(tooLong.isLeft());
+        assertEquals(HttpStatus.BAD_REQUEST, reversed.getLeft()[0].code());
+        assertEquals(MessageConstants.ERROR_INVALID_EXPORT_RANGE, tooLong.getLeft()[0].message());
+        assertEquals(0, out.size());
+        verify(dateRepository, never()).streamNightsForExport(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Export Xlsx - Exception Thrown")
+    void exportException() {
+        when(dateRepository.streamNightsForExport(any(), any(), any())).thenReturn(Stream.generate(() -> {
+            throw new IllegalStateException("Test exception");
+        }));
+
+        Either<ErrorDto[], Long> result = exportService.exportXlsx(null, from, from.plusDays(1), new ByteArrayOutputStream());
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getLeft()[0].code());
+        assertEquals(MessageConstants.ERROR_EXPORT_BOOKINGS, result.getLeft()[0].message());
+    }
+
+    private static List<BookingNightExportRow> nights(UUID bookingId, UUID lodgingId, LocalDate checkIn, int count, boolean paid) {
+        return nights(bookingId, lodgingId, checkIn, count, paid ? BookingState.ACCEPTED : BookingState.CREATED, paid);
+    }
+
+    private static List<BookingNightExportRow> nights(UUID bookingId, UUID lodgingId, LocalDate checkIn, int count,
+                                                      BookingState state, boolean paid) {
+        List<BookingNightExportRow> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(new BookingNightExportRow(bookingId, lodgingId, "Hotel " + lodgingId, "Turista", "Verano", checkIn,
+                    checkIn.plusDays(count), state, paid, checkIn.plusDays(i), 50.0));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,121 @@
+package com.tourism.test.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tourism.dto.response.BookingOutcomeMessage;
+import com.tourism.model.BookingOutcomeOutbox;
+import com.tourism.model.BookingState;
+import com.tourism.repository.BookingOutcomeOutboxRepository;
+import com.tourism.service.IdempotencyService;
+import com.tourism.service.impl.BookingOutcomeOutboxServiceImpl;
+import com.tourism.util.helpers.KafkaSendMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class BookingOutcomeOutboxServiceTests {
+
+    private static final String OUTCOME_TOPIC = "booking-outcome-topic";
+
+    @Mock
+    private BookingOutcomeOutboxRepository repository;
+    @Mock
+    private IdempotencyService idempotencyService;
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+    @Mock
+    private KafkaSendMetrics sendMetrics;
+
+    private ObjectMapper objectMapper;
+    private BookingOutcomeOutboxServiceImpl outboxService;
+    private UUID touristId;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        outboxService = new BookingOutcomeOutboxServiceImpl(repository, idempotencyService, kafkaTemplate, objectMapper, sendMetrics);
+        ReflectionTestUtils.setField(outboxService, "outcomeTopic", OUTCOME_TOPIC);
+        touristId = UUID.randomUUID();
+        when(idempotencyService.requestKey(any(), anyString())).thenAnswer(i -> i.getArgument(0) + ":" + i.getArgument(1));
+        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(new CompletableFuture<>());
+    }
+
+    @Test
+    @DisplayName("Record Outcome - Stored In The Outbox Instead Of Sent")
+    void recordStoresOutcome() {
+        BookingOutcomeMessage outcome = outcome("key");
+
+        outboxService.record(outcome);
+
+        verify(repository).save(argThat(outbox -> outbox.getRequestKey().equals(touristId + ":key") &&
+                outbox.getMessageKey().equals(touristId.toString()) && outbox.getPayload().contains(outcome.bookingId().toString())));
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Record Outcome - Without Idempotency Key Is Sent Directly")
+    void recordWithoutKeySendsDirectly() {
+        outboxService.record(outcome(null));
+
+        verify(repository, never()).save(any());
+        verify(kafkaTemplate).send(eq(OUTCOME_TOPIC), eq(touristId.toString()), anyString());
+    }
+
+    @Test
+    @DisplayName("Publish Outcome - Sends The Stored Payload")
+    void publishSendsStoredPayload() {
+        BookingOutcomeOutbox outbox = new BookingOutcomeOutbox(touristId + ":key", touristId.toString(), "{\"state\":\"CREATED\"}");
+        when(repository.findByRequestKey(touristId + ":key")).thenReturn(Optional.of(outbox));
+
+        outboxService.publish(touristId, "key");
+
+        verify(kafkaTemplate).send(OUTCOME_TOPIC, touristId.toString(), outbox.getPayload());
+        verify(sendMetrics).track(eq(OUTCOME_TOPIC), any());
+    }
+
+    @Test
+    @DisplayName("Publish Outcome - Nothing Stored Sends Nothing")
+    void publishNothingStored() {
+        when(repository.findByRequestKey(anyString())).thenReturn(Optional.empty());
+
+        outboxService.publish(touristId, "key");
+        outboxService.publish(touristId, null);
+
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Purge Outbox - Deletes Rows Older Than Retention")
+    void purge() {
+        Instant before = Instant.now();
+        when(repository.deleteCreatedBefore(before)).thenReturn(3);
+
+        assertEquals(3, outboxService.purge(before));
+    }
+
+    private BookingOutcomeMessage outcome(String idempotencyKey) {
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        return new BookingOutcomeMessage(touristId, UUID.randomUUID(), UUID.randomUUID(), checkIn, checkIn.plusDays(2),
+                BookingState.CREATED, idempotencyKey);
+    }
+}
@@ -0,0 +1,116 @@
+package com.tourism.test.service;
+
+import com.tourism.dto.response.BookingInboxItemDTO;
+import com.tourism.model.*;
+import com.tourism.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "jpa-test.database=inbox")
+@ActiveProfiles("jpa")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BookingOwnerInboxQueryTests {
+
+    private static final LocalDate LAST_CHECK_IN = LocalDate.of(9999, 12, 31);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private LodgingRepository lodgingRepository;
+    @Autowired
+    private LodgingOwnerRepository ownerRepository;
+    @Autowired
+    private TouristicPlaceRepository placeRepository;
+    @Autowired
+    private TouristRepository touristRepository;
+
+    private LodgingOwner owner;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        owner = ownerRepository.save(new LodgingOwner("owner" + suffix + "@email.com", "validPassword123",
+                "Owner", "Hotel", Role.LODGING_OWNER, true));
+        LodgingOwner otherOwner = ownerRepository.save(new LodgingOwner("other" + suffix + "@email.com", "validPassword123",
+                "Other", "Hotel", Role.LODGING_OWNER, true));
+        TouristicPlace place = placeRepository.save(new TouristicPlace("Place " + suffix, "Un lugar de pruebas",
+                Region.EAST, null, owner, true));
+        Tourist tourist = touristRepository.save(new Tourist("tourist" + suffix + "@email.com", "12345678", "Turista",
+                "Verano", Role.TOURIST, TouristType.STANDARD, true));
+        Lodging first = lodgingRepository.save(lodging("Hotel A " + suffix, place, owner));
+        Lodging second = lodgingRepository.save(lodging("Hotel B " + suffix, place, owner));
+        Lodging foreign = lodgingRepository.save(lodging("Hotel C " + suffix, place, otherOwner));
+        today = LocalDate.now();
+
+        List<Booking> bookings = new ArrayList<>();
+        for (int day = 0; day < 5; day++) {
+            bookings.add(booking(first, tourist, today.plusDays(day), BookingState.CREATED));
+            bookings.add(booking(second, tourist, today.plusDays(day), BookingState.CREATED));
+        }
+        bookings.add(booking(first, tourist, today.plusDays(1), BookingState.PENDING));
+        bookings.add(booking(first, tourist, today.minusDays(1), BookingState.CREATED));
+        bookings.add(booking(foreign, tourist, today.plusDays(1), BookingState.CREATED));
+        bookingRepository.saveAll(bookings);
+    }
+
+    @Test
+    @DisplayName("Owner Inbox - Only Bookings Of The Owner With The State And Range")
+    void filtersByOwnerStateAndRange() {
+        List<BookingInboxItemDTO> page = bookingRepository.findOwnerInbox(owner.getId(), BookingState.CREATED, today,
+                today.plusDays(2), today.minusDays(1), new UUID(-1L, -1L), PageRequest.of(0, 100));
+
+        assertEquals(6, page.size());
+        assertTrue(page.stream().allMatch(item -> item.state() == BookingState.CREATED));
+        assertTrue(page.stream().noneMatch(item -> item.lodgingName().startsWith("Hotel C")));
+        assertTrue(page.stream().allMatch(item -> !item.checkIn().isBefore(today) && !item.checkIn().isAfter(today.plusDays(2))));
+        assertEquals("Turista", page.getFirst().firstName());
+    }
+
+    @Test
+    @DisplayName("Owner Inbox - Keyset Pages Cover Every Booking Once In Order")
+    void keysetPagesCoverEveryBookingOnce() {
+        List<BookingInboxItemDTO> all = new ArrayList<>();
+        LocalDate afterCheckIn = today.minusDays(1);
+        UUID afterId = new UUID(-1L, -1L);
+        List<BookingInboxItemDTO> page;
+        do {
+            page = bookingRepository.findOwnerInbox(owner.getId(), BookingState.CREATED, today, LAST_CHECK_IN,
+                    afterCheckIn, afterId, PageRequest.of(0, 3));
+            if (!page.isEmpty()) {
+                BookingInboxItemDTO last = page.getLast();
+                afterCheckIn = last.checkIn();
+                afterId = last.id();
+            }
+            all.addAll(page);
+        } while (page.size() == 3);
+
+        assertEquals(10, all.size());
+        assertEquals(10, all.stream().map(BookingInboxItemDTO::id).distinct().count());
+        for (int i = 1; i < all.size(); i++) {
+            assertFalse(all.get(i).checkIn().isBefore(all.get(i - 1).checkIn()));
+        }
+    }
+
+    private static Lodging lodging(String name, TouristicPlace place, LodgingOwner owner) {
+        return new Lodging(name, "Un hotel de pruebas", "Parada 5, playa mansa", "+5984422112233", 20, 25.0, 5,
+                place, owner, true);
+    }
+
+    private static Booking booking(Lodging lodging, Tourist tourist, LocalDate checkIn, BookingState state) {
+        return new Booking(checkIn, checkIn.plusDays(2), 50.0, lodging, tourist, state, 2, 0, 0, false);
+    }
+}
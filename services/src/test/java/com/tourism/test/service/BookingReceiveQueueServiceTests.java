@@ -0,0 +1,124 @@
+package com.tourism.test.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tourism.dto.request.BookingMessage;
+import com.tourism.dto.request.BookingRequestDTO;
+import com.tourism.service.BookingDeadLetterService;
+import com.tourism.service.BookingOutcomeOutboxService;
+import com.tourism.service.BookingService;
+import com.tourism.service.impl.queues.BookingReceiveQueueServiceKafkaImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class BookingReceiveQueueServiceTests {
+
+    @Mock
+    private BookingService bookingService;
+    @Mock
+    private BookingDeadLetterService deadLetterService;
+    @Mock
+    private BookingOutcomeOutboxService outboxService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ObjectMapper objectMapper;
+    private BookingReceiveQueueServiceKafkaImpl receiveService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        receiveService = new BookingReceiveQueueServiceKafkaImpl(objectMapper, bookingService, deadLetterService,
+                outboxService, new TransactionTemplate(transactionManager), false);
+    }
+
+    @Test
+    @DisplayName("Receive Message - Processes Booking")
+    void receiveMessage() throws Exception {
+        BookingMessage message = new BookingMessage(new BookingRequestDTO(LocalDate.now(), LocalDate.now().plusDays(2),
+                UUID.randomUUID(), 2, 0, 0), UUID.randomUUID(), "key");
+
+        receiveService.receiveMessage(objectMapper.writeValueAsString(message));
+
+        verify(bookingService).processBooking(message);
+        verify(outboxService, never()).publish(any(), any());
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("Receive Message - Exactly Once Commits Booking Before Sending Its Outcome")
+    void receiveMessageExactlyOnce() throws Exception {
+        BookingReceiveQueueServiceKafkaImpl exactlyOnceService = new BookingReceiveQueueServiceKafkaImpl(objectMapper,
+                bookingService, deadLetterService, outboxService, new TransactionTemplate(transactionManager), true);
+        BookingMessage message = new BookingMessage(new BookingRequestDTO(LocalDate.now(), LocalDate.now().plusDays(2),
+                UUID.randomUUID(), 2, 0, 0), UUID.randomUUID(), "key");
+
+        exactlyOnceService.receiveMessage(objectMapper.writeValueAsString(message));
+
+        InOrder inOrder = inOrder(transactionManager, bookingService, outboxService);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(bookingService).processBooking(message);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(outboxService).publish(message.touristId(), "key");
+    }
+
+    @Test
+    @DisplayName("Receive Message - Exactly Once Failure Rolls Back Without Sending")
+    void receiveMessageExactlyOnceFailure() throws Exception {
+        BookingReceiveQueueServiceKafkaImpl exactlyOnceService = new BookingReceiveQueueServiceKafkaImpl(objectMapper,
+                bookingService, deadLetterService, outboxService, new TransactionTemplate(transactionManager), true);
+        BookingMessage message = new BookingMessage(new BookingRequestDTO(LocalDate.now(), LocalDate.now().plusDays(2),
+                UUID.randomUUID(), 2, 0, 0), UUID.randomUUID(), "key");
+        doThrow(new IllegalStateException("db down")).when(bookingService).processBooking(any());
+
+        String body = objectMapper.writeValueAsString(message);
+        assertThrows(IllegalStateException.class, () -> exactlyOnceService.receiveMessage(body));
+        verify(transactionManager).rollback(any());
+        verify(outboxService, never()).publish(any(), any());
+    }
+
+    @Test
+    @DisplayName("Receive Message - Processing Failure Is Rethrown For Retry")
+    void receiveMessageFailure() throws Exception {
+        BookingMessage message = new BookingMessage(new BookingRequestDTO(LocalDate.now(), LocalDate.now().plusDays(2),
+                UUID.randomUUID(), 2, 0, 0), UUID.randomUUID());
+        doThrow(new NullPointerException()).when(bookingService).processBooking(any());
+
+        String body = objectMapper.writeValueAsString(message);
+        assertThrows(NullPointerException.class, () -> receiveService.receiveMessage(body));
+    }
+
+    @Test
+    @DisplayName("Receive Message - Unreadable Message Is Not Retryable")
+    void receiveMessageUnreadable() {
+        assertThrows(MessageConversionException.class, () -> receiveService.receiveMessage("not json"));
+        verify(bookingService, never()).processBooking(any());
+    }
+
+    @Test
+    @DisplayName("Receive Dead Letter - Persists Message")
+    void receiveDeadLetter() {
+        receiveService.receiveDeadLetter("payload", "booking-topic", "boom");
+
+        verify(deadLetterService).save("booking-topic", "payload", "boom");
+    }
+}
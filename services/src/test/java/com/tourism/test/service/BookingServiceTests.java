@@ -1,12 +1,20 @@
 package com.tourism.test.service;
 
 import com.tourism.dto.mappers.BookingMapper;
+import com.tourism.dto.request.BookingInboxCursor;
+import com.tourism.dto.request.BookingBulkStateRequestDTO;
 import com.tourism.dto.request.BookingMessage;
 import com.tourism.dto.request.BookingRequestDTO;
 import com.tourism.dto.request.BookingUpdateRequestDTO;
+import com.tourism.dto.request.OwnerInboxRequest;
 import com.tourism.dto.request.PageableRequest;
+import com.tourism.dto.request.TouristTimelineRequest;
+import com.tourism.dto.response.BookingInboxItemDTO;
+import com.tourism.dto.response.BookingInboxPageDTO;
 import com.tourism.dto.response.BookingResponseDTO;
+import com.tourism.dto.response.BookingStateChangeResultDTO;
 import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.TouristBookingDTO;
 import com.tourism.model.Role;
 import com.tourism.model.*;
 import com.tourism.observer.LodgingOwnerObserver;
@@ -15,18 +23,26 @@ import com.tourism.repository.BookingDateRepository;
 import com.tourism.repository.BookingRepository;
 import com.tourism.repository.LodgingRepository;
 import com.tourism.repository.TouristRepository;
+import com.tourism.service.BookingOutcomeService;
 import com.tourism.service.BookingSendingQueueService;
+import com.tourism.service.CapacityReservationService;
+import com.tourism.service.IdempotencyService;
+import com.tourism.service.LodgingRollupService;
+import com.tourism.service.NotificationService;
 import com.tourism.service.impl.BookingServiceImpl;
 import com.tourism.util.MessageConstants;
 import com.tourism.util.PageService;
 import com.tourism.util.validations.BookingValidation;
 import com.tourism.util.validations.DateValidation;
+import com.tourism.util.helpers.BookingMetrics;
+import com.tourism.util.helpers.LodgingLockManager;
 import com.tourism.util.helpers.PricingService;
 import io.vavr.control.Either;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -35,13 +51,17 @@ import org.mockito.quality.Strictness;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.*;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -70,6 +90,22 @@ class BookingServiceTests {
     @Mock
     private BookingSendingQueueService queueService;
     @Mock
+    private CapacityReservationService capacityService;
+    @Mock
+    private LodgingLockManager lockManager;
+    @Mock
+    private IdempotencyService idempotencyService;
+    @Mock
+    private BookingOutcomeService outcomeService;
+    @Mock
+    private BookingMetrics bookingMetrics;
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private LodgingRollupService rollupService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
     private LodgingOwnerObserver lodgingOwnerObserver;
     @Mock
     private TouristObserver touristObserver;
@@ -115,6 +151,7 @@ class BookingServiceTests {
         bookingService.addObserver(lodgingOwnerObserver);
         bookingService.addObserver(touristObserver);
         bookingMessage = new BookingMessage(requestDto, tourist.getId());
+        when(repository.updateStateIfIn(any(), any(), any(), any())).thenReturn(1);
     }
 
     @Test
@@ -128,14 +165,14 @@ class BookingServiceTests {
         when(lodgingRepository.findById(lodging.getId())).thenReturn(Optional.of(lodging));
         when(bookingValidation.validateBooking(any(), any(), any())).thenReturn(Either.right(true));
         when(mapper.modelToResponseDTO(any(Booking.class))).thenReturn(dto);
-        doNothing().when(queueService).sendMessage(any(BookingRequestDTO.class), any(UUID.class));
+        doNothing().when(queueService).sendMessage(any(BookingRequestDTO.class), any(UUID.class), any());
         when(repository.save(any())).thenAnswer(b -> {
             Booking savedBooking = b.getArgument(0);
             savedBooking.setId(UUID.randomUUID());
             return savedBooking;
         });
 
-        Either<ErrorDto[], String> result = bookingService.create(requestDto, tourist.getId());
+        Either<ErrorDto[], String> result = bookingService.create(requestDto, tourist.getId(), null);
 
         assertTrue(result.isRight());
         String response = result.get();
@@ -143,6 +180,35 @@ class BookingServiceTests {
         assertEquals(MessageConstants.BOOKING_IS_BEING_PROCESSED, response);
     }
 
+    @Test
+    @DisplayName("Create Booking - Replayed Idempotency Key Is Not Sent Again")
+    void createBookingReplayedKey() {
+        when(idempotencyService.requestKey(tourist.getId(), "retry-key")).thenReturn("request-key");
+        when(idempotencyService.isProcessed("request-key")).thenReturn(true);
+
+        Either<ErrorDto[], String> result = bookingService.create(requestDto, tourist.getId(), "retry-key");
+
+        assertTrue(result.isRight());
+        assertEquals(MessageConstants.BOOKING_IS_BEING_PROCESSED, result.get());
+        verify(queueService, never()).sendMessage(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Create Booking - Queue Full")
+    void createBookingQueueFull() {
+        when(touristRepository.findById(tourist.getId())).thenReturn(Optional.of(tourist));
+        when(lodgingRepository.findById(lodging.getId())).thenReturn(Optional.of(lodging));
+        when(bookingValidation.validateBooking(any(), any(), any())).thenReturn(Either.right(true));
+        doThrow(new RejectedExecutionException(MessageConstants.ERROR_BOOKING_QUEUE_FULL))
+                .when(queueService).sendMessage(any(BookingRequestDTO.class), any(UUID.class), any());
+
+        Either<ErrorDto[], String> result = bookingService.create(requestDto, tourist.getId(), null);
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, result.getLeft()[0].code());
+        assertEquals(MessageConstants.ERROR_BOOKING_QUEUE_FULL, result.getLeft()[0].message());
+    }
+
     @Test
     @DisplayName("Create Booking - Fails")
     void createBookingValidationFails() {
@@ -150,7 +216,7 @@ class BookingServiceTests {
         when(lodgingRepository.findById(lodging.getId())).thenReturn(Optional.of(lodging));
         when(bookingValidation.validateBooking(any(), any(), any())).thenReturn(Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.BAD_REQUEST, "Validation failed")}));
 
-        Either<ErrorDto[], String> result = bookingService.create(requestDto, tourist.getId());
+        Either<ErrorDto[], String> result = bookingService.create(requestDto, tourist.getId(), null);
 
         assertTrue(result.isLeft());
         ErrorDto[] errors = result.getLeft();
@@ -164,7 +230,7 @@ class BookingServiceTests {
     void createBookingTouristNotFound() {
         when(touristRepository.findById(tourist.getId())).thenReturn(Optional.empty());
 
-        Either<ErrorDto[], String> result = bookingService.create(requestDto, tourist.getId());
+        Either<ErrorDto[], String> result = bookingService.create(requestDto, tourist.getId(), null);
 
         assertTrue(result.isLeft());
         ErrorDto[] errors = result.getLeft();
@@ -179,7 +245,7 @@ class BookingServiceTests {
         when(touristRepository.findById(tourist.getId())).thenReturn(Optional.of(tourist));
         when(lodgingRepository.findById(lodging.getId())).thenReturn(Optional.empty());
 
-        Either<ErrorDto[], String> result = bookingService.create(requestDto, tourist.getId());
+        Either<ErrorDto[], String> result = bookingService.create(requestDto, tourist.getId(), null);
 
         assertTrue(result.isLeft());
         ErrorDto[] errors = result.getLeft();
@@ -193,9 +259,7 @@ class BookingServiceTests {
     void processBookingSuccess() {
         when(touristRepository.findById(any())).thenReturn(Optional.of(tourist));
         when(lodgingRepository.findById(any())).thenReturn(Optional.of(lodging));
-        when(bookingValidation.validLodgingCapacityVsBookings(
-                anyInt(), anyInt(), anyInt(), any(), any(), any()
-        )).thenReturn(true);
+        when(capacityService.reserve(lodging, requestDto.checkIn(), requestDto.checkOut(), 4)).thenReturn(true);
 
         when(dateValidation.datesBetweenDates(any(), any())).thenReturn(mockDates);
         when(pricingService.calculateBookingPrice(any(), any(), any(), anyInt(), anyInt(), anyInt()))
@@ -210,6 +274,37 @@ class BookingServiceTests {
                         booking.getLodging().equals(lodging)
         ));
         verify(dateRepository, times(mockDates.size())).save(any(BookingDate.class));
+        verify(lockManager).lockUntilTransactionEnds(lodging.getId());
+        verify(transactionManager).commit(any());
+        verify(outcomeService).publish(argThat(outcome -> outcome.state() == BookingState.CREATED &&
+                outcome.touristId().equals(tourist.getId()) && outcome.lodgingId().equals(lodging.getId())));
+        verify(bookingMetrics).record(eq(BookingMetrics.Stage.VALIDATION), anyLong());
+        verify(bookingMetrics).record(eq(BookingMetrics.Stage.PRICING), anyLong());
+        verify(bookingMetrics).record(eq(BookingMetrics.Stage.PERSISTENCE), anyLong());
+        verify(bookingMetrics).record(eq(BookingMetrics.Stage.NOTIFICATION), anyLong());
+    }
+
+    @Test
+    @DisplayName("Create Booking - Inside A Transaction The Lodging Stays Locked Until It Ends")
+    void processBookingInsideTransaction() {
+        when(touristRepository.findById(any())).thenReturn(Optional.of(tourist));
+        when(lodgingRepository.findById(any())).thenReturn(Optional.of(lodging));
+        when(capacityService.reserve(lodging, requestDto.checkIn(), requestDto.checkOut(), 4)).thenReturn(true);
+        when(dateValidation.datesBetweenDates(any(), any())).thenReturn(mockDates);
+        when(repository.save(any())).thenAnswer(i -> i.getArgument(0));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            bookingService.processBooking(bookingMessage);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        verify(lockManager).lockUntilTransactionEnds(lodging.getId());
+        verify(lockManager, never()).withLock(any(), any());
+        verify(transactionManager, never()).getTransaction(any());
+        verify(repository).save(argThat(booking -> booking.getState() == BookingState.CREATED));
+        verify(rollupService).addBooking(argThat(booking -> booking.getState() == BookingState.CREATED),
+                argThat(nights -> nights.size() == mockDates.size()));
     }
 
     @Test
@@ -217,7 +312,7 @@ class BookingServiceTests {
     void processBookingUnavailable() {
         when(touristRepository.findById(any())).thenReturn(Optional.of(tourist));
         when(lodgingRepository.findById(any())).thenReturn(Optional.of(lodging));
-        when(bookingValidation.validLodgingCapacityVsBookings(anyInt(), anyInt(), anyInt(), any(), any(), any())).thenReturn(false);
+        when(capacityService.reserve(any(), any(), any(), anyInt())).thenReturn(false);
         when(repository.save(any())).thenAnswer(i -> i.getArgument(0));
 
         bookingService.processBooking(bookingMessage);
@@ -228,6 +323,86 @@ class BookingServiceTests {
                         booking.getLodging().equals(lodging)
         ));
         verify(dateRepository, never()).save(any(BookingDate.class));
+        verify(capacityService, never()).release(any(), any(), any(), anyInt());
+        verify(rollupService, never()).addBooking(any(), any());
+        verify(outcomeService).publish(argThat(outcome -> outcome.state() == BookingState.UNAVAILABLE));
+    }
+
+    @Test
+    @DisplayName("Create Booking - Reserved Capacity Rolls Back When Persisting Fails")
+    void processBookingRollsBackCapacityOnFailure() {
+        when(touristRepository.findById(any())).thenReturn(Optional.of(tourist));
+        when(lodgingRepository.findById(any())).thenReturn(Optional.of(lodging));
+        when(capacityService.reserve(any(), any(), any(), anyInt())).thenReturn(true);
+        when(dateValidation.datesBetweenDates(any(), any())).thenReturn(mockDates);
+        when(repository.save(any())).thenThrow(new RuntimeException("Database error"));
+
+        assertThrows(RuntimeException.class, () -> bookingService.processBooking(bookingMessage));
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(capacityService, never()).release(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Create Booking - Failing Night Rolls Back The Booking, Its Nights And The Rollup")
+    void processBookingNightFailureRollsBackEverything() {
+        when(touristRepository.findById(any())).thenReturn(Optional.of(tourist));
+        when(lodgingRepository.findById(any())).thenReturn(Optional.of(lodging));
+        when(idempotencyService.requestKey(tourist.getId(), "retry-key")).thenReturn("request-key");
+        when(idempotencyService.register("request-key")).thenReturn(true);
+        when(capacityService.reserve(any(), any(), any(), anyInt())).thenReturn(true);
+        when(dateValidation.datesBetweenDates(any(), any())).thenReturn(mockDates);
+        when(repository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(dateRepository.save(any(BookingDate.class)))
+                .thenAnswer(i -> i.getArgument(0))
+                .thenThrow(new RuntimeException("Database error"));
+
+        assertThrows(RuntimeException.class, () -> bookingService.processBooking(new BookingMessage(requestDto, tourist.getId(), "retry-key")));
+
+        InOrder order = inOrder(transactionManager, lockManager, idempotencyService, repository, dateRepository);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(lockManager).lockUntilTransactionEnds(lodging.getId());
+        order.verify(idempotencyService).register("request-key");
+        order.verify(repository).save(any(Booking.class));
+        order.verify(dateRepository, times(2)).save(any(BookingDate.class));
+        order.verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(rollupService, never()).addBooking(any(), any());
+        verify(outcomeService, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("Create Booking - Replayed Message Is Skipped")
+    void processBookingReplayedMessage() {
+        when(touristRepository.findById(any())).thenReturn(Optional.of(tourist));
+        when(lodgingRepository.findById(any())).thenReturn(Optional.of(lodging));
+        when(idempotencyService.requestKey(tourist.getId(), "retry-key")).thenReturn("request-key");
+        when(idempotencyService.register("request-key")).thenReturn(false);
+
+        bookingService.processBooking(new BookingMessage(requestDto, tourist.getId(), "retry-key"));
+
+        verify(capacityService, never()).reserve(any(), any(), any(), anyInt());
+        verify(repository, never()).save(any());
+        verify(lodgingOwnerObserver, never()).notifyStatusChange(any(), any(), any(), any(), any());
+        verify(outcomeService, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("Create Booking - Failed Message Can Be Retried")
+    void processBookingFailureUnregistersKey() {
+        when(touristRepository.findById(any())).thenReturn(Optional.of(tourist));
+        when(lodgingRepository.findById(any())).thenReturn(Optional.of(lodging));
+        when(idempotencyService.requestKey(tourist.getId(), "retry-key")).thenReturn("request-key");
+        when(idempotencyService.register("request-key")).thenReturn(true);
+        when(capacityService.reserve(any(), any(), any(), anyInt())).thenReturn(true);
+        when(dateValidation.datesBetweenDates(any(), any())).thenReturn(mockDates);
+        when(repository.save(any())).thenThrow(new RuntimeException("Database error"));
+
+        assertThrows(RuntimeException.class, () -> bookingService.processBooking(new BookingMessage(requestDto, tourist.getId(), "retry-key")));
+
+        verify(idempotencyService).register("request-key");
+        verify(transactionManager).rollback(any());
     }
 
     @Test
@@ -235,6 +410,7 @@ class BookingServiceTests {
     void processBookingTouristNotFound() {
         when(touristRepository.findById(any())).thenReturn(Optional.empty());
         assertThrows(NullPointerException.class, () -> bookingService.processBooking(bookingMessage));
+        verify(capacityService, never()).reserve(any(), any(), any(), anyInt());
     }
 
     @Test
@@ -264,9 +440,9 @@ class BookingServiceTests {
         when(lodgingRepository.findById(lodging.getId())).thenReturn(Optional.of(lodging));
         when(bookingValidation.validateBooking(any(), any(), any())).thenReturn(Either.right(true));
         when(mapper.modelToResponseDTO(any(Booking.class))).thenReturn(dto);
-        doNothing().when(queueService).sendMessage(any(BookingRequestDTO.class), any(UUID.class));
+        doNothing().when(queueService).sendMessage(any(BookingRequestDTO.class), any(UUID.class), any());
 
-        Either<ErrorDto[], String> result = bookingService.update(updateDto, tourist.getId());
+        Either<ErrorDto[], String> result = bookingService.update(updateDto, tourist.getId(), null);
 
         assertTrue(result.isRight());
         String response = result.get();
@@ -274,13 +450,122 @@ class BookingServiceTests {
         assertEquals(MessageConstants.BOOKING_IS_BEING_PROCESSED, response);
     }
 
+    @Test
+    @DisplayName("Update Booking - Queues The Replacement And Keeps The Old Booking")
+    void updateBookingKeepsOldBookingUntilProcessed() {
+        when(touristRepository.findById(tourist.getId())).thenReturn(Optional.of(tourist));
+        when(repository.findById(updateDto.bookingId())).thenReturn(Optional.of(existingBooking));
+        when(lodgingRepository.findById(lodging.getId())).thenReturn(Optional.of(lodging));
+        when(bookingValidation.validateBooking(any(), any(), any())).thenReturn(Either.right(true));
+
+        Either<ErrorDto[], String> result = bookingService.update(updateDto, tourist.getId(), null);
+
+        assertTrue(result.isRight());
+        verify(queueService).sendMessage(any(), eq(tourist.getId()), any(), eq(existingBooking.getId()));
+        verify(capacityService, never()).release(any(), any(), any(), anyInt());
+        verify(rollupService, never()).removeBooking(any());
+        verify(dateRepository, never()).deleteByBooking(any());
+        verify(repository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Update Booking - Another Tourist's Booking Is Forbidden")
+    void updateBookingOfAnotherTourist() {
+        UUID otherTouristId = UUID.randomUUID();
+        when(repository.findById(updateDto.bookingId())).thenReturn(Optional.of(existingBooking));
+
+        Either<ErrorDto[], String> result = bookingService.update(updateDto, otherTouristId, null);
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.FORBIDDEN, result.getLeft()[0].code());
+        assertEquals(MessageConstants.ERROR_USER_TOURIST, result.getLeft()[0].message());
+        verify(queueService, never()).sendMessage(any(), any(), any(), any());
+        verify(queueService, never()).sendMessage(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Update Booking - Accepted Booking Cannot Be Modified")
+    void updateAcceptedBooking() {
+        existingBooking.setState(BookingState.ACCEPTED);
+        existingBooking.setHasPaid(true);
+        when(touristRepository.findById(tourist.getId())).thenReturn(Optional.of(tourist));
+        when(repository.findById(updateDto.bookingId())).thenReturn(Optional.of(existingBooking));
+
+        Either<ErrorDto[], String> result = bookingService.update(updateDto, tourist.getId(), null);
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.CONFLICT, result.getLeft()[0].code());
+        assertEquals(MessageConstants.ERROR_BOOKING_NOT_MODIFIABLE, result.getLeft()[0].message());
+        verify(queueService, never()).sendMessage(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Process Update - New Stay Booked And Old Booking Removed In The Same Transaction")
+    void processUpdateReplacesOldBooking() {
+        BookingRequestDTO newStay = new BookingRequestDTO(updateDto.checkIn(), updateDto.checkOut(), lodging.getId(), 2, 1, 1);
+        stubProcessing();
+        when(repository.findById(existingBooking.getId())).thenReturn(Optional.of(existingBooking));
+        when(capacityService.reserve(lodging, newStay.checkIn(), newStay.checkOut(), 4)).thenReturn(true);
+
+        bookingService.processBooking(replacement(newStay));
+
+        InOrder order = inOrder(transactionManager, capacityService, rollupService, dateRepository, repository);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(capacityService).release(lodging, existingBooking.getCheckIn(), existingBooking.getCheckOut(), 4);
+        order.verify(capacityService).reserve(lodging, newStay.checkIn(), newStay.checkOut(), 4);
+        order.verify(rollupService).removeBooking(existingBooking);
+        order.verify(dateRepository).deleteByBooking(existingBooking);
+        order.verify(repository).delete(existingBooking);
+        order.verify(repository).save(argThat(booking -> booking.getState() == BookingState.CREATED));
+        order.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Process Update - Failed Replacement Keeps The Original Booking")
+    void processUpdateFailureKeepsOriginal() {
+        BookingRequestDTO newStay = new BookingRequestDTO(updateDto.checkIn(), updateDto.checkOut(), lodging.getId(), 2, 1, 1);
+        stubProcessing();
+        when(repository.findById(existingBooking.getId())).thenReturn(Optional.of(existingBooking));
+        when(capacityService.reserve(lodging, newStay.checkIn(), newStay.checkOut(), 4)).thenReturn(false);
+        when(capacityService.reserve(lodging, existingBooking.getCheckIn(), existingBooking.getCheckOut(), 4)).thenReturn(true);
+
+        bookingService.processBooking(replacement(newStay));
+
+        InOrder order = inOrder(capacityService);
+        order.verify(capacityService).release(lodging, existingBooking.getCheckIn(), existingBooking.getCheckOut(), 4);
+        order.verify(capacityService).reserve(lodging, newStay.checkIn(), newStay.checkOut(), 4);
+        order.verify(capacityService).reserve(lodging, existingBooking.getCheckIn(), existingBooking.getCheckOut(), 4);
+        verify(rollupService, never()).removeBooking(any());
+        verify(dateRepository, never()).deleteByBooking(any());
+        verify(repository, never()).delete(any());
+        assertEquals(BookingState.CREATED, existingBooking.getState());
+        verify(outcomeService).publish(argThat(outcome -> outcome.state() == BookingState.UNAVAILABLE));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Process Update - Old Booking Closed Meanwhile Drops The Update")
+    void processUpdateOfClosedBooking() {
+        BookingRequestDTO newStay = new BookingRequestDTO(updateDto.checkIn(), updateDto.checkOut(), lodging.getId(), 2, 1, 1);
+        stubProcessing();
+        existingBooking.setState(BookingState.EXPIRED);
+        when(repository.findById(existingBooking.getId())).thenReturn(Optional.of(existingBooking));
+
+        bookingService.processBooking(replacement(newStay));
+
+        verify(capacityService, never()).release(any(), any(), any(), anyInt());
+        verify(capacityService, never()).reserve(any(), any(), any(), anyInt());
+        verify(repository, never()).save(any());
+        verify(outcomeService, never()).publish(any());
+    }
+
     @Test
     @DisplayName("Update Booking - Booking Not Found")
     void updateBookingNotFound() {
         when(dateValidation.datesBetweenDates(any(), any())).thenReturn(mockDates);
         when(repository.findById(updateDto.bookingId())).thenReturn(Optional.empty());
 
-        Either<ErrorDto[], String> result = bookingService.update(updateDto, tourist.getId());
+        Either<ErrorDto[], String> result = bookingService.update(updateDto, tourist.getId(), null);
 
         assertTrue(result.isLeft());
         ErrorDto[] errors = result.getLeft();
@@ -297,7 +582,7 @@ class BookingServiceTests {
         when(lodgingRepository.findById(lodging.getId())).thenReturn(Optional.of(lodging));
         when(bookingValidation.validateBooking(any(), any(), any())).thenReturn(Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.BAD_REQUEST, "Validation failed")}));
 
-        Either<ErrorDto[], String> result = bookingService.update(updateDto, tourist.getId());
+        Either<ErrorDto[], String> result = bookingService.update(updateDto, tourist.getId(), null);
 
         assertTrue(result.isLeft());
         ErrorDto[] errors = result.getLeft();
@@ -469,6 +754,147 @@ class BookingServiceTests {
         assertEquals("Test exception", errors[0].detail());
     }
 
+    @Test
+    @DisplayName("Owner Inbox - Returns Cursor When There Are More Bookings")
+    void ownerInboxReturnsNextCursor() {
+        UUID ownerId = UUID.randomUUID();
+        LocalDate from = LocalDate.now();
+        List<BookingInboxItemDTO> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rows.add(inboxItem(from.plusDays(i)));
+        }
+        when(repository.findOwnerInbox(eq(ownerId), eq(BookingState.CREATED), eq(from), any(), eq(from.minusDays(1)),
+                any(), eq(PageRequest.of(0, 3)))).thenReturn(rows);
+
+        Either<ErrorDto[], BookingInboxPageDTO> result = bookingService.findOwnerInbox(ownerId,
+                new OwnerInboxRequest(BookingState.CREATED, from, null, 2, null));
+
+        assertTrue(result.isRight());
+        assertEquals(2, result.get().bookings().size());
+        BookingInboxCursor next = BookingInboxCursor.decode(result.get().nextCursor());
+        assertEquals(rows.get(1).checkIn(), next.checkIn());
+        assertEquals(rows.get(1).id(), next.id());
+    }
+
+    @Test
+    @DisplayName("Owner Inbox - Continues After The Cursor")
+    void ownerInboxContinuesAfterCursor() {
+        UUID ownerId = UUID.randomUUID();
+        BookingInboxItemDTO last = inboxItem(LocalDate.now().plusDays(4));
+        String cursor = new BookingInboxCursor(last.checkIn(), last.id()).encode();
+        when(repository.findOwnerInbox(eq(ownerId), eq(BookingState.PENDING), any(), any(), eq(last.checkIn()),
+                eq(last.id()), any())).thenReturn(List.of(inboxItem(last.checkIn().plusDays(1))));
+
+        Either<ErrorDto[], BookingInboxPageDTO> result = bookingService.findOwnerInbox(ownerId,
+                new OwnerInboxRequest(BookingState.PENDING, null, null, 20, cursor));
+
+        assertTrue(result.isRight());
+        assertEquals(1, result.get().bookings().size());
+        assertNull(result.get().nextCursor());
+    }
+
+    @Test
+    @DisplayName("Owner Inbox - Invalid Cursor")
+    void ownerInboxInvalidCursor() {
+        Either<ErrorDto[], BookingInboxPageDTO> result = bookingService.findOwnerInbox(UUID.randomUUID(),
+                new OwnerInboxRequest(BookingState.CREATED, null, null, 20, "not-a-cursor"));
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.BAD_REQUEST, result.getLeft()[0].code());
+        assertEquals(MessageConstants.ERROR_INVALID_INBOX_FILTER, result.getLeft()[0].message());
+        verify(repository, never()).findOwnerInbox(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Owner Inbox - Cursor Check In Out Of Range")
+    void ownerInboxCursorOutOfRange() {
+        for (LocalDate checkIn : List.of(LocalDate.MIN, LocalDate.MAX, LocalDate.of(10000, 1, 1))) {
+            String cursor = new BookingInboxCursor(checkIn, UUID.randomUUID()).encode();
+
+            Either<ErrorDto[], BookingInboxPageDTO> result = bookingService.findOwnerInbox(UUID.randomUUID(),
+                    new OwnerInboxRequest(BookingState.CREATED, null, null, 20, cursor));
+
+            assertTrue(result.isLeft());
+            assertEquals(HttpStatus.BAD_REQUEST, result.getLeft()[0].code());
+            assertEquals(MessageConstants.ERROR_INVALID_INBOX_FILTER, result.getLeft()[0].message());
+        }
+        verify(repository, never()).findOwnerInbox(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Owner Inbox - Check In Range Out Of Bounds")
+    void ownerInboxRangeOutOfBounds() {
+        Either<ErrorDto[], BookingInboxPageDTO> result = bookingService.findOwnerInbox(UUID.randomUUID(),
+                new OwnerInboxRequest(BookingState.CREATED, LocalDate.MIN, null, 20, null));
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.BAD_REQUEST, result.getLeft()[0].code());
+        verify(repository, never()).findOwnerInbox(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Owner Inbox - Check In Range Reversed")
+    void ownerInboxReversedRange() {
+        LocalDate from = LocalDate.now().plusDays(5);
+        Either<ErrorDto[], BookingInboxPageDTO> result = bookingService.findOwnerInbox(UUID.randomUUID(),
+                new OwnerInboxRequest(BookingState.CREATED, from, from.minusDays(1), 20, null));
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.BAD_REQUEST, result.getLeft()[0].code());
+    }
+
+    @Test
+    @DisplayName("Owner Inbox - Exception Thrown")
+    void ownerInboxException() {
+        when(repository.findOwnerInbox(any(), any(), any(), any(), any(), any(), any())).thenThrow(new RuntimeException("Test exception"));
+
+        Either<ErrorDto[], BookingInboxPageDTO> result = bookingService.findOwnerInbox(UUID.randomUUID(), new OwnerInboxRequest());
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getLeft()[0].code());
+        assertEquals(MessageConstants.ERROR_GET_OWNER_INBOX, result.getLeft()[0].message());
+    }
+
+    @Test
+    @DisplayName("Tourist Timeline - Upcoming Sorted Soonest First")
+    void touristTimelineUpcoming() {
+        Slice<TouristBookingDTO> slice = new SliceImpl<>(List.of());
+        when(repository.findTouristTimeline(eq(tourist.getId()), eq(null), eq(LocalDate.now()), any(), any())).thenReturn(slice);
+
+        Either<ErrorDto[], Slice<TouristBookingDTO>> result = bookingService.findTouristTimeline(tourist.getId(),
+                new TouristTimelineRequest(BookingTimeline.UPCOMING, null, 0, 20));
+
+        assertTrue(result.isRight());
+        assertSame(slice, result.get());
+        verify(repository).findTouristTimeline(eq(tourist.getId()), eq(null), eq(LocalDate.now()), any(),
+                eq(PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "checkIn", "id"))));
+    }
+
+    @Test
+    @DisplayName("Tourist Timeline - Past Sorted Newest First Until Today")
+    void touristTimelinePast() {
+        when(repository.findTouristTimeline(any(), any(), any(), any(), any())).thenReturn(new SliceImpl<>(List.of()));
+
+        Either<ErrorDto[], Slice<TouristBookingDTO>> result = bookingService.findTouristTimeline(tourist.getId(),
+                new TouristTimelineRequest(BookingTimeline.PAST, BookingState.ACCEPTED, 1, 10));
+
+        assertTrue(result.isRight());
+        verify(repository).findTouristTimeline(eq(tourist.getId()), eq(BookingState.ACCEPTED), any(), eq(LocalDate.now()),
+                eq(PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "checkIn", "id"))));
+    }
+
+    @Test
+    @DisplayName("Tourist Timeline - Exception Thrown")
+    void touristTimelineException() {
+        when(repository.findTouristTimeline(any(), any(), any(), any(), any())).thenThrow(new RuntimeException("Test exception"));
+
+        Either<ErrorDto[], Slice<TouristBookingDTO>> result = bookingService.findTouristTimeline(tourist.getId(), new TouristTimelineRequest());
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getLeft()[0].code());
+        assertEquals(MessageConstants.ERROR_GET_TOURIST_TIMELINE, result.getLeft()[0].message());
+    }
+
     @Test
     @DisplayName("Change Booking State - Success")
     void changeBookingStateSuccess() {
@@ -477,7 +903,8 @@ class BookingServiceTests {
                 lodging.getInformation(), BookingState.ACCEPTED);
         UUID bookingId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
-        when(repository.findById(bookingId)).thenReturn(Optional.of(existingBooking));
+        when(repository.findLodgingIdById(bookingId)).thenReturn(Optional.of(lodging.getId()));
+        when(repository.findWithPartiesById(bookingId)).thenReturn(Optional.of(existingBooking));
         when(bookingValidation.validChangeState(existingBooking, BookingState.ACCEPTED, userId)).thenReturn(Either.right(true));
         when(repository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(pricingService.calculateBookingPrice(eq(TouristType.STANDARD), any(), any(), anyInt(), anyInt(), anyInt())).thenReturn(100.0);
@@ -491,6 +918,157 @@ class BookingServiceTests {
         assertNotNull(responseDTO);
         assertEquals(BookingState.ACCEPTED, responseDTO.state());
         verify(repository).save(existingBooking);
+        verify(lockManager).lockUntilTransactionEnds(lodging.getId());
+    }
+
+    @Test
+    @DisplayName("Change Booking State - Reject Releases Capacity")
+    void changeBookingStateRejectReleasesCapacity() {
+        UUID bookingId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        when(repository.findWithPartiesById(bookingId)).thenReturn(Optional.of(existingBooking));
+        when(bookingValidation.validChangeState(existingBooking, BookingState.REJECTED, userId)).thenReturn(Either.right(true));
+        when(repository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Either<ErrorDto[], BookingResponseDTO> result = bookingService.changeState(bookingId, BookingState.REJECTED, userId);
+
+        assertTrue(result.isRight());
+        assertEquals(BookingState.REJECTED, existingBooking.getState());
+        verify(capacityService).release(lodging, existingBooking.getCheckIn(), existingBooking.getCheckOut(), 4);
+        verify(rollupService).removeBooking(existingBooking);
+    }
+
+    @Test
+    @DisplayName("Change Booking State - Booking Expired Meanwhile Releases Nothing")
+    void changeBookingStateLosesToExpiry() {
+        UUID bookingId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        when(repository.findWithPartiesById(bookingId)).thenReturn(Optional.of(existingBooking));
+        when(bookingValidation.validChangeState(existingBooking, BookingState.REJECTED, userId)).thenReturn(Either.right(true));
+        when(repository.updateStateIfIn(eq(bookingId), eq(List.of(BookingState.CREATED)), eq(BookingState.REJECTED), any())).thenReturn(0);
+
+        Either<ErrorDto[], BookingResponseDTO> result = bookingService.changeState(bookingId, BookingState.REJECTED, userId);
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.BAD_REQUEST, result.getLeft()[0].code());
+        assertEquals(BookingState.CREATED, existingBooking.getState());
+        verify(capacityService, never()).release(any(), any(), any(), anyInt());
+        verify(rollupService, never()).removeBooking(any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Bulk Change Booking State - Per Booking Results With Conditional Updates")
+    void bulkChangeStatePerBookingResults() {
+        UUID ownerId = UUID.randomUUID();
+        lodging.getLodgingOwner().setId(ownerId);
+        Booking second = new Booking(existingBooking.getCheckIn(), existingBooking.getCheckOut(), 100.0, lodging, tourist, BookingState.CREATED, 1, 0, 0, false);
+        second.setId(UUID.randomUUID());
+        LodgingOwner otherOwner = new LodgingOwner("other@email.com", "validPassword123", "Other", "Hotel", Role.LODGING_OWNER, true);
+        otherOwner.setId(UUID.randomUUID());
+        Lodging foreignLodging = new Lodging("Hotel Ajeno", "Un hotel de pruebas", "Parada 10", "+5984422112244", 50, 25.0, 5, new TouristicPlace(), otherOwner, true);
+        foreignLodging.setId(UUID.randomUUID());
+        Booking foreign = new Booking(existingBooking.getCheckIn(), existingBooking.getCheckOut(), 100.0, foreignLodging, tourist, BookingState.CREATED, 2, 0, 0, false);
+        foreign.setId(UUID.randomUUID());
+        Booking invalid = new Booking(existingBooking.getCheckIn(), existingBooking.getCheckOut(), 100.0, lodging, tourist, BookingState.PENDING, 2, 0, 0, false);
+        invalid.setId(UUID.randomUUID());
+        UUID missing = UUID.randomUUID();
+        List<UUID> ids = List.of(existingBooking.getId(), missing, foreign.getId(), invalid.getId(), second.getId(), existingBooking.getId());
+        when(repository.findLodgingIdsByIdIn(any())).thenReturn(List.of(lodging.getId(), foreignLodging.getId()));
+        when(repository.findWithPartiesByIdIn(any())).thenReturn(List.of(existingBooking, foreign, invalid, second));
+        when(bookingValidation.validChangeState(any(), eq(BookingState.REJECTED), eq(ownerId))).thenReturn(Either.right(true));
+        when(bookingValidation.validChangeState(invalid, BookingState.REJECTED, ownerId)).thenReturn(Either.left(new ErrorDto[]{
+                ErrorDto.of(HttpStatus.BAD_REQUEST, MessageConstants.ERROR_USER_TOURIST)}));
+
+        Either<ErrorDto[], BookingStateChangeResultDTO[]> result = bookingService.changeStates(
+                new BookingBulkStateRequestDTO(ids, BookingState.REJECTED), ownerId);
+
+        assertTrue(result.isRight());
+        BookingStateChangeResultDTO[] results = result.get();
+        assertEquals(5, results.length);
+        assertEquals(HttpStatus.OK, results[0].status());
+        assertEquals(BookingState.REJECTED, results[0].state());
+        assertEquals(HttpStatus.NOT_FOUND, results[1].status());
+        assertEquals(HttpStatus.FORBIDDEN, results[2].status());
+        assertEquals(HttpStatus.BAD_REQUEST, results[3].status());
+        assertEquals(HttpStatus.OK, results[4].status());
+        verify(lockManager).lockAllUntilTransactionEnds(List.of(lodging.getId(), foreignLodging.getId()));
+        verify(repository).updateStateIfIn(eq(existingBooking.getId()), eq(List.of(BookingState.CREATED)), eq(BookingState.REJECTED), any());
+        verify(repository).updateStateIfIn(eq(second.getId()), eq(List.of(BookingState.CREATED)), eq(BookingState.REJECTED), any());
+        verify(repository, times(2)).updateStateIfIn(any(), any(), any(), any());
+        verify(repository, never()).save(any(Booking.class));
+        verify(capacityService).release(lodging, existingBooking.getCheckIn(), existingBooking.getCheckOut(), 4);
+        verify(capacityService).release(lodging, second.getCheckIn(), second.getCheckOut(), 1);
+        verify(lodgingOwnerObserver, times(2)).statusChangeNotification(any(), any(), any(), any(), eq(BookingState.REJECTED));
+        verify(touristObserver, times(2)).statusChangeNotification(any(), any(), any(), any(), eq(BookingState.REJECTED));
+        verify(lodgingOwnerObserver, never()).notifyStatusChange(any(), any(), any(), any(), any());
+        verify(notificationService, times(1)).createNotifications(argThat(notifications -> notifications.size() == 4));
+    }
+
+    @Test
+    @DisplayName("Bulk Change Booking State - Target State Not Allowed")
+    void bulkChangeStateNotAllowed() {
+        Either<ErrorDto[], BookingStateChangeResultDTO[]> result = bookingService.changeStates(
+                new BookingBulkStateRequestDTO(List.of(existingBooking.getId()), BookingState.ACCEPTED), UUID.randomUUID());
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.BAD_REQUEST, result.getLeft()[0].code());
+        assertEquals(MessageConstants.ERROR_BULK_STATE_NOT_ALLOWED, result.getLeft()[0].message());
+        verify(repository, never()).findWithPartiesByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Bulk Change Booking State - Nothing Valid Skips The Update")
+    void bulkChangeStateNothingValid() {
+        when(repository.findWithPartiesByIdIn(any())).thenReturn(List.of());
+
+        Either<ErrorDto[], BookingStateChangeResultDTO[]> result = bookingService.changeStates(
+                new BookingBulkStateRequestDTO(List.of(UUID.randomUUID()), BookingState.PENDING), UUID.randomUUID());
+
+        assertTrue(result.isRight());
+        assertEquals(HttpStatus.NOT_FOUND, result.get()[0].status());
+        verify(repository, never()).updateStateIfIn(any(), any(), any(), any());
+        verify(notificationService, never()).createNotifications(any());
+    }
+
+    @Test
+    @DisplayName("Bulk Change Booking State - Booking Changed On Another Node Is A Conflict")
+    void bulkChangeStateConflict() {
+        UUID ownerId = UUID.randomUUID();
+        lodging.getLodgingOwner().setId(ownerId);
+        Booking expired = new Booking(existingBooking.getCheckIn(), existingBooking.getCheckOut(), 100.0, lodging, tourist, BookingState.PENDING, 1, 0, 0, false);
+        expired.setId(UUID.randomUUID());
+        when(repository.findLodgingIdsByIdIn(any())).thenReturn(List.of(lodging.getId()));
+        when(repository.findWithPartiesByIdIn(any())).thenReturn(List.of(existingBooking, expired));
+        when(bookingValidation.validChangeState(any(), eq(BookingState.REJECTED), eq(ownerId))).thenReturn(Either.right(true));
+        when(repository.updateStateIfIn(eq(expired.getId()), any(), any(), any())).thenReturn(0);
+
+        Either<ErrorDto[], BookingStateChangeResultDTO[]> result = bookingService.changeStates(
+                new BookingBulkStateRequestDTO(List.of(existingBooking.getId(), expired.getId()), BookingState.REJECTED), ownerId);
+
+        assertTrue(result.isRight());
+        assertEquals(HttpStatus.OK, result.get()[0].status());
+        assertEquals(HttpStatus.CONFLICT, result.get()[1].status());
+        assertEquals(BookingState.PENDING, result.get()[1].state());
+        assertEquals(MessageConstants.ERROR_BOOKING_CHANGED_MEANWHILE, result.get()[1].message());
+        verify(capacityService).release(lodging, existingBooking.getCheckIn(), existingBooking.getCheckOut(), 4);
+        verify(capacityService, never()).release(lodging, expired.getCheckIn(), expired.getCheckOut(), 1);
+        verify(rollupService, never()).removeBooking(expired);
+        verify(touristObserver, times(1)).statusChangeNotification(any(), any(), any(), any(), eq(BookingState.REJECTED));
+        verify(notificationService).createNotifications(argThat(notifications -> notifications.size() == 2));
+    }
+
+    @Test
+    @DisplayName("Bulk Change Booking State - Exception Thrown")
+    void bulkChangeStateException() {
+        when(repository.findWithPartiesByIdIn(any())).thenThrow(new RuntimeException("Test exception"));
+
+        Either<ErrorDto[], BookingStateChangeResultDTO[]> result = bookingService.changeStates(
+                new BookingBulkStateRequestDTO(List.of(UUID.randomUUID()), BookingState.REJECTED), UUID.randomUUID());
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getLeft()[0].code());
+        assertEquals(MessageConstants.ERROR_BULK_CHANGE_STATE, result.getLeft()[0].message());
     }
 
     @Test
@@ -498,7 +1076,7 @@ class BookingServiceTests {
     void changeBookingStateNotFound() {
         UUID bookingId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
-        when(repository.findById(bookingId)).thenReturn(Optional.empty());
+        when(repository.findWithPartiesById(bookingId)).thenReturn(Optional.empty());
 
         Either<ErrorDto[], BookingResponseDTO> result = bookingService.changeState(bookingId, BookingState.ACCEPTED, userId);
 
@@ -514,7 +1092,7 @@ class BookingServiceTests {
     void changeBookingStateInvalid() {
         UUID bookingId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
-        when(repository.findById(bookingId)).thenReturn(Optional.of(existingBooking));
+        when(repository.findWithPartiesById(bookingId)).thenReturn(Optional.of(existingBooking));
         when(bookingValidation.validChangeState(existingBooking, BookingState.ACCEPTED, userId)).thenReturn(Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.BAD_REQUEST, "Invalid state change")}));
 
         Either<ErrorDto[], BookingResponseDTO> result = bookingService.changeState(bookingId, BookingState.ACCEPTED, userId);
@@ -531,7 +1109,7 @@ class BookingServiceTests {
     void changeBookingStateException() {
         UUID bookingId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
-        when(repository.findById(bookingId)).thenThrow(new RuntimeException("Test exception"));
+        when(repository.findWithPartiesById(bookingId)).thenThrow(new RuntimeException("Test exception"));
 
         Either<ErrorDto[], BookingResponseDTO> result = bookingService.changeState(bookingId, BookingState.ACCEPTED, userId);
 
@@ -550,7 +1128,9 @@ class BookingServiceTests {
         List<BookingState> states = Arrays.asList(BookingState.CREATED, BookingState.PENDING);
 
         Booking booking1 = new Booking(LocalDate.now(), LocalDate.now().plusDays(2), 100.0, lodging, tourist, BookingState.CREATED, 2, 1, 1, false);
+        booking1.setId(UUID.randomUUID());
         Booking booking2 = new Booking(LocalDate.now().minusDays(1), LocalDate.now().plusDays(1), 100.0, lodging, tourist, BookingState.PENDING, 2, 1, 1, false);
+        booking2.setId(UUID.randomUUID());
         List<Booking> bookingsToExpire = Arrays.asList(booking1, booking2);
 
         when(repository.findByCheckInLessThanAndStateIn(tomorrow, states)).thenReturn(bookingsToExpire);
@@ -558,11 +1138,71 @@ class BookingServiceTests {
         bookingService.updateToExpiredBookings();
 
         verify(repository).findByCheckInLessThanAndStateIn(tomorrow, states);
-        verify(repository).saveAll(bookingsToExpire);
+        verify(lockManager).lockUntilTransactionEnds(lodging.getId());
+        verify(lockManager, never()).lockAllUntilTransactionEnds(any());
+        verify(transactionManager).commit(any());
+        verify(repository).updateStateIfIn(eq(booking1.getId()), eq(states), eq(BookingState.EXPIRED), any());
+        verify(repository).updateStateIfIn(eq(booking2.getId()), eq(states), eq(BookingState.EXPIRED), any());
+        verify(capacityService).release(lodging, booking1.getCheckIn(), booking1.getCheckOut(), 4);
+        verify(capacityService).release(lodging, booking2.getCheckIn(), booking2.getCheckOut(), 4);
         assertEquals(BookingState.EXPIRED, booking1.getState());
         assertEquals(BookingState.EXPIRED, booking2.getState());
     }
 
+    @Test
+    @DisplayName("Change Booking State - Each Lodging Expires In Its Own Transaction")
+    void updateToExpiredBookingsLocksOneLodgingPerTransaction() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        List<BookingState> states = Arrays.asList(BookingState.CREATED, BookingState.PENDING);
+        Lodging failing = new Lodging("Hotel Caido", "Otro hotel", "Parada 10", "+5984422112299", 10, 40.0, 3, new TouristicPlace(), new LodgingOwner(), true);
+        failing.setId(UUID.randomUUID());
+
+        Booking broken = new Booking(LocalDate.now(), LocalDate.now().plusDays(2), 100.0, failing, tourist, BookingState.CREATED, 2, 1, 1, false);
+        broken.setId(UUID.randomUUID());
+        Booking open = new Booking(LocalDate.now(), LocalDate.now().plusDays(2), 100.0, lodging, tourist, BookingState.PENDING, 2, 1, 1, false);
+        open.setId(UUID.randomUUID());
+
+        when(repository.findByCheckInLessThanAndStateIn(tomorrow, states)).thenReturn(Arrays.asList(broken, open));
+        when(repository.updateStateIfIn(eq(broken.getId()), eq(states), eq(BookingState.EXPIRED), any()))
+                .thenThrow(new RuntimeException("deadlock detected"));
+
+        bookingService.updateToExpiredBookings();
+
+        InOrder order = inOrder(transactionManager, lockManager);
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(lockManager).lockUntilTransactionEnds(failing.getId());
+        order.verify(transactionManager).rollback(any());
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(lockManager).lockUntilTransactionEnds(lodging.getId());
+        order.verify(transactionManager).commit(any());
+        verify(capacityService).release(lodging, open.getCheckIn(), open.getCheckOut(), 4);
+        assertEquals(BookingState.EXPIRED, open.getState());
+        assertEquals(BookingState.CREATED, broken.getState());
+    }
+
+    @Test
+    @DisplayName("Change Booking State - Booking Closed Meanwhile Is Not Released Again")
+    void updateToExpiredBookingsSkipsBookingsClosedMeanwhile() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        List<BookingState> states = Arrays.asList(BookingState.CREATED, BookingState.PENDING);
+
+        Booking open = new Booking(LocalDate.now(), LocalDate.now().plusDays(2), 100.0, lodging, tourist, BookingState.CREATED, 2, 1, 1, false);
+        open.setId(UUID.randomUUID());
+        Booking rejected = new Booking(LocalDate.now(), LocalDate.now().plusDays(3), 100.0, lodging, tourist, BookingState.PENDING, 2, 1, 1, false);
+        rejected.setId(UUID.randomUUID());
+
+        when(repository.findByCheckInLessThanAndStateIn(tomorrow, states)).thenReturn(Arrays.asList(open, rejected));
+        when(repository.updateStateIfIn(eq(rejected.getId()), eq(states), eq(BookingState.EXPIRED), any())).thenReturn(0);
+
+        bookingService.updateToExpiredBookings();
+
+        verify(capacityService).release(lodging, open.getCheckIn(), open.getCheckOut(), 4);
+        verify(capacityService, never()).release(lodging, rejected.getCheckIn(), rejected.getCheckOut(), 4);
+        verify(rollupService, never()).removeBooking(rejected);
+        assertEquals(BookingState.EXPIRED, open.getState());
+        assertEquals(BookingState.PENDING, rejected.getState());
+    }
+
     @Test
     @DisplayName("Change Booking State - Should Not Expire Non Eligible Bookings")
     void updateToExpiredBookingsShouldNotExpireNonEligibleBookings() {
@@ -577,7 +1217,7 @@ class BookingServiceTests {
         bookingService.updateToExpiredBookings();
 
         verify(repository).findByCheckInLessThanAndStateIn(tomorrow, states);
-        verify(repository).saveAll(new ArrayList<>());
+        verify(repository, never()).updateStateIfIn(any(), any(), any(), any());
         assertEquals(BookingState.CREATED, booking1.getState());
         assertEquals(BookingState.PENDING, booking2.getState());
     }
@@ -593,6 +1233,24 @@ class BookingServiceTests {
         bookingService.updateToExpiredBookings();
 
         verify(repository).findByCheckInLessThanAndStateIn(tomorrow, states);
-        verify(repository).saveAll(new ArrayList<>());
+        verify(repository, never()).updateStateIfIn(any(), any(), any(), any());
+        verify(capacityService, never()).release(any(), any(), any(), anyInt());
+    }
+
+    private void stubProcessing() {
+        when(touristRepository.findById(tourist.getId())).thenReturn(Optional.of(tourist));
+        when(lodgingRepository.findById(lodging.getId())).thenReturn(Optional.of(lodging));
+        when(dateValidation.datesBetweenDates(any(), any())).thenReturn(mockDates);
+        when(pricingService.calculateBookingPrice(any(), any(), any(), anyInt(), anyInt(), anyInt())).thenReturn(100.0);
+        when(repository.save(any())).thenAnswer(i -> i.getArgument(0));
+    }
+
+    private BookingMessage replacement(BookingRequestDTO newStay) {
+        return new BookingMessage(newStay, tourist.getId(), null, null, null, existingBooking.getId());
+    }
+
+    private BookingInboxItemDTO inboxItem(LocalDate checkIn) {
+        return new BookingInboxItemDTO(UUID.randomUUID(), lodging.getId(), lodging.getName(), tourist.getFirstName(),
+                tourist.getLastName(), checkIn, checkIn.plusDays(2), 2, 0, 0, 50.0, BookingState.CREATED);
     }
 }
@@ -0,0 +1,76 @@
+package com.tourism.test.service;
+
+import com.tourism.model.*;
+import com.tourism.repository.*;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "jpa-test.database=statenotification")
+@ActiveProfiles("jpa")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BookingStateNotificationQueryTests {
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private NotificationRepository notificationRepository;
+    @Autowired
+    private LodgingRepository lodgingRepository;
+    @Autowired
+    private LodgingOwnerRepository ownerRepository;
+    @Autowired
+    private TouristicPlaceRepository placeRepository;
+    @Autowired
+    private TouristRepository touristRepository;
+
+    private UUID bookingId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        LodgingOwner owner = ownerRepository.save(new LodgingOwner("owner" + suffix + "@email.com", "validPassword123",
+                "Owner", "Hotel", Role.LODGING_OWNER, true));
+        TouristicPlace place = placeRepository.save(new TouristicPlace("Place " + suffix, "Un lugar de pruebas",
+                Region.EAST, null, owner, true));
+        Tourist tourist = touristRepository.save(new Tourist("tourist" + suffix + "@email.com", "12345678", "Turista",
+                "Verano", Role.TOURIST, TouristType.STANDARD, true));
+        Lodging lodging = lodgingRepository.save(new Lodging("Hotel " + suffix, "Un hotel de pruebas", "Parada 5, playa mansa",
+                "+5984422112233", 20, 25.0, 5, place, owner, true));
+        LocalDate checkIn = LocalDate.now().plusDays(3);
+        bookingId = bookingRepository.save(new Booking(checkIn, checkIn.plusDays(2), 50.0, lodging, tourist,
+                BookingState.CREATED, 2, 0, 0, false)).getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Change State - Notified Parties Are Loaded With The Booking")
+    void notifiedPartiesAreFetched() {
+        Booking booking = bookingRepository.findWithPartiesById(bookingId).orElseThrow();
+        LodgingOwner owner = booking.getLodging().getLodgingOwner();
+        assertTrue(Hibernate.isInitialized(booking.getTourist()));
+        assertTrue(Hibernate.isInitialized(owner));
+
+        // the serialized receivers are compared on every flush, a proxy there used to fail without a session
+        notificationRepository.save(new Notification(booking.getTourist(), "Booking accepted", MessageType.EMAIL));
+        notificationRepository.save(new Notification(owner, "Booking accepted", MessageType.EMAIL));
+        assertDoesNotThrow(() -> entityManager.flush());
+        assertDoesNotThrow(() -> entityManager.flush());
+        assertEquals(2, notificationRepository.count());
+        assertTrue(bookingRepository.findWithPartiesById(UUID.randomUUID()).isEmpty());
+    }
+}
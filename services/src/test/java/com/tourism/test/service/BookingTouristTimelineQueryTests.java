@@ -0,0 +1,104 @@
+package com.tourism.test.service;
+
+import com.tourism.dto.response.TouristBookingDTO;
+import com.tourism.model.*;
+import com.tourism.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "jpa-test.database=timeline")
+@ActiveProfiles("jpa")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BookingTouristTimelineQueryTests {
+
+    private static final LocalDate FIRST_CHECK_IN = LocalDate.of(1, 1, 1);
+    private static final LocalDate LAST_CHECK_IN = LocalDate.of(9999, 12, 31);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private LodgingRepository lodgingRepository;
+    @Autowired
+    private LodgingOwnerRepository ownerRepository;
+    @Autowired
+    private TouristicPlaceRepository placeRepository;
+    @Autowired
+    private TouristRepository touristRepository;
+
+    private Tourist tourist;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        LodgingOwner owner = ownerRepository.save(new LodgingOwner("owner" + suffix + "@email.com", "validPassword123",
+                "Owner", "Hotel", Role.LODGING_OWNER, true));
+        TouristicPlace place = placeRepository.save(new TouristicPlace("Place " + suffix, "Un lugar de pruebas",
+                Region.EAST, null, owner, true));
+        tourist = touristRepository.save(new Tourist("tourist" + suffix + "@email.com", "12345678", "Turista",
+                "Verano", Role.TOURIST, TouristType.STANDARD, true));
+        Tourist otherTourist = touristRepository.save(new Tourist("other" + suffix + "@email.com", "12345678", "Otro",
+                "Turista", Role.TOURIST, TouristType.STANDARD, true));
+        Lodging lodging = lodgingRepository.save(new Lodging("Hotel " + suffix, "Un hotel de pruebas",
+                "Parada 5, playa mansa", "+5984422112233", 20, 25.0, 5, place, owner, true));
+        today = LocalDate.now();
+
+        List<Booking> bookings = new ArrayList<>();
+        for (int day = -3; day < 4; day++) {
+            BookingState state = day < 0 ? BookingState.ACCEPTED : BookingState.CREATED;
+            bookings.add(new Booking(today.plusDays(day), today.plusDays(day + 2), 50.0, lodging, tourist, state, 2, 0, 0, false));
+        }
+        bookings.add(new Booking(today.plusDays(1), today.plusDays(3), 50.0, lodging, otherTourist, BookingState.CREATED, 2, 0, 0, false));
+        bookingRepository.saveAll(bookings);
+    }
+
+    @Test
+    @DisplayName("Tourist Timeline - Upcoming Bookings Soonest First With Lodging Inline")
+    void upcomingSoonestFirst() {
+        Slice<TouristBookingDTO> slice = bookingRepository.findTouristTimeline(tourist.getId(), null, today, LAST_CHECK_IN,
+                PageRequest.of(0, 3, Sort.by(Sort.Direction.ASC, "checkIn", "id")));
+
+        assertEquals(3, slice.getNumberOfElements());
+        assertTrue(slice.hasNext());
+        assertEquals(today, slice.getContent().getFirst().checkIn());
+        assertEquals(today.plusDays(2), slice.getContent().getLast().checkIn());
+        assertEquals("+5984422112233", slice.getContent().getFirst().lodgingPhone());
+    }
+
+    @Test
+    @DisplayName("Tourist Timeline - Past Bookings Newest First")
+    void pastNewestFirst() {
+        Slice<TouristBookingDTO> slice = bookingRepository.findTouristTimeline(tourist.getId(), null, FIRST_CHECK_IN, today,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "checkIn", "id")));
+
+        assertEquals(3, slice.getNumberOfElements());
+        assertFalse(slice.hasNext());
+        assertEquals(today.minusDays(1), slice.getContent().getFirst().checkIn());
+        assertEquals(today.minusDays(3), slice.getContent().getLast().checkIn());
+    }
+
+    @Test
+    @DisplayName("Tourist Timeline - Filter By State")
+    void filterByState() {
+        Slice<TouristBookingDTO> slice = bookingRepository.findTouristTimeline(tourist.getId(), BookingState.CREATED,
+                FIRST_CHECK_IN, LAST_CHECK_IN, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "checkIn", "id")));
+
+        assertEquals(4, slice.getNumberOfElements());
+        assertTrue(slice.getContent().stream().allMatch(booking -> booking.state() == BookingState.CREATED));
+    }
+}
@@ -0,0 +1,147 @@
+package com.tourism.test.service;
+
+import com.tourism.model.*;
+import com.tourism.repository.LodgingOccupancyRepository;
+import com.tourism.repository.LodgingOwnerRepository;
+import com.tourism.repository.LodgingRepository;
+import com.tourism.repository.TouristicPlaceRepository;
+import com.tourism.service.CapacityReservationService;
+import com.tourism.service.impl.CapacityReservationServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {"jpa-test.database=capacity", "spring.datasource.hikari.maximum-pool-size=16"})
+@ActiveProfiles("jpa")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CapacityReservationServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CapacityReservationConcurrencyTests {
+
+    private static final int THREADS = 16;
+    private static final int CAPACITY = 20;
+
+    @Autowired
+    private CapacityReservationService capacityService;
+    @Autowired
+    private LodgingOccupancyRepository occupancyRepository;
+    @Autowired
+    private LodgingRepository lodgingRepository;
+    @Autowired
+    private LodgingOwnerRepository ownerRepository;
+    @Autowired
+    private TouristicPlaceRepository placeRepository;
+
+    private Lodging lodging;
+    private LocalDate checkIn;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        LodgingOwner owner = ownerRepository.save(new LodgingOwner("owner" + suffix + "@email.com", "validPassword123",
+                "Owner", "Hotel", Role.LODGING_OWNER, true));
+        TouristicPlace place = placeRepository.save(new TouristicPlace("Place " + suffix, "Un lugar de pruebas",
+                Region.EAST, null, owner, true));
+        lodging = lodgingRepository.save(new Lodging("Hotel " + suffix, "Un hotel de pruebas", "Parada 5, playa mansa",
+                "+5984422112233", CAPACITY, 25.0, 5, place, owner, true));
+        checkIn = LocalDate.now().plusDays(10);
+    }
+
+    @Test
+    @DisplayName("Reserve Capacity - Concurrent Single Night Never Overbooks")
+    void concurrentSingleNightNeverOverbooks() throws Exception {
+        AtomicInteger accepted = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS * 10; i++) {
+            tasks.add(() -> {
+                if (capacityService.reserve(lodging, checkIn, checkIn.plusDays(1), 1)) {
+                    accepted.incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        runConcurrently(tasks);
+
+        assertEquals(CAPACITY, accepted.get());
+        assertEquals(CAPACITY, bookedPersons(checkIn));
+    }
+
+    @Test
+    @DisplayName("Reserve Capacity - Concurrent Overlapping Stays Keep Every Night Consistent")
+    void concurrentOverlappingStaysKeepCountersConsistent() throws Exception {
+        int nights = 5;
+        int[] expected = new int[nights];
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS * 10; i++) {
+            int from = i % nights;
+            int to = Math.min(nights, from + 1 + (i % 3));
+            int persons = 1 + (i % 3);
+            tasks.add(() -> {
+                if (capacityService.reserve(lodging, checkIn.plusDays(from), checkIn.plusDays(to), persons)) {
+                    synchronized (expected) {
+                        for (int night = from; night < to; night++) {
+                            expected[night] += persons;
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+
+        runConcurrently(tasks);
+
+        for (int night = 0; night < nights; night++) {
+            int booked = bookedPersons(checkIn.plusDays(night));
+            assertTrue(booked <= CAPACITY, "night " + night + " is overbooked: " + booked);
+            assertEquals(expected[night], booked);
+        }
+    }
+
+    @Test
+    @DisplayName("Release Capacity - Frees Nights For New Reservations")
+    void releaseFreesCapacity() {
+        assertTrue(capacityService.reserve(lodging, checkIn, checkIn.plusDays(2), CAPACITY));
+        assertFalse(capacityService.reserve(lodging, checkIn.plusDays(1), checkIn.plusDays(3), 1));
+
+        capacityService.release(lodging, checkIn, checkIn.plusDays(2), CAPACITY);
+
+        assertTrue(capacityService.reserve(lodging, checkIn.plusDays(1), checkIn.plusDays(3), 1));
+        assertEquals(0, bookedPersons(checkIn));
+        assertEquals(1, bookedPersons(checkIn.plusDays(1)));
+        assertEquals(1, bookedPersons(checkIn.plusDays(2)));
+    }
+
+    private void runConcurrently(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks, 60, TimeUnit.SECONDS)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int bookedPersons(LocalDate date) {
+        return occupancyRepository.findByLodgingIdAndDate(lodging.getId(), date)
+                .map(LodgingOccupancy::getBookedPersons)
+                .orElse(0);
+    }
+}
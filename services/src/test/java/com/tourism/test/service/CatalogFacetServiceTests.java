@@ -0,0 +1,172 @@
+package com.tourism.test.service;
+
+import com.tourism.dto.mappers.LodgingMapper;
+import com.tourism.dto.mappers.TouristicPlaceMapper;
+import com.tourism.dto.request.FacetRequest;
+import com.tourism.dto.response.*;
+import com.tourism.model.*;
+import com.tourism.repository.CategoryRepository;
+import com.tourism.repository.LodgingRepository;
+import com.tourism.repository.TouristicPlaceRepository;
+import com.tourism.service.CatalogFacetService;
+import com.tourism.service.impl.CatalogFacetServiceImpl;
+import com.tourism.util.MessageConstants;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class CatalogFacetServiceTests {
+
+    @Mock
+    private TouristicPlaceRepository placeRepository;
+
+    @Mock
+    private LodgingRepository lodgingRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private TouristicPlaceMapper placeMapper;
+
+    @Mock
+    private LodgingMapper lodgingMapper;
+
+    private CatalogFacetServiceImpl service;
+    private UUID beach;
+    private UUID city;
+    private UUID cheap;
+    private UUID fancy;
+    private UUID downtown;
+
+    @BeforeEach
+    void setUp() {
+        beach = UUID.randomUUID();
+        city = UUID.randomUUID();
+        cheap = UUID.randomUUID();
+        fancy = UUID.randomUUID();
+        downtown = UUID.randomUUID();
+        when(categoryRepository.findPlaceCategories()).thenReturn(List.of(
+                new PlaceCategoryRow(beach, "Playa"), new PlaceCategoryRow(city, "Ciudad"), new PlaceCategoryRow(city, "Colonial")));
+        when(placeRepository.findFacetRows()).thenReturn(List.of(
+                new PlaceFacetRow(beach, Region.EAST), new PlaceFacetRow(city, Region.WEST)));
+        when(lodgingRepository.findFacetRows()).thenReturn(List.of(
+                new LodgingFacetRow(cheap, beach, Region.EAST, 2, 40.0),
+                new LodgingFacetRow(fancy, beach, Region.EAST, 5, 250.0),
+                new LodgingFacetRow(downtown, city, Region.WEST, 4, 100.0)));
+        when(lodgingRepository.findAllById(anyList())).thenAnswer(invocation -> ((List<UUID>) invocation.getArgument(0))
+                .stream().map(this::lodging).toList());
+        when(lodgingMapper.modelToResponseDto(any(Lodging.class))).thenAnswer(invocation -> {
+            Lodging lodging = invocation.getArgument(0);
+            return new LodgingResponseDTO(lodging.getId(), lodging.getName(), null, null, null, null, null, null, null, true);
+        });
+        service = new CatalogFacetServiceImpl(placeRepository, lodgingRepository, categoryRepository, placeMapper,
+                lodgingMapper, new double[]{100, 50, 200}, 300);
+    }
+
+    @Test
+    @DisplayName("Browse Lodgings - Filters And Counts Every Facet")
+    void browseLodgingsFiltersAndCounts() {
+        FacetRequest request = new FacetRequest();
+        request.setRegions(List.of(Region.EAST));
+        request.setStars(List.of(5));
+
+        Either<ErrorDto[], FacetedPageDTO<LodgingResponseDTO>> result = service.browseLodgings(request);
+
+        assertTrue(result.isRight());
+        assertEquals(1, result.get().total());
+        assertEquals(fancy, result.get().items().get(0).id());
+        Map<String, Map<String, Integer>> facets = result.get().facets();
+        assertEquals(1, facets.get(CatalogFacetService.REGION).get("EAST"));
+        assertEquals(0, facets.get(CatalogFacetService.REGION).get("WEST"));
+        assertEquals(1, facets.get(CatalogFacetService.STARS).get("2"));
+        assertEquals(1, facets.get(CatalogFacetService.STARS).get("5"));
+        assertEquals(List.of("0-50", "50-100", "100-200", "200+"), List.copyOf(facets.get(CatalogFacetService.PRICE_BAND).keySet()));
+        assertEquals(1, facets.get(CatalogFacetService.PRICE_BAND).get("200+"));
+        assertEquals(1, facets.get(CatalogFacetService.CATEGORY).get("Playa"));
+        assertEquals(0, facets.get(CatalogFacetService.CATEGORY).get("Ciudad"));
+    }
+
+    @Test
+    @DisplayName("Browse Touristic Places - Counts Regions And Categories")
+    void browsePlacesCounts() {
+        FacetRequest request = new FacetRequest();
+        request.setCategories(List.of("Colonial"));
+        TouristicPlace place = new TouristicPlace();
+        place.setId(city);
+        when(placeRepository.findAllById(List.of(city))).thenReturn(List.of(place));
+        when(placeMapper.modelToResponseDto(place)).thenReturn(new TouristicPlaceResponseDTO(city, "Colonia", null,
+                Region.WEST, List.of(), true));
+
+        Either<ErrorDto[], FacetedPageDTO<TouristicPlaceResponseDTO>> result = service.browsePlaces(request);
+
+        assertTrue(result.isRight());
+        assertEquals(1, result.get().total());
+        assertEquals(city, result.get().items().get(0).id());
+        assertEquals(1, result.get().facets().get(CatalogFacetService.REGION).get("WEST"));
+        assertEquals(1, result.get().facets().get(CatalogFacetService.CATEGORY).get("Playa"));
+        assertFalse(result.get().facets().containsKey(CatalogFacetService.STARS));
+        verify(placeRepository).findAllById(List.of(city));
+    }
+
+    @Test
+    @DisplayName("Browse - Snapshot Reused Until A Catalogue Write")
+    void snapshotRebuiltAfterWrite() {
+        service.browseLodgings(new FacetRequest());
+        service.browsePlaces(new FacetRequest());
+        verify(lodgingRepository, times(1)).findFacetRows();
+
+        service.lodgingDeleted(cheap);
+        when(lodgingRepository.findFacetRows()).thenReturn(List.of(
+                new LodgingFacetRow(fancy, beach, Region.EAST, 5, 250.0)));
+
+        assertEquals(1, service.browseLodgings(new FacetRequest()).get().total());
+        verify(lodgingRepository, times(2)).findFacetRows();
+    }
+
+    @Test
+    @DisplayName("Price Band - Bounds Belong To The Upper Band")
+    void priceBands() {
+        assertEquals("0-50", service.priceBand(49.99));
+        assertEquals("50-100", service.priceBand(50));
+        assertEquals("200+", service.priceBand(1000));
+    }
+
+    @Test
+    @DisplayName("Browse Lodgings - Error")
+    void browseLodgingsError() {
+        when(lodgingRepository.findFacetRows()).thenThrow(new DataAccessResourceFailureException("down"));
+
+        Either<ErrorDto[], FacetedPageDTO<LodgingResponseDTO>> result = service.browseLodgings(new FacetRequest());
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getLeft()[0].code());
+        assertEquals(MessageConstants.ERROR_BROWSE_CATALOGUE, result.getLeft()[0].message());
+    }
+
+    private Lodging lodging(UUID id) {
+        Lodging lodging = new Lodging();
+        lodging.setId(id);
+        lodging.setName(id.toString());
+        return lodging;
+    }
+}
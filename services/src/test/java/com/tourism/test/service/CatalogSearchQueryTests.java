@@ -0,0 +1,70 @@
+package com.tourism.test.service;
+
+import com.tourism.dto.response.LodgingFacetRow;
+import com.tourism.dto.response.PlaceFacetRow;
+import com.tourism.dto.response.SearchDocumentRow;
+import com.tourism.model.*;
+import com.tourism.repository.LodgingOwnerRepository;
+import com.tourism.repository.LodgingRepository;
+import com.tourism.repository.TouristicPlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "jpa-test.database=catalogsearch")
+@ActiveProfiles("jpa")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CatalogSearchQueryTests {
+
+    @Autowired
+    private LodgingRepository lodgingRepository;
+    @Autowired
+    private LodgingOwnerRepository ownerRepository;
+    @Autowired
+    private TouristicPlaceRepository placeRepository;
+
+    private LodgingOwner owner;
+    private TouristicPlace place;
+    private Lodging lodging;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        owner = ownerRepository.save(new LodgingOwner("owner" + suffix + "@email.com", "validPassword123",
+                "Owner", "Hotel", Role.LODGING_OWNER, true));
+        place = placeRepository.save(new TouristicPlace("Place " + suffix, "Un lugar de pruebas",
+                Region.EAST, null, owner, true));
+        placeRepository.save(new TouristicPlace("Hidden " + suffix, "Un lugar deshabilitado",
+                Region.EAST, null, owner, false));
+        lodging = lodgingRepository.save(new Lodging("Hotel " + suffix, "Un hotel de pruebas", "Parada 5, playa mansa",
+                "+5984422112233", 20, 25.0, 5, place, owner, true));
+    }
+
+    @Test
+    @DisplayName("Search Documents - Enabled Places And Lodgings With Their Text")
+    void searchDocuments() {
+        List<SearchDocumentRow> places = placeRepository.findSearchDocuments();
+        List<SearchDocumentRow> lodgings = lodgingRepository.findSearchDocuments();
+
+        assertEquals(List.of(new SearchDocumentRow(place.getId(), place.getName(), "Un lugar de pruebas", null)), places);
+        assertEquals(List.of(new SearchDocumentRow(lodging.getId(), lodging.getName(), "Un hotel de pruebas",
+                "Parada 5, playa mansa")), lodgings);
+    }
+
+    @Test
+    @DisplayName("Facet Rows - Enabled Places And Lodgings With Their Facet Values")
+    void facetRows() {
+        assertEquals(List.of(new PlaceFacetRow(place.getId(), Region.EAST)), placeRepository.findFacetRows());
+        assertEquals(List.of(new LodgingFacetRow(lodging.getId(), place.getId(), Region.EAST, 5, 25.0)),
+                lodgingRepository.findFacetRows());
+    }
+}
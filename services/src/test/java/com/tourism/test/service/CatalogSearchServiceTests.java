@@ -0,0 +1,180 @@
+package com.tourism.test.service;
+
+import com.tourism.dto.request.SearchRequest;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.SearchDocumentRow;
+import com.tourism.dto.response.SearchHitDTO;
+import com.tourism.dto.response.SearchHitRow;
+import com.tourism.model.*;
+import com.tourism.repository.LodgingRepository;
+import com.tourism.repository.TouristicPlaceRepository;
+import com.tourism.service.impl.search.CatalogSearchServiceInMemoryImpl;
+import com.tourism.service.impl.search.CatalogSearchServicePostgresImpl;
+import com.tourism.util.MessageConstants;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class CatalogSearchServiceTests {
+
+    @Mock
+    private TouristicPlaceRepository placeRepository;
+
+    @Mock
+    private LodgingRepository lodgingRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CatalogSearchServiceInMemoryImpl memoryService;
+    private CatalogSearchServicePostgresImpl postgresService;
+    private UUID placeId;
+    private UUID lodgingId;
+
+    @BeforeEach
+    void setUp() {
+        placeId = UUID.randomUUID();
+        lodgingId = UUID.randomUUID();
+        when(placeRepository.findSearchDocuments()).thenReturn(List.of(
+                new SearchDocumentRow(placeId, "Punta del Este", "Playas y puerto frente al mar")));
+        when(lodgingRepository.findSearchDocuments()).thenReturn(List.of(
+                new SearchDocumentRow(lodgingId, "Hotel Test", "Un hotel de pruebas", "Parada 5, playa mansa")));
+        memoryService = new CatalogSearchServiceInMemoryImpl(placeRepository, lodgingRepository, 0.3);
+        memoryService.load();
+        postgresService = new CatalogSearchServicePostgresImpl(placeRepository, lodgingRepository, transactionManager,
+                "spanish", 0.3);
+    }
+
+    @Test
+    @DisplayName("Search In Memory - Loads Enabled Documents")
+    void memoryLoadsDocuments() {
+        Either<ErrorDto[], SearchHitDTO[]> places = memoryService.searchPlaces(new SearchRequest("puerto", 0, 20, SearchMode.FULL_TEXT));
+        Either<ErrorDto[], SearchHitDTO[]> lodgings = memoryService.searchLodgings(new SearchRequest("playa", 0, 20, SearchMode.FULL_TEXT));
+
+        assertTrue(places.isRight());
+        assertEquals(1, places.get().length);
+        assertEquals(placeId, places.get()[0].id());
+        assertEquals("Playas y <mark>puerto</mark> frente al mar", places.get()[0].highlight());
+        assertEquals(lodgingId, lodgings.get()[0].id());
+    }
+
+    @Test
+    @DisplayName("Search In Memory - Follows Catalogue Writes")
+    void memoryFollowsWrites() {
+        TouristicPlace place = new TouristicPlace("Colonia del Sacramento", "Barrio histórico", Region.WEST, new User(), true);
+        place.setId(UUID.randomUUID());
+
+        memoryService.placeSaved(place);
+        assertEquals(place.getId(), memoryService.searchPlaces(new SearchRequest("historico", 0, 20, SearchMode.FULL_TEXT)).get()[0].id());
+
+        place.setEnabled(false);
+        memoryService.placeSaved(place);
+        assertEquals(0, memoryService.searchPlaces(new SearchRequest("historico", 0, 20, SearchMode.FULL_TEXT)).get().length);
+
+        memoryService.lodgingDeleted(lodgingId);
+        assertEquals(0, memoryService.searchLodgings(new SearchRequest("hotel", 0, 20, SearchMode.FULL_TEXT)).get().length);
+    }
+
+    @Test
+    @DisplayName("Search In Memory - Reload Keeps Serving The Previous Indexes And The Writes Made Meanwhile")
+    void memoryReloadSwapsIndexes() {
+        Lodging lodging = new Lodging("Posada Nueva", "Una posada frente al puerto", "Rambla 10", "+5984422112200", 10,
+                30.0, 4, new TouristicPlace(), new LodgingOwner(), true);
+        lodging.setId(UUID.randomUUID());
+        when(lodgingRepository.findSearchDocuments()).thenAnswer(invocation -> {
+            assertEquals(placeId, memoryService.searchPlaces(new SearchRequest("puerto", 0, 20, SearchMode.FULL_TEXT)).get()[0].id());
+            assertEquals(lodgingId, memoryService.searchLodgings(new SearchRequest("hotel", 0, 20, SearchMode.FULL_TEXT)).get()[0].id());
+            memoryService.lodgingSaved(lodging);
+            memoryService.placeDeleted(placeId);
+            return List.of(new SearchDocumentRow(lodgingId, "Hotel Test", "Un hotel de pruebas", "Parada 5, playa mansa"));
+        });
+
+        memoryService.load();
+
+        assertEquals(0, memoryService.searchPlaces(new SearchRequest("puerto", 0, 20, SearchMode.FULL_TEXT)).get().length);
+        assertEquals(lodging.getId(), memoryService.searchLodgings(new SearchRequest("posada", 0, 20, SearchMode.FULL_TEXT)).get()[0].id());
+        assertEquals(lodgingId, memoryService.searchLodgings(new SearchRequest("hotel", 0, 20, SearchMode.FUZZY)).get()[0].id());
+    }
+
+    @Test
+    @DisplayName("Search In Memory - Fuzzy Mode Tolerates Typos")
+    void memoryFuzzyToleratesTypos() {
+        SearchHitDTO[] places = memoryService.searchPlaces(new SearchRequest("punta del estte", 0, 20, SearchMode.FUZZY)).get();
+        SearchHitDTO[] lodgings = memoryService.searchLodgings(new SearchRequest("hotell tst", 0, 20, SearchMode.FUZZY)).get();
+
+        assertEquals(1, places.length);
+        assertEquals(placeId, places[0].id());
+        assertTrue(places[0].rank() >= 0.3 && places[0].rank() < 1.0);
+        assertNull(places[0].highlight());
+        assertEquals(lodgingId, lodgings[0].id());
+        assertEquals(0, memoryService.searchPlaces(new SearchRequest("montevideo", 0, 20, SearchMode.FUZZY)).get().length);
+    }
+
+    @Test
+    @DisplayName("Search Postgres - Fuzzy Mode Sets The Threshold Before Matching Names")
+    void postgresFuzzySetsThreshold() {
+        SearchHitRow row = mock(SearchHitRow.class);
+        when(row.getId()).thenReturn(lodgingId);
+        when(row.getName()).thenReturn("Hotel Test");
+        when(row.getRank()).thenReturn(0.45);
+        when(lodgingRepository.searchSimilarNames("hotell", 20, 0)).thenReturn(List.of(row));
+
+        Either<ErrorDto[], SearchHitDTO[]> result = postgresService.searchLodgings(new SearchRequest("hotell", 0, 20, SearchMode.FUZZY));
+
+        assertTrue(result.isRight());
+        assertEquals(new SearchHitDTO(lodgingId, "Hotel Test", 0.45, null), result.get()[0]);
+        InOrder inOrder = inOrder(placeRepository, lodgingRepository);
+        inOrder.verify(placeRepository).setSimilarityThreshold("0.3");
+        inOrder.verify(lodgingRepository).searchSimilarNames("hotell", 20, 0);
+        verify(lodgingRepository, never()).searchFullText(anyString(), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Search Postgres - Maps Ranked Rows And Pages")
+    void postgresMapsRows() {
+        SearchHitRow row = mock(SearchHitRow.class);
+        when(row.getId()).thenReturn(placeId);
+        when(row.getName()).thenReturn("Punta del Este");
+        when(row.getRank()).thenReturn(0.6);
+        when(row.getHighlight()).thenReturn("Playas y <mark>puerto</mark>");
+        when(placeRepository.searchFullText("spanish", "puerto", 10, 20)).thenReturn(List.of(row));
+
+        Either<ErrorDto[], SearchHitDTO[]> result = postgresService.searchPlaces(new SearchRequest("puerto", 2, 10, SearchMode.FULL_TEXT));
+
+        assertTrue(result.isRight());
+        assertEquals(new SearchHitDTO(placeId, "Punta del Este", 0.6, "Playas y <mark>puerto</mark>"), result.get()[0]);
+    }
+
+    @Test
+    @DisplayName("Search Postgres - Error")
+    void postgresError() {
+        when(lodgingRepository.searchFullText(anyString(), anyString(), anyInt(), anyInt()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        Either<ErrorDto[], SearchHitDTO[]> result = postgresService.searchLodgings(new SearchRequest("hotel", 0, 20, SearchMode.FULL_TEXT));
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getLeft()[0].code());
+        assertEquals(MessageConstants.ERROR_SEARCH_CATALOGUE, result.getLeft()[0].message());
+    }
+}
@@ -0,0 +1,130 @@
+package com.tourism.test.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tourism.dto.response.BookingExportRow;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.LodgingExportRow;
+import com.tourism.dto.response.TouristExportRow;
+import com.tourism.model.BookingState;
+import com.tourism.model.ExportFormat;
+import com.tourism.model.TouristType;
+import com.tourism.repository.BookingRepository;
+import com.tourism.repository.LodgingRepository;
+import com.tourism.repository.TouristRepository;
+import com.tourism.service.impl.DataExportServiceImpl;
+import com.tourism.util.MessageConstants;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class DataExportServiceTests {
+
+    @Mock
+    private BookingRepository bookingRepository;
+    @Mock
+    private TouristRepository touristRepository;
+    @Mock
+    private LodgingRepository lodgingRepository;
+
+    private ObjectMapper objectMapper;
+    private DataExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule()).disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new DataExportServiceImpl(bookingRepository, touristRepository, lodgingRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Export Bookings - One JSON Object Per Line")
+    void exportBookingsNdjson() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(bookingRepository.streamAllForExport()).thenReturn(IntStream.range(0, 3).mapToObj(i -> booking(LocalDate.of(2026, 3, 1 + i)))
+                .onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Either<ErrorDto[], Long> result = exportService.exportBookings(ExportFormat.NDJSON, out);
+
+        assertTrue(result.isRight());
+        assertEquals(3L, result.get());
+        assertTrue(closed.get());
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("2026-03-01", first.get("checkIn").asText());
+        assertEquals("ACCEPTED", first.get("state").asText());
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("\n"));
+    }
+
+    @Test
+    @DisplayName("Export Tourists - CSV With Header")
+    void exportTouristsCsv() {
+        when(touristRepository.streamAllForExport()).thenReturn(Stream.of(
+                new TouristExportRow(UUID.randomUUID(), "tverano@email.com", "Turista", "Verano, Jr", TouristType.STANDARD, true),
+                new TouristExportRow(UUID.randomUUID(), "otro@email.com", "Otro", "Turista", TouristType.PREMIUM, false)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Either<ErrorDto[], Long> result = exportService.exportTourists(ExportFormat.CSV, out);
+
+        assertTrue(result.isRight());
+        assertEquals(2L, result.get());
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("id,email,firstName,lastName,type,enabled", lines[0]);
+        assertTrue(lines[1].contains("\"Verano, Jr\""));
+        assertTrue(lines[2].endsWith("PREMIUM,false"));
+    }
+
+    @Test
+    @DisplayName("Export Lodgings - Empty Table Writes Only The Header")
+    void exportLodgingsEmptyCsv() {
+        when(lodgingRepository.streamAllForExport()).thenReturn(Stream.<LodgingExportRow>empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Either<ErrorDto[], Long> result = exportService.exportLodgings(ExportFormat.CSV, out);
+
+        assertTrue(result.isRight());
+        assertEquals(0L, result.get());
+    }
+
+    @Test
+    @DisplayName("Export Bookings - Exception Thrown")
+    void exportBookingsException() {
+        when(bookingRepository.streamAllForExport()).thenThrow(new RuntimeException("Test exception"));
+
+        Either<ErrorDto[], Long> result = exportService.exportBookings(ExportFormat.NDJSON, new ByteArrayOutputStream());
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getLeft()[0].code());
+        assertEquals(MessageConstants.ERROR_EXPORT_DATA, result.getLeft()[0].message());
+    }
+
+    private static BookingExportRow booking(LocalDate checkIn) {
+        return new BookingExportRow(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), checkIn, checkIn.plusDays(2),
+                100.0, BookingState.ACCEPTED, 2, 0, 0, true, Instant.parse("2026-01-01T10:00:00Z"));
+    }
+}
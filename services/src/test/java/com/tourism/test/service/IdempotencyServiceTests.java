@@ -0,0 +1,135 @@
+package com.tourism.test.service;
+
+import com.tourism.repository.ProcessedBookingRequestRepository;
+import com.tourism.service.impl.IdempotencyServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTests {
+
+    @Mock
+    private ProcessedBookingRequestRepository repository;
+
+    private IdempotencyServiceImpl idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyServiceImpl(repository, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Request Key - Scoped By Tourist")
+    void requestKeyScopedByTourist() {
+        UUID touristId = UUID.randomUUID();
+        assertEquals(touristId + ":abc", idempotencyService.requestKey(touristId, "abc"));
+        assertNotEquals(idempotencyService.requestKey(UUID.randomUUID(), "abc"), idempotencyService.requestKey(touristId, "abc"));
+    }
+
+    @Test
+    @DisplayName("Register - First Time Stores The Key")
+    void registerNewKey() {
+        when(repository.insertIfAbsent(any(UUID.class), eq("key"))).thenReturn(1);
+
+        assertTrue(idempotencyService.register("key"));
+        assertTrue(idempotencyService.isProcessed("key"));
+        verify(repository, never()).existsByRequestKey("key");
+    }
+
+    @Test
+    @DisplayName("Register - Replay Is Answered From Recent Keys")
+    void registerReplayFromMemory() {
+        when(repository.insertIfAbsent(any(UUID.class), eq("key"))).thenReturn(1);
+
+        idempotencyService.register("key");
+
+        assertFalse(idempotencyService.register("key"));
+        verify(repository, times(1)).insertIfAbsent(any(UUID.class), eq("key"));
+    }
+
+    @Test
+    @DisplayName("Register - Replay Stored By Another Node")
+    void registerReplayFromDatabase() {
+        when(repository.insertIfAbsent(any(UUID.class), eq("key"))).thenReturn(0);
+
+        assertFalse(idempotencyService.register("key"));
+    }
+
+    @Test
+    @DisplayName("Recent Keys - Bounded And Falls Back To Database")
+    void recentKeysBounded() {
+        when(repository.insertIfAbsent(any(UUID.class), any())).thenReturn(1);
+        when(repository.existsByRequestKey("first")).thenReturn(true);
+
+        idempotencyService.register("first");
+        idempotencyService.register("second");
+        idempotencyService.register("third");
+
+        assertTrue(idempotencyService.isProcessed("first"));
+        verify(repository).existsByRequestKey("first");
+    }
+
+    @Test
+    @DisplayName("Register - Key Of A Rolled Back Transaction Is Not Remembered")
+    void registerInRolledBackTransaction() {
+        when(repository.insertIfAbsent(any(UUID.class), eq("key"))).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        idempotencyService.register("key");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertFalse(idempotencyService.isProcessed("key"));
+        verify(repository).existsByRequestKey("key");
+    }
+
+    @Test
+    @DisplayName("Register - Key Is Remembered Once The Transaction Commits")
+    void registerInCommittedTransaction() {
+        when(repository.insertIfAbsent(any(UUID.class), eq("key"))).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        idempotencyService.register("key");
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertTrue(idempotencyService.isProcessed("key"));
+        verify(repository, never()).existsByRequestKey("key");
+    }
+
+    @Test
+    @DisplayName("Purge - Deletes Keys Older Than Retention")
+    void purge() {
+        Instant before = Instant.now();
+        when(repository.deleteCreatedBefore(before)).thenReturn(5);
+
+        assertEquals(5, idempotencyService.purge(before));
+        verify(repository).deleteCreatedBefore(before);
+    }
+}
@@ -0,0 +1,123 @@
+package com.tourism.test.service;
+
+import com.tourism.dto.request.BookingMessage;
+import com.tourism.dto.request.BookingRequestDTO;
+import com.tourism.service.impl.queues.InMemoryBookingQueue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryBookingQueueTests {
+
+    private InMemoryBookingQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Publish - Keeps Order Per Lodging")
+    void keepsOrderPerLodging() throws Exception {
+        queue = new InMemoryBookingQueue(4, 64, 8, 5000, new SimpleMeterRegistry());
+        List<UUID> lodgings = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        int perLodging = 200;
+        Map<UUID, List<Integer>> received = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(lodgings.size() * perLodging);
+        queue.start(batch -> batch.forEach(message -> {
+            received.computeIfAbsent(message.bookingRequest().lodgingId(), id -> new CopyOnWriteArrayList<>())
+                    .add(message.bookingRequest().adults());
+            done.countDown();
+        }));
+
+        for (int i = 0; i < perLodging; i++) {
+            for (UUID lodgingId : lodgings) {
+                assertTrue(queue.publish(message(lodgingId, i)));
+            }
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        for (UUID lodgingId : lodgings) {
+            List<Integer> sequence = received.get(lodgingId);
+            for (int i = 0; i < perLodging; i++) {
+                assertEquals(i, sequence.get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Publish - Delivers In Batches Up To Batch Size")
+    void deliversInBatches() throws Exception {
+        queue = new InMemoryBookingQueue(1, 64, 5, 5000, new SimpleMeterRegistry());
+        UUID lodgingId = UUID.randomUUID();
+        for (int i = 0; i < 20; i++) {
+            queue.publish(message(lodgingId, i));
+        }
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(20);
+        queue.start(batch -> {
+            batchSizes.add(batch.size());
+            batch.forEach(message -> done.countDown());
+        });
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 5));
+        assertEquals(20, batchSizes.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    @DisplayName("Publish - Full Queue Times Out")
+    void fullQueueTimesOut() throws Exception {
+        queue = new InMemoryBookingQueue(1, 2, 8, 10, new SimpleMeterRegistry());
+        UUID lodgingId = UUID.randomUUID();
+
+        assertTrue(queue.publish(message(lodgingId, 0)));
+        assertTrue(queue.publish(message(lodgingId, 1)));
+        assertFalse(queue.publish(message(lodgingId, 2)));
+        assertEquals(2, queue.depth());
+    }
+
+    @Test
+    @DisplayName("Stop - Drains Pending Messages")
+    void stopDrainsPendingMessages() throws Exception {
+        queue = new InMemoryBookingQueue(2, 64, 4, 5000, new SimpleMeterRegistry());
+        List<BookingMessage> received = new CopyOnWriteArrayList<>();
+        queue.start(batch -> {
+            sleep();
+            received.addAll(batch);
+        });
+        for (int i = 0; i < 30; i++) {
+            queue.publish(message(UUID.randomUUID(), i));
+        }
+
+        queue.stop();
+
+        assertEquals(30, received.size());
+        assertEquals(0, queue.depth());
+    }
+
+    private BookingMessage message(UUID lodgingId, int sequence) {
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        return new BookingMessage(new BookingRequestDTO(checkIn, checkIn.plusDays(2), lodgingId, sequence, 0, 0), UUID.randomUUID());
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
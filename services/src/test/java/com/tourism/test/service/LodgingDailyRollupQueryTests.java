@@ -0,0 +1,183 @@
+package com.tourism.test.service;
+
+import com.tourism.dto.response.LodgingCapacityRow;
+import com.tourism.dto.response.LodgingDailyStatsDTO;
+import com.tourism.dto.response.LodgingStatsSummaryDTO;
+import com.tourism.dto.response.PlaceCategoryRow;
+import com.tourism.dto.response.RollupAnalyticsRow;
+import com.tourism.model.*;
+import com.tourism.repository.*;
+import com.tourism.service.CapacityReservationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "jpa-test.database=rollup")
+@ActiveProfiles("jpa")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class LodgingDailyRollupQueryTests {
+
+    @Autowired
+    private LodgingDailyRollupRepository rollupRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private BookingDateRepository dateRepository;
+    @Autowired
+    private LodgingRepository lodgingRepository;
+    @Autowired
+    private LodgingOwnerRepository ownerRepository;
+    @Autowired
+    private TouristicPlaceRepository placeRepository;
+    @Autowired
+    private TouristRepository touristRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LodgingOwner owner;
+    private Lodging lodging;
+    private Lodging foreign;
+    private Tourist tourist;
+    private TouristicPlace place;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        owner = ownerRepository.save(new LodgingOwner("owner" + suffix + "@email.com", "validPassword123",
+                "Owner", "Hotel", Role.LODGING_OWNER, true));
+        LodgingOwner otherOwner = ownerRepository.save(new LodgingOwner("other" + suffix + "@email.com", "validPassword123",
+                "Other", "Hotel", Role.LODGING_OWNER, true));
+        place = placeRepository.save(new TouristicPlace("Place " + suffix, "Un lugar de pruebas",
+                Region.EAST, null, owner, true));
+        tourist = touristRepository.save(new Tourist("tourist" + suffix + "@email.com", "12345678", "Turista",
+                "Verano", Role.TOURIST, TouristType.STANDARD, true));
+        lodging = lodgingRepository.save(lodging("Hotel A " + suffix, place, owner));
+        foreign = lodgingRepository.save(lodging("Hotel B " + suffix, place, otherOwner));
+        today = LocalDate.now();
+    }
+
+    @Test
+    @DisplayName("Rollup Increment - Concurrent Creation Keeps One Row Per Lodging Day")
+    void incrementKeepsOneRowPerDay() {
+        assertEquals(1, rollupRepository.insertIfAbsent(UUID.randomUUID(), lodging.getId(), today));
+        assertEquals(0, rollupRepository.insertIfAbsent(UUID.randomUUID(), lodging.getId(), today));
+        rollupRepository.increment(lodging.getId(), today, 3, 75.0, 1);
+        rollupRepository.increment(lodging.getId(), today, 2, 50.0, 1);
+        rollupRepository.increment(lodging.getId(), today, -3, -75.0, -1);
+
+        List<LodgingDailyStatsDTO> days = rollupRepository.findDaily(owner.getId(), null, today, today);
+
+        assertEquals(1, days.size());
+        assertEquals(2, days.getFirst().bookedPersons());
+        assertEquals(50.0, days.getFirst().revenue());
+        assertEquals(1, days.getFirst().bookingsCount());
+        assertEquals(0, rollupRepository.increment(lodging.getId(), today.plusDays(1), 1, 25.0, 1));
+    }
+
+    @Test
+    @DisplayName("Rollup Aggregate - Night Lines Of Capacity Holding Bookings Per Day")
+    void aggregateNightsOfHoldingBookings() {
+        nights(new Booking(today, today.plusDays(2), 100.0, lodging, tourist, BookingState.CREATED, 2, 1, 0, false));
+        nights(new Booking(today.plusDays(1), today.plusDays(3), 80.0, lodging, tourist, BookingState.ACCEPTED, 1, 0, 0, true));
+        nights(new Booking(today, today.plusDays(1), 60.0, lodging, tourist, BookingState.REJECTED, 4, 0, 0, false));
+        nights(new Booking(today, today.plusDays(1), 60.0, foreign, tourist, BookingState.CREATED, 4, 0, 0, false));
+
+        List<LodgingDailyStatsDTO> days = dateRepository.aggregateNights(lodging.getId(), today, today.plusDays(5),
+                CapacityReservationService.CAPACITY_HOLDING_STATES).stream()
+                .sorted((a, b) -> a.date().compareTo(b.date()))
+                .toList();
+
+        assertEquals(3, days.size());
+        assertEquals(new LodgingDailyStatsDTO(lodging.getId(), today, 3, 50.0, 1), days.get(0));
+        assertEquals(new LodgingDailyStatsDTO(lodging.getId(), today.plusDays(1), 4, 90.0, 2), days.get(1));
+        assertEquals(new LodgingDailyStatsDTO(lodging.getId(), today.plusDays(2), 1, 40.0, 1), days.get(2));
+    }
+
+    @Test
+    @DisplayName("Rollup Read - Owner Scoped Days And Summary")
+    void ownerScopedDaysAndSummary() {
+        rollupRepository.saveAll(List.of(
+                new LodgingDailyRollup(lodging, today, 4, 100.0, 2),
+                new LodgingDailyRollup(lodging, today.plusDays(1), 2, 60.0, 1),
+                new LodgingDailyRollup(foreign, today, 6, 300.0, 3)));
+
+        List<LodgingDailyStatsDTO> days = rollupRepository.findDaily(owner.getId(), null, today, today.plusDays(1));
+        assertEquals(2, days.size());
+        assertTrue(days.stream().allMatch(day -> day.lodgingId().equals(lodging.getId())));
+        assertEquals(today, days.getFirst().date());
+        assertEquals(3, rollupRepository.findDaily(null, null, today, today.plusDays(1)).size());
+        assertEquals(1, rollupRepository.findDaily(null, foreign.getId(), today, today.plusDays(1)).size());
+
+        List<LodgingStatsSummaryDTO> summaries = rollupRepository.summarize(owner.getId(), today, today.plusDays(1));
+        assertEquals(1, summaries.size());
+        LodgingStatsSummaryDTO summary = summaries.getFirst().withOccupancy(2);
+        assertEquals(6L, summary.bookedPersons());
+        assertEquals(160.0, summary.revenue());
+        assertEquals(3L, summary.bookedNights());
+        assertEquals(6.0 / 40, summary.occupancyRate());
+
+        assertEquals(2, rollupRepository.deleteByLodgingIdAndDateBetween(lodging.getId(), today, today.plusDays(1)));
+        assertTrue(rollupRepository.findDaily(owner.getId(), null, today, today.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Rollup Analytics - Region Rows, Capacities And Place Categories")
+    void analyticsProjections() {
+        // categories use identity keys, which Hibernate inserts with a RETURNING clause H2 does not understand
+        String beach = "Beach " + place.getName().substring(6);
+        placeRepository.flush();
+        jdbcTemplate.update("INSERT INTO public.categories (name, enabled) VALUES (?, true)", beach);
+        Integer beachId = jdbcTemplate.queryForObject("SELECT id FROM public.categories WHERE name = ?", Integer.class, beach);
+        jdbcTemplate.update("INSERT INTO public.touristic_place_categories (touristic_place_id, category_id) VALUES (?, ?)",
+                place.getId(), beachId);
+        rollupRepository.saveAll(List.of(
+                new LodgingDailyRollup(lodging, today, 4, 100.0, 2),
+                new LodgingDailyRollup(foreign, today.plusDays(1), 6, 300.0, 3),
+                new LodgingDailyRollup(lodging, today.plusDays(5), 1, 10.0, 1)));
+
+        List<RollupAnalyticsRow> rows;
+        try (Stream<RollupAnalyticsRow> stream = rollupRepository.streamRegionDays(Region.EAST, today, today.plusDays(1))) {
+            rows = stream.toList();
+        }
+        assertEquals(2, rows.size());
+        assertTrue(rows.stream().allMatch(row -> row.touristicPlaceId().equals(place.getId())));
+        assertEquals(10, rows.stream().mapToInt(RollupAnalyticsRow::bookedPersons).sum());
+        try (Stream<RollupAnalyticsRow> stream = rollupRepository.streamRegionDays(Region.NORTH, today, today.plusDays(1))) {
+            assertEquals(0, stream.count());
+        }
+
+        List<LodgingCapacityRow> capacities = lodgingRepository.findEnabledCapacities();
+        assertTrue(capacities.stream().filter(row -> row.touristicPlaceId().equals(place.getId()))
+                .allMatch(row -> row.region() == Region.EAST && row.capacity() == 20));
+        assertTrue(categoryRepository.findPlaceCategories()
+                .contains(new PlaceCategoryRow(place.getId(), beach)));
+    }
+
+    private void nights(Booking booking) {
+        bookingRepository.save(booking);
+        double nightPrice = booking.getTotalPrice() / (booking.getCheckOut().toEpochDay() - booking.getCheckIn().toEpochDay());
+        for (LocalDate night = booking.getCheckIn(); night.isBefore(booking.getCheckOut()); night = night.plusDays(1)) {
+            dateRepository.save(new BookingDate(booking, night, nightPrice));
+        }
+    }
+
+    private static Lodging lodging(String name, TouristicPlace place, LodgingOwner owner) {
+        return new Lodging(name, "Un hotel de pruebas", "Parada 5, playa mansa", "+5984422112233", 20, 25.0, 5,
+                place, owner, true);
+    }
+}
@@ -11,6 +11,7 @@ import com.tourism.model.Admin;
 import com.tourism.model.Role;
 import com.tourism.model.LodgingOwner;
 import com.tourism.model.User;
+import com.tourism.observer.UserObserver;
 import com.tourism.repository.LodgingOwnerRepository;
 import com.tourism.repository.RefreshTokenRepository;
 import com.tourism.repository.UserRepository;
@@ -113,6 +114,20 @@ class LodgingOwnerServiceTests {
         assertEquals(validRequestDTO.getLastName(), responseDTO.lastName());
     }
 
+    @Test
+    @DisplayName("Create Lodging Owner - Notifies User Observers")
+    void createLodgingOwnerNotifiesObservers() {
+        UserObserver observer = mock(UserObserver.class);
+        service.addObserver(observer);
+        when(userValidation.validateEmailAndPassword(validRequestDTO.getEmail(), validRequestDTO.getPassword())).thenReturn(Either.right(true));
+        when(repository.save(any(LodgingOwner.class))).thenReturn(owner);
+
+        service.create(validRequestDTO);
+
+        verify(observer).userSaved(owner);
+        verify(observer, never()).userDeleted(any());
+    }
+
     @Test
     @DisplayName("Create Lodging Owner - Validation Failure")
     void createLodgingOwnerValidationFailure() {
@@ -234,6 +249,21 @@ class LodgingOwnerServiceTests {
         verify(repository).delete(owner);
     }
 
+    @Test
+    @DisplayName("Delete Lodging Owner - Notifies User Observers")
+    void deleteLodgingOwnerNotifiesObservers() {
+        UUID id = UUID.randomUUID();
+        owner.setId(id);
+        UserObserver observer = mock(UserObserver.class);
+        service.addObserver(observer);
+        when(userRepository.findById(id)).thenReturn(Optional.of(new User()));
+        when(repository.findById(id)).thenReturn(Optional.of(owner));
+
+        service.delete(id);
+
+        verify(observer).userDeleted(id);
+    }
+
     @Test
     @DisplayName("Delete Lodging Owner - Invalid Id")
     void deleteLodgingOwnerInvalidId() {
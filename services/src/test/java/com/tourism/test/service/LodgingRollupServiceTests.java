@@ -0,0 +1,230 @@
+package com.tourism.test.service;
+
+import com.tourism.dto.request.LodgingStatsRequest;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.dto.response.LodgingDailyStatsDTO;
+import com.tourism.dto.response.LodgingStatsSummaryDTO;
+import com.tourism.model.*;
+import com.tourism.repository.BookingDateRepository;
+import com.tourism.repository.LodgingDailyRollupRepository;
+import com.tourism.repository.LodgingRepository;
+import com.tourism.service.CapacityReservationService;
+import com.tourism.service.impl.LodgingRollupServiceImpl;
+import com.tourism.util.MessageConstants;
+import com.tourism.util.helpers.LodgingLockManager;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class LodgingRollupServiceTests {
+
+    @Mock
+    private LodgingDailyRollupRepository repository;
+    @Mock
+    private BookingDateRepository dateRepository;
+    @Mock
+    private LodgingRepository lodgingRepository;
+    @Mock
+    private LodgingLockManager lockManager;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private LodgingRollupServiceImpl rollupService;
+    private Lodging lodging;
+    private Booking booking;
+    private LocalDate from;
+
+    @BeforeEach
+    void setUp() {
+        rollupService = new LodgingRollupServiceImpl(repository, dateRepository, lodgingRepository, lockManager,
+                transactionTemplate, 366);
+        from = LocalDate.of(2026, 1, 1);
+        lodging = new Lodging();
+        lodging.setId(UUID.randomUUID());
+        lodging.setCapacity(10);
+        booking = new Booking();
+        booking.setId(UUID.randomUUID());
+        booking.setLodging(lodging);
+        booking.setAdults(2);
+        booking.setChildren(1);
+        booking.setBabies(0);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("Add Booking - Every Night Is Created If Absent And Incremented")
+    void addBookingIncrementsEveryNight() {
+        List<BookingDate> nights = List.of(new BookingDate(booking, from, 40.0), new BookingDate(booking, from.plusDays(1), 60.0));
+
+        rollupService.addBooking(booking, nights);
+
+        InOrder order = inOrder(repository);
+        order.verify(repository).insertIfAbsent(any(UUID.class), eq(lodging.getId()), eq(from));
+        order.verify(repository).increment(lodging.getId(), from, 3, 40.0, 1);
+        order.verify(repository).insertIfAbsent(any(UUID.class), eq(lodging.getId()), eq(from.plusDays(1)));
+        order.verify(repository).increment(lodging.getId(), from.plusDays(1), 3, 60.0, 1);
+    }
+
+    @Test
+    @DisplayName("Remove Booking - Stored Nights Are Decremented")
+    void removeBookingDecrementsStoredNights() {
+        when(dateRepository.findByBookingId(booking.getId())).thenReturn(List.of(new BookingDate(booking, from, 40.0)));
+        when(repository.increment(any(), any(), anyInt(), anyDouble(), anyInt())).thenReturn(0);
+
+        rollupService.removeBooking(booking);
+
+        verify(repository).increment(lodging.getId(), from, -3, -40.0, -1);
+        verify(repository, never()).insertIfAbsent(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Rebuild - Every Lodging Is Recomputed Under Its Lock")
+    void rebuildEveryLodging() {
+        UUID otherId = UUID.randomUUID();
+        LocalDate to = from.plusDays(30);
+        when(lodgingRepository.findAllIds()).thenReturn(List.of(lodging.getId(), otherId));
+        when(lodgingRepository.getReferenceById(any())).thenReturn(lodging);
+        when(dateRepository.aggregateNights(lodging.getId(), from, to, CapacityReservationService.CAPACITY_HOLDING_STATES))
+                .thenReturn(List.of(new LodgingDailyStatsDTO(lodging.getId(), from, 5, 200.0, 2)));
+
+        Either<ErrorDto[], Integer> result = rollupService.rebuild(from, to);
+
+        assertTrue(result.isRight());
+        assertEquals(2, result.get());
+        InOrder order = inOrder(lockManager, repository);
+        order.verify(lockManager).lockUntilTransactionEnds(lodging.getId());
+        order.verify(repository).deleteByLodgingIdAndDateBetween(lodging.getId(), from, to);
+        order.verify(repository).saveAll(argThat(days -> {
+            if (!days.iterator().hasNext()) {
+                return false;
+            }
+            LodgingDailyRollup day = days.iterator().next();
+            return day.getDate().equals(from) && day.getBookedPersons() == 5 && day.getRevenue() == 200.0
+                    && day.getBookingsCount() == 2;
+        }));
+        verify(lockManager).lockUntilTransactionEnds(otherId);
+        verify(repository).deleteByLodgingIdAndDateBetween(otherId, from, to);
+        verify(lodgingRepository).lockById(lodging.getId());
+        verify(lodgingRepository).lockById(otherId);
+    }
+
+    @Test
+    @DisplayName("Rebuild - Failing Lodging Does Not Stop The Others")
+    void rebuildContinuesAfterFailingLodging() {
+        UUID otherId = UUID.randomUUID();
+        LocalDate to = from.plusDays(30);
+        when(lodgingRepository.findAllIds()).thenReturn(List.of(lodging.getId(), otherId));
+        when(lodgingRepository.getReferenceById(any())).thenReturn(lodging);
+        when(repository.deleteByLodgingIdAndDateBetween(lodging.getId(), from, to))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        Either<ErrorDto[], Integer> result = rollupService.rebuild(from, to);
+
+        assertTrue(result.isRight());
+        assertEquals(1, result.get());
+        verify(repository).deleteByLodgingIdAndDateBetween(otherId, from, to);
+    }
+
+    @Test
+    @DisplayName("Rebuild - Inverted Range")
+    void rebuildInvertedRange() {
+        Either<ErrorDto[], Integer> result = rollupService.rebuild(from, from.minusDays(1));
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.BAD_REQUEST, result.getLeft()[0].code());
+        verify(lodgingRepository, never()).findAllIds();
+    }
+
+    @Test
+    @DisplayName("Rebuild - Failure")
+    void rebuildFailure() {
+        when(lodgingRepository.findAllIds()).thenThrow(new RuntimeException("Database down"));
+
+        Either<ErrorDto[], Integer> result = rollupService.rebuild(from, from.plusDays(1));
+
+        assertTrue(result.isLeft());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getLeft()[0].code());
+        assertEquals(MessageConstants.ERROR_REBUILD_ROLLUPS, result.getLeft()[0].message());
+    }
+
+    @Test
+    @DisplayName("Find Daily Stats - Owner Scoped")
+    void findDailyOwnerScoped() {
+        UUID ownerId = UUID.randomUUID();
+        LodgingStatsRequest request = new LodgingStatsRequest(from, from.plusDays(6), lodging.getId());
+        when(repository.findDaily(ownerId, lodging.getId(), from, from.plusDays(6)))
+                .thenReturn(List.of(new LodgingDailyStatsDTO(lodging.getId(), from, 3, 120.0, 1)));
+
+        Either<ErrorDto[], LodgingDailyStatsDTO[]> result = rollupService.findDaily(ownerId, request);
+
+        assertTrue(result.isRight());
+        assertEquals(1, result.get().length);
+        assertEquals(120.0, result.get()[0].revenue());
+    }
+
+    @Test
+    @DisplayName("Find Daily Stats - Range Longer Than Allowed")
+    void findDailyRangeTooLong() {
+        LodgingStatsRequest request = new LodgingStatsRequest(from, from.plusDays(400), null);
+
+        Either<ErrorDto[], LodgingDailyStatsDTO[]> result = rollupService.findDaily(null, request);
+
+        assertTrue(result.isLeft());
+        assertEquals(MessageConstants.ERROR_INVALID_STATS_RANGE, result.getLeft()[0].message());
+        verify(repository, never()).findDaily(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Find Summary Stats - Occupancy Rate Over The Range")
+    void findSummaryOccupancyRate() {
+        LodgingStatsRequest request = new LodgingStatsRequest(from, from.plusDays(9), null);
+        when(repository.summarize(null, from, from.plusDays(9))).thenReturn(List.of(
+                new LodgingStatsSummaryDTO(lodging.getId(), "Hotel", 10, 25L, 900.0, 8L)));
+
+        Either<ErrorDto[], LodgingStatsSummaryDTO[]> result = rollupService.findSummary(null, request);
+
+        assertTrue(result.isRight());
+        assertEquals(0.25, result.get()[0].occupancyRate());
+        assertEquals(900.0, result.get()[0].revenue());
+    }
+
+    @Test
+    @DisplayName("Find Summary Stats - Failure")
+    void findSummaryFailure() {
+        LodgingStatsRequest request = new LodgingStatsRequest(from, from.plusDays(9), null);
+        when(repository.summarize(any(), any(), any())).thenThrow(new RuntimeException("Database down"));
+
+        Either<ErrorDto[], LodgingStatsSummaryDTO[]> result = rollupService.findSummary(null, request);
+
+        assertTrue(result.isLeft());
+        assertEquals(MessageConstants.ERROR_GET_LODGING_STATS, result.getLeft()[0].message());
+    }
+}
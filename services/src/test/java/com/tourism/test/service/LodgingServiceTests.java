@@ -6,6 +6,7 @@ import com.tourism.dto.request.PageableRequest;
 import com.tourism.dto.response.*;
 import com.tourism.model.Role;
 import com.tourism.model.*;
+import com.tourism.observer.CatalogObserver;
 import com.tourism.repository.BookingDateRepository;
 import com.tourism.repository.LodgingOwnerRepository;
 import com.tourism.repository.LodgingRepository;
@@ -114,6 +115,21 @@ class LodgingServiceTests {
         verify(repository).save(any(Lodging.class));
     }
 
+    @Test
+    @DisplayName("Create Lodging - Notifies Catalog Observers")
+    void createLodgingNotifiesObservers() {
+        CatalogObserver observer = mock(CatalogObserver.class);
+        service.addObserver(observer);
+        when(mapper.requestDtoToModel(requestDto, place, owner, true)).thenReturn(lodging);
+        when(placeRepository.findById(any(UUID.class))).thenReturn(Optional.of(place));
+        when(ownerRepository.findById(any(UUID.class))).thenReturn(Optional.of(owner));
+        when(repository.save(any(Lodging.class))).thenReturn(lodging);
+
+        service.create(requestDto, responseDto.id());
+
+        verify(observer).lodgingSaved(lodging);
+    }
+
     @Test
     @DisplayName("Create Lodging - TouristicPlace Not Found")
     void createLodgingTouristicPlaceNotFound() {
@@ -343,6 +359,19 @@ class LodgingServiceTests {
         verify(repository).delete(lodging);
     }
 
+    @Test
+    @DisplayName("Delete Lodging - Notifies Catalog Observers")
+    void deleteLodgingNotifiesObservers() {
+        CatalogObserver observer = mock(CatalogObserver.class);
+        service.addObserver(observer);
+        lodging.setId(responseDto.id());
+        when(repository.findById(responseDto.id())).thenReturn(Optional.of(lodging));
+
+        service.delete(responseDto.id());
+
+        verify(observer).lodgingDeleted(responseDto.id());
+    }
+
 
     @Test
     @DisplayName("Delete Lodging - InvalidDataAccessApiUsageException")
@@ -7,6 +7,7 @@ import com.tourism.dto.response.ErrorDto;
 import com.tourism.dto.response.TouristResponseDTO;
 import com.tourism.infrastructure.PasswordEncryptionService;
 import com.tourism.model.*;
+import com.tourism.observer.UserObserver;
 import com.tourism.repository.RefreshTokenRepository;
 import com.tourism.repository.TouristRepository;
 import com.tourism.repository.UserRepository;
@@ -109,6 +110,20 @@ class TouristServiceTests {
         assertEquals(validRequestDTO.getLastName(), responseDTO.lastName());
     }
 
+    @Test
+    @DisplayName("Create Tourist - Notifies User Observers")
+    void createNotifiesObservers() {
+        UserObserver observer = mock(UserObserver.class);
+        service.addObserver(observer);
+        when(userValidation.validateEmailAndPassword(validRequestDTO.getEmail(), validRequestDTO.getPassword())).thenReturn(Either.right(true));
+        when(repository.save(any(Tourist.class))).thenReturn(tourist);
+
+        service.create(validRequestDTO);
+
+        verify(observer).userSaved(tourist);
+        verify(observer, never()).userDeleted(any());
+    }
+
     @Test
     @DisplayName("Create Tourist - Validation Failure")
     void createTouristValidationFailure() {
@@ -229,6 +244,21 @@ class TouristServiceTests {
         verify(repository).delete(tourist);
     }
 
+    @Test
+    @DisplayName("Delete Tourist - Notifies User Observers")
+    void deleteTouristNotifiesObservers() {
+        UUID id = UUID.randomUUID();
+        tourist.setId(id);
+        UserObserver observer = mock(UserObserver.class);
+        service.addObserver(observer);
+        when(userRepository.findById(id)).thenReturn(Optional.of(new User()));
+        when(repository.findById(id)).thenReturn(Optional.of(tourist));
+
+        service.delete(id);
+
+        verify(observer).userDeleted(id);
+    }
+
     @Test
     @DisplayName("Delete Tourist - Invalid Id")
     void deleteTouristInvalidId() {
@@ -7,6 +7,7 @@ import com.tourism.dto.response.CategoryDTO;
 import com.tourism.dto.response.ErrorDto;
 import com.tourism.dto.response.TouristicPlaceResponseDTO;
 import com.tourism.model.*;
+import com.tourism.observer.CatalogObserver;
 import com.tourism.repository.CategoryRepository;
 import com.tourism.repository.TouristicPlaceRepository;
 import com.tourism.repository.UserRepository;
@@ -133,6 +134,24 @@ class TouristicPlaceServiceTests {
         verify(repository).save(any(TouristicPlace.class));
     }
 
+    @Test
+    @DisplayName("Create Touristic Place - Notifies Catalog Observers")
+    void createNotifiesObservers() {
+        UUID userId = UUID.randomUUID();
+        CatalogObserver observer = mock(CatalogObserver.class);
+        service.addObserver(observer);
+        when(mapper.modelToResponseDto(any(TouristicPlace.class))).thenReturn(placeResponseDTO);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(new User()));
+        when(categoryRepository.findById(1)).thenReturn(Optional.of(category));
+        when(categoryRepository.findById(2)).thenReturn(Optional.of(otherCategory));
+        when(repository.save(any(TouristicPlace.class))).thenReturn(place);
+
+        service.create(placeRequestDTO, userId);
+
+        verify(observer).placeSaved(place);
+        verify(observer, never()).placeDeleted(any());
+    }
+
     @Test
     @DisplayName("Create Touristic Place - User Not Found")
     void createUserNotFound() {
@@ -306,6 +325,21 @@ class TouristicPlaceServiceTests {
         verify(repository).delete(touristicPlace);
     }
 
+    @Test
+    @DisplayName("Delete Touristic Place - Notifies Catalog Observers")
+    void deleteNotifiesObservers() {
+        UUID id = UUID.randomUUID();
+        TouristicPlace touristicPlace = new TouristicPlace();
+        touristicPlace.setId(id);
+        CatalogObserver observer = mock(CatalogObserver.class);
+        service.addObserver(observer);
+        when(repository.findById(id)).thenReturn(Optional.of(touristicPlace));
+
+        service.delete(id);
+
+        verify(observer).placeDeleted(id);
+    }
+
     @Test
     @DisplayName("Delete Touristic Place - Invalid Id")
     void deleteInvalidId() {
@@ -0,0 +1,69 @@
+package com.tourism.test.util;
+
+import com.tourism.model.BookingState;
+import com.tourism.util.helpers.BookingMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingMetricsTests {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BookingMetrics bookingMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bookingMetrics = new BookingMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Record Stage - Chains Consecutive Stages")
+    void recordStage() {
+        long start = System.nanoTime();
+        long next = bookingMetrics.record(BookingMetrics.Stage.PRICING, start);
+
+        assertTrue(next >= start);
+        assertEquals(1, stageTimer("pricing").count());
+        assertEquals(0, stageTimer("persistence").count());
+    }
+
+    @Test
+    @DisplayName("Record Queue Wait - Measured From Message Creation")
+    void recordQueueWait() {
+        bookingMetrics.recordQueueWait(Instant.now().minusSeconds(2));
+
+        Timer timer = stageTimer("queue_wait");
+        assertEquals(1, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 2000);
+    }
+
+    @Test
+    @DisplayName("Record Queue Wait - Clock Drift Recorded As Zero")
+    void recordQueueWaitClockDrift() {
+        bookingMetrics.recordQueueWait(Instant.now().plusSeconds(30));
+
+        assertEquals(0, stageTimer("queue_wait").totalTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    @DisplayName("Record End To End - Tagged By Outcome And Skips Old Messages")
+    void recordEndToEnd() {
+        bookingMetrics.recordEndToEnd(Instant.now().minusMillis(50), BookingState.UNAVAILABLE);
+        bookingMetrics.recordEndToEnd(null, BookingState.CREATED);
+
+        assertEquals(1, meterRegistry.get(BookingMetrics.END_TO_END_METRIC).tag("state", "UNAVAILABLE").timer().count());
+        assertEquals(0, meterRegistry.get(BookingMetrics.END_TO_END_METRIC).tag("state", "CREATED").timer().count());
+    }
+
+    private Timer stageTimer(String stage) {
+        return meterRegistry.get(BookingMetrics.STAGE_METRIC).tag("stage", stage).timer();
+    }
+}
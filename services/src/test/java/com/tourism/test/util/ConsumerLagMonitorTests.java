@@ -0,0 +1,86 @@
+package com.tourism.test.util;
+
+import com.tourism.jobs.ConsumerLagMonitor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+class ConsumerLagMonitorTests {
+
+    private static final String GROUP = "booking-group";
+
+    @Mock
+    private Admin adminClient;
+    @Mock
+    private ListConsumerGroupOffsetsResult offsetsResult;
+    @Mock
+    private ListOffsetsResult endOffsetsResult;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConsumerLagMonitor lagMonitor;
+
+    private final TopicPartition partition0 = new TopicPartition("booking-topic", 0);
+    private final TopicPartition partition1 = new TopicPartition("booking-topic", 1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lagMonitor = new ConsumerLagMonitor(adminClient, meterRegistry, GROUP);
+        when(adminClient.listConsumerGroupOffsets(GROUP)).thenReturn(offsetsResult);
+        when(adminClient.listOffsets(anyMap())).thenReturn(endOffsetsResult);
+    }
+
+    @Test
+    @DisplayName("Refresh Lag - Per Partition Gauge")
+    void refreshLag() {
+        when(offsetsResult.partitionsToOffsetAndMetadata()).thenReturn(KafkaFuture.completedFuture(Map.of(
+                partition0, new OffsetAndMetadata(40),
+                partition1, new OffsetAndMetadata(100))));
+        when(endOffsetsResult.all()).thenReturn(KafkaFuture.completedFuture(Map.of(
+                partition0, new ListOffsetsResult.ListOffsetsResultInfo(55, 0L, Optional.empty()),
+                partition1, new ListOffsetsResult.ListOffsetsResultInfo(100, 0L, Optional.empty()))));
+
+        lagMonitor.refreshLag();
+
+        assertEquals(15, lagMonitor.lag(partition0));
+        assertEquals(0, lagMonitor.lag(partition1));
+        assertEquals(15.0, meterRegistry.get(ConsumerLagMonitor.LAG_METRIC)
+                .tag("group", GROUP).tag("topic", "booking-topic").tag("partition", "0").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Refresh Lag - Broker Unavailable Keeps Last Values")
+    void refreshLagBrokerUnavailable() {
+        KafkaFutureImpl<Map<TopicPartition, OffsetAndMetadata>> failed = new KafkaFutureImpl<>();
+        failed.completeExceptionally(new TimeoutException("broker unavailable"));
+        when(offsetsResult.partitionsToOffsetAndMetadata()).thenReturn(failed);
+
+        lagMonitor.refreshLag();
+
+        assertEquals(0, lagMonitor.lag(partition0));
+        verify(adminClient, never()).listOffsets(anyMap());
+    }
+}
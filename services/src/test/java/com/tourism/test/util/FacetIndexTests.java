@@ -0,0 +1,70 @@
+package com.tourism.test.util;
+
+import com.tourism.util.helpers.FacetIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FacetIndexTests {
+
+    private final List<UUID> ids = new ArrayList<>();
+    private FacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        FacetIndex.Builder builder = FacetIndex.builder("region", "stars")
+                .values("stars", List.of("1", "2", "3", "4", "5"));
+        String[][] rows = {{"EAST", "5"}, {"EAST", "3"}, {"WEST", "5"}, {"NORTH", "4"}, {"EAST", "5"}};
+        for (String[] row : rows) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            int position = builder.add(id);
+            builder.value(position, "region", row[0]).value(position, "stars", row[1]);
+        }
+        index = builder.build();
+    }
+
+    @Test
+    @DisplayName("Match - Or Within A Facet And Across Facets")
+    void matchOrWithinAndAcross() {
+        BitSet matching = index.match(Map.of("region", Set.of("EAST", "WEST"), "stars", Set.of("5")));
+
+        assertEquals(List.of(ids.get(0), ids.get(2), ids.get(4)), index.page(matching, 0, 10));
+        assertEquals(5, index.match(Map.of("region", Set.of())).cardinality());
+        assertEquals(0, index.match(Map.of("region", Set.of("SOUTH"))).cardinality());
+    }
+
+    @Test
+    @DisplayName("Counts - Each Facet Ignores Its Own Selection")
+    void countsIgnoreOwnSelection() {
+        Map<String, Map<String, Integer>> counts = index.counts(Map.of("region", Set.of("EAST"), "stars", Set.of("5")));
+
+        assertEquals(Map.of("EAST", 2, "WEST", 1, "NORTH", 0), counts.get("region"));
+        assertEquals(List.of("1", "2", "3", "4", "5"), new ArrayList<>(counts.get("stars").keySet()));
+        assertEquals(0, counts.get("stars").get("1"));
+        assertEquals(1, counts.get("stars").get("3"));
+        assertEquals(2, counts.get("stars").get("5"));
+    }
+
+    @Test
+    @DisplayName("Page - Keeps Row Order And Skips The Offset")
+    void pageKeepsOrder() {
+        BitSet all = index.match(Map.of());
+
+        assertEquals(ids.subList(2, 4), index.page(all, 2, 2));
+        assertTrue(index.page(all, 5, 2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Builder - Rejects Unknown Facets")
+    void rejectsUnknownFacet() {
+        FacetIndex.Builder builder = FacetIndex.builder("region");
+        int position = builder.add(UUID.randomUUID());
+
+        assertThrows(IllegalArgumentException.class, () -> builder.value(position, "price", "0-50"));
+    }
+}
@@ -0,0 +1,101 @@
+package com.tourism.test.util;
+
+import com.tourism.util.helpers.InvertedIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTests {
+
+    private final UUID colonia = UUID.randomUUID();
+    private final UUID punta = UUID.randomUUID();
+    private final UUID tacuarembo = UUID.randomUUID();
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.put(colonia, "Colonia del Sacramento", "Barrio histórico colonial junto al río de la Plata", null);
+        index.put(punta, "Punta del Este", "Playas, puerto y vida nocturna frente al río y al mar", "Parada 5, playa mansa");
+        index.put(tacuarembo, "Tacuarembó", "Tierra de Gardel, sierras y campo", null);
+    }
+
+    @Test
+    @DisplayName("Search - Every Term Must Match")
+    void everyTermMustMatch() {
+        assertEquals(List.of(colonia), ids(index.search("colonial río", 0, 10)));
+        assertEquals(2, index.search("río", 0, 10).size());
+        assertTrue(index.search("río montaña", 0, 10).isEmpty());
+        assertTrue(index.search("  ,. ", 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Search - Title Matches Rank Above Description Matches")
+    void titleRanksAboveDescription() {
+        index.put(UUID.randomUUID(), "Playa Mansa", "Aguas tranquilas", null);
+
+        List<InvertedIndex.Hit> hits = index.search("playa", 0, 10);
+
+        assertEquals("Playa Mansa", hits.get(0).title());
+        assertEquals(punta, hits.get(1).id());
+        assertTrue(hits.get(0).rank() > hits.get(1).rank());
+    }
+
+    @Test
+    @DisplayName("Search - Folds Case And Accents")
+    void foldsCaseAndAccents() {
+        assertEquals(List.of(tacuarembo), ids(index.search("TACUAREMBO", 0, 10)));
+        assertEquals(List.of(colonia), ids(index.search("historico", 0, 10)));
+    }
+
+    @Test
+    @DisplayName("Put And Remove - Replace Previous Terms")
+    void putAndRemoveReplaceTerms() {
+        index.put(colonia, "Colonia", "Ciudad de piedra", null);
+
+        assertTrue(index.search("sacramento", 0, 10).isEmpty());
+        assertEquals(List.of(colonia), ids(index.search("piedra", 0, 10)));
+
+        index.remove(colonia);
+
+        assertTrue(index.search("colonia", 0, 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("Search - Pages Through Ranked Hits")
+    void pagesThroughHits() {
+        for (int i = 0; i < 30; i++) {
+            index.put(UUID.randomUUID(), "Posada " + i, "Posada de campo", null);
+        }
+
+        List<InvertedIndex.Hit> all = index.search("posada", 0, 40);
+        List<InvertedIndex.Hit> second = index.search("posada", 10, 10);
+
+        assertEquals(30, all.size());
+        assertEquals(ids(all.subList(10, 20)), ids(second));
+        assertTrue(index.search("posada", 40, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Highlight - Marks Matching Words Around The First Match")
+    void highlightMarksMatches() {
+        InvertedIndex.Hit hit = index.search("rio", 0, 10).stream()
+                .filter(h -> h.id().equals(colonia)).findFirst().orElseThrow();
+
+        assertEquals("Barrio histórico colonial junto al <mark>río</mark> de la Plata", hit.highlight());
+        assertEquals("Tierra de Gardel", InvertedIndex.highlight("Tierra de Gardel", Set.of("sierras")));
+        assertEquals("", InvertedIndex.highlight(null, Set.of("sierras")));
+    }
+
+    private static List<UUID> ids(List<InvertedIndex.Hit> hits) {
+        return hits.stream().map(InvertedIndex.Hit::id).toList();
+    }
+}
@@ -0,0 +1,63 @@
+package com.tourism.test.util;
+
+import com.tourism.util.helpers.KafkaSendMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KafkaSendMetricsTests {
+
+    private static final String TOPIC = "booking-topic";
+
+    private SimpleMeterRegistry meterRegistry;
+    private KafkaSendMetrics sendMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sendMetrics = new KafkaSendMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Track - Records Success When The Broker Acknowledges")
+    void trackSuccess() {
+        CompletableFuture<String> send = new CompletableFuture<>();
+        CompletableFuture<String> tracked = sendMetrics.track(TOPIC, send);
+
+        assertEquals(0, count(KafkaSendMetrics.SUCCESS));
+        send.complete("ack");
+
+        assertEquals("ack", tracked.join());
+        assertEquals(1, count(KafkaSendMetrics.SUCCESS));
+        assertEquals(0, count(KafkaSendMetrics.FAILURE));
+    }
+
+    @Test
+    @DisplayName("Track - Records Failure And Keeps The Error")
+    void trackFailure() {
+        CompletableFuture<String> tracked = sendMetrics.track(TOPIC,
+                CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        assertTrue(tracked.isCompletedExceptionally());
+        assertEquals(1, count(KafkaSendMetrics.FAILURE));
+        assertEquals(0, count(KafkaSendMetrics.SUCCESS));
+    }
+
+    @Test
+    @DisplayName("Timer - Reused Per Topic And Result")
+    void timerReused() {
+        assertSame(sendMetrics.timer(TOPIC, KafkaSendMetrics.SUCCESS), sendMetrics.timer(TOPIC, KafkaSendMetrics.SUCCESS));
+        assertNotSame(sendMetrics.timer(TOPIC, KafkaSendMetrics.SUCCESS), sendMetrics.timer("other", KafkaSendMetrics.SUCCESS));
+    }
+
+    private long count(String result) {
+        Timer timer = meterRegistry.find(KafkaSendMetrics.SEND_METRIC).tag("topic", TOPIC).tag("result", result).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,55 @@
+package com.tourism.test.util;
+
+import com.tourism.configuration.KafkaTransactionConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class KafkaTransactionConfigTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(KafkaAutoConfiguration.class))
+            .withUserConfiguration(KafkaTransactionConfig.class)
+            .withBean(EntityManagerFactory.class, () -> mock(EntityManagerFactory.class));
+
+    @Test
+    @DisplayName("Exactly Once - Transactional Producer And Listener Containers")
+    void exactlyOnceEnabled() {
+        contextRunner.withPropertyValues("booking.kafka.exactly-once=true", "booking.kafka.transaction-id-prefix=test-tx-")
+                .run(context -> {
+                    ProducerFactory<?, ?> producerFactory = context.getBean(ProducerFactory.class);
+                    assertTrue(producerFactory.transactionCapable());
+                    assertTrue(producerFactory.getTransactionIdPrefix().startsWith("test-tx-"));
+                    assertTrue(context.getBean(KafkaTemplate.class).isTransactional());
+
+                    KafkaTransactionManager<?, ?> kafkaTransactionManager = context.getBean(KafkaTransactionManager.class);
+                    ConcurrentKafkaListenerContainerFactory<?, ?> containerFactory =
+                            context.getBean(ConcurrentKafkaListenerContainerFactory.class);
+                    assertSame(kafkaTransactionManager, containerFactory.getContainerProperties().getKafkaAwareTransactionManager());
+
+                    assertInstanceOf(JpaTransactionManager.class, context.getBean(PlatformTransactionManager.class));
+                });
+    }
+
+    @Test
+    @DisplayName("Exactly Once - Plain Producer By Default")
+    void exactlyOnceDisabled() {
+        contextRunner.run(context -> {
+            assertFalse(context.getBean(ProducerFactory.class).transactionCapable());
+            assertTrue(context.getBeansOfType(KafkaTransactionManager.class).isEmpty());
+            assertNull(context.getBean(ConcurrentKafkaListenerContainerFactory.class).getContainerProperties().getKafkaAwareTransactionManager());
+        });
+    }
+}
@@ -0,0 +1,152 @@
+package com.tourism.test.util;
+
+import com.tourism.util.helpers.LodgingLockManager;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LodgingLockManagerTests {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LodgingLockManager lockManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lockManager = new LodgingLockManager(16, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Stripe Count - Rounded Up To Power Of Two")
+    void stripeCountRoundedToPowerOfTwo() {
+        assertEquals(1, new LodgingLockManager(1, meterRegistry).stripeCount());
+        assertEquals(64, new LodgingLockManager(50, meterRegistry).stripeCount());
+        assertEquals(16, lockManager.stripeCount());
+    }
+
+    @Test
+    @DisplayName("With Lock - Serializes Same Lodging")
+    void withLockSerializesSameLodging() throws Exception {
+        UUID lodgingId = UUID.randomUUID();
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tasks.add(() -> {
+                lockManager.withLock(lodgingId, () -> {
+                    maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                    Thread.yield();
+                    inside.decrementAndGet();
+                });
+                return null;
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks, 30, TimeUnit.SECONDS)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, maxInside.get());
+        Timer timer = meterRegistry.get(LodgingLockManager.LOCK_WAIT_METRIC)
+                .tag("stripe", String.valueOf(lockManager.stripeOf(lodgingId)))
+                .timer();
+        assertEquals(50, timer.count());
+    }
+
+    @Test
+    @DisplayName("With Lock - Releases Lock When Action Fails")
+    void withLockReleasesOnFailure() {
+        UUID lodgingId = UUID.randomUUID();
+        assertThrows(IllegalArgumentException.class, () -> lockManager.withLock(lodgingId, () -> {
+            throw new IllegalArgumentException("boom");
+        }));
+
+        AtomicInteger runs = new AtomicInteger();
+        CompletableFuture.runAsync(() -> lockManager.withLock(lodgingId, runs::incrementAndGet)).join();
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    @DisplayName("Lock Until Transaction Ends - Requires Active Transaction")
+    void lockUntilTransactionEndsWithoutTransaction() {
+        assertThrows(IllegalStateException.class, () -> lockManager.lockUntilTransactionEnds(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("Lock Until Transaction Ends - Released After Completion")
+    void lockUntilTransactionEndsReleasedAfterCompletion() throws Exception {
+        UUID lodgingId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        lockManager.lockUntilTransactionEnds(lodgingId);
+
+        CompletableFuture<Void> other = CompletableFuture.runAsync(() -> lockManager.withLock(lodgingId, () -> { }));
+        assertThrows(TimeoutException.class, () -> other.get(200, TimeUnit.MILLISECONDS));
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        other.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Lock All Until Transaction Ends - Every Lodging Locked Then Released")
+    void lockAllUntilTransactionEndsReleasedAfterCompletion() throws Exception {
+        List<UUID> lodgingIds = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            lodgingIds.add(UUID.randomUUID());
+        }
+        TransactionSynchronizationManager.initSynchronization();
+        lockManager.lockAllUntilTransactionEnds(lodgingIds);
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            List<Future<?>> others = new ArrayList<>();
+            for (UUID lodgingId : lodgingIds) {
+                others.add(executor.submit(() -> lockManager.withLock(lodgingId, () -> { })));
+            }
+            for (Future<?> other : others) {
+                assertThrows(TimeoutException.class, () -> other.get(10, TimeUnit.MILLISECONDS));
+            }
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+            for (Future<?> other : others) {
+                other.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Lock All Until Transaction Ends - Requires Active Transaction")
+    void lockAllUntilTransactionEndsWithoutTransaction() {
+        assertThrows(IllegalStateException.class, () -> lockManager.lockAllUntilTransactionEnds(List.of(UUID.randomUUID())));
+    }
+}
@@ -0,0 +1,116 @@
+package com.tourism.test.util;
+
+import com.tourism.aspect.TimerAspect;
+import com.tourism.dto.request.BookingRequestDTO;
+import com.tourism.dto.response.MethodTimingDTO;
+import com.tourism.service.BookingSendingQueueService;
+import com.tourism.service.BookingService;
+import com.tourism.util.helpers.MethodTimers;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MethodTimersTests {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Method getById;
+    private Method delete;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        getById = BookingService.class.getMethod("getById", UUID.class);
+        delete = BookingService.class.getMethod("delete", UUID.class);
+    }
+
+    @Test
+    @DisplayName("Record - One Cached Timer Per Method")
+    void recordPerMethod() {
+        MethodTimers methodTimers = new MethodTimers(meterRegistry, 1.0);
+        methodTimers.record(getById, TimeUnit.MILLISECONDS.toNanos(3));
+        methodTimers.record(getById, TimeUnit.MILLISECONDS.toNanos(5));
+        methodTimers.record(delete, TimeUnit.MILLISECONDS.toNanos(1));
+
+        Timer timer = meterRegistry.get(MethodTimers.METHOD_METRIC).tag("type", "BookingService").tag("method", "getById").timer();
+        assertEquals(2, timer.count());
+        assertEquals(2, meterRegistry.find(MethodTimers.METHOD_METRIC).timers().size());
+    }
+
+    @Test
+    @DisplayName("Snapshot - Slowest Methods First With Percentiles")
+    void snapshot() {
+        MethodTimers methodTimers = new MethodTimers(meterRegistry, 1.0);
+        for (int i = 0; i < 100; i++) {
+            methodTimers.record(getById, TimeUnit.MILLISECONDS.toNanos(10));
+            methodTimers.record(delete, TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        MethodTimingDTO[] snapshot = methodTimers.snapshot();
+
+        assertEquals(2, snapshot.length);
+        assertEquals("getById", snapshot[0].method());
+        assertEquals(100, snapshot[0].count());
+        assertEquals(10.0, snapshot[0].meanMs(), 0.01);
+        assertTrue(snapshot[0].p99Ms() > snapshot[1].p99Ms());
+        assertTrue(snapshot[0].p50Ms() > 0);
+    }
+
+    @Test
+    @DisplayName("Snapshot - Overloads Are Timed Apart")
+    void snapshotOverloads() throws Exception {
+        Method sendMessage = BookingSendingQueueService.class.getMethod("sendMessage", BookingRequestDTO.class, UUID.class, String.class);
+        Method sendReplacement = BookingSendingQueueService.class.getMethod("sendMessage", BookingRequestDTO.class, UUID.class,
+                String.class, UUID.class);
+        MethodTimers methodTimers = new MethodTimers(meterRegistry, 1.0);
+        methodTimers.record(sendMessage, TimeUnit.MILLISECONDS.toNanos(2));
+        methodTimers.record(sendReplacement, TimeUnit.MILLISECONDS.toNanos(2));
+        methodTimers.record(sendReplacement, TimeUnit.MILLISECONDS.toNanos(2));
+
+        MethodTimingDTO[] snapshot = methodTimers.snapshot();
+
+        assertEquals(2, snapshot.length);
+        assertEquals(2, meterRegistry.find(MethodTimers.METHOD_METRIC).tag("method", "sendMessage").timers().size());
+        for (MethodTimingDTO timing : snapshot) {
+            assertEquals("sendMessage", timing.method());
+            assertEquals(timing.parameters().endsWith(",UUID") ? 2 : 1, timing.count());
+        }
+        assertEquals(1, Arrays.stream(snapshot).filter(timing -> timing.parameters().equals("BookingRequestDTO,UUID,String")).count());
+    }
+
+    @Test
+    @DisplayName("Sampled - Rate Bounds")
+    void sampled() {
+        assertTrue(new MethodTimers(meterRegistry, 1.0).sampled());
+        assertFalse(new MethodTimers(meterRegistry, 0.0).sampled());
+    }
+
+    @Test
+    @DisplayName("Timer Aspect - Records Failed Calls And Skips Unsampled Ones")
+    void timerAspect() throws Throwable {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(getById);
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        TimerAspect aspect = new TimerAspect(new MethodTimers(meterRegistry, 1.0));
+        assertThrows(IllegalStateException.class, () -> aspect.timeExecution(joinPoint));
+        assertEquals(1, meterRegistry.get(MethodTimers.METHOD_METRIC).timer().count());
+
+        TimerAspect unsampled = new TimerAspect(new MethodTimers(new SimpleMeterRegistry(), 0.0));
+        assertThrows(IllegalStateException.class, () -> unsampled.timeExecution(joinPoint));
+        verify(signature, times(1)).getMethod();
+    }
+}
@@ -0,0 +1,94 @@
+package com.tourism.test.util;
+
+import com.tourism.util.helpers.PrefixIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixIndexTests {
+
+    private final UUID gonzalez = UUID.randomUUID();
+    private final UUID gomez = UUID.randomUUID();
+    private final UUID garcia = UUID.randomUUID();
+    private final UUID perez = UUID.randomUUID();
+
+    private PrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Map<UUID, String> values = new LinkedHashMap<>();
+        values.put(perez, "Pérez");
+        values.put(gonzalez, "González");
+        values.put(gomez, "Gómez");
+        values.put(garcia, "García");
+        values.put(UUID.randomUUID(), null);
+        index = new PrefixIndex();
+        index.load(values);
+    }
+
+    @Test
+    @DisplayName("Search - Alphabetical Matches Ignoring Case And Accents")
+    void searchIgnoresCaseAndAccents() {
+        List<PrefixIndex.Hit> hits = index.search("GO", 10);
+
+        assertEquals(List.of(new PrefixIndex.Hit(gomez, "Gómez"), new PrefixIndex.Hit(gonzalez, "González")), hits);
+        assertEquals(List.of(new PrefixIndex.Hit(perez, "Pérez")), index.search(" pere ", 10));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    @DisplayName("Search - Stops At The Limit")
+    void searchStopsAtLimit() {
+        assertEquals(List.of(new PrefixIndex.Hit(garcia, "García")), index.search("g", 1));
+        assertEquals(3, index.search("g", 10).size());
+        assertTrue(index.search("g", 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Search - Blank Or Unknown Prefix Is Empty")
+    void searchBlankOrUnknownPrefix() {
+        assertTrue(index.search("", 10).isEmpty());
+        assertTrue(index.search("   ", 10).isEmpty());
+        assertTrue(index.search(null, 10).isEmpty());
+        assertTrue(index.search("zz", 10).isEmpty());
+        assertTrue(index.search("gonzalezz", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Put And Remove - Keep The Order Current")
+    void putAndRemove() {
+        UUID gimenez = UUID.randomUUID();
+        index.put(gimenez, "Giménez");
+        index.put(gomez, "Ortiz");
+        index.remove(garcia);
+        index.remove(UUID.randomUUID());
+
+        assertEquals(List.of(new PrefixIndex.Hit(gimenez, "Giménez"), new PrefixIndex.Hit(gonzalez, "González")),
+                index.search("g", 10));
+        assertEquals(List.of(new PrefixIndex.Hit(gomez, "Ortiz")), index.search("or", 10));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    @DisplayName("Put - Same Text Keeps Every Id And Blank Text Removes")
+    void putSameTextAndBlank() {
+        UUID otherPerez = UUID.randomUUID();
+        index.put(otherPerez, "Pérez");
+        index.put(otherPerez, "Pérez");
+
+        assertEquals(2, index.search("perez", 10).size());
+
+        index.put(perez, " ");
+        index.clear();
+
+        assertTrue(index.search("perez", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+}
@@ -0,0 +1,41 @@
+package com.tourism.test.util;
+
+import com.tourism.configuration.QueueExecutorConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueueExecutorConfigTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(QueueExecutorConfig.class);
+
+    @Test
+    @DisplayName("Booking Send Executor - Virtual Threads When Enabled")
+    void virtualThreadsWhenEnabled() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+            TaskExecutor executor = context.getBean(QueueExecutorConfig.BOOKING_SEND_EXECUTOR, TaskExecutor.class);
+            assertInstanceOf(SimpleAsyncTaskExecutor.class, executor);
+            assertTrue(CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), executor).get(5, TimeUnit.SECONDS));
+        });
+    }
+
+    @Test
+    @DisplayName("Booking Send Executor - Bounded Platform Pool By Default")
+    void platformPoolByDefault() {
+        contextRunner.withPropertyValues("booking.send.pool-size=3").run(context -> {
+            TaskExecutor executor = context.getBean(QueueExecutorConfig.BOOKING_SEND_EXECUTOR, TaskExecutor.class);
+            ThreadPoolTaskExecutor pool = assertInstanceOf(ThreadPoolTaskExecutor.class, executor);
+            assertEquals(3, pool.getMaxPoolSize());
+            assertFalse(CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), executor).get(5, TimeUnit.SECONDS));
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package com.tourism.test.util;
+
+import com.tourism.util.helpers.ReloadableIndexes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReloadableIndexesTests {
+
+    @Test
+    @DisplayName("Reload - Publishes The New Set With The Updates Made While Loading")
+    void reloadReplaysUpdates() {
+        List<String> initial = new ArrayList<>(List.of("a"));
+        ReloadableIndexes<List<String>> indexes = new ReloadableIndexes<>(initial);
+
+        List<String> loaded = indexes.reload(() -> {
+            List<String> fresh = new ArrayList<>(List.of("b"));
+            indexes.update(current -> current.add("c"));
+            assertSame(initial, indexes.current());
+            return fresh;
+        });
+
+        assertSame(loaded, indexes.current());
+        assertEquals(List.of("a", "c"), initial);
+        assertEquals(List.of("b", "c"), loaded);
+
+        indexes.update(current -> current.add("d"));
+        assertEquals(List.of("b", "c", "d"), indexes.current());
+    }
+
+    @Test
+    @DisplayName("Reload - Failure Keeps The Current Set And Stops Recording")
+    void reloadFailureKeepsCurrent() {
+        List<String> initial = new ArrayList<>(List.of("a"));
+        ReloadableIndexes<List<String>> indexes = new ReloadableIndexes<>(initial);
+
+        assertThrows(IllegalStateException.class, () -> indexes.reload(() -> {
+            indexes.update(current -> current.add("b"));
+            throw new IllegalStateException("Database down");
+        }));
+        indexes.update(current -> current.add("c"));
+        List<String> loaded = indexes.reload(ArrayList::new);
+
+        assertEquals(List.of("a", "b", "c"), initial);
+        assertTrue(loaded.isEmpty());
+        assertSame(loaded, indexes.current());
+    }
+}
@@ -0,0 +1,144 @@
+package com.tourism.test.util;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.tourism.dto.response.BookingResponseDTO;
+import com.tourism.dto.response.ErrorDto;
+import com.tourism.model.BookingState;
+import com.tourism.util.ResponseAudit;
+import com.tourism.util.ResponseEntityUtil;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseAuditTests {
+
+    private static final int ITERATIONS = 2000;
+
+    private ListAppender<ILoggingEvent> appender;
+    private Logger auditLogger;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        auditLogger = (Logger) LoggerFactory.getLogger(ResponseAudit.class);
+        appender = new ListAppender<>();
+        appender.start();
+        auditLogger.addAppender(appender);
+        request = new MockHttpServletRequest("GET", "/v1/booking");
+    }
+
+    @AfterEach
+    void tearDown() {
+        auditLogger.detachAppender(appender);
+        ResponseAudit.configure(new ResponseAudit.Settings(0.0, 2000, List.of()), 1000);
+    }
+
+    @Test
+    @DisplayName("Truncate - Long Payloads Keep The Prefix")
+    void truncate() {
+        assertEquals("short", ResponseAudit.truncate("short", 10));
+        assertEquals("abcde...(5 more chars)", ResponseAudit.truncate("abcdefghij", 5));
+    }
+
+    @Test
+    @DisplayName("Audit - Errors Are Always Logged, Unsampled Successes Are Not")
+    void auditErrorsOnly() throws Exception {
+        ResponseAudit.configure(new ResponseAudit.Settings(0.0, 2000, List.of()), 10);
+
+        ResponseAudit.audit(request, HttpStatus.OK, Either.right(page(5)));
+        ResponseAudit.audit(request, HttpStatus.NOT_FOUND, Either.left(new ErrorDto[]{ErrorDto.of(HttpStatus.NOT_FOUND, "Booking not found")}));
+
+        List<ILoggingEvent> events = awaitEvents(1);
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).getFormattedMessage().contains("404"));
+        assertTrue(events.get(0).getFormattedMessage().contains("Booking not found"));
+    }
+
+    @Test
+    @DisplayName("Audit - Sampled Success Is Summarized Without Payload")
+    void auditSampledSummary() throws Exception {
+        ResponseAudit.configure(new ResponseAudit.Settings(1.0, 2000, List.of()), 10);
+
+        ResponseAudit.audit(request, HttpStatus.OK, Either.right(page(5)));
+
+        String message = awaitEvents(1).get(0).getFormattedMessage();
+        assertTrue(message.contains("[5 items]"));
+        assertFalse(message.contains("Hotel Test"));
+    }
+
+    @Test
+    @DisplayName("Audit - Full Payload For Enabled Endpoints Is Truncated")
+    void auditFullPayloadPath() throws Exception {
+        ResponseAudit.configure(new ResponseAudit.Settings(0.0, 100, List.of("/v1/booking/**")), 10);
+
+        ResponseAudit.audit(request, HttpStatus.OK, Either.right(page(5)));
+
+        String message = awaitEvents(1).get(0).getFormattedMessage();
+        assertTrue(message.contains("Hotel Test"));
+        assertTrue(message.contains("more chars"));
+    }
+
+    /**
+     * An unsampled success must never render its payload on the request thread, so building the response
+     * allocates less than a single rendering of the page it carries.
+     */
+    @Test
+    @DisplayName("Audit - Unsampled Success Does Not Render The Payload")
+    void allocationPerRequest() throws Exception {
+        ResponseAudit.configure(new ResponseAudit.Settings(0.0, 2000, List.of()), 10);
+        Either<ErrorDto[], Page<BookingResponseDTO>> response = Either.right(page(20));
+        long renderedBytes = String.valueOf(response.get().getContent()).length();
+
+        measure(() -> ResponseEntityUtil.buildObject(request, response));
+        long requestBytes = measure(() -> ResponseEntityUtil.buildObject(request, response));
+
+        assertTrue(requestBytes > 0, "allocation not measured: " + requestBytes);
+        assertTrue(requestBytes < renderedBytes, "request " + requestBytes + " rendered payload " + renderedBytes);
+        assertTrue(awaitEvents(0).isEmpty());
+    }
+
+    private long measure(Runnable task) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long start = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - start) / ITERATIONS;
+    }
+
+    private List<ILoggingEvent> awaitEvents(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (appender.list.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+        return new ArrayList<>(appender.list);
+    }
+
+    private static Page<BookingResponseDTO> page(int size) {
+        List<BookingResponseDTO> content = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            content.add(new BookingResponseDTO(UUID.randomUUID(), "Hotel Test", "Turista", "Verano", LocalDate.now(),
+                    LocalDate.now().plusDays(3), 150.0, "+5984422112233", "Un hotel de pruebas", BookingState.CREATED));
+        }
+        return new PageImpl<>(content);
+    }
+}
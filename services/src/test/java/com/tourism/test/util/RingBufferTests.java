@@ -0,0 +1,127 @@
+package com.tourism.test.util;
+
+import com.tourism.util.helpers.RingBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferTests {
+
+    @Test
+    @DisplayName("Capacity - Rounded Up To Power Of Two")
+    void capacityRoundedToPowerOfTwo() {
+        assertEquals(2, new RingBuffer<>(1).capacity());
+        assertEquals(8, new RingBuffer<>(5).capacity());
+        assertEquals(16, new RingBuffer<>(16).capacity());
+    }
+
+    @Test
+    @DisplayName("Offer And Drain - Keeps FIFO Order Across Laps")
+    void offerAndDrainKeepsOrder() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(buffer.offer(i));
+            if (i % 3 == 2) {
+                buffer.drainTo(drained, Integer.MAX_VALUE);
+            }
+        }
+        buffer.drainTo(drained, Integer.MAX_VALUE);
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), drained);
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Drain - Respects Batch Size")
+    void drainRespectsBatchSize() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> batch = new ArrayList<>();
+
+        assertEquals(3, buffer.drainTo(batch, 3));
+        assertEquals(List.of(0, 1, 2), batch);
+        assertEquals(2, buffer.size());
+    }
+
+    @Test
+    @DisplayName("Offer - Full Buffer Rejects And Times Out")
+    void offerFullBuffer() throws InterruptedException {
+        RingBuffer<Integer> buffer = new RingBuffer<>(2);
+        assertTrue(buffer.offer(1));
+        assertTrue(buffer.offer(2));
+
+        assertFalse(buffer.offer(3));
+        long start = System.nanoTime();
+        assertFalse(buffer.offer(3, 20, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertEquals(2, buffer.size());
+    }
+
+    @Test
+    @DisplayName("Offer - Waits Until The Consumer Frees A Slot")
+    void offerWaitsForFreeSlot() throws Exception {
+        RingBuffer<Integer> buffer = new RingBuffer<>(2);
+        buffer.offer(0);
+        buffer.offer(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> offered = executor.submit(() -> buffer.offer(2, 5, TimeUnit.SECONDS));
+            Thread.sleep(20);
+            List<Integer> drained = new ArrayList<>();
+            buffer.drainTo(drained, 1);
+
+            assertTrue(offered.get(5, TimeUnit.SECONDS));
+            buffer.drainTo(drained, 2);
+            assertEquals(List.of(0, 1, 2), drained);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Offer - Concurrent Producers Lose Nothing")
+    void concurrentProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 5_000;
+        RingBuffer<Integer> buffer = new RingBuffer<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        assertTrue(buffer.offer(base + i, 10, TimeUnit.SECONDS));
+                    }
+                    return null;
+                }));
+            }
+            Set<Integer> received = new HashSet<>();
+            List<Integer> batch = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (received.size() < producers * perProducer && System.nanoTime() < deadline) {
+                buffer.drainTo(batch, 32);
+                received.addAll(batch);
+                batch.clear();
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+
+            assertEquals(producers * perProducer, received.size());
+            assertTrue(buffer.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.tourism.test.util;
+
+import com.tourism.util.helpers.SseEmitterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SseEmitterRegistryTests {
+
+    private SseEmitterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SseEmitterRegistry(60000L, 60, 2);
+    }
+
+    @Test
+    @DisplayName("Register - Tracks Emitters Per User")
+    void registerTracksEmitters() {
+        UUID touristId = UUID.randomUUID();
+        registry.register(touristId);
+        registry.register(touristId);
+        registry.register(UUID.randomUUID());
+
+        assertEquals(3, registry.size());
+    }
+
+    @Test
+    @DisplayName("Send - Only Reaches The Subscribed User")
+    void sendWithoutSubscribers() {
+        registry.register(UUID.randomUUID());
+
+        assertEquals(0, registry.send(UUID.randomUUID(), "booking-outcome", "1", "payload"));
+    }
+
+    @Test
+    @DisplayName("Send - Completed Emitter Is Dropped")
+    void sendDropsCompletedEmitter() {
+        UUID touristId = UUID.randomUUID();
+        SseEmitter emitter = registry.register(touristId);
+        emitter.complete();
+
+        assertEquals(0, registry.send(touristId, "booking-outcome", "1", "payload"));
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    @DisplayName("Register - Replays Events Sent Before The Subscription")
+    void registerReplaysRecentEvents() throws IOException {
+        UUID touristId = UUID.randomUUID();
+        registry.send(touristId, "booking-outcome", "1", "first");
+        registry.send(touristId, "booking-outcome", "2", "second");
+        registry.send(touristId, "booking-outcome", "3", "third");
+        registry.send(UUID.randomUUID(), "booking-outcome", "4", "other");
+
+        try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+            registry.register(touristId);
+
+            verify(emitters.constructed().get(0), times(2)).send(any(SseEmitter.SseEventBuilder.class));
+        }
+    }
+
+    @Test
+    @DisplayName("Register - Nothing Is Replayed Without A Replay Window")
+    void registerWithoutReplayWindow() throws IOException {
+        SseEmitterRegistry withoutReplay = new SseEmitterRegistry(60000L, 0, 2);
+        UUID touristId = UUID.randomUUID();
+        withoutReplay.send(touristId, "booking-outcome", "1", "payload");
+
+        try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+            withoutReplay.register(touristId);
+            withoutReplay.evictExpired();
+
+            verify(emitters.constructed().get(0), never()).send(any(SseEmitter.SseEventBuilder.class));
+        }
+    }
+}
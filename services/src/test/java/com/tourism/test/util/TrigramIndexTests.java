@@ -0,0 +1,86 @@
+package com.tourism.test.util;
+
+import com.tourism.util.helpers.TrigramIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTests {
+
+    private final UUID punta = UUID.randomUUID();
+    private final UUID piriapolis = UUID.randomUUID();
+    private final UUID colonia = UUID.randomUUID();
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.put(punta, "Punta del Este");
+        index.put(piriapolis, "Piriápolis");
+        index.put(colonia, "Colonia del Sacramento");
+    }
+
+    @Test
+    @DisplayName("Trigrams - Padded Words Like pg_trgm")
+    void trigramsLikePgTrgm() {
+        assertEquals(Set.of("  c", " ca", "cat", "at "), TrigramIndex.trigrams("Cat"));
+        assertEquals(1.0, TrigramIndex.similarity("Piriápolis", "piriapolis"));
+        assertEquals(0.0, TrigramIndex.similarity("", "piriapolis"));
+    }
+
+    @Test
+    @DisplayName("Search - Finds Misspelled Names Most Similar First")
+    void findsMisspelledNames() {
+        List<TrigramIndex.Hit> hits = index.search("piriapolys", 0.3, 0, 10);
+
+        assertEquals(1, hits.size());
+        assertEquals(piriapolis, hits.get(0).id());
+        assertEquals(TrigramIndex.similarity("piriapolys", "Piriápolis"), hits.get(0).similarity(), 1e-9);
+        assertEquals(Set.of(punta, colonia), index.search("del", 0.1, 0, 10).stream()
+                .map(TrigramIndex.Hit::id).collect(Collectors.toSet()));
+    }
+
+    @Test
+    @DisplayName("Search - Threshold Filters Weak Matches")
+    void thresholdFiltersWeakMatches() {
+        assertEquals(1, index.search("punta del este", 0.9, 0, 10).size());
+        assertTrue(index.search("montevideo", 0.3, 0, 10).isEmpty());
+        assertTrue(index.search("punta", 0.3, 0, 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Put And Remove - Replace Previous Name")
+    void putAndRemoveReplaceName() {
+        index.put(punta, "La Barra");
+
+        assertTrue(index.search("punta del este", 0.3, 0, 10).isEmpty());
+        assertEquals(punta, index.search("la bara", 0.3, 0, 10).get(0).id());
+
+        index.remove(punta);
+
+        assertTrue(index.search("la barra", 0.3, 0, 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("Search - Pages Through Ranked Names")
+    void pagesThroughNames() {
+        for (int i = 0; i < 20; i++) {
+            index.put(UUID.randomUUID(), "Posada Serrana " + i);
+        }
+
+        List<TrigramIndex.Hit> all = index.search("posada serana", 0.3, 0, 30);
+        List<TrigramIndex.Hit> second = index.search("posada serana", 0.3, 5, 5);
+
+        assertEquals(20, all.size());
+        assertEquals(all.subList(5, 10), second);
+    }
+}